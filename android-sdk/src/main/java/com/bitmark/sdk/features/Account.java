@@ -44,8 +44,15 @@ public class Account {
     private Seed seed;
 
     public static Account fromSeed(Seed seed) throws ValidateException {
-        checkValid(() -> seed.getNetwork() == GlobalConfiguration.network(), "Incorrect network " +
-                                                                             "from Seed");
+        return fromSeed(seed, GlobalConfiguration.network());
+    }
+
+    /**
+     * @param network The network the seed must belong to, such as the one of a
+     *                {@code BitmarkClient}
+     */
+    public static Account fromSeed(Seed seed, Network network) throws ValidateException {
+        checkValid(() -> seed.getNetwork() == network, "Incorrect network from Seed");
 
         final String accountNumber =
                 generateAccountNumber(seed.getAuthKeyPair().publicKey(), seed.getNetwork());
@@ -53,15 +60,30 @@ public class Account {
     }
 
     public static Account fromRecoveryPhrase(String... recoveryPhrase) throws ValidateException {
+        return fromRecoveryPhrase(GlobalConfiguration.network(), recoveryPhrase);
+    }
+
+    public static Account fromRecoveryPhrase(Network network, String... recoveryPhrase)
+            throws ValidateException {
         final RecoveryPhrase phrase = RecoveryPhrase.fromMnemonicWords(recoveryPhrase);
         final Seed seed = phrase.recoverSeed();
-        return fromSeed(seed);
+        return fromSeed(seed, network);
     }
 
     @RequiresApi(api = Build.VERSION_CODES.M)
     public static void loadFromKeyStore(Activity activity, String accountNumber,
                                         KeyAuthenticationSpec spec,
                                         Callback1<Account> callback) {
+        loadFromKeyStore(activity, accountNumber, GlobalConfiguration.network(), spec, callback);
+    }
+
+    /**
+     * @param network The network of the account, such as the one of a {@code BitmarkClient}
+     */
+    @RequiresApi(api = Build.VERSION_CODES.M)
+    public static void loadFromKeyStore(Activity activity, String accountNumber,
+                                        Network network, KeyAuthenticationSpec spec,
+                                        Callback1<Account> callback) {
         final KeyManager keyManager = new KeyManagerImpl(activity);
         keyManager.getKey(accountNumber, spec, new Callback1<byte[]>() {
             @Override
@@ -71,10 +93,8 @@ public class Account {
                     else {
                         Seed seed =
                                 seedBytes.length == SeedTwelve.SEED_BYTE_LENGTH ? new SeedTwelve(
-                                        seedBytes) : new SeedTwentyFour(seedBytes,
-                                                                        GlobalConfiguration
-                                                                                .network());
-                        Account account = Account.fromSeed(seed);
+                                        seedBytes) : new SeedTwentyFour(seedBytes, network);
+                        Account account = Account.fromSeed(seed, network);
                         callback.onSuccess(account);
                     }
                 } catch (Throwable e) {
@@ -90,8 +110,12 @@ public class Account {
     }
 
     public Account() {
-        seed = new SeedTwelve();
-        accountNumber = generateAccountNumber(seed.getAuthKeyPair().publicKey());
+        this(GlobalConfiguration.network());
+    }
+
+    public Account(Network network) {
+        seed = new SeedTwelve(network);
+        accountNumber = generateAccountNumber(seed.getAuthKeyPair().publicKey(), network);
     }
 
     private Account(Seed seed, String accountNumber) {
@@ -124,7 +148,7 @@ public class Account {
     }
 
     public Address toAddress() {
-        return Address.fromAccountNumber(accountNumber);
+        return Address.fromAccountNumber(accountNumber, seed.getNetwork());
     }
 
     @RequiresApi(api = Build.VERSION_CODES.M)
@@ -155,21 +179,20 @@ public class Account {
     }
 
     public static boolean isValidAccountNumber(String accountNumber) {
-        try {
-            parseAccountNumber(accountNumber);
-            return true;
-        } catch (ValidateException ex) {
-            return false;
-        }
+        return Address.isValidAccountNumber(accountNumber);
+    }
+
+    public static boolean isValidAccountNumber(String accountNumber, Network network) {
+        return Address.isValidAccountNumber(accountNumber, network);
     }
 
     public static AccountNumberData parseAccountNumber(String accountNumber) {
-        Address address = Address.fromAccountNumber(accountNumber);
-        return AccountNumberData.from(address.getKey(), address.getNetwork());
+        return parseAccountNumber(accountNumber, GlobalConfiguration.network());
     }
 
-    private static String generateAccountNumber(PublicKey key) {
-        return generateAccountNumber(key, GlobalConfiguration.network());
+    public static AccountNumberData parseAccountNumber(String accountNumber, Network network) {
+        Address address = Address.fromAccountNumber(accountNumber, network);
+        return AccountNumberData.from(address.getKey(), address.getNetwork());
     }
 
     private static String generateAccountNumber(PublicKey key, Network network) {
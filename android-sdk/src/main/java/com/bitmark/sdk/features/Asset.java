@@ -1,6 +1,7 @@
 package com.bitmark.sdk.features;
 
 import com.bitmark.apiservice.ApiService;
+import com.bitmark.apiservice.BitmarkClient;
 import com.bitmark.apiservice.params.RegistrationParams;
 import com.bitmark.apiservice.params.query.AssetQueryBuilder;
 import com.bitmark.apiservice.response.RegistrationResponse;
@@ -25,12 +26,26 @@ public class Asset {
         ApiService.getInstance().registerAsset(params, wrapCallbackOnMain(callback));
     }
 
+    public static void register(BitmarkClient client, RegistrationParams params,
+                                Callback1<RegistrationResponse> callback) {
+        client.getApiService().registerAsset(params, wrapCallbackOnMain(callback));
+    }
+
     public static void get(String assetId, Callback1<AssetRecord> callback) {
         ApiService.getInstance().getAsset(assetId, wrapCallbackOnMain(callback));
     }
 
+    public static void get(BitmarkClient client, String assetId, Callback1<AssetRecord> callback) {
+        client.getApiService().getAsset(assetId, wrapCallbackOnMain(callback));
+    }
+
     public static void list(AssetQueryBuilder builder, Callback1<List<AssetRecord>> callback) {
         ApiService.getInstance().listAssets(builder.build(), wrapCallbackOnMain(callback));
     }
 
+    public static void list(BitmarkClient client, AssetQueryBuilder builder,
+                            Callback1<List<AssetRecord>> callback) {
+        client.getApiService().listAssets(builder.build(), wrapCallbackOnMain(callback));
+    }
+
 }
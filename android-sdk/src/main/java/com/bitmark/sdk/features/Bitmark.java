@@ -1,6 +1,7 @@
 package com.bitmark.sdk.features;
 
 import com.bitmark.apiservice.ApiService;
+import com.bitmark.apiservice.BitmarkClient;
 import com.bitmark.apiservice.params.*;
 import com.bitmark.apiservice.params.query.BitmarkQueryBuilder;
 import com.bitmark.apiservice.response.GetBitmarkResponse;
@@ -27,54 +28,119 @@ public class Bitmark {
         ApiService.getInstance().issueBitmark(params, wrapCallbackOnMain(callback));
     }
 
+    public static void issue(BitmarkClient client, IssuanceParams params,
+                             Callback1<List<String>> callback) {
+        client.getApiService().issueBitmark(params, wrapCallbackOnMain(callback));
+    }
+
     public static void transfer(TransferParams params, Callback1<String> callback) {
         ApiService.getInstance().transferBitmark(params, wrapCallbackOnMain(callback));
     }
 
+    public static void transfer(BitmarkClient client, TransferParams params,
+                                Callback1<String> callback) {
+        client.getApiService().transferBitmark(params, wrapCallbackOnMain(callback));
+    }
+
     public static void offer(TransferOfferParams params, Callback1<String> callback) {
         ApiService.getInstance().offerBitmark(params, wrapCallbackOnMain(callback));
     }
 
+    public static void offer(BitmarkClient client, TransferOfferParams params,
+                             Callback1<String> callback) {
+        client.getApiService().offerBitmark(params, wrapCallbackOnMain(callback));
+    }
+
     public static void respond(TransferResponseParams params, Callback1<String> callback) {
         ApiService.getInstance().respondBitmarkOffer(params, wrapCallbackOnMain(callback));
     }
 
+    public static void respond(BitmarkClient client, TransferResponseParams params,
+                               Callback1<String> callback) {
+        client.getApiService().respondBitmarkOffer(params, wrapCallbackOnMain(callback));
+    }
+
     public static void get(String bitmarkId, boolean includeAsset,
                            Callback1<GetBitmarkResponse> callback) {
         ApiService.getInstance().getBitmark(bitmarkId, includeAsset, wrapCallbackOnMain(callback));
     }
 
+    public static void get(BitmarkClient client, String bitmarkId, boolean includeAsset,
+                           Callback1<GetBitmarkResponse> callback) {
+        client.getApiService().getBitmark(bitmarkId, includeAsset, wrapCallbackOnMain(callback));
+    }
+
     public static void get(String bitmarkId, Callback1<GetBitmarkResponse> callback) {
         get(bitmarkId, false, wrapCallbackOnMain(callback));
     }
 
+    public static void get(BitmarkClient client, String bitmarkId,
+                           Callback1<GetBitmarkResponse> callback) {
+        get(client, bitmarkId, false, wrapCallbackOnMain(callback));
+    }
+
     public static void list(BitmarkQueryBuilder builder, Callback1<GetBitmarksResponse> callback) {
         ApiService.getInstance().listBitmarks(builder.build(), wrapCallbackOnMain(callback));
     }
 
+    public static void list(BitmarkClient client, BitmarkQueryBuilder builder,
+                            Callback1<GetBitmarksResponse> callback) {
+        client.getApiService().listBitmarks(builder.build(), wrapCallbackOnMain(callback));
+    }
+
     public static void createShare(ShareParams params, Callback1<Pair<String, String>> callback) {
         ApiService.getInstance().createShare(params, callback);
     }
 
+    public static void createShare(BitmarkClient client, ShareParams params,
+                                   Callback1<Pair<String, String>> callback) {
+        client.getApiService().createShare(params, callback);
+    }
+
     public static void grantShare(ShareGrantingParams params, Callback1<String> callback) {
         ApiService.getInstance().grantShare(params, callback);
     }
 
+    public static void grantShare(BitmarkClient client, ShareGrantingParams params,
+                                  Callback1<String> callback) {
+        client.getApiService().grantShare(params, callback);
+    }
+
     public static void respondShareOffer(GrantResponseParams params, Callback1<String> callback) {
         ApiService.getInstance().respondShareOffer(params, callback);
     }
 
+    public static void respondShareOffer(BitmarkClient client, GrantResponseParams params,
+                                         Callback1<String> callback) {
+        client.getApiService().respondShareOffer(params, callback);
+    }
+
     public static void getShare(String shareId, Callback1<ShareRecord> callback) {
         ApiService.getInstance().getShare(shareId, callback);
     }
 
+    public static void getShare(BitmarkClient client, String shareId,
+                                Callback1<ShareRecord> callback) {
+        client.getApiService().getShare(shareId, callback);
+    }
+
     public static void listShares(String owner, Callback1<List<ShareRecord>> callback) {
         ApiService.getInstance().listShares(owner, callback);
     }
 
+    public static void listShares(BitmarkClient client, String owner,
+                                  Callback1<List<ShareRecord>> callback) {
+        client.getApiService().listShares(owner, callback);
+    }
+
     public static void listShareOffer(String from, String to,
                                       Callback1<List<ShareGrantRecord>> callback) {
         ApiService.getInstance().listShareOffer(from, to, callback);
     }
 
+    public static void listShareOffer(BitmarkClient client, String from, String to,
+                                      Callback1<List<ShareGrantRecord>> callback) {
+        client.getApiService().listShareOffer(from, to, callback);
+    }
+
 }
@@ -1,5 +1,9 @@
 package com.bitmark.sdk.features;
 
+import com.bitmark.apiservice.ApiService;
+import com.bitmark.apiservice.BitmarkClient;
+import com.bitmark.apiservice.configuration.GlobalConfiguration;
+import com.bitmark.apiservice.configuration.Network;
 import com.bitmark.apiservice.params.IssuanceParams;
 import com.bitmark.apiservice.params.query.BitmarkQueryBuilder;
 import com.bitmark.apiservice.response.GetBitmarksResponse;
@@ -19,6 +23,7 @@ import java.util.List;
 
 import static com.bitmark.apiservice.utils.Awaitility.await;
 import static com.bitmark.cryptography.utils.Validator.checkValid;
+import static com.bitmark.sdk.utils.CommonUtils.wrapCallbackOnMain;
 import static com.bitmark.sdk.features.internal.Version.TWENTY_FOUR;
 
 /**
@@ -33,17 +38,29 @@ public class Migration {
     public static void migrate(String[] phraseWords,
                                Callback1<Pair<Account, List<String>>> callback)
             throws ValidateException {
+        migrate(ApiService.getInstance(), GlobalConfiguration.network(), phraseWords, callback);
+    }
+
+    public static void migrate(BitmarkClient client, String[] phraseWords,
+                               Callback1<Pair<Account, List<String>>> callback)
+            throws ValidateException {
+        migrate(client.getApiService(), client.getNetwork(), phraseWords, callback);
+    }
+
+    private static void migrate(ApiService service, Network network, String[] phraseWords,
+                                Callback1<Pair<Account, List<String>>> callback)
+            throws ValidateException {
         checkValid(() -> phraseWords != null &&
                          phraseWords.length == TWENTY_FOUR.getMnemonicWordsLength(),
                    "Only support migrate from 24 recovery words ");
-        final Account oldAccount = Account.fromRecoveryPhrase(phraseWords);
+        final Account oldAccount = Account.fromRecoveryPhrase(network, phraseWords);
         final String oldAccountNumber = oldAccount.getAccountNumber();
-        final Account newAccount = new Account();
+        final Account newAccount = new Account(network);
 
         try {
             // Get all owned bitmarks
             final List<GetBitmarksResponse> bitmarksResponses =
-                    getBitmarksResponses(oldAccountNumber);
+                    getBitmarksResponses(service, oldAccountNumber);
             if (bitmarksResponses == null)
                 callback.onSuccess(new Pair<>(newAccount, Collections.emptyList()));
             else {
@@ -53,7 +70,7 @@ public class Migration {
                 for (GetBitmarksResponse response : bitmarksResponses) {
                     List<BitmarkRecord> bitmarks = response.getBitmarks();
                     List<AssetRecord> assets = response.getAssets();
-                    sources.add(internalMigrate(newAccount, bitmarks, assets)
+                    sources.add(internalMigrate(service, newAccount, bitmarks, assets)
                                         .doOnSuccess(bitmarkIds::addAll));
                 }
 
@@ -70,7 +87,8 @@ public class Migration {
         }
     }
 
-    private static List<GetBitmarksResponse> getBitmarksResponses(String accountNumber)
+    private static List<GetBitmarksResponse> getBitmarksResponses(ApiService service,
+                                                                  String accountNumber)
             throws Throwable {
         final int limit = 100;
         final List<GetBitmarksResponse> result = new ArrayList<>();
@@ -78,9 +96,11 @@ public class Migration {
         // Get the latest bitmark by offset
         List<BitmarkRecord> firstBitmarks =
                 await((Callable1<GetBitmarksResponse>) internalCallback ->
-                        Bitmark.list(new BitmarkQueryBuilder().ownedBy(accountNumber).pending(true)
-                                                              .limit(1),
-                                     internalCallback)).getBitmarks();
+                        service.listBitmarks(new BitmarkQueryBuilder().ownedBy(accountNumber)
+                                                                      .pending(true).limit(1)
+                                                                      .build(),
+                                             wrapCallbackOnMain(internalCallback)))
+                        .getBitmarks();
         if (firstBitmarks == null || firstBitmarks.isEmpty()) return null;
         Long lastOffset = firstBitmarks.get(0).getOffset();
         while (lastOffset != null) {
@@ -88,8 +108,9 @@ public class Migration {
             BitmarkQueryBuilder builder =
                     new BitmarkQueryBuilder().ownedBy(accountNumber).at(lastOffset).to("earlier")
                                              .loadAsset(true).pending(true).limit(limit);
-            GetBitmarksResponse response = await(internalCallback -> Bitmark.list(builder,
-                                                                                  internalCallback));
+            GetBitmarksResponse response = await(
+                    internalCallback -> service.listBitmarks(builder.build(),
+                                                             wrapCallbackOnMain(internalCallback)));
             result.add(response);
             final List<BitmarkRecord> bitmarks = response.getBitmarks();
             final int size = bitmarks == null ? 0 : bitmarks.size();
@@ -101,7 +122,7 @@ public class Migration {
         return result;
     }
 
-    private static Single<List<String>> internalMigrate(Account owner,
+    private static Single<List<String>> internalMigrate(ApiService service, Account owner,
                                                         List<BitmarkRecord> bitmarks,
                                                         List<AssetRecord> assets) {
 
@@ -126,23 +147,24 @@ public class Migration {
         final List<String> bitmarkIds = new ArrayList<>();
         List<Single<List<String>>> sources = new ArrayList<>();
         for (IssuanceParams param : params) {
-            sources.add(issue(param).doOnSuccess(bitmarkIds::addAll));
+            sources.add(issue(service, param).doOnSuccess(bitmarkIds::addAll));
         }
 
         return Single.merge(sources).toList().map(ignore -> bitmarkIds);
     }
 
-    private static Single<List<String>> issue(IssuanceParams params) {
-        return Single.create(emitter -> Bitmark.issue(params, new Callback1<List<String>>() {
-            @Override
-            public void onSuccess(List<String> data) {
-                emitter.onSuccess(data);
-            }
-
-            @Override
-            public void onError(Throwable throwable) {
-                emitter.onError(throwable);
-            }
-        }));
+    private static Single<List<String>> issue(ApiService service, IssuanceParams params) {
+        return Single.create(emitter -> service.issueBitmark(params, wrapCallbackOnMain(
+                new Callback1<List<String>>() {
+                    @Override
+                    public void onSuccess(List<String> data) {
+                        emitter.onSuccess(data);
+                    }
+
+                    @Override
+                    public void onError(Throwable throwable) {
+                        emitter.onError(throwable);
+                    }
+                })));
     }
 }
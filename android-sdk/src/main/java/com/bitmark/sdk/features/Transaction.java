@@ -1,6 +1,7 @@
 package com.bitmark.sdk.features;
 
 import com.bitmark.apiservice.ApiService;
+import com.bitmark.apiservice.BitmarkClient;
 import com.bitmark.apiservice.params.query.TransactionQueryBuilder;
 import com.bitmark.apiservice.response.GetTransactionResponse;
 import com.bitmark.apiservice.response.GetTransactionsResponse;
@@ -20,13 +21,28 @@ public class Transaction {
         get(txId, false, wrapCallbackOnMain(callback));
     }
 
+    public static void get(BitmarkClient client, String txId,
+                           Callback1<GetTransactionResponse> callback) {
+        get(client, txId, false, wrapCallbackOnMain(callback));
+    }
+
     public static void get(String txId, boolean loadAsset,
                            Callback1<GetTransactionResponse> callback) {
         ApiService.getInstance().getTransaction(txId, loadAsset, wrapCallbackOnMain(callback));
     }
 
+    public static void get(BitmarkClient client, String txId, boolean loadAsset,
+                           Callback1<GetTransactionResponse> callback) {
+        client.getApiService().getTransaction(txId, loadAsset, wrapCallbackOnMain(callback));
+    }
+
     public static void list(TransactionQueryBuilder builder,
                             Callback1<GetTransactionsResponse> callback) {
         ApiService.getInstance().listTransactions(builder.build(), wrapCallbackOnMain(callback));
     }
+
+    public static void list(BitmarkClient client, TransactionQueryBuilder builder,
+                            Callback1<GetTransactionsResponse> callback) {
+        client.getApiService().listTransactions(builder.build(), wrapCallbackOnMain(callback));
+    }
 }
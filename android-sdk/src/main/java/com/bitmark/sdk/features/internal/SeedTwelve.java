@@ -19,6 +19,7 @@ import static com.bitmark.apiservice.utils.ArrayUtil.concat;
 import static com.bitmark.apiservice.utils.ArrayUtil.slice;
 import static com.bitmark.cryptography.crypto.Random.secureRandomBytes;
 import static com.bitmark.cryptography.crypto.encoder.Base58.BASE_58;
+import static com.bitmark.cryptography.utils.Validator.checkNonNull;
 import static com.bitmark.cryptography.utils.Validator.checkValid;
 import static com.bitmark.cryptography.utils.Validator.checkValidLength;
 
@@ -64,7 +65,11 @@ public class SeedTwelve extends AbsSeed {
     }
 
     public SeedTwelve() {
-        this(randomEntropy(GlobalConfiguration.network()));
+        this(GlobalConfiguration.network());
+    }
+
+    public SeedTwelve(Network network) {
+        this(randomEntropy(network));
     }
 
     public SeedTwelve(byte[] seedBytes) throws ValidateException {
@@ -132,6 +137,8 @@ public class SeedTwelve extends AbsSeed {
      * @return An array of byte of entropy
      */
     private static byte[] randomEntropy(Network network) {
+        checkNonNull(network);
+
         // Space for 128 bits random number
         byte[] seed = secureRandomBytes(SEED_BYTE_LENGTH - 1);
 
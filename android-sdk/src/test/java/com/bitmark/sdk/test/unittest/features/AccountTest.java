@@ -41,6 +41,24 @@ public class AccountTest extends BaseTest {
         assertTrue(Account.isValidAccountNumber(account.getAccountNumber()));
     }
 
+    @Test
+    public void testNewAccount_NetworkIsGiven_AccountOfNetworkIsCreated() {
+        // The global configuration of the tests is on the test net
+        final Account account = new Account(Network.LIVE_NET);
+        assertEquals(Network.LIVE_NET, account.getSeed().getNetwork());
+        assertEquals(Network.LIVE_NET, account.toAddress().getNetwork());
+        assertTrue(Account.isValidAccountNumber(account.getAccountNumber(), Network.LIVE_NET));
+        assertFalse(Account.isValidAccountNumber(account.getAccountNumber()));
+        assertEquals(Network.LIVE_NET,
+                     Account.parseAccountNumber(account.getAccountNumber(), Network.LIVE_NET)
+                            .getNetwork());
+
+        final Account recovered = Account.fromSeed(account.getSeed(), Network.LIVE_NET);
+        assertEquals(account.getAccountNumber(), recovered.getAccountNumber());
+        assertThrows(ValidateException.class,
+                     () -> Account.fromSeed(account.getSeed(), Network.TEST_NET));
+    }
+
     @ParameterizedTest
     @MethodSource("createSeedAccountNumberPubKeyString")
     public void testNewAccountFromSeed_ValidSeed_ValidAccountIsCreated(Seed seed,
@@ -1,21 +1,31 @@
 package com.bitmark.apiservice;
 
 import com.bitmark.apiservice.configuration.GlobalConfiguration;
+import com.bitmark.apiservice.middleware.AdaptiveConcurrencyLimiter;
+import com.bitmark.apiservice.middleware.CircuitBreaker;
+import com.bitmark.apiservice.middleware.RateLimiter;
+import com.bitmark.apiservice.middleware.RequestCoalescer;
 import com.bitmark.apiservice.params.*;
 import com.bitmark.apiservice.params.query.BitmarkQueryBuilder;
 import com.bitmark.apiservice.params.query.QueryParams;
 import com.bitmark.apiservice.response.*;
 import com.bitmark.apiservice.utils.Pair;
+import com.bitmark.apiservice.utils.cache.GenesisStateCache;
+import com.bitmark.apiservice.utils.cache.RecordCache;
 import com.bitmark.apiservice.utils.callback.Callback1;
 import com.bitmark.apiservice.utils.record.AssetRecord;
 import com.bitmark.apiservice.utils.record.ShareGrantRecord;
 import com.bitmark.apiservice.utils.record.ShareRecord;
+import com.bitmark.apiservice.utils.record.TransactionRecord;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.Headers;
 
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import static com.bitmark.apiservice.middleware.Converter.*;
-import static com.bitmark.apiservice.utils.Awaitility.await;
 
 /**
  * @author Hieu Pham
@@ -28,44 +38,210 @@ public class ApiService implements BitmarkApi {
 
     private static final String V3 = "v3";
 
+    private static final int GENESIS_STATE_CACHE_SIZE = 10000;
+
+    // The same pool the bulk issuer signs on by default
+    private static final Executor SIGNING_EXECUTOR = ForkJoinPool.commonPool();
+
     private static volatile ApiService INSTANCE;
 
-    private HttpClient client;
+    private HttpClientImpl client;
+
+    private RecordCache cache;
+
+    private RequestCoalescer coalescer;
+
+    private BitmarkBatchLoader bitmarkLoader;
+
+    private GenesisStateCache genesisStateCache;
 
     public static ApiService getInstance() {
         if (INSTANCE == null) {
             synchronized (ApiService.class) {
                 if (INSTANCE == null) {
-                    INSTANCE = new ApiService(GlobalConfiguration.apiToken());
+                    INSTANCE = new ApiService(GlobalConfiguration.getInstance(), null, null);
                 }
             }
         }
         return INSTANCE;
     }
 
-    private ApiService(String apiToken) {
-        this.client = new HttpClientImpl(apiToken);
+    /**
+     * @param config         The configuration of this service
+     * @param connectionPool The connection pool shared with other services, null to use an own
+     *                       one
+     * @param dispatcher     The dispatcher shared with other services, null to use an own one
+     */
+    ApiService(GlobalConfiguration config, ConnectionPool connectionPool, Dispatcher dispatcher) {
+        this.client = new HttpClientImpl(config, connectionPool, dispatcher);
+        this.coalescer = client.getCoalescer();
+        this.genesisStateCache = new GenesisStateCache(GENESIS_STATE_CACHE_SIZE,
+                (assetId, callback) -> listBitmarks(
+                        new BitmarkQueryBuilder().referencedAssetId(assetId).pending(true)
+                                                 .limit(1).build(),
+                        new Callback1<GetBitmarksResponse>() {
+                            @Override
+                            public void onSuccess(GetBitmarksResponse data) {
+                                callback.onSuccess(data.getBitmarks() != null &&
+                                                   !data.getBitmarks().isEmpty());
+                            }
+
+                            @Override
+                            public void onError(Throwable throwable) {
+                                callback.onError(throwable);
+                            }
+                        }));
+        final int cacheSize = config.getRecordCacheSize();
+        if (cacheSize > 0) this.cache = new RecordCache(cacheSize);
+        final int batchWindow = config.getBitmarkBatchWindow();
+        if (batchWindow > 0) {
+            this.bitmarkLoader = new BitmarkBatchLoader(new BitmarkBatchLoader.Source() {
+                @Override
+                public void listBitmarks(QueryParams params,
+                                         Callback1<GetBitmarksResponse> callback) {
+                    ApiService.this.listBitmarks(params, callback);
+                }
+
+                @Override
+                public void getBitmark(String bitmarkId, boolean includeAsset,
+                                       Callback1<GetBitmarkResponse> callback) {
+                    requestBitmark(bitmarkId, includeAsset, callback);
+                }
+            }, batchWindow);
+        }
+    }
+
+    ConnectionPool getConnectionPool() {
+        return client.getConnectionPool();
+    }
+
+    Dispatcher getDispatcher() {
+        return client.getDispatcher();
+    }
+
+    /**
+     * @return The cache of the immutable records, null if it is not enabled via
+     * {@link GlobalConfiguration.Builder#withRecordCacheSize(int)}
+     */
+    public RecordCache getCache() {
+        return cache;
+    }
+
+    /**
+     * @return The assets are known to have bitmarks, so their issuances skip the genesis
+     * lookup
+     */
+    public GenesisStateCache getGenesisStateCache() {
+        return genesisStateCache;
+    }
+
+    /**
+     * @return The number of GET requests have not been sent since they were coalesced into an
+     * identical one which was in flight
+     */
+    public long getCoalescedRequestCount() {
+        return coalescer.getCoalescedCount();
+    }
+
+    /**
+     * @return The number of retries have been made for the failed requests
+     */
+    public long getRetryCount() {
+        return client.getRetryCount();
+    }
+
+    /**
+     * @return The circuit breaker of the requests, null if it is not enabled via
+     * {@link GlobalConfiguration.Builder#withCircuitBreaker(int, int)}
+     */
+    public CircuitBreaker getCircuitBreaker() {
+        return client.getCircuitBreaker();
+    }
+
+    /**
+     * @return The rate limiter of the requests, null if it is not enabled via
+     * {@link GlobalConfiguration.Builder#withRateLimit(double, int)}
+     */
+    public RateLimiter getRateLimiter() {
+        return client.getRateLimiter();
+    }
+
+    /**
+     * @return The adaptive limit of the requests in flight, null if it is not enabled via
+     * {@link GlobalConfiguration.Builder#withAdaptiveConcurrency(int, int)}
+     */
+    public AdaptiveConcurrencyLimiter getConcurrencyLimiter() {
+        return client.getConcurrencyLimiter();
+    }
+
+    /**
+     * @return The loader which batches the {@code getBitmark} calls, null if it is not enabled
+     * via {@link GlobalConfiguration.Builder#withBitmarkBatchWindow(int)}
+     */
+    public BitmarkBatchLoader getBitmarkLoader() {
+        return bitmarkLoader;
     }
 
     @Override
     public void issueBitmark(IssuanceParams params, Callback1<List<String>> callback) {
-        try {
+        if (params.isGenesisStateKnown()) {
+            trySubmitIssuance(params, null, callback);
+            return;
+        }
+        genesisStateCache.containsGenesisBitmark(params.getAssetId(), new Callback1<Boolean>() {
+            @Override
+            public void onSuccess(Boolean containsGenesisBitmark) {
+                // The deferred signing costs a signature per bitmark, it is not run on the
+                // thread delivering the lookup which is a network thread on a cache miss
+                if (params.isSigningDeferred()) {
+                    SIGNING_EXECUTOR.execute(
+                            () -> trySubmitIssuance(params, containsGenesisBitmark, callback));
+                } else trySubmitIssuance(params, containsGenesisBitmark, callback);
+            }
 
-            String assetId = params.getAssetId();
-            GetBitmarksResponse bitmarksRes = await(bitmarkCallback -> listBitmarks(
-                    new BitmarkQueryBuilder().referencedAssetId(assetId).pending(true).limit(1)
-                                             .build(),
-                    bitmarkCallback));
+            @Override
+            public void onError(Throwable throwable) {
+                callback.onError(throwable);
+            }
+        });
+    }
 
-            params.setContainsGenesisBitmark(
-                    bitmarksRes.getBitmarks() != null && bitmarksRes.getBitmarks().isEmpty());
-            final String path = String.format("/%s/issue", V3);
-            client.postAsync(path, params, toIssueResponse(callback));
+    /**
+     * The params are checked while the request is built, such as whether it is signed. The
+     * error is passed to the callback instead of being thrown to the caller or on the thread
+     * of the genesis lookup, where no one receives it.
+     *
+     * @param containsGenesisBitmark The genesis state is found, null if the params has it
+     */
+    private void trySubmitIssuance(IssuanceParams params, Boolean containsGenesisBitmark,
+                                   Callback1<List<String>> callback) {
+        try {
+            if (containsGenesisBitmark != null) {
+                params.setContainsGenesisBitmark(containsGenesisBitmark);
+            }
+            submitIssuance(params, callback);
         } catch (Throwable e) {
             callback.onError(e);
         }
     }
 
+    void submitIssuance(IssuanceParams params, Callback1<List<String>> callback) {
+        final String path = String.format("/%s/issue", V3);
+        client.postAsync(path, params, toIssueResponse(new Callback1<List<String>>() {
+            @Override
+            public void onSuccess(List<String> txIds) {
+                // The asset has bitmarks from now on
+                genesisStateCache.markIssued(params.getAssetId());
+                callback.onSuccess(txIds);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                callback.onError(throwable);
+            }
+        }));
+    }
+
     @Override
     public void registerAsset(RegistrationParams params, Callback1<RegistrationResponse> callback) {
         final String path = String.format("/%s/register-asset", V3);
@@ -95,42 +271,61 @@ public class ApiService implements BitmarkApi {
     @Override
     public void getBitmark(String bitmarkId, boolean includeAsset,
                            Callback1<GetBitmarkResponse> callback) {
+        if (bitmarkLoader != null) bitmarkLoader.load(bitmarkId, includeAsset, callback);
+        else requestBitmark(bitmarkId, includeAsset, callback);
+    }
+
+    private void requestBitmark(String bitmarkId, boolean includeAsset,
+                                Callback1<GetBitmarkResponse> callback) {
         final String path = String.format("/%s/bitmarks/%s?asset=%b", V3
                 , bitmarkId, includeAsset);
-        client.getAsync(path, toGetBitmarkResponse(callback));
-
+        client.getAsync(path, toGetBitmarkResponse(cached(callback)));
     }
 
     @Override
     public void listBitmarks(QueryParams params, Callback1<GetBitmarksResponse> callback) {
         final String path = String.format("/%s/bitmarks", V3);
-        client.getAsync(path, params, toGetBitmarksResponse(callback));
+        client.getAsync(path, params, toGetBitmarksResponse(cached(callback)));
     }
 
     @Override
     public void getAsset(String assetId, Callback1<AssetRecord> callback) {
+        final AssetRecord cachedAsset = cache == null ? null : cache.getAsset(assetId);
+        if (cachedAsset != null) {
+            callback.onSuccess(cachedAsset);
+            return;
+        }
         final String path = String.format("/%s/assets/%s", V3, assetId);
-        client.getAsync(path, toAssetRecord(callback));
+        client.getAsync(path, toAssetRecord(cached(callback)));
     }
 
     @Override
     public void listAssets(QueryParams params, Callback1<List<AssetRecord>> callback) {
         final String path = String.format("/%s/assets", V3);
-        client.getAsync(path, params, toAssetRecords(callback));
+        client.getAsync(path, params, toAssetRecords(cached(callback)));
     }
 
     @Override
     public void getTransaction(String txId, boolean includeAsset,
                                Callback1<GetTransactionResponse> callback) {
+        final TransactionRecord cachedTx = cache == null ? null : cache.getTransaction(txId);
+        if (cachedTx != null) {
+            final AssetRecord cachedAsset =
+                    includeAsset ? cache.getAsset(cachedTx.getAssetId()) : null;
+            if (!includeAsset || cachedAsset != null) {
+                callback.onSuccess(new GetTransactionResponse(cachedTx, cachedAsset));
+                return;
+            }
+        }
         final String path = String.format("/%s/txs/%s?asset=%b", V3,
                                           txId, includeAsset);
-        client.getAsync(path, toGetTransactionResponse(callback));
+        client.getAsync(path, toGetTransactionResponse(cached(callback)));
     }
 
     @Override
     public void listTransactions(QueryParams params, Callback1<GetTransactionsResponse> callback) {
         final String path = String.format("/%s/txs", V3);
-        client.getAsync(path, params, toGetTransactionsResponse(callback));
+        client.getAsync(path, params, toGetTransactionsResponse(cached(callback)));
     }
 
     @Override
@@ -170,4 +365,43 @@ public class ApiService implements BitmarkApi {
         final String path = String.format("/%s/share-offer?from=%s&to=%s", V3, from, to);
         client.getAsync(path, toListShareOffersResponse(callback));
     }
+
+    // Store the immutable records of a successful response before delivering it
+    private <T> Callback1<T> cached(Callback1<T> callback) {
+        if (cache == null) return callback;
+        return new Callback1<T>() {
+            @Override
+            public void onSuccess(T data) {
+                cache(data);
+                callback.onSuccess(data);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                callback.onError(throwable);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private void cache(Object data) {
+        if (data instanceof AssetRecord) {
+            cache.putAsset((AssetRecord) data);
+        } else if (data instanceof GetBitmarkResponse) {
+            cache.putAsset(((GetBitmarkResponse) data).getAsset());
+        } else if (data instanceof GetBitmarksResponse) {
+            cache.putAssets(((GetBitmarksResponse) data).getAssets());
+        } else if (data instanceof GetTransactionResponse) {
+            final GetTransactionResponse response = (GetTransactionResponse) data;
+            cache.putTransaction(response.getTransaction());
+            cache.putAsset(response.getAsset());
+        } else if (data instanceof GetTransactionsResponse) {
+            final GetTransactionsResponse response = (GetTransactionsResponse) data;
+            cache.putTransactions(response.getTransactions());
+            cache.putAssets(response.getAssets());
+        } else if (data instanceof List) {
+            // Only the asset list is passed here
+            cache.putAssets((List<AssetRecord>) data);
+        }
+    }
 }
@@ -0,0 +1,153 @@
+package com.bitmark.apiservice;
+
+import com.bitmark.apiservice.params.*;
+import com.bitmark.apiservice.params.query.QueryParams;
+import com.bitmark.apiservice.response.*;
+import com.bitmark.apiservice.utils.Pair;
+import com.bitmark.apiservice.utils.callback.Callable1;
+import com.bitmark.apiservice.utils.callback.Callback1;
+import com.bitmark.apiservice.utils.record.AssetRecord;
+import com.bitmark.apiservice.utils.record.ShareGrantRecord;
+import com.bitmark.apiservice.utils.record.ShareRecord;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class AsyncApiService implements BitmarkAsyncApi {
+
+    private static volatile AsyncApiService INSTANCE;
+
+    private ApiService service;
+
+    public static AsyncApiService getInstance() {
+        if (INSTANCE == null) {
+            synchronized (AsyncApiService.class) {
+                if (INSTANCE == null) {
+                    INSTANCE = new AsyncApiService(ApiService.getInstance());
+                }
+            }
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * @param service The service the calls are delegated to, such as the one of a
+     *                {@link BitmarkClient}
+     */
+    public AsyncApiService(ApiService service) {
+        this.service = service;
+    }
+
+    @Override
+    public CompletableFuture<List<String>> issueBitmark(IssuanceParams params) {
+        // The genesis state is resolved by the cache of the service without parking a thread
+        return toFuture(callback -> service.issueBitmark(params, callback));
+    }
+
+    @Override
+    public CompletableFuture<RegistrationResponse> registerAsset(RegistrationParams params) {
+        return toFuture(callback -> service.registerAsset(params, callback));
+    }
+
+    @Override
+    public CompletableFuture<String> transferBitmark(TransferParams params) {
+        return toFuture(callback -> service.transferBitmark(params, callback));
+    }
+
+    @Override
+    public CompletableFuture<String> offerBitmark(TransferOfferParams params) {
+        return toFuture(callback -> service.offerBitmark(params, callback));
+    }
+
+    @Override
+    public CompletableFuture<String> respondBitmarkOffer(TransferResponseParams params) {
+        return toFuture(callback -> service.respondBitmarkOffer(params, callback));
+    }
+
+    @Override
+    public CompletableFuture<GetBitmarkResponse> getBitmark(String bitmarkId,
+                                                            boolean includeAsset) {
+        return toFuture(callback -> service.getBitmark(bitmarkId, includeAsset, callback));
+    }
+
+    @Override
+    public CompletableFuture<GetBitmarksResponse> listBitmarks(QueryParams params) {
+        return toFuture(callback -> service.listBitmarks(params, callback));
+    }
+
+    @Override
+    public CompletableFuture<AssetRecord> getAsset(String assetId) {
+        return toFuture(callback -> service.getAsset(assetId, callback));
+    }
+
+    @Override
+    public CompletableFuture<List<AssetRecord>> listAssets(QueryParams params) {
+        return toFuture(callback -> service.listAssets(params, callback));
+    }
+
+    @Override
+    public CompletableFuture<GetTransactionResponse> getTransaction(String txId,
+                                                                    boolean includeAsset) {
+        return toFuture(callback -> service.getTransaction(txId, includeAsset, callback));
+    }
+
+    @Override
+    public CompletableFuture<GetTransactionsResponse> listTransactions(QueryParams params) {
+        return toFuture(callback -> service.listTransactions(params, callback));
+    }
+
+    @Override
+    public CompletableFuture<Pair<String, String>> createShare(ShareParams params) {
+        return toFuture(callback -> service.createShare(params, callback));
+    }
+
+    @Override
+    public CompletableFuture<String> grantShare(ShareGrantingParams params) {
+        return toFuture(callback -> service.grantShare(params, callback));
+    }
+
+    @Override
+    public CompletableFuture<String> respondShareOffer(GrantResponseParams params) {
+        return toFuture(callback -> service.respondShareOffer(params, callback));
+    }
+
+    @Override
+    public CompletableFuture<ShareRecord> getShare(String shareId) {
+        return toFuture(callback -> service.getShare(shareId, callback));
+    }
+
+    @Override
+    public CompletableFuture<List<ShareRecord>> listShares(String owner) {
+        return toFuture(callback -> service.listShares(owner, callback));
+    }
+
+    @Override
+    public CompletableFuture<List<ShareGrantRecord>> listShareOffer(String from, String to) {
+        return toFuture(callback -> service.listShareOffer(from, to, callback));
+    }
+
+    private static <T> CompletableFuture<T> toFuture(Callable1<T> callable) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            callable.call(new Callback1<T>() {
+                @Override
+                public void onSuccess(T data) {
+                    future.complete(data);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    future.completeExceptionally(throwable);
+                }
+            });
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+}
@@ -0,0 +1,59 @@
+package com.bitmark.apiservice;
+
+import com.bitmark.apiservice.params.*;
+import com.bitmark.apiservice.params.query.QueryParams;
+import com.bitmark.apiservice.response.*;
+import com.bitmark.apiservice.utils.Pair;
+import com.bitmark.apiservice.utils.record.AssetRecord;
+import com.bitmark.apiservice.utils.record.ShareGrantRecord;
+import com.bitmark.apiservice.utils.record.ShareRecord;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The {@link CompletableFuture} based counterpart of {@link BitmarkApi}. No thread is blocked
+ * while a request is in flight, the returned future is completed from the HTTP client callback
+ * thread so the dependent stages should be light-weight or use the *Async variants.
+ *
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public interface BitmarkAsyncApi {
+
+    CompletableFuture<List<String>> issueBitmark(IssuanceParams params);
+
+    CompletableFuture<RegistrationResponse> registerAsset(RegistrationParams params);
+
+    CompletableFuture<String> transferBitmark(TransferParams params);
+
+    CompletableFuture<String> offerBitmark(TransferOfferParams params);
+
+    CompletableFuture<String> respondBitmarkOffer(TransferResponseParams params);
+
+    CompletableFuture<GetBitmarkResponse> getBitmark(String bitmarkId, boolean includeAsset);
+
+    CompletableFuture<GetBitmarksResponse> listBitmarks(QueryParams params);
+
+    CompletableFuture<AssetRecord> getAsset(String assetId);
+
+    CompletableFuture<List<AssetRecord>> listAssets(QueryParams params);
+
+    CompletableFuture<GetTransactionResponse> getTransaction(String txId, boolean includeAsset);
+
+    CompletableFuture<GetTransactionsResponse> listTransactions(QueryParams params);
+
+    CompletableFuture<Pair<String, String>> createShare(ShareParams params);
+
+    CompletableFuture<String> grantShare(ShareGrantingParams params);
+
+    CompletableFuture<String> respondShareOffer(GrantResponseParams params);
+
+    CompletableFuture<ShareRecord> getShare(String shareId);
+
+    CompletableFuture<List<ShareRecord>> listShares(String owner);
+
+    CompletableFuture<List<ShareGrantRecord>> listShareOffer(String from, String to);
+
+}
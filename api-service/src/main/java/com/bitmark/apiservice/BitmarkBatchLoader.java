@@ -0,0 +1,234 @@
+package com.bitmark.apiservice;
+
+import com.bitmark.apiservice.params.query.BitmarkQueryBuilder;
+import com.bitmark.apiservice.params.query.QueryParams;
+import com.bitmark.apiservice.response.GetBitmarkResponse;
+import com.bitmark.apiservice.response.GetBitmarksResponse;
+import com.bitmark.apiservice.utils.callback.Callback1;
+import com.bitmark.apiservice.utils.record.AssetRecord;
+import com.bitmark.apiservice.utils.record.BitmarkRecord;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.bitmark.cryptography.utils.Validator.checkValid;
+
+/**
+ * Collect the {@code getBitmark} calls over a short window and load them by {@code bitmark_ids}
+ * list queries, every record is routed back to its callers. A batch is sent when the window
+ * elapses or it reaches {@link #MAX_BATCH_SIZE} ids, it is split into several queries to keep
+ * the url in {@link #MAX_QUERY_LENGTH}. The bitmark which is not returned by the list query,
+ * such as an invalid id, is loaded alone so the caller receives the original error.
+ *
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class BitmarkBatchLoader {
+
+    public static final int MAX_BATCH_SIZE = 100;
+
+    // A full batch of 64 chars ids takes 7700 chars, it is sent as one query and the request
+    // line is still in the common 8 KB limit of the servers
+    public static final int MAX_QUERY_LENGTH = 8000;
+
+    private static final String BITMARK_IDS_PARAM = "bitmark_ids=&";
+
+    private final Source source;
+
+    private final long windowMillis;
+
+    private final int maxBatchSize;
+
+    // Only the window timers run on it, it is shared by every loader so none of them holds a
+    // thread
+    private static final ScheduledExecutorService SCHEDULER =
+            Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "bitmark-batch-loader");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private final Batch[] batches = new Batch[2];
+
+    private final AtomicLong loadCount = new AtomicLong();
+
+    private final AtomicLong requestCount = new AtomicLong();
+
+    public interface Source {
+
+        void listBitmarks(QueryParams params, Callback1<GetBitmarksResponse> callback);
+
+        void getBitmark(String bitmarkId, boolean includeAsset,
+                        Callback1<GetBitmarkResponse> callback);
+    }
+
+    public BitmarkBatchLoader(Source source, long windowMillis) {
+        this(source, windowMillis, MAX_BATCH_SIZE);
+    }
+
+    public BitmarkBatchLoader(Source source, long windowMillis, int maxBatchSize) {
+        checkValid(() -> windowMillis > 0, "Invalid window. Must be greater than 0");
+        checkValid(() -> maxBatchSize > 0 && maxBatchSize <= MAX_BATCH_SIZE,
+                   "Invalid max batch size. Must be in range 1.." + MAX_BATCH_SIZE);
+        this.source = source;
+        this.windowMillis = windowMillis;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public void load(String bitmarkId, boolean includeAsset,
+                     Callback1<GetBitmarkResponse> callback) {
+        loadCount.incrementAndGet();
+        final Batch fullBatch;
+        synchronized (this) {
+            final int index = includeAsset ? 1 : 0;
+            if (batches[index] == null) {
+                final Batch batch = new Batch(includeAsset);
+                batch.flushTask = SCHEDULER.schedule(() -> flush(batch), windowMillis,
+                                                     TimeUnit.MILLISECONDS);
+                batches[index] = batch;
+            }
+            final Batch batch = batches[index];
+            batch.add(bitmarkId, callback);
+            if (batch.size() < maxBatchSize) return;
+            batch.flushTask.cancel(false);
+            fullBatch = batch;
+        }
+        flush(fullBatch);
+    }
+
+    /**
+     * @return The number of bitmarks have been requested to load
+     */
+    public long getLoadCount() {
+        return loadCount.get();
+    }
+
+    /**
+     * @return The number of requests have been sent to load the bitmarks
+     */
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    private void flush(Batch batch) {
+        synchronized (this) {
+            final int index = batch.includeAsset ? 1 : 0;
+            if (batches[index] != batch) return;
+            batches[index] = null;
+        }
+
+        // Split into the queries which do not exceed the max query length
+        final List<String> ids = new ArrayList<>(batch.waiters.keySet());
+        int start = 0;
+        int length = 0;
+        for (int i = 0; i < ids.size(); i++) {
+            final int idLength = ids.get(i).length() + BITMARK_IDS_PARAM.length();
+            if (i > start && length + idLength > MAX_QUERY_LENGTH) {
+                send(batch, ids.subList(start, i));
+                start = i;
+                length = 0;
+            }
+            length += idLength;
+        }
+        send(batch, ids.subList(start, ids.size()));
+    }
+
+    private void send(Batch batch, List<String> ids) {
+        requestCount.incrementAndGet();
+        final QueryParams params;
+        try {
+            params = new BitmarkQueryBuilder().bitmarkIds(ids.toArray(new String[0]))
+                                              .loadAsset(batch.includeAsset).pending(true)
+                                              .limit(ids.size()).build();
+        } catch (Throwable e) {
+            for (String id : ids) batch.error(id, e);
+            return;
+        }
+        source.listBitmarks(params, new Callback1<GetBitmarksResponse>() {
+            @Override
+            public void onSuccess(GetBitmarksResponse data) {
+                final Map<String, BitmarkRecord> bitmarks = new HashMap<>();
+                if (data.getBitmarks() != null) {
+                    for (BitmarkRecord bitmark : data.getBitmarks()) {
+                        bitmarks.put(bitmark.getId(), bitmark);
+                    }
+                }
+                final Map<String, AssetRecord> assets = new HashMap<>();
+                if (data.getAssets() != null) {
+                    for (AssetRecord asset : data.getAssets()) assets.put(asset.getId(), asset);
+                }
+
+                for (String id : ids) {
+                    final BitmarkRecord bitmark = bitmarks.get(id);
+                    if (bitmark == null) {
+                        // Let the server tell the reason
+                        requestCount.incrementAndGet();
+                        source.getBitmark(id, batch.includeAsset,
+                                          new Callback1<GetBitmarkResponse>() {
+                                              @Override
+                                              public void onSuccess(GetBitmarkResponse data) {
+                                                  batch.success(id, data);
+                                              }
+
+                                              @Override
+                                              public void onError(Throwable throwable) {
+                                                  batch.error(id, throwable);
+                                              }
+                                          });
+                    } else {
+                        final AssetRecord asset =
+                                batch.includeAsset ? assets.get(bitmark.getAssetId()) : null;
+                        batch.success(id, new GetBitmarkResponse(bitmark, asset));
+                    }
+                }
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                for (String id : ids) batch.error(id, throwable);
+            }
+        });
+    }
+
+    // The waiters are only modified under the loader lock until the batch is flushed
+    private static final class Batch {
+
+        private final boolean includeAsset;
+
+        private final Map<String, List<Callback1<GetBitmarkResponse>>> waiters =
+                new LinkedHashMap<>();
+
+        private Future<?> flushTask;
+
+        private Batch(boolean includeAsset) {
+            this.includeAsset = includeAsset;
+        }
+
+        private void add(String bitmarkId, Callback1<GetBitmarkResponse> callback) {
+            List<Callback1<GetBitmarkResponse>> callbacks = waiters.get(bitmarkId);
+            if (callbacks == null) {
+                callbacks = new ArrayList<>(1);
+                waiters.put(bitmarkId, callbacks);
+            }
+            callbacks.add(callback);
+        }
+
+        private int size() {
+            return waiters.size();
+        }
+
+        private void success(String bitmarkId, GetBitmarkResponse response) {
+            for (Callback1<GetBitmarkResponse> callback : waiters.get(bitmarkId)) {
+                callback.onSuccess(response);
+            }
+        }
+
+        private void error(String bitmarkId, Throwable throwable) {
+            for (Callback1<GetBitmarkResponse> callback : waiters.get(bitmarkId)) {
+                callback.onError(throwable);
+            }
+        }
+    }
+}
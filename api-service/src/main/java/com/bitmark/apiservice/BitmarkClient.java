@@ -0,0 +1,117 @@
+package com.bitmark.apiservice;
+
+import com.bitmark.apiservice.configuration.GlobalConfiguration;
+import com.bitmark.apiservice.configuration.Network;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+
+import static com.bitmark.cryptography.utils.Validator.checkNonNull;
+
+/**
+ * Instance scoped client which owns its token, network, timeouts, middlewares and caches, so
+ * several tenants are able to be served in the same process without the global configuration.
+ * The clients are able to share a connection pool and a dispatcher to reuse the connections
+ * and the threads.
+ * <pre>
+ * ConnectionPool pool = new ConnectionPool();
+ * BitmarkClient tenant1 = BitmarkClient.builder()
+ *         .withConfiguration(GlobalConfiguration.builder().withApiToken(token1))
+ *         .withConnectionPool(pool).build();
+ * tenant1.getApiService().getBitmark(bitmarkId, false, callback);
+ * </pre>
+ *
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class BitmarkClient {
+
+    private final GlobalConfiguration configuration;
+
+    private final ApiService apiService;
+
+    private final AsyncApiService asyncApiService;
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private BitmarkClient(Builder builder) {
+        configuration = GlobalConfiguration.newInstance(builder.configuration);
+        apiService = new ApiService(configuration, builder.connectionPool, builder.dispatcher);
+        asyncApiService = new AsyncApiService(apiService);
+    }
+
+    public ApiService getApiService() {
+        return apiService;
+    }
+
+    /**
+     * @return The future based api of this client, it is also the one to page or scan the
+     * records with {@link Paginator} and {@link ParallelScanner}
+     */
+    public AsyncApiService getAsyncApiService() {
+        return asyncApiService;
+    }
+
+    public GlobalConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    public Network getNetwork() {
+        return configuration.getNetwork();
+    }
+
+    /**
+     * @return The connection pool of this client, it is the shared one if it was given to the
+     * builder
+     */
+    public ConnectionPool getConnectionPool() {
+        return apiService.getConnectionPool();
+    }
+
+    /**
+     * @return The dispatcher of this client, it is the shared one if it was given to the builder
+     */
+    public Dispatcher getDispatcher() {
+        return apiService.getDispatcher();
+    }
+
+    public static final class Builder {
+
+        private GlobalConfiguration.Builder configuration;
+
+        private ConnectionPool connectionPool;
+
+        private Dispatcher dispatcher;
+
+        private Builder() {
+        }
+
+        public Builder withConfiguration(GlobalConfiguration.Builder configuration) {
+            this.configuration = configuration;
+            return this;
+        }
+
+        /**
+         * @param connectionPool The connection pool shared with other clients
+         */
+        public Builder withConnectionPool(ConnectionPool connectionPool) {
+            this.connectionPool = connectionPool;
+            return this;
+        }
+
+        /**
+         * @param dispatcher The dispatcher shared with other clients
+         */
+        public Builder withDispatcher(Dispatcher dispatcher) {
+            this.dispatcher = dispatcher;
+            return this;
+        }
+
+        public BitmarkClient build() {
+            checkNonNull(configuration);
+            return new BitmarkClient(this);
+        }
+    }
+}
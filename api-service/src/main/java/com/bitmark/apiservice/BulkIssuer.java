@@ -0,0 +1,352 @@
+package com.bitmark.apiservice;
+
+import com.bitmark.apiservice.params.IssuanceParams;
+import com.bitmark.apiservice.utils.Address;
+import com.bitmark.apiservice.utils.IntHashSet;
+import com.bitmark.apiservice.utils.callback.Callback1;
+import com.bitmark.cryptography.crypto.key.KeyPair;
+
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.bitmark.cryptography.utils.Validator.checkValid;
+
+/**
+ * Issue a large quantity of bitmarks of an asset. The quantity is split into chunks which fit
+ * one issue request, the chunks are signed in parallel on a {@link ForkJoinPool} and each one
+ * is submitted as soon as it is signed, with a bounded number of chunks in flight. The nonces
+ * are unique over the whole issuance and the genesis state of the asset is looked up once, so
+ * only one set of signatures is made.
+ * <p>
+ * When the issuance contains the genesis bitmark, its chunk is submitted first and the others
+ * wait for it to be accepted. A failed chunk does not stop the others, the result holds the
+ * issued bitmarks and the failed chunks.
+ *
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class BulkIssuer {
+
+    public static final int DEFAULT_CHUNK_SIZE = 100;
+
+    public static final int DEFAULT_MAX_IN_FLIGHT = 4;
+
+    public interface ProgressListener {
+
+        /**
+         * Invoked every time a chunk is completed
+         *
+         * @param issuedCount The number of bitmarks have been issued
+         * @param failedCount The number of bitmarks have been failed
+         * @param quantity    The number of bitmarks are issued in total
+         */
+        void onProgress(int issuedCount, int failedCount, int quantity);
+    }
+
+    public static final class ChunkError {
+
+        private final int[] nonces;
+
+        private final Throwable error;
+
+        private ChunkError(int[] nonces, Throwable error) {
+            this.nonces = nonces;
+            this.error = error;
+        }
+
+        /**
+         * @return The nonces of the bitmarks were not issued
+         */
+        public int[] getNonces() {
+            return nonces;
+        }
+
+        public Throwable getError() {
+            return error;
+        }
+    }
+
+    public static final class Result {
+
+        private final List<String> bitmarkIds;
+
+        private final List<ChunkError> errors;
+
+        private Result(List<String> bitmarkIds, List<ChunkError> errors) {
+            this.bitmarkIds = Collections.unmodifiableList(bitmarkIds);
+            this.errors = Collections.unmodifiableList(errors);
+        }
+
+        /**
+         * @return The ids of the issued bitmarks, in the order of the chunks
+         */
+        public List<String> getBitmarkIds() {
+            return bitmarkIds;
+        }
+
+        public List<ChunkError> getErrors() {
+            return errors;
+        }
+
+        public boolean isCompleted() {
+            return errors.isEmpty();
+        }
+    }
+
+    private final ApiService service;
+
+    private final ForkJoinPool signingPool;
+
+    private final int chunkSize;
+
+    private final int maxInFlight;
+
+    public BulkIssuer(ApiService service) {
+        this(service, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE, DEFAULT_MAX_IN_FLIGHT);
+    }
+
+    /**
+     * @param service     The service submits the chunks
+     * @param signingPool The threads the chunks are signed on
+     * @param chunkSize   The maximum number of bitmarks of an issue request
+     * @param maxInFlight The maximum number of issue requests are in flight at once
+     */
+    public BulkIssuer(ApiService service, ForkJoinPool signingPool, int chunkSize,
+                      int maxInFlight) {
+        checkValid(() -> service != null && signingPool != null,
+                   "Service and signing pool are required");
+        checkValid(() -> chunkSize > 0, "Invalid chunk size. Must be greater than 0");
+        checkValid(() -> maxInFlight > 0, "Invalid max in flight. Must be greater than 0");
+        this.service = service;
+        this.signingPool = signingPool;
+        this.chunkSize = chunkSize;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * @param listener Receive the progress, it is able to be null
+     * @param callback Receive the result once every chunk is completed, or an error if the
+     *                 genesis state of the asset could not be looked up
+     */
+    public void issue(String assetId, Address owner, int quantity, KeyPair key,
+                      ProgressListener listener, Callback1<Result> callback) {
+        checkValid(() -> quantity > 0, "Invalid quantity. Must be greater than 0");
+        checkValid(() -> key != null && key.isValid(), "Invalid key pair");
+        service.getGenesisStateCache().containsGenesisBitmark(assetId, new Callback1<Boolean>() {
+            @Override
+            public void onSuccess(Boolean containsGenesisBitmark) {
+                final IssuanceParams[] chunks;
+                try {
+                    chunks = split(assetId, owner,
+                                   generateNonces(quantity, containsGenesisBitmark),
+                                   containsGenesisBitmark);
+                } catch (Throwable e) {
+                    callback.onError(e);
+                    return;
+                }
+                new Job(chunks, key, containsGenesisBitmark, quantity, listener, callback)
+                        .start();
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                callback.onError(throwable);
+            }
+        });
+    }
+
+    private IssuanceParams[] split(String assetId, Address owner, int[] nonces,
+                                   boolean containsGenesisBitmark) {
+        final int count = (nonces.length + chunkSize - 1) / chunkSize;
+        final IssuanceParams[] chunks = new IssuanceParams[count];
+        for (int i = 0; i < count; i++) {
+            final int from = i * chunkSize;
+            final int[] chunkNonces = new int[Math.min(chunkSize, nonces.length - from)];
+            System.arraycopy(nonces, from, chunkNonces, 0, chunkNonces.length);
+            // Only the first chunk holds the nonce 0 of the genesis bitmark
+            chunks[i] = new IssuanceParams(assetId, owner, chunkNonces,
+                                           containsGenesisBitmark && i == 0);
+        }
+        return chunks;
+    }
+
+    /**
+     * @return The unique non-negative nonces, the first one is 0 if the genesis bitmark is
+     * issued and no other one is 0
+     */
+    static int[] generateNonces(int quantity, boolean containsGenesisBitmark) {
+        final SecureRandom random = new SecureRandom();
+        final IntHashSet used = new IntHashSet(quantity);
+        // The nonce 0 is reserved for the genesis bitmark
+        used.add(0);
+        final int[] nonces = new int[quantity];
+        int i = 0;
+        if (containsGenesisBitmark) nonces[i++] = 0;
+        while (i < quantity) {
+            final int nonce = random.nextInt() & Integer.MAX_VALUE;
+            if (used.add(nonce)) nonces[i++] = nonce;
+        }
+        return nonces;
+    }
+
+    private final class Job {
+
+        private static final int PENDING = 0;
+
+        private static final int SIGNED = 1;
+
+        private static final int SUBMITTED = 2;
+
+        private static final int ISSUED = 3;
+
+        private static final int FAILED = 4;
+
+        private final IssuanceParams[] chunks;
+
+        private final KeyPair key;
+
+        private final int quantity;
+
+        private final ProgressListener listener;
+
+        private final Callback1<Result> callback;
+
+        private final int[] states;
+
+        private final List<List<String>> bitmarkIds;
+
+        private final List<ChunkError> errors = new ArrayList<>();
+
+        // The genesis chunk must be accepted before the others are submitted
+        private boolean isWaitingGenesis;
+
+        private int nextChunk;
+
+        private int inFlight;
+
+        private int completedChunks;
+
+        private int issuedCount;
+
+        private int failedCount;
+
+        private Job(IssuanceParams[] chunks, KeyPair key, boolean containsGenesisBitmark,
+                    int quantity, ProgressListener listener, Callback1<Result> callback) {
+            this.chunks = chunks;
+            this.key = key;
+            this.quantity = quantity;
+            this.listener = listener;
+            this.callback = callback;
+            this.states = new int[chunks.length];
+            this.bitmarkIds = new ArrayList<>(Collections.nCopies(chunks.length, null));
+            this.isWaitingGenesis = containsGenesisBitmark;
+        }
+
+        private void start() {
+            for (int i = 0; i < chunks.length; i++) {
+                final int index = i;
+                signingPool.execute(() -> sign(index));
+            }
+        }
+
+        private void sign(int index) {
+            try {
+                chunks[index].sign(key);
+            } catch (Throwable e) {
+                onCompleted(index, null, e);
+                return;
+            }
+            synchronized (this) {
+                // The chunk might have been failed by the genesis chunk meanwhile
+                if (states[index] == PENDING) states[index] = SIGNED;
+            }
+            submitReadyChunks();
+        }
+
+        private void submitReadyChunks() {
+            final List<Integer> ready = new ArrayList<>();
+            synchronized (this) {
+                while (nextChunk < chunks.length && inFlight < maxInFlight) {
+                    final int state = states[nextChunk];
+                    if (state == FAILED) {
+                        nextChunk++;
+                        continue;
+                    }
+                    if (state != SIGNED || (isWaitingGenesis && nextChunk > 0)) break;
+                    states[nextChunk] = SUBMITTED;
+                    inFlight++;
+                    ready.add(nextChunk++);
+                }
+            }
+            for (int index : ready) submit(index);
+        }
+
+        private void submit(int index) {
+            service.submitIssuance(chunks[index], new Callback1<List<String>>() {
+                @Override
+                public void onSuccess(List<String> data) {
+                    onCompleted(index, data, null);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    onCompleted(index, null, throwable);
+                }
+            });
+        }
+
+        private void onCompleted(int index, List<String> ids, Throwable error) {
+            final boolean isDone;
+            final int issued;
+            final int failed;
+            synchronized (this) {
+                if (states[index] == FAILED) return;
+                if (states[index] == SUBMITTED) inFlight--;
+                if (ids != null) {
+                    states[index] = ISSUED;
+                    bitmarkIds.set(index, ids);
+                    issuedCount += chunks[index].getQuantity();
+                    completedChunks++;
+                } else {
+                    fail(index, error);
+                }
+
+                if (isWaitingGenesis && index == 0) {
+                    isWaitingGenesis = false;
+                    // Nothing is able to be issued without the genesis bitmark
+                    if (ids == null) {
+                        for (int i = 1; i < chunks.length; i++) {
+                            if (states[i] != FAILED) fail(i, error);
+                        }
+                    }
+                }
+                isDone = completedChunks == chunks.length;
+                issued = issuedCount;
+                failed = failedCount;
+            }
+
+            if (listener != null) listener.onProgress(issued, failed, quantity);
+            if (isDone) callback.onSuccess(buildResult());
+            else submitReadyChunks();
+        }
+
+        private void fail(int index, Throwable error) {
+            states[index] = FAILED;
+            errors.add(new ChunkError(chunks[index].getNoncesPair().first(), error));
+            failedCount += chunks[index].getQuantity();
+            completedChunks++;
+        }
+
+        private synchronized Result buildResult() {
+            final List<String> ids = new ArrayList<>(issuedCount);
+            for (List<String> chunkIds : bitmarkIds) {
+                if (chunkIds != null) ids.addAll(chunkIds);
+            }
+            return new Result(ids, new ArrayList<>(errors));
+        }
+    }
+}
@@ -2,17 +2,33 @@ package com.bitmark.apiservice;
 
 import com.bitmark.apiservice.configuration.GlobalConfiguration;
 import com.bitmark.apiservice.configuration.Network;
+import com.bitmark.apiservice.middleware.AdaptiveConcurrencyLimiter;
 import com.bitmark.apiservice.middleware.BitmarkApiInterceptor;
+import com.bitmark.apiservice.middleware.CircuitBreaker;
+import com.bitmark.apiservice.middleware.HttpLogger;
+import com.bitmark.apiservice.middleware.RateLimiter;
+import com.bitmark.apiservice.middleware.RequestCoalescer;
+import com.bitmark.apiservice.middleware.RetryPolicy;
 import com.bitmark.apiservice.params.Params;
+import com.bitmark.apiservice.params.StreamingParams;
 import com.bitmark.apiservice.params.query.QueryParams;
+import com.bitmark.apiservice.transport.OkHttpTransport;
+import com.bitmark.apiservice.transport.Transport;
 import com.bitmark.apiservice.utils.callback.Callback1;
+import com.bitmark.apiservice.utils.error.CircuitBreakerOpenException;
 import com.bitmark.apiservice.utils.error.HttpException;
 import com.bitmark.apiservice.utils.error.NetworkException;
+import com.bitmark.apiservice.utils.metrics.MetricsEventListener;
+import com.bitmark.apiservice.utils.metrics.MetricsListener;
+import com.bitmark.apiservice.utils.metrics.RequestMetrics;
 import okhttp3.*;
-import okhttp3.logging.HttpLoggingInterceptor;
 
 import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * @author Hieu Pham
@@ -29,37 +45,156 @@ public class HttpClientImpl implements HttpClient {
 
     public static final String TEST_NET_ENDPOINT = "https://api.test.bitmark.com";
 
-    private OkHttpClient client;
+    private final OkHttpClient client;
 
-    HttpClientImpl(String apiToken) {
-        client = buildClient(apiToken);
+    private final Transport transport;
+
+    private final String endpoint;
+
+    private final Headers defaultHeaders;
+
+    private static final ScheduledExecutorService SCHEDULER =
+            Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "bitmark-http-scheduler");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private final RequestCoalescer coalescer = new RequestCoalescer();
+
+    private final RetryPolicy retryPolicy;
+
+    private final CircuitBreaker circuitBreaker;
+
+    private final AtomicLong retryCount = new AtomicLong();
+
+    private final RateLimiter rateLimiter;
+
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    private final MetricsListener metricsListener;
+
+    /**
+     * @param config         The configuration of the client
+     * @param connectionPool The connection pool shared with other clients, null to use an own
+     *                       one
+     * @param dispatcher     The dispatcher shared with other clients, null to use an own one
+     */
+    HttpClientImpl(GlobalConfiguration config, ConnectionPool connectionPool,
+                   Dispatcher dispatcher) {
+        endpoint = config.getNetwork() == Network.TEST_NET ? TEST_NET_ENDPOINT :
+                   LIVE_NET_ENDPOINT;
+        metricsListener = config.getMetricsListener();
+        final double rateLimit = config.getRateLimit();
+        rateLimiter =
+                rateLimit > 0 ? new RateLimiter(rateLimit, config.getRateLimitBurst()) : null;
+        final int maxConcurrency = config.getMaxConcurrency();
+        concurrencyLimiter = maxConcurrency > 0 ? new AdaptiveConcurrencyLimiter(
+                config.getInitialConcurrency(), maxConcurrency) : null;
+        defaultHeaders = BitmarkApiInterceptor.createHeaders(config.getApiToken());
+        final Transport customTransport = config.getTransport();
+        if (customTransport == null) {
+            client = buildClient(config, connectionPool, dispatcher);
+            transport = new OkHttpTransport(client);
+        } else {
+            client = null;
+            transport = customTransport;
+        }
+        retryPolicy = config.getRetryPolicy();
+        final int failureThreshold = config.getCircuitBreakerFailureThreshold();
+        circuitBreaker = failureThreshold > 0 ? new CircuitBreaker(failureThreshold,
+                TimeUnit.SECONDS.toMillis(config.getCircuitBreakerOpenDuration())) : null;
+    }
+
+    RequestCoalescer getCoalescer() {
+        return coalescer;
+    }
+
+    CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
     }
 
-    private OkHttpClient buildClient(String apiToken) {
+    long getRetryCount() {
+        return retryCount.get();
+    }
+
+    RateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    AdaptiveConcurrencyLimiter getConcurrencyLimiter() {
+        return concurrencyLimiter;
+    }
+
+    /**
+     * @return The connection pool of OkHttp, null if a custom transport is used
+     */
+    ConnectionPool getConnectionPool() {
+        return client == null ? null : client.connectionPool();
+    }
+
+    /**
+     * @return The dispatcher of OkHttp, null if a custom transport is used
+     */
+    Dispatcher getDispatcher() {
+        return client == null ? null : client.dispatcher();
+    }
+
+    private OkHttpClient buildClient(GlobalConfiguration config, ConnectionPool connectionPool,
+                                     Dispatcher dispatcher) {
         OkHttpClient.Builder builder = new OkHttpClient.Builder();
 
-        // Add Logging
-        builder.addInterceptor(new HttpLoggingInterceptor().setLevel(HttpLoggingInterceptor.Level.BODY));
+        // Add Logging, it is off by default
+        final HttpLogger.Level logLevel = config.getLogLevel();
+        if (logLevel != HttpLogger.Level.NONE) {
+            builder.addInterceptor(new HttpLogger(logLevel, config.getLogSampleRate(),
+                                                  config.getLogMaxBodyLength(),
+                                                  config.getLogger()));
+        }
 
-        // Add Request Interceptor
-        builder.addInterceptor(new BitmarkApiInterceptor(apiToken));
+        // Share the connections and the threads with other clients
+        if (connectionPool != null) builder.connectionPool(connectionPool);
+        if (dispatcher != null) builder.dispatcher(dispatcher);
 
         // Configure the timeout
-        int timeout = GlobalConfiguration.connectionTimeout();
+        int timeout = config.getConnectionTimeout();
         builder.readTimeout(timeout, TimeUnit.SECONDS);
         builder.connectTimeout(timeout, TimeUnit.SECONDS);
+
+        // Network events are only listened when the metrics are collected
+        if (metricsListener != MetricsListener.NONE) {
+            builder.eventListenerFactory(MetricsEventListener.FACTORY);
+        }
+
+        // The adaptive limit takes over the per host limit of the own dispatcher
+        if (concurrencyLimiter != null && dispatcher == null) {
+            final Dispatcher ownDispatcher = new Dispatcher();
+            ownDispatcher.setMaxRequests(
+                    Math.max(ownDispatcher.getMaxRequests(), concurrencyLimiter.getMaxLimit()));
+            ownDispatcher.setMaxRequestsPerHost(concurrencyLimiter.getMaxLimit());
+            builder.dispatcher(ownDispatcher);
+        }
         return builder.build();
     }
 
     private String getRequestUrl(String path) {
-        return (GlobalConfiguration.network() == Network.TEST_NET ? TEST_NET_ENDPOINT :
-                LIVE_NET_ENDPOINT) + path;
+        return endpoint + path;
     }
 
     private String getRequestUrl(String path, QueryParams params) {
         return getRequestUrl(path) + "?" + params.toUrlQuery();
     }
 
+    private Request.Builder newRequest(String url, Headers headers) {
+        final Request.Builder builder = new Request.Builder().url(url);
+        if (headers == null) return builder.headers(defaultHeaders);
+        final Headers.Builder headersBuilder = defaultHeaders.newBuilder();
+        for (int i = 0, size = headers.size(); i < size; i++) {
+            headersBuilder.add(headers.name(i), headers.value(i));
+        }
+        return builder.headers(headersBuilder.build());
+    }
+
     @Override
     public void getAsync(String path, Callback1<Response> callback) {
         getAsync(path, null, callback);
@@ -68,8 +203,18 @@ public class HttpClientImpl implements HttpClient {
     @Override
     public void getAsync(String path, QueryParams params, Callback1<Response> callback) {
         String requestUrl = params == null ? getRequestUrl(path) : getRequestUrl(path, params);
-        Request request = new Request.Builder().url(requestUrl).get().build();
-        client.newCall(request).enqueue(wrapCallback(callback));
+        // Identical GET requests in flight share one call
+        Callback1<Response> coalescedCallback = coalescer.join(requestUrl, callback);
+        if (coalescedCallback == null) return;
+        final Request request;
+        try {
+            request = newRequest(requestUrl, null).get().build();
+        } catch (RuntimeException e) {
+            // The waiters joined meanwhile would wait forever if the key is kept
+            coalescedCallback.onError(e);
+            return;
+        }
+        enqueue(request, coalescedCallback);
     }
 
     @Override
@@ -81,11 +226,9 @@ public class HttpClientImpl implements HttpClient {
     public void postAsync(String path, Headers headers, Params params,
                           Callback1<Response> callback) {
         String requestUrl = getRequestUrl(path);
-        Request.Builder builder = new Request.Builder()
-                .url(requestUrl)
-                .post(RequestBody.create(JSON, params.toJson()));
-        if (headers != null) builder.headers(headers);
-        client.newCall(builder.build()).enqueue(wrapCallback(callback));
+        Request request = newRequest(requestUrl, headers)
+                .post(createBody(params)).build();
+        enqueue(request, callback);
     }
 
     @Override
@@ -97,11 +240,9 @@ public class HttpClientImpl implements HttpClient {
     public void patchAsync(String path, Headers headers, Params params,
                            Callback1<Response> callback) {
         String requestUrl = getRequestUrl(path);
-        Request.Builder builder =
-                new Request.Builder().url(requestUrl).patch(RequestBody.create(JSON,
-                        params.toJson()));
-        if (headers != null) builder.headers(headers);
-        client.newCall(builder.build()).enqueue(wrapCallback(callback));
+        Request request = newRequest(requestUrl, headers)
+                .patch(createBody(params)).build();
+        enqueue(request, callback);
     }
 
     @Override
@@ -112,27 +253,144 @@ public class HttpClientImpl implements HttpClient {
     @Override
     public void deleteAsync(String path, Params params, Callback1<Response> callback) {
         String requestUrl = getRequestUrl(path);
-        Request.Builder builder = new Request.Builder()
-                .url(requestUrl);
+        Request.Builder builder = newRequest(requestUrl, null);
         Request request = params == null ? builder.delete().build() :
-                builder.delete(RequestBody.create(JSON, params.toJson())).build();
-        client.newCall(request).enqueue(wrapCallback(callback));
+                builder.delete(createBody(params)).build();
+        enqueue(request, callback);
     }
 
-    private Callback wrapCallback(Callback1<Response> callback) {
-        return new Callback() {
+    private static RequestBody createBody(Params params) {
+        // Large payloads are written straight into the sink instead of a String
+        if (params instanceof StreamingParams) return ((StreamingParams) params).toRequestBody();
+        return RequestBody.create(JSON, params.toJson());
+    }
+
+    private void enqueue(Request request, Callback1<Response> callback) {
+        if (metricsListener == MetricsListener.NONE) {
+            enqueue(request, callback, 0);
+            return;
+        }
+
+        final RequestMetrics metrics = new RequestMetrics(RequestMetrics.getEndpoint(request));
+        metricsListener.onRequestStart(metrics.getEndpoint());
+        enqueue(request.newBuilder().tag(metrics).build(), new Callback1<Response>() {
+            @Override
+            public void onSuccess(Response data) {
+                try {
+                    callback.onSuccess(data);
+                } finally {
+                    metricsListener.onRequestEnd(metrics);
+                }
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                try {
+                    callback.onError(throwable);
+                } finally {
+                    metricsListener.onRequestEnd(metrics);
+                }
+            }
+        }, 0);
+    }
+
+    private void enqueue(Request request, Callback1<Response> callback, int retries) {
+        if (circuitBreaker != null && !circuitBreaker.allowRequest()) {
+            callback.onError(new CircuitBreakerOpenException());
+            return;
+        }
+
+        final long delay = rateLimiter == null ? 0 : rateLimiter.reserve();
+        if (delay > 0) {
+            SCHEDULER.schedule(() -> send(request, callback, retries), delay,
+                               TimeUnit.MILLISECONDS);
+        } else send(request, callback, retries);
+    }
+
+    private void send(Request request, Callback1<Response> callback, int retries) {
+        if (concurrencyLimiter == null) {
+            send(request, callback, wrapCallback(request, callback, retries, 0));
+            return;
+        }
+        concurrencyLimiter.acquire(() -> send(request, callback, wrapCallback(request, callback,
+                retries, concurrencyLimiter.now())));
+    }
+
+    private void send(Request request, Callback1<Response> callback,
+                      Transport.Callback transportCallback) {
+        try {
+            transport.send(request, transportCallback);
+        } catch (RuntimeException e) {
+            // The transport has not taken the request so none of its callbacks is invoked, the
+            // slot and the trial are released before the callback which is able to throw
+            if (circuitBreaker != null) circuitBreaker.onAborted();
+            if (concurrencyLimiter != null) concurrencyLimiter.abort();
+            callback.onError(e);
+        }
+    }
+
+    private Transport.Callback wrapCallback(Request request, Callback1<Response> callback,
+                                            int retries, long startNanos) {
+        return new Transport.Callback() {
+            @Override
+            public void onFailure(IOException e) {
+                onFailed(e);
+                if (retry(request, retries, null, e, callback)) return;
+                callback.onError(new NetworkException(e.getMessage()));
+            }
+
             @Override
-            public void onFailure(Call call, IOException e) {
+            public void onCanceled(IOException e) {
+                onFailed(e);
                 callback.onError(new NetworkException(e.getMessage()));
             }
 
+            private void onFailed(IOException e) {
+                final RequestMetrics metrics = RequestMetrics.of(request);
+                if (metrics != null) metrics.onCompleted(0);
+                if (circuitBreaker != null) circuitBreaker.onFailure();
+                if (concurrencyLimiter != null) {
+                    concurrencyLimiter.release(startNanos, e instanceof SocketTimeoutException);
+                }
+            }
+
             @Override
-            public void onResponse(Call call, Response response) throws IOException {
+            public void onResponse(Response response) throws IOException {
+                final int code = response.code();
+                final RequestMetrics metrics = RequestMetrics.of(request);
+                if (metrics != null) metrics.onCompleted(code);
+                // Only the server failures mean the endpoint is unhealthy, a 429 is the rate
+                // limit of the caller and only slows the sending down
+                final boolean isOverloaded = code >= 500 || code == 429;
+                if (circuitBreaker != null) {
+                    if (code >= 500) circuitBreaker.onFailure();
+                    else circuitBreaker.onSuccess();
+                }
+                if (concurrencyLimiter != null) {
+                    concurrencyLimiter.release(startNanos, isOverloaded);
+                }
+
                 if (response.isSuccessful())
                     callback.onSuccess(response);
-                else callback.onError(new HttpException(response.code(), response.body().string()));
+                else if (retry(request, retries, response, null, callback))
+                    response.close();
+                else callback.onError(new HttpException(code, response.body().string()));
             }
         };
     }
 
+    private boolean retry(Request request, int retries, Response response, IOException error,
+                          Callback1<Response> callback) {
+        final long delay =
+                retryPolicy.getRetryDelay(request, retries + 1, response, error);
+        if (delay < 0) return false;
+        if (circuitBreaker != null && circuitBreaker.getState() == CircuitBreaker.State.OPEN)
+            return false;
+
+        retryCount.incrementAndGet();
+        SCHEDULER.schedule(() -> enqueue(request, callback, retries + 1), delay,
+                           TimeUnit.MILLISECONDS);
+        return true;
+    }
+
 }
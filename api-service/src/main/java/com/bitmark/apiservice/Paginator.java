@@ -0,0 +1,218 @@
+package com.bitmark.apiservice;
+
+import com.bitmark.apiservice.params.query.BitmarkQueryBuilder;
+import com.bitmark.apiservice.params.query.TransactionQueryBuilder;
+import com.bitmark.apiservice.response.GetBitmarksResponse;
+import com.bitmark.apiservice.response.GetTransactionsResponse;
+import com.bitmark.apiservice.utils.error.UnexpectedException;
+import com.bitmark.apiservice.utils.record.BitmarkRecord;
+import com.bitmark.apiservice.utils.record.TransactionRecord;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.bitmark.cryptography.utils.Validator.checkValid;
+
+/**
+ * Lazy iterator over all records matching a query, walking from the latest offset to the
+ * earlier ones page by page. The next page is requested in background as soon as the previous
+ * one arrives so the network overlaps with the processing of the caller, at most
+ * {@code maxBufferedPages} pages are held in memory, the prefetching stops until the caller
+ * consumes one of them.
+ * <p>
+ * The iterator is not thread safe, it should be consumed by one thread. Close it, or the
+ * {@link Stream} returned from {@link #stream()}, to stop the prefetching when the caller does
+ * not read till the end.
+ *
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class Paginator<T> implements Iterator<T>, AutoCloseable {
+
+    public static final int PAGE_SIZE = 100;
+
+    public static final int DEFAULT_MAX_BUFFERED_PAGES = 2;
+
+    private final Function<Long, CompletableFuture<List<T>>> fetcher;
+
+    private final ToLongFunction<T> offsetMapper;
+
+    private final int pageSize;
+
+    private final int maxBufferedPages;
+
+    private final Deque<List<T>> pages = new ArrayDeque<>();
+
+    private Iterator<T> current = Collections.emptyIterator();
+
+    private Long nextAt;
+
+    private boolean isFetching;
+
+    private boolean isExhausted;
+
+    private boolean isClosed;
+
+    private Throwable error;
+
+    public static Paginator<BitmarkRecord> bitmarks(BitmarkQueryBuilder builder) {
+        return bitmarks(builder, DEFAULT_MAX_BUFFERED_PAGES);
+    }
+
+    public static Paginator<BitmarkRecord> bitmarks(BitmarkQueryBuilder builder,
+                                                    int maxBufferedPages) {
+        return bitmarks(AsyncApiService.getInstance(), builder, maxBufferedPages);
+    }
+
+    /**
+     * @param api The api the pages are requested from, such as the one of a
+     *            {@link BitmarkClient}
+     */
+    public static Paginator<BitmarkRecord> bitmarks(BitmarkAsyncApi api,
+                                                    BitmarkQueryBuilder builder,
+                                                    int maxBufferedPages) {
+        // Page over a copy, the builder of the caller is left as it is
+        final BitmarkQueryBuilder query = builder.copy().to("earlier").limit(PAGE_SIZE);
+        return new Paginator<>(at -> {
+            final BitmarkQueryBuilder page = query.copy();
+            if (at != null) page.at(at);
+            return api.listBitmarks(page.build()).thenApply(GetBitmarksResponse::getBitmarks);
+        }, BitmarkRecord::getOffset, PAGE_SIZE, maxBufferedPages);
+    }
+
+    public static Paginator<TransactionRecord> transactions(TransactionQueryBuilder builder) {
+        return transactions(builder, DEFAULT_MAX_BUFFERED_PAGES);
+    }
+
+    public static Paginator<TransactionRecord> transactions(TransactionQueryBuilder builder,
+                                                            int maxBufferedPages) {
+        return transactions(AsyncApiService.getInstance(), builder, maxBufferedPages);
+    }
+
+    /**
+     * @param api The api the pages are requested from, such as the one of a
+     *            {@link BitmarkClient}
+     */
+    public static Paginator<TransactionRecord> transactions(BitmarkAsyncApi api,
+                                                            TransactionQueryBuilder builder,
+                                                            int maxBufferedPages) {
+        // Page over a copy, the builder of the caller is left as it is
+        final TransactionQueryBuilder query = builder.copy().to("earlier").limit(PAGE_SIZE);
+        return new Paginator<>(at -> {
+            final TransactionQueryBuilder page = query.copy();
+            if (at != null) page.at(at);
+            return api.listTransactions(page.build())
+                      .thenApply(GetTransactionsResponse::getTransactions);
+        }, TransactionRecord::getOffset, PAGE_SIZE, maxBufferedPages);
+    }
+
+    /**
+     * @param fetcher          Request the page of records which are earlier than the given
+     *                         offset, the offset is null for the first page
+     * @param offsetMapper     Get the offset of a record
+     * @param pageSize         The maximum number of records in a page
+     * @param maxBufferedPages The maximum number of fetched pages are not consumed yet
+     */
+    public Paginator(Function<Long, CompletableFuture<List<T>>> fetcher,
+                     ToLongFunction<T> offsetMapper, int pageSize, int maxBufferedPages) {
+        checkValid(() -> pageSize > 1, "Invalid page size. Must be greater than 1");
+        checkValid(() -> maxBufferedPages > 0,
+                   "Invalid max buffered pages. Must be greater than 0");
+        this.fetcher = fetcher;
+        this.offsetMapper = offsetMapper;
+        this.pageSize = pageSize;
+        this.maxBufferedPages = maxBufferedPages;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (current.hasNext()) return true;
+        synchronized (this) {
+            while (!isClosed) {
+                if (!pages.isEmpty()) {
+                    current = pages.poll().iterator();
+                    fetchIfNeeded();
+                    return true;
+                }
+                if (error instanceof RuntimeException) throw (RuntimeException) error;
+                else if (error != null) throw new UnexpectedException(error);
+                fetchIfNeeded();
+                // A fetch which completes at once has delivered its page or error already
+                if (!pages.isEmpty() || error != null) continue;
+                if (!isFetching) return false;
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    close();
+                    throw new UnexpectedException(e);
+                }
+            }
+            return false;
+        }
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        return current.next();
+    }
+
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this,
+                                                                        Spliterator.ORDERED |
+                                                                        Spliterator.NONNULL),
+                                    false).onClose(this::close);
+    }
+
+    @Override
+    public synchronized void close() {
+        isClosed = true;
+        pages.clear();
+        current = Collections.emptyIterator();
+        notifyAll();
+    }
+
+    private void fetchIfNeeded() {
+        if (isFetching || isExhausted || isClosed || error != null ||
+            pages.size() >= maxBufferedPages) return;
+        isFetching = true;
+        final Long at = nextAt;
+        final CompletableFuture<List<T>> future;
+        try {
+            future = fetcher.apply(at);
+        } catch (Throwable e) {
+            onPage(at, null, e);
+            return;
+        }
+        future.whenComplete((records, throwable) -> onPage(at, records, throwable));
+    }
+
+    private synchronized void onPage(Long at, List<T> records, Throwable throwable) {
+        isFetching = false;
+        if (isClosed) return;
+        if (throwable != null) {
+            error = throwable instanceof CompletionException &&
+                    throwable.getCause() != null ? throwable.getCause() : throwable;
+        } else {
+            final int size = records == null ? 0 : records.size();
+            // The record at the requested offset may be returned again, skip it
+            final List<T> page = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                final T record = records.get(i);
+                if (at == null || offsetMapper.applyAsLong(record) < at) page.add(record);
+            }
+            if (page.isEmpty() || size < pageSize) isExhausted = true;
+            else nextAt = offsetMapper.applyAsLong(page.get(page.size() - 1));
+            if (!page.isEmpty()) pages.add(page);
+            fetchIfNeeded();
+        }
+        notifyAll();
+    }
+}
@@ -0,0 +1,272 @@
+package com.bitmark.apiservice;
+
+import com.bitmark.apiservice.params.query.AbsQueryBuilder;
+import com.bitmark.apiservice.params.query.BitmarkQueryBuilder;
+import com.bitmark.apiservice.params.query.QueryParams;
+import com.bitmark.apiservice.params.query.TransactionQueryBuilder;
+import com.bitmark.apiservice.response.GetBitmarksResponse;
+import com.bitmark.apiservice.response.GetTransactionsResponse;
+import com.bitmark.apiservice.utils.record.BitmarkRecord;
+import com.bitmark.apiservice.utils.record.TransactionRecord;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToLongFunction;
+
+import static com.bitmark.cryptography.utils.Validator.checkValid;
+
+/**
+ * Scan all records matching a query by splitting the offset range into partitions which are
+ * fetched concurrently. The latest and the earliest offset are probed first, each partition
+ * is then walked page by page like {@link Paginator} and the result of all partitions is
+ * merged from the latest to the earliest offset.
+ * <p>
+ * It trades the constant memory of {@link Paginator} for a scan time which is no longer bound
+ * by the round-trip latency of the sequential pages.
+ *
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class ParallelScanner<T> {
+
+    public static final int PAGE_SIZE = 100;
+
+    public static final int DEFAULT_PARTITIONS = 8;
+
+    public static final int DEFAULT_PARALLELISM = 4;
+
+    private static final String EARLIER = "earlier";
+
+    private static final String LATER = "later";
+
+    private final PageFetcher<T> fetcher;
+
+    private final ToLongFunction<T> offsetMapper;
+
+    private final int pageSize;
+
+    private final int partitions;
+
+    private final int parallelism;
+
+    public interface PageFetcher<T> {
+
+        /**
+         * @param at    The offset to start from, null to start from the edge of the direction
+         * @param to    The direction, {@code earlier} or {@code later}
+         * @param limit The maximum number of records
+         * @return The page of records
+         */
+        CompletableFuture<List<T>> fetch(Long at, String to, int limit);
+    }
+
+    public static ParallelScanner<BitmarkRecord> bitmarks(BitmarkQueryBuilder builder) {
+        return bitmarks(builder, DEFAULT_PARTITIONS, DEFAULT_PARALLELISM);
+    }
+
+    public static ParallelScanner<BitmarkRecord> bitmarks(BitmarkQueryBuilder builder,
+                                                          int partitions, int parallelism) {
+        return bitmarks(AsyncApiService.getInstance(), builder, partitions, parallelism);
+    }
+
+    /**
+     * @param api The api the pages are requested from, such as the one of a
+     *            {@link BitmarkClient}
+     */
+    public static ParallelScanner<BitmarkRecord> bitmarks(BitmarkAsyncApi api,
+                                                          BitmarkQueryBuilder builder,
+                                                          int partitions, int parallelism) {
+        // Every page is built from its own copy of the snapshot, the builder of the caller is
+        // neither changed nor shared between the partitions
+        final BitmarkQueryBuilder query = builder.copy();
+        return new ParallelScanner<>((at, to, limit) -> {
+            final BitmarkQueryBuilder page = query.copy().to(to).limit(limit);
+            if (at != null) page.at(at);
+            return api.listBitmarks(snapshot(page)).thenApply(GetBitmarksResponse::getBitmarks);
+        }, BitmarkRecord::getOffset, PAGE_SIZE, partitions, parallelism);
+    }
+
+    public static ParallelScanner<TransactionRecord> transactions(
+            TransactionQueryBuilder builder) {
+        return transactions(builder, DEFAULT_PARTITIONS, DEFAULT_PARALLELISM);
+    }
+
+    public static ParallelScanner<TransactionRecord> transactions(
+            TransactionQueryBuilder builder, int partitions, int parallelism) {
+        return transactions(AsyncApiService.getInstance(), builder, partitions, parallelism);
+    }
+
+    /**
+     * @param api The api the pages are requested from, such as the one of a
+     *            {@link BitmarkClient}
+     */
+    public static ParallelScanner<TransactionRecord> transactions(
+            BitmarkAsyncApi api, TransactionQueryBuilder builder, int partitions,
+            int parallelism) {
+        // Every page is built from its own copy of the snapshot, the builder of the caller is
+        // neither changed nor shared between the partitions
+        final TransactionQueryBuilder query = builder.copy();
+        return new ParallelScanner<>((at, to, limit) -> {
+            final TransactionQueryBuilder page = query.copy().to(to).limit(limit);
+            if (at != null) page.at(at);
+            return api.listTransactions(snapshot(page))
+                      .thenApply(GetTransactionsResponse::getTransactions);
+        }, TransactionRecord::getOffset, PAGE_SIZE, partitions, parallelism);
+    }
+
+    /**
+     * @param fetcher      Request a page of records
+     * @param offsetMapper Get the offset of a record
+     * @param pageSize     The maximum number of records in a page
+     * @param partitions   The number of offset ranges the scan is split into
+     * @param parallelism  The maximum number of offset ranges are fetched at the same time
+     */
+    public ParallelScanner(PageFetcher<T> fetcher, ToLongFunction<T> offsetMapper, int pageSize,
+                           int partitions, int parallelism) {
+        checkValid(() -> pageSize > 1, "Invalid page size. Must be greater than 1");
+        checkValid(() -> partitions > 0, "Invalid partitions. Must be greater than 0");
+        checkValid(() -> parallelism > 0, "Invalid parallelism. Must be greater than 0");
+        this.fetcher = fetcher;
+        this.offsetMapper = offsetMapper;
+        this.pageSize = pageSize;
+        this.partitions = partitions;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * @return All records ordered from the latest to the earliest offset
+     */
+    public CompletableFuture<List<T>> scan() {
+        final CompletableFuture<List<T>> latest = fetcher.fetch(null, EARLIER, 1);
+        final CompletableFuture<List<T>> earliest = fetcher.fetch(1L, LATER, 1);
+        return latest.thenCombine(earliest, (latestRecords, earliestRecords) -> {
+            if (latestRecords == null || latestRecords.isEmpty()) return null;
+            final long upper = offsetMapper.applyAsLong(latestRecords.get(0));
+            final long lower = earliestRecords == null || earliestRecords.isEmpty() ? 1 :
+                               Math.min(upper, offsetMapper.applyAsLong(earliestRecords.get(0)));
+            return new long[]{lower, upper};
+        }).thenCompose(bounds -> bounds == null ?
+                                 CompletableFuture.completedFuture(Collections.emptyList()) :
+                                 scan(bounds[0], bounds[1]));
+    }
+
+    private CompletableFuture<List<T>> scan(long lower, long upper) {
+        // Partition i covers the offsets in (bounds[i + 1], bounds[i]], from the latest one
+        final long width = upper - lower + 1;
+        final int count = (int) Math.min(partitions, width);
+        final long[] bounds = new long[count + 1];
+        for (int i = 0; i <= count; i++) {
+            bounds[i] = upper - width * i / count;
+        }
+
+        final List<List<T>> results = new ArrayList<>(Collections.nCopies(count, null));
+        final AtomicInteger next = new AtomicInteger();
+        final CompletableFuture<?>[] workers =
+                new CompletableFuture<?>[Math.min(parallelism, count)];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = new Worker(next, bounds, results).start();
+        }
+        return CompletableFuture.allOf(workers).thenApply(ignore -> {
+            int size = 0;
+            for (List<T> result : results) size += result.size();
+            final List<T> records = new ArrayList<>(size);
+            for (List<T> result : results) records.addAll(result);
+            return records;
+        });
+    }
+
+    /**
+     * Each worker keeps taking the next partition until all of them are taken, so there are
+     * never more than parallelism partitions in flight. The pages are walked in a loop instead
+     * of chaining the futures, a page which is completed at once does not grow the stack.
+     */
+    private final class Worker {
+
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        private final AtomicInteger next;
+
+        private final long[] bounds;
+
+        private final List<List<T>> results;
+
+        // The records of the current partition, null when the next one should be taken
+        private List<T> records;
+
+        private long at;
+
+        private long lower;
+
+        Worker(AtomicInteger next, long[] bounds, List<List<T>> results) {
+            this.next = next;
+            this.bounds = bounds;
+            this.results = results;
+        }
+
+        CompletableFuture<Void> start() {
+            run(null);
+            return done;
+        }
+
+        private void run(CompletableFuture<List<T>> future) {
+            try {
+                while (true) {
+                    if (future != null) {
+                        if (!future.isDone()) {
+                            // Resume once the page arrives, the loop goes on from there
+                            final CompletableFuture<List<T>> pending = future;
+                            pending.whenComplete((page, error) -> run(pending));
+                            return;
+                        }
+                        onPage(future.join());
+                    }
+                    if (records == null && !takePartition()) {
+                        done.complete(null);
+                        return;
+                    }
+                    future = fetcher.fetch(at, EARLIER, pageSize);
+                }
+            } catch (Throwable e) {
+                done.completeExceptionally(e);
+            }
+        }
+
+        private boolean takePartition() {
+            final int index = next.getAndIncrement();
+            if (index >= results.size()) return false;
+            records = new ArrayList<>();
+            results.set(index, records);
+            at = bounds[index] + 1;
+            lower = bounds[index + 1];
+            return true;
+        }
+
+        private void onPage(List<T> page) {
+            final int size = page == null ? 0 : page.size();
+            boolean isDone = size < pageSize;
+            long last = at;
+            for (int i = 0; i < size; i++) {
+                final long offset = offsetMapper.applyAsLong(page.get(i));
+                // The record at the requested offset may be returned again, skip it
+                if (offset >= at) continue;
+                if (offset <= lower) {
+                    isDone = true;
+                    break;
+                }
+                records.add(page.get(i));
+                last = offset;
+            }
+            if (isDone || last == at) records = null;
+            else at = last;
+        }
+    }
+
+    private static QueryParams snapshot(AbsQueryBuilder builder) {
+        final String query = builder.toUrlQuery();
+        return () -> query;
+    }
+}
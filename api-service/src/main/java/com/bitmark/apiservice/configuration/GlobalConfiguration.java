@@ -1,5 +1,10 @@
 package com.bitmark.apiservice.configuration;
 
+import com.bitmark.apiservice.middleware.HttpLogger;
+import com.bitmark.apiservice.middleware.RetryPolicy;
+import com.bitmark.apiservice.transport.Transport;
+import com.bitmark.apiservice.utils.metrics.MetricsListener;
+
 import static com.bitmark.cryptography.utils.Validator.checkNonNull;
 
 /**
@@ -11,7 +16,8 @@ import static com.bitmark.cryptography.utils.Validator.checkNonNull;
 
 public class GlobalConfiguration {
 
-    private Builder builder;
+    // A copy of the given builder, so reusing the builder does not change this configuration
+    private final Builder builder;
 
     private static volatile GlobalConfiguration INSTANCE;
 
@@ -40,23 +46,118 @@ public class GlobalConfiguration {
         return INSTANCE != null;
     }
 
+    /**
+     * Create a configuration which is not installed as the global one, it is used to build an
+     * instance scoped client such as {@code BitmarkClient}
+     */
+    public static GlobalConfiguration newInstance(Builder builder) {
+        checkNonNull(builder);
+        builder.validate();
+        return new GlobalConfiguration(builder);
+    }
+
+    public static GlobalConfiguration getInstance() {
+        validate();
+        return INSTANCE;
+    }
+
     private GlobalConfiguration(Builder builder) {
-        this.builder = builder;
+        this.builder = new Builder(builder);
     }
 
     public static Network network() {
-        validate();
-        return INSTANCE.builder.network;
+        return getInstance().getNetwork();
     }
 
+    /**
+     * @deprecated Use {@link #getApiToken()} of {@link #getInstance()}, or the configuration of
+     * a {@code BitmarkClient}. It is kept for the existing callers until the next major release
+     */
+    @Deprecated
     public static String apiToken() {
-        validate();
-        return INSTANCE.builder.apiToken;
+        return getInstance().getApiToken();
     }
 
+    /**
+     * @deprecated Use {@link #getConnectionTimeout()} of {@link #getInstance()}, or the
+     * configuration of a {@code BitmarkClient}. It is kept for the existing callers until the
+     * next major release
+     */
+    @Deprecated
     public static int connectionTimeout() {
-        validate();
-        return INSTANCE.builder.connectionTimeout;
+        return getInstance().getConnectionTimeout();
+    }
+
+    public Network getNetwork() {
+        return builder.network;
+    }
+
+    public String getApiToken() {
+        return builder.apiToken;
+    }
+
+    public int getConnectionTimeout() {
+        return builder.connectionTimeout;
+    }
+
+    public int getRecordCacheSize() {
+        return builder.recordCacheSize;
+    }
+
+    public int getBitmarkBatchWindow() {
+        return builder.bitmarkBatchWindow;
+    }
+
+    public RetryPolicy getRetryPolicy() {
+        return builder.retryPolicy;
+    }
+
+    public int getCircuitBreakerFailureThreshold() {
+        return builder.circuitBreakerFailureThreshold;
+    }
+
+    public int getCircuitBreakerOpenDuration() {
+        return builder.circuitBreakerOpenDuration;
+    }
+
+    public double getRateLimit() {
+        return builder.rateLimit;
+    }
+
+    public int getRateLimitBurst() {
+        return builder.rateLimitBurst;
+    }
+
+    public int getInitialConcurrency() {
+        return builder.initialConcurrency;
+    }
+
+    public int getMaxConcurrency() {
+        return builder.maxConcurrency;
+    }
+
+    public MetricsListener getMetricsListener() {
+        return builder.metricsListener;
+    }
+
+    public HttpLogger.Level getLogLevel() {
+        return builder.logLevel;
+    }
+
+    public double getLogSampleRate() {
+        return builder.logSampleRate;
+    }
+
+    public int getLogMaxBodyLength() {
+        return builder.logMaxBodyLength;
+    }
+
+    public HttpLogger.Logger getLogger() {
+        return builder.logger;
+    }
+
+    public Transport getTransport() {
+        return builder.transport;
     }
 
     private static void validate() {
@@ -73,6 +174,36 @@ public class GlobalConfiguration {
 
         private int connectionTimeout = 30; // 30 seconds
 
+        private int recordCacheSize = 0; // Disabled
+
+        private int bitmarkBatchWindow = 0; // Disabled
+
+        private RetryPolicy retryPolicy = RetryPolicy.NONE; // Disabled
+
+        private int circuitBreakerFailureThreshold = 0; // Disabled
+
+        private int circuitBreakerOpenDuration = 30; // 30 seconds
+
+        private double rateLimit = 0; // Unlimited
+
+        private int rateLimitBurst = 1;
+
+        private int initialConcurrency = 5;
+
+        private int maxConcurrency = 0; // Disabled
+
+        private MetricsListener metricsListener = MetricsListener.NONE;
+
+        private HttpLogger.Level logLevel = HttpLogger.Level.NONE;
+
+        private double logSampleRate = 1;
+
+        private int logMaxBodyLength = HttpLogger.DEFAULT_MAX_BODY_LENGTH;
+
+        private HttpLogger.Logger logger = HttpLogger.Logger.DEFAULT;
+
+        private Transport transport; // OkHttp
+
         Builder() {
         }
 
@@ -81,6 +212,27 @@ public class GlobalConfiguration {
             validate();
         }
 
+        private Builder(Builder builder) {
+            this.network = builder.network;
+            this.apiToken = builder.apiToken;
+            this.connectionTimeout = builder.connectionTimeout;
+            this.recordCacheSize = builder.recordCacheSize;
+            this.bitmarkBatchWindow = builder.bitmarkBatchWindow;
+            this.retryPolicy = builder.retryPolicy;
+            this.circuitBreakerFailureThreshold = builder.circuitBreakerFailureThreshold;
+            this.circuitBreakerOpenDuration = builder.circuitBreakerOpenDuration;
+            this.rateLimit = builder.rateLimit;
+            this.rateLimitBurst = builder.rateLimitBurst;
+            this.initialConcurrency = builder.initialConcurrency;
+            this.maxConcurrency = builder.maxConcurrency;
+            this.metricsListener = builder.metricsListener;
+            this.logLevel = builder.logLevel;
+            this.logSampleRate = builder.logSampleRate;
+            this.logMaxBodyLength = builder.logMaxBodyLength;
+            this.logger = builder.logger;
+            this.transport = builder.transport;
+        }
+
         public Builder withNetwork(Network network) {
             this.network = network;
             return this;
@@ -96,6 +248,128 @@ public class GlobalConfiguration {
             return this;
         }
 
+        /**
+         * Enable the in-memory cache of the records which never change anymore, such as the
+         * confirmed assets
+         *
+         * @param recordCacheSize The maximum number of records of each type are cached, 0 to
+         *                        disable the cache
+         */
+        public Builder withRecordCacheSize(int recordCacheSize) {
+            this.recordCacheSize = recordCacheSize;
+            return this;
+        }
+
+        /**
+         * Collect the {@code getBitmark} calls over a short window and load them together by
+         * the {@code bitmark_ids} list queries
+         *
+         * @param bitmarkBatchWindow The window in milliseconds, 0 to send every call alone
+         */
+        public Builder withBitmarkBatchWindow(int bitmarkBatchWindow) {
+            this.bitmarkBatchWindow = bitmarkBatchWindow;
+            return this;
+        }
+
+        /**
+         * Retry the failed requests, they are not retried by default
+         *
+         * @param retryPolicy The policy to retry the failed requests, such as an
+         *                    {@code ExponentialBackoffRetryPolicy}, {@link RetryPolicy#NONE} to
+         *                    disable the retry
+         */
+        public Builder withRetryPolicy(RetryPolicy retryPolicy) {
+            this.retryPolicy = retryPolicy;
+            return this;
+        }
+
+        /**
+         * Reject the requests without sending them for a while when the server keeps failing,
+         * the breaker is disabled by default
+         *
+         * @param failureThreshold The number of consecutive failures to open the breaker, 0 to
+         *                         disable the breaker
+         * @param openDuration     The duration in seconds the requests are rejected
+         */
+        public Builder withCircuitBreaker(int failureThreshold, int openDuration) {
+            this.circuitBreakerFailureThreshold = failureThreshold;
+            this.circuitBreakerOpenDuration = openDuration;
+            return this;
+        }
+
+        /**
+         * Limit the rate of the requests are sent to the server
+         *
+         * @param permitsPerSecond The sustained number of requests per second, 0 to not limit
+         * @param burst            The maximum number of requests are able to be sent at once
+         */
+        public Builder withRateLimit(double permitsPerSecond, int burst) {
+            this.rateLimit = permitsPerSecond;
+            this.rateLimitBurst = burst;
+            return this;
+        }
+
+        /**
+         * Limit the number of requests in flight, the limit is adapted to the latency and the
+         * overloaded responses of the server
+         *
+         * @param initialLimit The number of requests are allowed in flight at the beginning
+         * @param maxLimit     The maximum number of requests are allowed in flight, 0 to
+         *                     disable the adaptive limit
+         */
+        public Builder withAdaptiveConcurrency(int initialLimit, int maxLimit) {
+            this.initialConcurrency = initialLimit;
+            this.maxConcurrency = maxLimit;
+            return this;
+        }
+
+        /**
+         * @param metricsListener The listener receives the metrics of every request, such as
+         *                        {@link com.bitmark.apiservice.utils.metrics.MetricsRecorder}
+         */
+        public Builder withMetricsListener(MetricsListener metricsListener) {
+            this.metricsListener = metricsListener;
+            return this;
+        }
+
+        /**
+         * @param logLevel The detail of the http log, {@link HttpLogger.Level#NONE} by default
+         */
+        public Builder withLogLevel(HttpLogger.Level logLevel) {
+            this.logLevel = logLevel;
+            return this;
+        }
+
+        /**
+         * @param sampleRate    The fraction of the successful requests are logged, in range
+         *                      0..1. The failed requests are always logged
+         * @param maxBodyLength The maximum number of bytes of a body are logged
+         */
+        public Builder withLogSampling(double sampleRate, int maxBodyLength) {
+            this.logSampleRate = sampleRate;
+            this.logMaxBodyLength = maxBodyLength;
+            return this;
+        }
+
+        public Builder withLogger(HttpLogger.Logger logger) {
+            this.logger = logger;
+            return this;
+        }
+
+        /**
+         * Replace the default OkHttp transport. Note that
+         * {@link com.bitmark.apiservice.transport.UrlConnectionTransport} is not a drop-in
+         * replacement, it fails every {@code PATCH} request so {@code respondBitmarkOffer} does
+         * not work with it.
+         *
+         * @param transport The transport sends the requests instead of the default OkHttp one.
+         *                  The connection timeout and the logging are not applied to it
+         */
+        public Builder withTransport(Transport transport) {
+            this.transport = transport;
+            return this;
+        }
+
         public void build() {
             GlobalConfiguration.createInstance(this);
         }
@@ -103,6 +377,26 @@ public class GlobalConfiguration {
         private void validate() {
             if (apiToken == null || apiToken.isEmpty())
                 throw new IllegalArgumentException("Api token is required");
+            if (recordCacheSize < 0)
+                throw new IllegalArgumentException("Record cache size must not be negative");
+            if (bitmarkBatchWindow < 0)
+                throw new IllegalArgumentException("Bitmark batch window must not be negative");
+            if (retryPolicy == null)
+                throw new IllegalArgumentException("Retry policy is required");
+            if (circuitBreakerFailureThreshold < 0 || circuitBreakerOpenDuration <= 0)
+                throw new IllegalArgumentException("Invalid circuit breaker configuration");
+            if (rateLimit < 0 || (rateLimit > 0 && rateLimitBurst <= 0))
+                throw new IllegalArgumentException("Invalid rate limit configuration");
+            if (logLevel == null || logger == null)
+                throw new IllegalArgumentException("Log level and logger are required");
+            if (logSampleRate < 0 || logSampleRate > 1 || logMaxBodyLength < 0)
+                throw new IllegalArgumentException("Invalid log sampling configuration");
+            if (metricsListener == null)
+                throw new IllegalArgumentException("Metrics listener is required");
+            if (maxConcurrency < 0 || (maxConcurrency > 0 &&
+                                       (initialConcurrency <= 0 ||
+                                        initialConcurrency > maxConcurrency)))
+                throw new IllegalArgumentException("Invalid adaptive concurrency configuration");
 
         }
 
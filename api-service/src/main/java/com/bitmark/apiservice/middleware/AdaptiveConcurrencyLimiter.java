@@ -0,0 +1,171 @@
+package com.bitmark.apiservice.middleware;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import static com.bitmark.cryptography.utils.Validator.checkValid;
+
+/**
+ * Limit the number of requests in flight and adapt the limit with AIMD. The limit grows by one
+ * per round of successful requests while it is fully used, and shrinks when the server is
+ * overloaded:
+ * <ul>
+ * <li>Halved on an overloaded response such as 429 or 5xx.</li>
+ * <li>Reduced by 10% when the latency exceeds twice the baseline, the baseline follows the
+ * lowest latency has been observed.</li>
+ * </ul>
+ * The requests which were sent before the last decrease do not decrease the limit again, so a
+ * burst of overloaded responses only backs off once.
+ *
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double BACKOFF_RATIO = 0.5;
+
+    private static final double LATENCY_BACKOFF_RATIO = 0.9;
+
+    private static final double LATENCY_TOLERANCE = 2.0;
+
+    private static final double BASELINE_DRIFT = 0.01;
+
+    private final int maxLimit;
+
+    private double limit;
+
+    private int inFlight;
+
+    private final Deque<Runnable> queue = new ArrayDeque<>();
+
+    private double baselineLatency = -1;
+
+    private long lastDecreaseNanos = Long.MIN_VALUE;
+
+    private long decreaseCount;
+
+    /**
+     * @param initialLimit The number of requests are allowed in flight at the beginning
+     * @param maxLimit     The maximum number of requests are allowed in flight
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int maxLimit) {
+        checkValid(() -> initialLimit > 0 && initialLimit <= maxLimit,
+                   "Invalid limit. Initial limit must be in range 1..max limit");
+        this.limit = initialLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * Run the task once a slot is available, the task must call
+     * {@link #release(long, boolean)} when its request is completed.
+     */
+    public void acquire(Runnable task) {
+        synchronized (this) {
+            if (inFlight >= (int) limit) {
+                queue.add(task);
+                return;
+            }
+            inFlight++;
+        }
+        task.run();
+    }
+
+    /**
+     * @param startNanos   The time the request was sent, from {@link #now()}
+     * @param isOverloaded true if the server responded it was overloaded
+     */
+    public void release(long startNanos, boolean isOverloaded) {
+        final List<Runnable> tasks;
+        synchronized (this) {
+            final boolean isSaturated = inFlight >= (int) limit || !queue.isEmpty();
+            inFlight--;
+            adjust(startNanos, isOverloaded, isSaturated);
+            tasks = pollTasks();
+        }
+        for (Runnable task : tasks) task.run();
+    }
+
+    /**
+     * Release the slot of a request which has not been sent, such as the transport threw. The
+     * limit is not adjusted since there is no latency of it.
+     */
+    public void abort() {
+        final List<Runnable> tasks;
+        synchronized (this) {
+            inFlight--;
+            tasks = pollTasks();
+        }
+        for (Runnable task : tasks) task.run();
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized int getQueueSize() {
+        return queue.size();
+    }
+
+    /**
+     * @return The number of times the limit has been decreased
+     */
+    public synchronized long getDecreaseCount() {
+        return decreaseCount;
+    }
+
+    public long now() {
+        return System.nanoTime();
+    }
+
+    private List<Runnable> pollTasks() {
+        final List<Runnable> tasks = new ArrayList<>();
+        while (inFlight < (int) limit && !queue.isEmpty()) {
+            inFlight++;
+            tasks.add(queue.poll());
+        }
+        return tasks;
+    }
+
+    private void adjust(long startNanos, boolean isOverloaded, boolean isSaturated) {
+        final long now = now();
+        final double latency = now - startNanos;
+        if (isOverloaded) {
+            decrease(startNanos, now, BACKOFF_RATIO);
+            return;
+        }
+
+        if (baselineLatency < 0 || latency < baselineLatency) baselineLatency = latency;
+        else baselineLatency += (latency - baselineLatency) * BASELINE_DRIFT;
+
+        if (latency > baselineLatency * LATENCY_TOLERANCE) {
+            decrease(startNanos, now, LATENCY_BACKOFF_RATIO);
+        } else if (isSaturated) {
+            limit = Math.min(maxLimit, limit + 1 / limit);
+        }
+    }
+
+    private void decrease(long startNanos, long now, double ratio) {
+        if (startNanos < lastDecreaseNanos) return;
+        limit = Math.max(1, limit * ratio);
+        lastDecreaseNanos = now;
+        decreaseCount++;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "AdaptiveConcurrencyLimiter{limit=" + (int) limit + ", maxLimit=" + maxLimit +
+               ", inFlight=" + inFlight + ", queueSize=" + queue.size() + ", decreaseCount=" +
+               decreaseCount + "}";
+    }
+}
@@ -1,5 +1,6 @@
 package com.bitmark.apiservice.middleware;
 
+import okhttp3.Headers;
 import okhttp3.Interceptor;
 import okhttp3.Request;
 import okhttp3.Response;
@@ -15,23 +16,34 @@ import java.io.IOException;
 
 public class BitmarkApiInterceptor implements Interceptor {
 
-    private String apiToken;
+    private final Headers headers;
 
     public BitmarkApiInterceptor(String apiToken) {
-        this.apiToken = apiToken;
+        this.headers = createHeaders(apiToken);
+    }
+
+    /**
+     * @return The headers of every request to the Bitmark api, they are built once per token
+     * instead of being added one by one to every request
+     */
+    public static Headers createHeaders(String apiToken) {
+        return new Headers.Builder()
+                .add("API-TOKEN", apiToken)
+                .add("Content-Type", "application/json")
+                .add("Accept", "application/json")
+                .add("Cache-Control", "no-cache")
+                .add("Cache-Control", "no-store")
+                .add("Accept-Encoding", "*")
+                .build();
     }
 
     @Override
     public Response intercept(Chain chain) throws IOException {
         Request request = chain.request();
-        request = request.newBuilder()
-                .addHeader("API-TOKEN", apiToken)
-                .addHeader("Content-Type", "application/json")
-                .addHeader("Accept", "application/json")
-                .addHeader("Cache-Control", "no-cache")
-                .addHeader("Cache-Control", "no-store")
-                .addHeader("Accept-Encoding","*")
-                .build();
-        return chain.proceed(request);
+        Request.Builder builder = request.newBuilder();
+        for (int i = 0, size = headers.size(); i < size; i++) {
+            builder.addHeader(headers.name(i), headers.value(i));
+        }
+        return chain.proceed(builder.build());
     }
 }
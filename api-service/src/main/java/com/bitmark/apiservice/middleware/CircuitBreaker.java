@@ -0,0 +1,121 @@
+package com.bitmark.apiservice.middleware;
+
+import static com.bitmark.cryptography.utils.Validator.checkValid;
+
+/**
+ * Fail fast when the server keeps failing. The breaker is opened after a number of consecutive
+ * failures and rejects every request during the open duration. After that one trial request
+ * is let through, the breaker is closed if it succeeds or opened again if it fails.
+ *
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+
+    private final long openDuration;
+
+    private State state = State.CLOSED;
+
+    private int consecutiveFailures;
+
+    private long openedAt;
+
+    private boolean isTrialInFlight;
+
+    private long openCount;
+
+    private long rejectedCount;
+
+    /**
+     * @param failureThreshold The number of consecutive failures to open the breaker
+     * @param openDuration     The duration in milliseconds the requests are rejected
+     */
+    public CircuitBreaker(int failureThreshold, long openDuration) {
+        checkValid(() -> failureThreshold > 0, "Invalid failure threshold. Must be greater than 0");
+        checkValid(() -> openDuration > 0, "Invalid open duration. Must be greater than 0");
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+    }
+
+    /**
+     * @return true if the request is able to be sent, the caller must report its result via
+     * {@link #onSuccess()} or {@link #onFailure()}
+     */
+    public synchronized boolean allowRequest() {
+        switch (state) {
+            case OPEN:
+                if (now() - openedAt < openDuration) break;
+                state = State.HALF_OPEN;
+                isTrialInFlight = true;
+                return true;
+            case HALF_OPEN:
+                if (isTrialInFlight) break;
+                isTrialInFlight = true;
+                return true;
+            default:
+                return true;
+        }
+        rejectedCount++;
+        return false;
+    }
+
+    public synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        isTrialInFlight = false;
+        state = State.CLOSED;
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN ||
+            (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+            state = State.OPEN;
+            openedAt = now();
+            isTrialInFlight = false;
+            openCount++;
+        }
+    }
+
+    /**
+     * Report the request allowed by {@link #allowRequest()} has not been sent, such as the
+     * transport threw, so the next request is able to be the trial
+     */
+    public synchronized void onAborted() {
+        isTrialInFlight = false;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * @return The number of times the breaker has been opened
+     */
+    public synchronized long getOpenCount() {
+        return openCount;
+    }
+
+    /**
+     * @return The number of requests have been rejected without being sent
+     */
+    public synchronized long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    protected long now() {
+        return System.currentTimeMillis();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "CircuitBreaker{state=" + state + ", consecutiveFailures=" + consecutiveFailures +
+               ", openCount=" + openCount + ", rejectedCount=" + rejectedCount + "}";
+    }
+}
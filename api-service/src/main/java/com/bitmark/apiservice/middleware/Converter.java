@@ -1,24 +1,27 @@
 package com.bitmark.apiservice.middleware;
 
 import com.bitmark.apiservice.response.*;
+import com.bitmark.apiservice.utils.JsonUtil;
 import com.bitmark.apiservice.utils.Pair;
 import com.bitmark.apiservice.utils.callback.Callback1;
 import com.bitmark.apiservice.utils.error.UnexpectedException;
+import com.bitmark.apiservice.utils.metrics.RequestMetrics;
 import com.bitmark.apiservice.utils.record.AssetRecord;
 import com.bitmark.apiservice.utils.record.ShareGrantRecord;
 import com.bitmark.apiservice.utils.record.ShareRecord;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import okhttp3.Response;
+import okhttp3.ResponseBody;
 
+import java.io.IOException;
+import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
-import static com.bitmark.apiservice.utils.HttpUtils.jsonToMap;
+import static com.bitmark.apiservice.utils.ArrayUtil.indexOf;
 
 /**
  * @author Hieu Pham
@@ -29,20 +32,14 @@ import static com.bitmark.apiservice.utils.HttpUtils.jsonToMap;
 
 public class Converter {
 
-    private static final Gson GSON = new GsonBuilder().create();
+    private static final Gson GSON = JsonUtil.getGson();
 
     public static Callback1<Response> toIssueResponse(Callback1<List<String>> callback) {
         return new Callback1<Response>() {
             @Override
             public void onSuccess(Response res) {
                 try {
-                    String raw = res.body().string();
-                    Map<String, Object> mapJson = jsonToMap(raw);
-                    JsonArray jsonArray = GSON.toJsonTree(mapJson.get("bitmarks")).getAsJsonArray();
-                    List<String> txIds = new ArrayList<>(jsonArray.size());
-                    for (JsonElement jsonElement : jsonArray) {
-                        txIds.add(jsonElement.getAsJsonObject().get("id").getAsString());
-                    }
+                    List<String> txIds = readIssuedIds(res);
                     callback.onSuccess(txIds);
                 } catch (Throwable e) {
                     callback.onError(new UnexpectedException(e));
@@ -62,8 +59,7 @@ public class Converter {
             @Override
             public void onSuccess(Response res) {
                 try {
-                    String raw = res.body().string();
-                    RegistrationResponse response = GSON.fromJson(raw, RegistrationResponse.class);
+                    RegistrationResponse response = fromJson(res, RegistrationResponse.class);
                     callback.onSuccess(response);
                 } catch (Throwable e) {
                     callback.onError(new UnexpectedException(e));
@@ -82,9 +78,7 @@ public class Converter {
             @Override
             public void onSuccess(Response response) {
                 try {
-                    String raw = response.body().string();
-                    Map<String, Object> json = jsonToMap(raw);
-                    callback.onSuccess(json.get("txid").toString());
+                    callback.onSuccess(readString(response, "txid"));
                 } catch (Throwable e) {
                     callback.onError(new UnexpectedException(e));
                 }
@@ -103,9 +97,7 @@ public class Converter {
             @Override
             public void onSuccess(Response response) {
                 try {
-                    String raw = response.body().string();
-                    Map<String, Object> json = jsonToMap(raw);
-                    callback.onSuccess(json.get("status").toString());
+                    callback.onSuccess(readString(response, "status"));
                 } catch (Throwable e) {
                     callback.onError(new UnexpectedException(e));
                 }
@@ -123,9 +115,7 @@ public class Converter {
             @Override
             public void onSuccess(Response response) {
                 try {
-                    String raw = response.body().string();
-                    Map<String, Object> json = jsonToMap(raw);
-                    callback.onSuccess(json.get("offer_id").toString());
+                    callback.onSuccess(readString(response, "offer_id"));
                 } catch (Throwable e) {
                     callback.onError(new UnexpectedException(e));
                 }
@@ -143,8 +133,7 @@ public class Converter {
             @Override
             public void onSuccess(Response res) {
                 try {
-                    String raw = res.body().string();
-                    callback.onSuccess(GSON.fromJson(raw, GetBitmarkResponse.class));
+                    callback.onSuccess(fromJson(res, GetBitmarkResponse.class));
                 } catch (Throwable e) {
                     callback.onError(new UnexpectedException(e));
                 }
@@ -164,8 +153,7 @@ public class Converter {
             @Override
             public void onSuccess(Response res) {
                 try {
-                    String raw = res.body().string();
-                    callback.onSuccess(GSON.fromJson(raw, GetBitmarksResponse.class));
+                    callback.onSuccess(fromJson(res, GetBitmarksResponse.class));
                 } catch (Throwable e) {
                     callback.onError(new UnexpectedException(e));
                 }
@@ -184,12 +172,7 @@ public class Converter {
             @Override
             public void onSuccess(Response res) {
                 try {
-                    String raw = res.body().string();
-                    Map<String, Object> jsonMap = jsonToMap(raw);
-                    String json =
-                            GSON.toJsonTree(jsonMap.get("asset")).getAsJsonObject().toString();
-                    AssetRecord asset = GSON.fromJson(json, new TypeToken<AssetRecord>() {
-                    }.getType());
+                    AssetRecord asset = fromJson(res, "asset", AssetRecord.class);
                     callback.onSuccess(asset);
                 } catch (Throwable e) {
                     callback.onError(new UnexpectedException(e));
@@ -208,13 +191,9 @@ public class Converter {
             @Override
             public void onSuccess(Response res) {
                 try {
-                    String raw = res.body().string();
-                    Map<String, Object> jsonMap = jsonToMap(raw);
-                    String json =
-                            GSON.toJsonTree(jsonMap.get("assets")).getAsJsonArray().toString();
-                    List<AssetRecord> assets = GSON.fromJson(json,
-                                                             new TypeToken<List<AssetRecord>>() {
-                                                             }.getType());
+                    List<AssetRecord> assets = fromJson(res, "assets",
+                                                        new TypeToken<List<AssetRecord>>() {
+                                                        }.getType());
                     callback.onSuccess(assets);
                 } catch (Throwable e) {
                     callback.onError(new UnexpectedException(e));
@@ -234,9 +213,8 @@ public class Converter {
             @Override
             public void onSuccess(Response res) {
                 try {
-                    String raw = res.body().string();
                     GetTransactionResponse response =
-                            GSON.fromJson(raw, GetTransactionResponse.class);
+                            fromJson(res, GetTransactionResponse.class);
                     callback.onSuccess(response);
                 } catch (Throwable e) {
                     callback.onError(new UnexpectedException(e));
@@ -256,9 +234,8 @@ public class Converter {
             @Override
             public void onSuccess(Response res) {
                 try {
-                    String raw = res.body().string();
                     GetTransactionsResponse response =
-                            GSON.fromJson(raw, GetTransactionsResponse.class);
+                            fromJson(res, GetTransactionsResponse.class);
                     callback.onSuccess(response);
                 } catch (Throwable e) {
                     callback.onError(new UnexpectedException(e));
@@ -278,10 +255,8 @@ public class Converter {
             @Override
             public void onSuccess(Response res) {
                 try {
-                    String raw = res.body().string();
-                    Map<String, Object> mapRes = jsonToMap(raw);
-                    callback.onSuccess(new Pair<>(mapRes.get("tx_id").toString(),
-                                                  mapRes.get("share_id").toString()));
+                    String[] values = readStrings(res, "tx_id", "share_id");
+                    callback.onSuccess(new Pair<>(values[0], values[1]));
                 } catch (Throwable e) {
                     callback.onError(new UnexpectedException(e));
                 }
@@ -299,9 +274,7 @@ public class Converter {
             @Override
             public void onSuccess(Response res) {
                 try {
-                    String raw = res.body().string();
-                    Map<String, Object> mapRes = jsonToMap(raw);
-                    callback.onSuccess(mapRes.get("offer_id").toString());
+                    callback.onSuccess(readString(res, "offer_id"));
                 } catch (Throwable e) {
                     callback.onError(new UnexpectedException(e));
                 }
@@ -319,13 +292,9 @@ public class Converter {
             @Override
             public void onSuccess(Response res) {
                 try {
-                    String raw = res.body().string();
-                    Map<String, Object> jsonMap = jsonToMap(raw);
-                    String json =
-                            GSON.toJsonTree(jsonMap.get("shares")).getAsJsonArray().toString();
-                    List<ShareRecord> shares = GSON.fromJson(json,
-                                                             new TypeToken<List<ShareRecord>>() {
-                                                             }.getType());
+                    List<ShareRecord> shares = fromJson(res, "shares",
+                                                        new TypeToken<List<ShareRecord>>() {
+                                                        }.getType());
                     callback.onSuccess(!shares.isEmpty() ? shares.get(0) : null);
                 } catch (Throwable e) {
                     callback.onError(new UnexpectedException(e));
@@ -344,13 +313,9 @@ public class Converter {
             @Override
             public void onSuccess(Response res) {
                 try {
-                    String raw = res.body().string();
-                    Map<String, Object> jsonMap = jsonToMap(raw);
-                    String json =
-                            GSON.toJsonTree(jsonMap.get("shares")).getAsJsonArray().toString();
-                    List<ShareRecord> shares = GSON.fromJson(json,
-                                                             new TypeToken<List<ShareRecord>>() {
-                                                             }.getType());
+                    List<ShareRecord> shares = fromJson(res, "shares",
+                                                        new TypeToken<List<ShareRecord>>() {
+                                                        }.getType());
                     callback.onSuccess(shares);
                 } catch (Throwable e) {
                     callback.onError(new UnexpectedException(e));
@@ -370,13 +335,9 @@ public class Converter {
             @Override
             public void onSuccess(Response res) {
                 try {
-                    String raw = res.body().string();
-                    Map<String, Object> jsonMap = jsonToMap(raw);
-                    String json =
-                            GSON.toJsonTree(jsonMap.get("offers")).getAsJsonArray().toString();
-                    List<ShareGrantRecord> shareGrantRecords = GSON.fromJson(json,
-                                                                             new TypeToken<List<ShareGrantRecord>>() {
-                                                                             }.getType());
+                    List<ShareGrantRecord> shareGrantRecords =
+                            fromJson(res, "offers", new TypeToken<List<ShareGrantRecord>>() {
+                            }.getType());
                     callback.onSuccess(shareGrantRecords);
                 } catch (Throwable e) {
                     callback.onError(new UnexpectedException(e));
@@ -390,4 +351,92 @@ public class Converter {
         };
     }
 
+    // The response body is decoded straight from its character stream and always closed, the
+    // whole payload is never materialized as a String or an intermediate json tree.
+
+    private interface JsonDecoder<T> {
+
+        T decode(JsonReader reader) throws IOException;
+    }
+
+    private static <T> T decode(Response res, JsonDecoder<T> decoder) throws IOException {
+        final RequestMetrics metrics = RequestMetrics.of(res.request());
+        final long start = metrics == null ? 0 : System.nanoTime();
+        try (ResponseBody body = res.body();
+             JsonReader reader = new JsonReader(body.charStream())) {
+            return decoder.decode(reader);
+        } finally {
+            if (metrics != null) metrics.addDecodeTime(System.nanoTime() - start);
+        }
+    }
+
+    private static <T> T fromJson(Response res, Type type) throws IOException {
+        return decode(res, reader -> GSON.fromJson(reader, type));
+    }
+
+    private static <T> T fromJson(Response res, String name, Type type) throws IOException {
+        return decode(res, reader -> {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (name.equals(reader.nextName())) return GSON.fromJson(reader, type);
+                reader.skipValue();
+            }
+            throw new UnexpectedException("Missing field " + name + " in response");
+        });
+    }
+
+    private static String readString(Response res, String name) throws IOException {
+        return readStrings(res, name)[0];
+    }
+
+    private static String[] readStrings(Response res, String... names) throws IOException {
+        final String[] values = decode(res, reader -> {
+            final String[] result = new String[names.length];
+            int found = 0;
+            reader.beginObject();
+            while (found < names.length && reader.hasNext()) {
+                final int index = indexOf(names, reader.nextName());
+                if (index != -1 && result[index] == null && reader.peek() != JsonToken.NULL) {
+                    result[index] = reader.nextString();
+                    found++;
+                } else reader.skipValue();
+            }
+            return result;
+        });
+        for (int i = 0; i < names.length; i++) {
+            if (values[i] == null)
+                throw new UnexpectedException("Missing field " + names[i] + " in response");
+        }
+        return values;
+    }
+
+    private static List<String> readIssuedIds(Response res) throws IOException {
+        return decode(res, reader -> {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (!"bitmarks".equals(reader.nextName())) {
+                    reader.skipValue();
+                    continue;
+                }
+                final List<String> ids = new ArrayList<>();
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    String id = null;
+                    reader.beginObject();
+                    while (reader.hasNext()) {
+                        if ("id".equals(reader.nextName())) id = reader.nextString();
+                        else reader.skipValue();
+                    }
+                    reader.endObject();
+                    if (id == null)
+                        throw new UnexpectedException("Missing field id in issued bitmark");
+                    ids.add(id);
+                }
+                reader.endArray();
+                return ids;
+            }
+            throw new UnexpectedException("Missing field bitmarks in response");
+        });
+    }
+
 }
@@ -0,0 +1,117 @@
+package com.bitmark.apiservice.middleware;
+
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.UnknownHostException;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.bitmark.cryptography.utils.Validator.checkValid;
+
+/**
+ * Retry the transient failures with an exponential backoff and full jitter, the
+ * {@code Retry-After} header of the response is honoured if it is present.
+ * <ul>
+ * <li>GET and HEAD requests are retried on IO errors and 408, 429, 500, 502, 503, 504.</li>
+ * <li>Other requests are replayed only when the server surely has not processed them, that is
+ * the connection could not be established, or the response is 429 or 503.</li>
+ * </ul>
+ *
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class ExponentialBackoffRetryPolicy implements RetryPolicy {
+
+    public static final int DEFAULT_MAX_RETRIES = 3;
+
+    public static final long DEFAULT_BASE_DELAY = 200; // 200 milliseconds
+
+    public static final long DEFAULT_MAX_DELAY = 10_000; // 10 seconds
+
+    private static final String RETRY_AFTER = "Retry-After";
+
+    private final int maxRetries;
+
+    private final long baseDelay;
+
+    private final long maxDelay;
+
+    public ExponentialBackoffRetryPolicy() {
+        this(DEFAULT_MAX_RETRIES, DEFAULT_BASE_DELAY, DEFAULT_MAX_DELAY);
+    }
+
+    /**
+     * @param maxRetries The maximum number of retries of a request
+     * @param baseDelay  The delay ceiling of the first retry in milliseconds, it is doubled on
+     *                   every next retry
+     * @param maxDelay   The maximum delay in milliseconds. The request is not retried if the
+     *                   server asks to wait longer than that
+     */
+    public ExponentialBackoffRetryPolicy(int maxRetries, long baseDelay, long maxDelay) {
+        checkValid(() -> maxRetries >= 0, "Invalid max retries. Must not be negative");
+        checkValid(() -> baseDelay > 0 && baseDelay <= maxDelay,
+                   "Invalid delay. Base delay must be in range 1..max delay");
+        this.maxRetries = maxRetries;
+        this.baseDelay = baseDelay;
+        this.maxDelay = maxDelay;
+    }
+
+    @Override
+    public long getRetryDelay(Request request, int attempt, Response response,
+                              IOException error) {
+        if (attempt > maxRetries || !isRetryable(request, response, error)) return -1;
+
+        if (response != null) {
+            final long retryAfter = parseRetryAfter(response.header(RETRY_AFTER));
+            if (retryAfter >= 0) return retryAfter <= maxDelay ? retryAfter : -1;
+        }
+
+        long ceiling = baseDelay;
+        for (int i = 1; i < attempt && ceiling < maxDelay; i++) ceiling <<= 1;
+        return ThreadLocalRandom.current().nextLong(Math.min(ceiling, maxDelay) + 1);
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    protected boolean isRetryable(Request request, Response response, IOException error) {
+        final String method = request.method();
+        final boolean isIdempotent = "GET".equals(method) || "HEAD".equals(method);
+        if (error != null) {
+            return isIdempotent || error instanceof ConnectException ||
+                   error instanceof UnknownHostException;
+        }
+
+        final int code = response.code();
+        if (code == 429 || code == 503) return true;
+        return isIdempotent && (code == 408 || code == 500 || code == 502 || code == 504);
+    }
+
+    /**
+     * @return The delay in milliseconds, or -1 if the value is absent or invalid
+     */
+    private static long parseRetryAfter(String value) {
+        if (value == null || value.isEmpty()) return -1;
+        try {
+            final long seconds = Long.parseLong(value.trim());
+            return seconds < 0 ? -1 : seconds * 1000;
+        } catch (NumberFormatException ignore) {
+        }
+        try {
+            final SimpleDateFormat format =
+                    new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss zzz", Locale.US);
+            final Date date = format.parse(value.trim());
+            return Math.max(0, date.getTime() - System.currentTimeMillis());
+        } catch (ParseException e) {
+            return -1;
+        }
+    }
+}
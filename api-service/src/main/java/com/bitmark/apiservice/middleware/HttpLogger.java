@@ -0,0 +1,226 @@
+package com.bitmark.apiservice.middleware;
+
+import okhttp3.*;
+import okhttp3.logging.HttpLoggingInterceptor;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.Okio;
+import okio.Sink;
+import okio.Timeout;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.bitmark.cryptography.utils.Validator.checkValid;
+
+/**
+ * Log every exchange as one structured line, such as
+ * <pre>
+ * http method=GET url=https://api.bitmark.com/v3/bitmarks/... status=200 duration_ms=35
+ * </pre>
+ * The successful exchanges are logged at the sample rate, the failed ones are always logged.
+ * The bodies are truncated to the max body length. The writing of the request body is stopped
+ * once the logged bytes are collected and the response body is peeked, so neither of them is
+ * buffered as a whole. The credentials and the
+ * signatures in the headers are redacted.
+ *
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class HttpLogger implements Interceptor {
+
+    public static final int DEFAULT_MAX_BODY_LENGTH = 1024;
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private static final String[] REDACTED_HEADERS =
+            new String[]{"API-TOKEN", "Authorization", "signature"};
+
+    public enum Level {
+        NONE, BASIC, HEADERS, BODY
+    }
+
+    public interface Logger {
+
+        Logger DEFAULT = message -> HttpLoggingInterceptor.Logger.DEFAULT.log(message);
+
+        void log(String message);
+    }
+
+    private final Level level;
+
+    private final double sampleRate;
+
+    private final int maxBodyLength;
+
+    private final Logger logger;
+
+    /**
+     * @param level         The detail of the log
+     * @param sampleRate    The fraction of the successful exchanges are logged, in range 0..1
+     * @param maxBodyLength The maximum number of bytes of a body are logged
+     * @param logger        The output of the log
+     */
+    public HttpLogger(Level level, double sampleRate, int maxBodyLength, Logger logger) {
+        checkValid(() -> level != null && logger != null, "Level and logger are required");
+        checkValid(() -> sampleRate >= 0 && sampleRate <= 1,
+                   "Invalid sample rate. Must be in range 0..1");
+        checkValid(() -> maxBodyLength >= 0, "Invalid max body length. Must not be negative");
+        this.level = level;
+        this.sampleRate = sampleRate;
+        this.maxBodyLength = maxBodyLength;
+        this.logger = logger;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        final Request request = chain.request();
+        if (level == Level.NONE) return chain.proceed(request);
+
+        final boolean isSampled =
+                sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+        final long start = System.nanoTime();
+        final Response response;
+        try {
+            response = chain.proceed(request);
+        } catch (IOException e) {
+            log(request, null, start, e);
+            throw e;
+        }
+        if (isSampled || !response.isSuccessful()) log(request, response, start, null);
+        return response;
+    }
+
+    private void log(Request request, Response response, long start, IOException error) {
+        try {
+            logExchange(request, response, start, error);
+        } catch (IOException | RuntimeException ignored) {
+            // A failure of the logging must not replace the result of the exchange
+        }
+    }
+
+    private void logExchange(Request request, Response response, long start,
+                             IOException error) throws IOException {
+        final StringBuilder builder = new StringBuilder(128);
+        builder.append("http method=").append(request.method()).append(" url=")
+               .append(request.url());
+        if (response != null) builder.append(" status=").append(response.code());
+        builder.append(" duration_ms=")
+               .append(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        if (error != null) builder.append(" error=\"").append(error.toString()).append('"');
+
+        if (level == Level.HEADERS || level == Level.BODY) {
+            appendHeaders(builder, " request_headers=", request.headers());
+            if (response != null) {
+                appendHeaders(builder, " response_headers=", response.headers());
+            }
+        }
+
+        if (level == Level.BODY) {
+            final RequestBody requestBody = request.body();
+            if (requestBody != null) {
+                final byte[] body = head(requestBody, maxBodyLength + 1L);
+                final boolean isTruncated = body.length > maxBodyLength;
+                appendBody(builder, " request_body=",
+                           isTruncated ? Arrays.copyOf(body, maxBodyLength) : body, isTruncated);
+            }
+            if (response != null && response.body() != null) {
+                final byte[] body = response.peekBody(maxBodyLength + 1L).bytes();
+                final boolean isTruncated = body.length > maxBodyLength;
+                appendBody(builder, " response_body=",
+                           isTruncated ? Arrays.copyOf(body, maxBodyLength) : body, isTruncated);
+            }
+        }
+        logger.log(builder.toString());
+    }
+
+    /**
+     * @return The first bytes of the body up to the limit, a large body such as a streaming
+     * issuance is not written any further
+     */
+    private static byte[] head(RequestBody body, long limit) throws IOException {
+        final HeadSink head = new HeadSink(limit);
+        final BufferedSink sink = Okio.buffer(head);
+        try {
+            body.writeTo(sink);
+            sink.flush();
+        } catch (HeadSink.Collected ignored) {
+            // The rest of the body is not needed
+        }
+        return head.buffer.readByteArray();
+    }
+
+    private static void appendHeaders(StringBuilder builder, String name, Headers headers) {
+        builder.append(name).append('"');
+        for (int i = 0, size = headers.size(); i < size; i++) {
+            if (i > 0) builder.append("; ");
+            final String header = headers.name(i);
+            builder.append(header).append(": ")
+                   .append(isRedacted(header) ? "<redacted>" : headers.value(i));
+        }
+        builder.append('"');
+    }
+
+    private static void appendBody(StringBuilder builder, String name, byte[] body,
+                                   boolean isTruncated) {
+        builder.append(name).append(new String(body, UTF_8));
+        if (isTruncated) builder.append("...(truncated)");
+    }
+
+    private static boolean isRedacted(String header) {
+        for (String redacted : REDACTED_HEADERS) {
+            if (redacted.equalsIgnoreCase(header)) return true;
+        }
+        return false;
+    }
+
+    private static final class HeadSink implements Sink {
+
+        private static final class Collected extends IOException {
+
+            private Collected() {
+                super("Head of the body is collected");
+            }
+
+            @Override
+            public synchronized Throwable fillInStackTrace() {
+                // It only stops the writing, the stack trace is never used
+                return this;
+            }
+        }
+
+        private final Buffer buffer = new Buffer();
+
+        private final long limit;
+
+        private HeadSink(long limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(Buffer source, long byteCount) throws IOException {
+            final long count = Math.min(byteCount, limit - buffer.size());
+            source.read(buffer, count);
+            source.skip(byteCount - count);
+            // Stop the writer instead of letting it produce the bytes which are thrown away
+            if (buffer.size() >= limit) throw new Collected();
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public Timeout timeout() {
+            return Timeout.NONE;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.bitmark.apiservice.middleware;
+
+import static com.bitmark.cryptography.utils.Validator.checkValid;
+
+/**
+ * Token bucket which allows a sustained rate of requests with a burst. A permit is reserved
+ * immediately and the caller is told how long it must wait before using it, so the callers are
+ * served in the order they come without blocking any thread.
+ *
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class RateLimiter {
+
+    private final double permitsPerSecond;
+
+    private final int burst;
+
+    private double tokens;
+
+    private long lastRefillNanos;
+
+    private long throttledCount;
+
+    /**
+     * @param permitsPerSecond The sustained number of requests per second
+     * @param burst            The maximum number of requests are able to be sent at once
+     */
+    public RateLimiter(double permitsPerSecond, int burst) {
+        checkValid(() -> permitsPerSecond > 0, "Invalid rate. Must be greater than 0");
+        checkValid(() -> burst > 0, "Invalid burst. Must be greater than 0");
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.tokens = burst;
+        this.lastRefillNanos = now();
+    }
+
+    /**
+     * Reserve a permit
+     *
+     * @return The delay in milliseconds the caller must wait before sending its request
+     */
+    public synchronized long reserve() {
+        final long now = now();
+        tokens = Math.min(burst,
+                          tokens + (now - lastRefillNanos) / 1_000_000_000d * permitsPerSecond);
+        lastRefillNanos = now;
+
+        tokens -= 1;
+        if (tokens >= 0) return 0;
+        throttledCount++;
+        return (long) Math.ceil(-tokens / permitsPerSecond * 1000);
+    }
+
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+
+    /**
+     * @return The number of requests have been delayed
+     */
+    public synchronized long getThrottledCount() {
+        return throttledCount;
+    }
+
+    protected long now() {
+        return System.nanoTime();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "RateLimiter{permitsPerSecond=" + permitsPerSecond + ", burst=" + burst +
+               ", throttledCount=" + throttledCount + "}";
+    }
+}
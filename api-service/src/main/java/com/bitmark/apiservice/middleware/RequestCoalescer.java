@@ -0,0 +1,132 @@
+package com.bitmark.apiservice.middleware;
+
+import com.bitmark.apiservice.utils.callback.Callback1;
+import com.bitmark.apiservice.utils.error.NetworkException;
+import okhttp3.MediaType;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Coalesce the identical requests which are in flight at the same time into one call. The
+ * first caller of a key sends the request, the others wait for its response. The body of a
+ * shared response is read once and every waiter receives its own copy to decode, a response
+ * with only one waiter is passed through as is.
+ *
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class RequestCoalescer {
+
+    private final Map<String, List<Callback1<Response>>> inFlight = new HashMap<>();
+
+    private final AtomicLong coalescedCount = new AtomicLong();
+
+    /**
+     * @param key      The key of the request, such as the full url
+     * @param callback The callback of the caller
+     * @return The callback of the call must be sent by the caller, or null if the caller has
+     * joined the identical request is in flight
+     */
+    public Callback1<Response> join(String key, Callback1<Response> callback) {
+        final List<Callback1<Response>> waiters;
+        synchronized (inFlight) {
+            final List<Callback1<Response>> joinedWaiters = inFlight.get(key);
+            if (joinedWaiters != null) {
+                joinedWaiters.add(callback);
+                coalescedCount.incrementAndGet();
+                return null;
+            }
+            waiters = new ArrayList<>(1);
+            waiters.add(callback);
+            inFlight.put(key, waiters);
+        }
+        return new Callback1<Response>() {
+            @Override
+            public void onSuccess(Response response) {
+                if (!complete(key, waiters)) return;
+                if (waiters.size() == 1) {
+                    waiters.get(0).onSuccess(response);
+                    return;
+                }
+
+                final MediaType contentType;
+                final byte[] body;
+                try (ResponseBody responseBody = response.body()) {
+                    contentType = responseBody.contentType();
+                    body = responseBody.bytes();
+                } catch (IOException e) {
+                    notifyError(waiters, new NetworkException(e.getMessage()));
+                    return;
+                }
+                RuntimeException failure = null;
+                for (Callback1<Response> waiter : waiters) {
+                    try {
+                        waiter.onSuccess(response.newBuilder()
+                                                 .body(ResponseBody.create(contentType, body))
+                                                 .build());
+                    } catch (RuntimeException e) {
+                        failure = addFailure(failure, e);
+                    }
+                }
+                if (failure != null) throw failure;
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                if (complete(key, waiters)) notifyError(waiters, throwable);
+            }
+        };
+    }
+
+    /**
+     * @return The number of requests have not been sent since they joined an identical one
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    public int getInFlightCount() {
+        synchronized (inFlight) {
+            return inFlight.size();
+        }
+    }
+
+    /**
+     * @return false if the call has been completed already, such as a failed send whose
+     * callback has been invoked before the error is thrown
+     */
+    private boolean complete(String key, List<Callback1<Response>> waiters) {
+        synchronized (inFlight) {
+            return inFlight.remove(key, waiters);
+        }
+    }
+
+    /**
+     * Every waiter is notified even if one of them throws, the first error is thrown after that
+     */
+    private static void notifyError(List<Callback1<Response>> waiters, Throwable throwable) {
+        RuntimeException failure = null;
+        for (Callback1<Response> waiter : waiters) {
+            try {
+                waiter.onError(throwable);
+            } catch (RuntimeException e) {
+                failure = addFailure(failure, e);
+            }
+        }
+        if (failure != null) throw failure;
+    }
+
+    private static RuntimeException addFailure(RuntimeException failure, RuntimeException e) {
+        if (failure == null) return e;
+        failure.addSuppressed(e);
+        return failure;
+    }
+}
@@ -0,0 +1,27 @@
+package com.bitmark.apiservice.middleware;
+
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+
+/**
+ * Decide whether a failed request is sent again and how long to wait before that.
+ *
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public interface RetryPolicy {
+
+    RetryPolicy NONE = (request, attempt, response, error) -> -1;
+
+    /**
+     * @param request  The request has been failed
+     * @param attempt  The number of the retry is going to be made, start from 1
+     * @param response The unsuccessful response, null if the request failed with an IO error
+     * @param error    The IO error, null if a response has been received
+     * @return The delay in milliseconds before retrying, or a negative value to give up
+     */
+    long getRetryDelay(Request request, int attempt, Response response, IOException error);
+}
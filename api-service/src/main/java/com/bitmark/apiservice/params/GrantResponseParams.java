@@ -1,12 +1,12 @@
 package com.bitmark.apiservice.params;
 
+import com.bitmark.apiservice.configuration.GlobalConfiguration;
+import com.bitmark.apiservice.configuration.Network;
 import com.bitmark.apiservice.utils.Address;
-import com.bitmark.apiservice.utils.ArrayUtil;
-import com.bitmark.apiservice.utils.BinaryPacking;
+import com.bitmark.apiservice.utils.BinaryPacker;
 import com.bitmark.apiservice.utils.annotation.VisibleForTesting;
 import com.bitmark.apiservice.utils.record.ShareGrantRecord;
 import com.bitmark.cryptography.crypto.Ed25519;
-import com.bitmark.cryptography.crypto.encoder.VarInt;
 import com.bitmark.cryptography.crypto.key.KeyPair;
 
 import java.util.Calendar;
@@ -43,41 +43,64 @@ public class GrantResponseParams extends AbsSingleParams {
 
     private Response response;
 
+    private Network network;
+
     private KeyPair keyPair;
 
     public static GrantResponseParams accept(ShareGrantRecord shareGrantRecord) {
-        return new GrantResponseParams(shareGrantRecord, Response.ACCEPT);
+        return accept(shareGrantRecord, GlobalConfiguration.network());
+    }
+
+    /**
+     * @param network The network of the client the grant was listed by
+     */
+    public static GrantResponseParams accept(ShareGrantRecord shareGrantRecord,
+                                             Network network) {
+        return new GrantResponseParams(shareGrantRecord, Response.ACCEPT, network);
     }
 
     public static GrantResponseParams reject(ShareGrantRecord shareGrantRecord) {
-        return new GrantResponseParams(shareGrantRecord, Response.REJECT);
+        return reject(shareGrantRecord, GlobalConfiguration.network());
+    }
+
+    public static GrantResponseParams reject(ShareGrantRecord shareGrantRecord,
+                                             Network network) {
+        return new GrantResponseParams(shareGrantRecord, Response.REJECT, network);
     }
 
     public static GrantResponseParams cancel(ShareGrantRecord shareGrantRecord) {
-        return new GrantResponseParams(shareGrantRecord, Response.CANCEL);
+        return cancel(shareGrantRecord, GlobalConfiguration.network());
+    }
+
+    public static GrantResponseParams cancel(ShareGrantRecord shareGrantRecord,
+                                             Network network) {
+        return new GrantResponseParams(shareGrantRecord, Response.CANCEL, network);
     }
 
-    private GrantResponseParams(ShareGrantRecord shareGrantRecord, Response response) {
-        checkValid(() -> shareGrantRecord != null && shareGrantRecord.isValid(),
+    private GrantResponseParams(ShareGrantRecord shareGrantRecord, Response response,
+                                Network network) {
+        checkValid(() -> network != null, "Network is required");
+        checkValid(() -> shareGrantRecord != null && shareGrantRecord.isValid(network),
                    "Invalid ShareGrantRecord");
         checkValid(() -> response != null, "Invalid Response");
         this.shareGrantRecord = shareGrantRecord;
         this.response = response;
+        this.network = network;
     }
 
     @Override
     byte[] pack() {
-        byte[] data = VarInt.writeUnsignedVarInt(0x09);
-        data = BinaryPacking.concat(HEX.decode(shareGrantRecord.getShareId()), data);
-        data = ArrayUtil.concat(data, VarInt.writeUnsignedVarInt(shareGrantRecord.getQuantity()));
-        data = BinaryPacking
-                .concat(Address.fromAccountNumber(shareGrantRecord.getOwner()).pack(), data);
-        data = BinaryPacking
-                .concat(Address.fromAccountNumber(shareGrantRecord.getReceiver()).pack(), data);
-        data = ArrayUtil
-                .concat(data, VarInt.writeUnsignedVarInt(shareGrantRecord.getBeforeBlock()));
-        data = BinaryPacking.concat(HEX.decode(shareGrantRecord.getSignature()), data);
-        return data;
+        return new BinaryPacker().writeUnsignedVarInt(0x09)
+                                 .writeHexField(shareGrantRecord.getShareId())
+                                 .writeUnsignedVarInt(shareGrantRecord.getQuantity())
+                                 .writeField(
+                                         Address.fromAccountNumber(shareGrantRecord.getOwner(),
+                                                                   network))
+                                 .writeField(
+                                         Address.fromAccountNumber(shareGrantRecord.getReceiver(),
+                                                                   network))
+                                 .writeUnsignedVarInt(shareGrantRecord.getBeforeBlock())
+                                 .writeHexField(shareGrantRecord.getSignature()).toByteArray();
     }
 
     @Override
@@ -2,14 +2,19 @@ package com.bitmark.apiservice.params;
 
 import com.bitmark.apiservice.utils.Address;
 import com.bitmark.apiservice.utils.ArrayUtil;
-import com.bitmark.apiservice.utils.BinaryPacking;
+import com.bitmark.apiservice.utils.BinaryPacker;
 import com.bitmark.apiservice.utils.Pair;
 import com.bitmark.apiservice.utils.error.UnexpectedException;
 import com.bitmark.cryptography.crypto.Ed25519;
-import com.bitmark.cryptography.crypto.encoder.VarInt;
 import com.bitmark.cryptography.crypto.key.KeyPair;
 import com.bitmark.cryptography.error.ValidateException;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.ByteString;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -26,7 +31,7 @@ import static com.bitmark.cryptography.utils.Validator.checkValidHex;
  * Copyright © 2018 Bitmark. All rights reserved.¬
  */
 
-public class IssuanceParams extends AbsMultipleParams {
+public class IssuanceParams extends AbsMultipleParams implements StreamingParams {
 
     private static final int ASSET_ID_LENGTH = 64;
 
@@ -42,6 +47,15 @@ public class IssuanceParams extends AbsMultipleParams {
     // Hold the nonces for both case of issuance : contains and not contains genesis Bitmark
     private Pair<List<byte[]>, List<byte[]>> signaturePair;
 
+    // The genesis state has been given on creation or the params has been signed for it, only
+    // one set of nonces is signed
+    private boolean isGenesisStateKnown;
+
+    private int quantity;
+
+    // The key is kept until the genesis state is known, see signLazily
+    private KeyPair pendingKey;
+
     public IssuanceParams(String assetId, Address owner) throws ValidateException {
         this(assetId, owner, 1);
     }
@@ -53,19 +67,60 @@ public class IssuanceParams extends AbsMultipleParams {
         checkValid(() -> quantity > 0);
         this.assetId = assetId;
         this.owner = owner;
-        generateNonces(quantity);
+        this.quantity = quantity;
     }
 
-    private void generateNonces(int quantity)
-            throws ValidateException {
-        checkValid(() -> quantity > 0, "Invalid params");
-        final int[] genesisNonces = quantity == 1 ? new int[]{0} : concat(new int[]{0},
-                                                                          secureRandomInts(
-                                                                                  quantity - 1));
-        final int[] nonGenesisNonces = secureRandomInts(quantity);
-        checkNonces(genesisNonces);
-        checkNonces(nonGenesisNonces);
-        noncesPair = new Pair<>(genesisNonces, nonGenesisNonces);
+    /**
+     * Issue the bitmarks when the genesis state of the asset is already known, only the nonces
+     * and the signatures of that state are made.
+     *
+     * @param containsGenesisBitmark true if the issuance contains the genesis bitmark of the
+     *                               asset
+     */
+    public IssuanceParams(String assetId, Address owner, int quantity,
+                          boolean containsGenesisBitmark) throws ValidateException {
+        this(assetId, owner, quantity);
+        this.containsGenesisBitmark = containsGenesisBitmark;
+        this.isGenesisStateKnown = true;
+    }
+
+    /**
+     * Issue the bitmarks of the given nonces when the genesis state of the asset is already
+     * known, only one set of signatures is made when it is signed.
+     *
+     * @param nonces                 The unique non-negative nonces, the genesis bitmark has the
+     *                               nonce 0
+     * @param containsGenesisBitmark true if the nonces contain the genesis bitmark of the asset,
+     *                               it must agree with the nonce 0 being in the nonces
+     */
+    public IssuanceParams(String assetId, Address owner, int[] nonces,
+                          boolean containsGenesisBitmark) throws ValidateException {
+        checkValidHex(assetId);
+        checkValid(() -> HEX.decode(assetId).length <= ASSET_ID_LENGTH);
+        checkValid(() -> owner != null && owner.isValid(), "Invalid Address");
+        checkValid(() -> nonces != null && nonces.length > 0, "Invalid nonces");
+        // Keep a copy, the nonces of the caller may be changed after they are checked
+        final int[] copiedNonces = ArrayUtil.clone(nonces);
+        checkValid(() -> !ArrayUtil.isDuplicate(copiedNonces) &&
+                         ArrayUtil.isPositive(copiedNonces),
+                   "Invalid nonces. The nonces cannot be duplicated and must be positive");
+        checkValid(() -> ArrayUtil.contains(copiedNonces, 0) == containsGenesisBitmark,
+                   "Invalid nonces. The genesis bitmark is the one of the nonce 0");
+        this.assetId = assetId;
+        this.owner = owner;
+        this.noncesPair = new Pair<>(copiedNonces, copiedNonces);
+        this.quantity = copiedNonces.length;
+        this.containsGenesisBitmark = containsGenesisBitmark;
+        this.isGenesisStateKnown = true;
+    }
+
+    private int[] generateNonces(boolean containsGenesisBitmark) {
+        final int[] nonces = containsGenesisBitmark ? quantity == 1 ? new int[]{0} :
+                                                      concat(new int[]{0},
+                                                             secureRandomInts(quantity - 1)) :
+                             secureRandomInts(quantity);
+        checkNonces(nonces);
+        return nonces;
     }
 
     private void checkNonces(int[] nonces) {
@@ -74,7 +129,15 @@ public class IssuanceParams extends AbsMultipleParams {
                 "Invalid generate nonce. The generated nonce cannot be duplicated and positive");
     }
 
+    /**
+     * @return The nonces of both genesis states, they are the same set once the params is
+     * signed for a known genesis state
+     */
     public Pair<int[], int[]> getNoncesPair() {
+        if (noncesPair == null) {
+            noncesPair = isGenesisStateKnown ? single(generateNonces(containsGenesisBitmark)) :
+                         new Pair<>(generateNonces(true), generateNonces(false));
+        }
         return noncesPair;
     }
 
@@ -87,48 +150,121 @@ public class IssuanceParams extends AbsMultipleParams {
     }
 
     public void setContainsGenesisBitmark(boolean containsGenesisBitmark) {
+        checkValid(() -> !isGenesisStateKnown ||
+                         this.containsGenesisBitmark == containsGenesisBitmark,
+                   "The genesis state has been given on creation");
         this.containsGenesisBitmark = containsGenesisBitmark;
+        if (pendingKey != null) {
+            signSingle(pendingKey);
+            pendingKey = null;
+        }
+    }
+
+    /**
+     * @return true if the genesis state has been given on creation or the params has been
+     * signed for it, so it does not need to be looked up before the issuance
+     */
+    public boolean isGenesisStateKnown() {
+        return isGenesisStateKnown;
+    }
+
+    /**
+     * @return The number of bitmarks are issued
+     */
+    public int getQuantity() {
+        return size();
     }
 
+    /**
+     * Sign for both genesis states, unless the state has been given on creation. Prefer
+     * {@link #signLazily(KeyPair)} which only signs for the state found before the issuance.
+     */
     @Override
     public List<byte[]> sign(KeyPair key) {
+        if (isGenesisStateKnown) return signSingle(key);
         List<byte[]> containGenesisBitmarkSig = sign(key, true);
         List<byte[]> notContainsGenesisBitmarkSig = sign(key, false);
         signaturePair = new Pair<>(containGenesisBitmarkSig, notContainsGenesisBitmarkSig);
         return concat(containGenesisBitmarkSig, notContainsGenesisBitmarkSig);
     }
 
+    /**
+     * Defer the signing until the genesis state is set, which is done by the api service right
+     * before the issuance. Only one set of nonces and signatures is made so it costs half of
+     * {@link #sign(KeyPair)}. The params is signed immediately if the state is already known.
+     *
+     * @see #isSigningDeferred()
+     */
+    public void signLazily(KeyPair key) {
+        checkValid(() -> key != null && key.isValid(), "Invalid key pair");
+        if (containsGenesisBitmark != null) signSingle(key);
+        else pendingKey = key;
+    }
+
+    /**
+     * @return true if the params is going to be signed when the genesis state is set, so
+     * setting the state costs a signature per bitmark
+     */
+    public boolean isSigningDeferred() {
+        return pendingKey != null;
+    }
+
+    private List<byte[]> signSingle(KeyPair key) {
+        checkContainsGenesisBitmarkExisted();
+        if (noncesPair == null) noncesPair = single(generateNonces(containsGenesisBitmark));
+        final List<byte[]> signatures = sign(key, containsGenesisBitmark);
+        signaturePair = single(signatures);
+        isGenesisStateKnown = true;
+        return signatures;
+    }
+
+    private static <T> Pair<T, T> single(T value) {
+        return new Pair<>(value, value);
+    }
+
     @Override
     public String toJson() {
+        final Buffer buffer = new Buffer();
+        try {
+            toRequestBody().writeTo(buffer);
+        } catch (IOException e) {
+            throw new UnexpectedException(e);
+        }
+        return buffer.readUtf8();
+    }
+
+    /**
+     * The owner and the asset are encoded once for the whole body, the items are written
+     * straight into the sink so the json of a large issuance is never held as a String
+     */
+    @Override
+    public RequestBody toRequestBody() {
         checkContainsGenesisBitmarkExisted();
         checkSigned();
-        final StringBuilder builder = new StringBuilder();
-        builder.append("{\"issues\":[");
-        for (int i = 0, size = size(); i < size; i++) {
-            builder.append(buildSingleJson(i));
-            if (i < size - 1) builder.append(",");
-        }
-        builder.append("]}");
-        return builder.toString();
+        return new IssuanceRequestBody(owner.getAddress(), assetId,
+                                       getSignatures(containsGenesisBitmark),
+                                       getNonces(containsGenesisBitmark));
     }
 
     private List<byte[]> sign(KeyPair key, boolean containsGenesisBitmark) {
         checkValid(() -> key != null && key.isValid(), "Invalid key pair");
-        List<byte[]> signatures = new ArrayList<>(size());
-        for (int i = 0; i < size(); i++) {
-            signatures
-                    .add(Ed25519.sign(pack(i, containsGenesisBitmark), key.privateKey().toBytes()));
+        final byte[] privateKey = key.privateKey().toBytes();
+        // The asset and the owner are the same for every bitmark, only the nonce differs
+        final BinaryPacker packer = packPrefix();
+        final int prefixSize = packer.size();
+        final int[] nonces = getNonces(containsGenesisBitmark);
+        List<byte[]> signatures = new ArrayList<>(nonces.length);
+        for (int nonce : nonces) {
+            final byte[] data =
+                    packer.truncate(prefixSize).writeUnsignedVarInt(nonce).toByteArray();
+            signatures.add(Ed25519.sign(data, privateKey));
         }
         return signatures;
     }
 
-    private byte[] pack(int index, boolean containsGenesisBitmark) {
-        final byte[] assetId = HEX.decode(this.assetId);
-        byte[] data = VarInt.writeUnsignedVarInt(0x03);
-        data = BinaryPacking.concat(assetId, data);
-        data = BinaryPacking.concat(owner.pack(), data);
-        data = concat(data, VarInt.writeUnsignedVarInt(getNonces(containsGenesisBitmark)[index]));
-        return data;
+    private BinaryPacker packPrefix() {
+        return new BinaryPacker().writeUnsignedVarInt(0x03).writeHexField(assetId)
+                                 .writeField(owner);
     }
 
     @Override
@@ -138,8 +274,7 @@ public class IssuanceParams extends AbsMultipleParams {
 
     @Override
     int size() {
-        // Use arbitrary value containsGenesisBitmark to get the size of nonces
-        return getNonces(true).length;
+        return noncesPair == null ? quantity : noncesPair.first().length;
     }
 
     @Override
@@ -150,14 +285,7 @@ public class IssuanceParams extends AbsMultipleParams {
 
     @Override
     public boolean isSigned() {
-        return signaturePair != null;
-    }
-
-    private String buildSingleJson(int index) {
-        return "{\"owner\":\"" + owner.getAddress() + "\",\"signature\":\"" +
-               HEX.encode(getSignatures(containsGenesisBitmark).get(index)) + "\"," +
-               "\"asset_id\":\"" + assetId + "\",\"nonce\":" +
-               getNonces(containsGenesisBitmark)[index] + "}";
+        return signaturePair != null || pendingKey != null;
     }
 
     private List<byte[]> getSignatures(boolean containsGenesisBitmark) {
@@ -165,6 +293,7 @@ public class IssuanceParams extends AbsMultipleParams {
     }
 
     private int[] getNonces(boolean containsGenesisBitmark) {
+        final Pair<int[], int[]> noncesPair = getNoncesPair();
         return containsGenesisBitmark ? noncesPair.first() : noncesPair.second();
     }
 
@@ -173,4 +302,80 @@ public class IssuanceParams extends AbsMultipleParams {
             throw new IllegalArgumentException(
                     "Need to mark this params is contains genesis bitmark or not");
     }
+
+    private static final class IssuanceRequestBody extends RequestBody {
+
+        private static final MediaType JSON = MediaType.parse("application/json; charset=utf-8");
+
+        private static final ByteString HEAD = ByteString.encodeUtf8("{\"issues\":[");
+
+        private static final ByteString TAIL = ByteString.encodeUtf8("]}");
+
+        private static final byte[] DIGITS = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9',
+                                              'a', 'b', 'c', 'd', 'e', 'f'};
+
+        private final ByteString itemHead;
+
+        private final ByteString itemMiddle;
+
+        private final List<byte[]> signatures;
+
+        private final int[] nonces;
+
+        private final long contentLength;
+
+        private IssuanceRequestBody(String owner, String assetId, List<byte[]> signatures,
+                                    int[] nonces) {
+            this.itemHead = ByteString.encodeUtf8("{\"owner\":\"" + owner + "\",\"signature\":\"");
+            this.itemMiddle =
+                    ByteString.encodeUtf8("\",\"asset_id\":\"" + assetId + "\",\"nonce\":");
+            this.signatures = signatures;
+            this.nonces = nonces;
+
+            long length = HEAD.size() + TAIL.size() + Math.max(nonces.length - 1, 0);
+            for (int i = 0; i < nonces.length; i++) {
+                length += itemHead.size() + signatures.get(i).length * 2 + itemMiddle.size() +
+                          countDigits(nonces[i]) + 1;
+            }
+            this.contentLength = length;
+        }
+
+        @Override
+        public MediaType contentType() {
+            return JSON;
+        }
+
+        @Override
+        public long contentLength() {
+            return contentLength;
+        }
+
+        @Override
+        public void writeTo(BufferedSink sink) throws IOException {
+            final byte[] hex = new byte[Ed25519.SIG_LENGTH * 2];
+            sink.write(HEAD);
+            for (int i = 0; i < nonces.length; i++) {
+                if (i > 0) sink.writeByte(',');
+                final byte[] signature = signatures.get(i);
+                final byte[] signatureHex =
+                        signature.length * 2 <= hex.length ? hex : new byte[signature.length * 2];
+                for (int j = 0; j < signature.length; j++) {
+                    signatureHex[j * 2] = DIGITS[(signature[j] >> 4) & 0x0F];
+                    signatureHex[j * 2 + 1] = DIGITS[signature[j] & 0x0F];
+                }
+                sink.write(itemHead).write(signatureHex, 0, signature.length * 2)
+                    .write(itemMiddle).writeDecimalLong(nonces[i]).writeByte('}');
+            }
+            sink.write(TAIL);
+        }
+
+        private static int countDigits(int value) {
+            int digits = 1;
+            while (value >= 10) {
+                value /= 10;
+                digits++;
+            }
+            return digits;
+        }
+    }
 }
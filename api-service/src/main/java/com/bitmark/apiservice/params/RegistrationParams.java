@@ -2,11 +2,10 @@ package com.bitmark.apiservice.params;
 
 import com.bitmark.apiservice.utils.Address;
 import com.bitmark.apiservice.utils.Awaitility;
-import com.bitmark.apiservice.utils.BinaryPacking;
+import com.bitmark.apiservice.utils.BinaryPacker;
 import com.bitmark.apiservice.utils.FileUtils;
 import com.bitmark.apiservice.utils.error.UnexpectedException;
 import com.bitmark.cryptography.crypto.Sha3512;
-import com.bitmark.cryptography.crypto.encoder.VarInt;
 import com.bitmark.cryptography.error.ValidateException;
 
 import java.io.File;
@@ -86,12 +85,10 @@ public class RegistrationParams extends AbsSingleParams {
 
     @Override
     byte[] pack() {
-        byte[] data = VarInt.writeUnsignedVarInt(0x02);
-        data = BinaryPacking.concat(name, data);
-        data = BinaryPacking.concat(fingerprint, data);
-        data = BinaryPacking.concat(getPackedMetadata(metadata), data);
-        data = BinaryPacking.concat(registrant.pack(), data);
-        return data;
+        return new BinaryPacker().writeUnsignedVarInt(0x02).writeField(name)
+                                 .writeField(fingerprint)
+                                 .writeField(getPackedMetadata(metadata))
+                                 .writeField(registrant).toByteArray();
     }
 
     public static String computeFingerprint(File file) throws IOException {
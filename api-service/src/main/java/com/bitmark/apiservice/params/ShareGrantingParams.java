@@ -1,10 +1,8 @@
 package com.bitmark.apiservice.params;
 
 import com.bitmark.apiservice.utils.Address;
-import com.bitmark.apiservice.utils.ArrayUtil;
-import com.bitmark.apiservice.utils.BinaryPacking;
+import com.bitmark.apiservice.utils.BinaryPacker;
 import com.bitmark.cryptography.crypto.Sha3256;
-import com.bitmark.cryptography.crypto.encoder.VarInt;
 import com.bitmark.cryptography.error.ValidateException;
 
 import java.util.Map;
@@ -87,13 +85,10 @@ public class ShareGrantingParams extends AbsSingleParams {
 
     @Override
     byte[] pack() {
-        byte[] data = VarInt.writeUnsignedVarInt(0x09);
-        data = BinaryPacking.concat(HEX.decode(shareId), data);
-        data = ArrayUtil.concat(data, VarInt.writeUnsignedVarInt(quantity));
-        data = BinaryPacking.concat(owner.pack(), data);
-        data = BinaryPacking.concat(receiver.pack(), data);
-        data = ArrayUtil.concat(data, VarInt.writeUnsignedVarInt(beforeBlock));
-        return data;
+        return new BinaryPacker().writeUnsignedVarInt(0x09).writeHexField(shareId)
+                                 .writeUnsignedVarInt(quantity).writeField(owner)
+                                 .writeField(receiver).writeUnsignedVarInt(beforeBlock)
+                                 .toByteArray();
     }
 
     @Override
@@ -109,7 +104,6 @@ public class ShareGrantingParams extends AbsSingleParams {
     }
 
     private static boolean isValidShareId(String shareId) {
-        return shareId != null && !shareId.isEmpty() &&
-               HEX.decode(shareId).length == Sha3256.HASH_BYTE_LENGTH;
+        return HEX.decodedLength(shareId) == Sha3256.HASH_BYTE_LENGTH;
     }
 }
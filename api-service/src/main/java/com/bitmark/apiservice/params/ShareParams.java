@@ -1,9 +1,7 @@
 package com.bitmark.apiservice.params;
 
-import com.bitmark.apiservice.utils.ArrayUtil;
-import com.bitmark.apiservice.utils.BinaryPacking;
+import com.bitmark.apiservice.utils.BinaryPacker;
 import com.bitmark.cryptography.crypto.Sha3256;
-import com.bitmark.cryptography.crypto.encoder.VarInt;
 import com.bitmark.cryptography.crypto.key.KeyPair;
 import com.bitmark.cryptography.error.ValidateException;
 
@@ -46,10 +44,8 @@ public class ShareParams extends AbsSingleParams {
 
     @Override
     byte[] pack() {
-        byte[] data = VarInt.writeUnsignedVarInt(0x08);
-        data = BinaryPacking.concat(HEX.decode(link), data);
-        data = ArrayUtil.concat(data, VarInt.writeUnsignedVarInt(quantity));
-        return data;
+        return new BinaryPacker().writeUnsignedVarInt(0x08).writeHexField(link)
+                                 .writeUnsignedVarInt(quantity).toByteArray();
     }
 
     @Override
@@ -64,7 +60,6 @@ public class ShareParams extends AbsSingleParams {
     }
 
     private static boolean isValidLink(String link) {
-        return link != null && !link.isEmpty() &&
-               HEX.decode(link).length == Sha3256.HASH_BYTE_LENGTH;
+        return HEX.decodedLength(link) == Sha3256.HASH_BYTE_LENGTH;
     }
 }
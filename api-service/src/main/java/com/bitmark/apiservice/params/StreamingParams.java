@@ -0,0 +1,20 @@
+package com.bitmark.apiservice.params;
+
+import okhttp3.RequestBody;
+
+/**
+ * Params which write their json straight into the request body, so a large payload is never
+ * built as a String before it is sent.
+ *
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public interface StreamingParams extends Params {
+
+    /**
+     * @return The body which writes the same json as {@link #toJson()}, it is able to be
+     * written more than once such as when the request is retried
+     */
+    RequestBody toRequestBody();
+}
@@ -1,10 +1,8 @@
 package com.bitmark.apiservice.params;
 
 import com.bitmark.apiservice.utils.Address;
-import com.bitmark.apiservice.utils.ArrayUtil;
-import com.bitmark.apiservice.utils.BinaryPacking;
+import com.bitmark.apiservice.utils.BinaryPacker;
 import com.bitmark.cryptography.crypto.Sha3256;
-import com.bitmark.cryptography.crypto.encoder.VarInt;
 import com.bitmark.cryptography.crypto.key.KeyPair;
 
 import java.util.Map;
@@ -74,11 +72,8 @@ public class TransferOfferParams extends AbsSingleParams {
 
     @Override
     byte[] pack() {
-        byte[] data = VarInt.writeUnsignedVarInt(0x05);
-        data = BinaryPacking.concat(HEX.decode(link), data);
-        data = ArrayUtil.concat(data, new byte[]{0x00});
-        data = BinaryPacking.concat(offeredOwner.pack(), data);
-        return data;
+        return new BinaryPacker().writeUnsignedVarInt(0x05).writeHexField(link).writeByte(0x00)
+                                 .writeField(offeredOwner).toByteArray();
     }
 
     private void checkValidLink(String link) {
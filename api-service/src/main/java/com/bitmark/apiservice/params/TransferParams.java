@@ -1,10 +1,8 @@
 package com.bitmark.apiservice.params;
 
 import com.bitmark.apiservice.utils.Address;
-import com.bitmark.apiservice.utils.ArrayUtil;
-import com.bitmark.apiservice.utils.BinaryPacking;
+import com.bitmark.apiservice.utils.BinaryPacker;
 import com.bitmark.cryptography.crypto.Sha3256;
-import com.bitmark.cryptography.crypto.encoder.VarInt;
 import com.bitmark.cryptography.crypto.key.KeyPair;
 
 import static com.bitmark.cryptography.crypto.encoder.Hex.HEX;
@@ -61,11 +59,8 @@ public class TransferParams extends AbsSingleParams {
 
     @Override
     byte[] pack() {
-        byte[] data = VarInt.writeUnsignedVarInt(0x04);
-        data = BinaryPacking.concat(HEX.decode(link), data);
-        data = ArrayUtil.concat(data, new byte[]{0x00});
-        data = BinaryPacking.concat(owner.pack(), data);
-        return data;
+        return new BinaryPacker().writeUnsignedVarInt(0x04).writeHexField(link).writeByte(0x00)
+                                 .writeField(owner).toByteArray();
     }
 
     private void checkValidLink(String link) {
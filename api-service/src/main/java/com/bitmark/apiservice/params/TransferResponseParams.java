@@ -1,12 +1,12 @@
 package com.bitmark.apiservice.params;
 
+import com.bitmark.apiservice.configuration.GlobalConfiguration;
+import com.bitmark.apiservice.configuration.Network;
 import com.bitmark.apiservice.utils.annotation.VisibleForTesting;
 import com.bitmark.apiservice.utils.Address;
-import com.bitmark.apiservice.utils.ArrayUtil;
-import com.bitmark.apiservice.utils.BinaryPacking;
+import com.bitmark.apiservice.utils.BinaryPacker;
 import com.bitmark.apiservice.utils.record.OfferRecord;
 import com.bitmark.cryptography.crypto.Ed25519;
-import com.bitmark.cryptography.crypto.encoder.VarInt;
 import com.bitmark.cryptography.crypto.key.KeyPair;
 
 import java.util.Calendar;
@@ -45,39 +45,57 @@ public class TransferResponseParams extends AbsSingleParams {
 
     private Response response;
 
+    private Network network;
+
     private KeyPair key;
 
     private String currentOwner;
 
     public static TransferResponseParams accept(OfferRecord offer) {
-        return new TransferResponseParams(offer, ACCEPT);
+        return accept(offer, GlobalConfiguration.network());
+    }
+
+    /**
+     * @param network The network of the client the offer was received by
+     */
+    public static TransferResponseParams accept(OfferRecord offer, Network network) {
+        return new TransferResponseParams(offer, ACCEPT, network);
     }
 
     public static TransferResponseParams reject(OfferRecord offer) {
-        return new TransferResponseParams(offer, REJECT);
+        return reject(offer, GlobalConfiguration.network());
+    }
+
+    public static TransferResponseParams reject(OfferRecord offer, Network network) {
+        return new TransferResponseParams(offer, REJECT, network);
     }
 
     public static TransferResponseParams cancel(OfferRecord offer, String owner) {
-        TransferResponseParams params = new TransferResponseParams(offer, CANCEL);
+        return cancel(offer, owner, GlobalConfiguration.network());
+    }
+
+    public static TransferResponseParams cancel(OfferRecord offer, String owner,
+                                                Network network) {
+        TransferResponseParams params = new TransferResponseParams(offer, CANCEL, network);
         params.setCurrentOwner(owner);
         return params;
     }
 
-    private TransferResponseParams(OfferRecord offer, Response response) {
+    private TransferResponseParams(OfferRecord offer, Response response, Network network) {
         checkNonNull(offer);
         checkNonNull(response);
+        checkNonNull(network);
         this.offer = offer;
         this.response = response;
+        this.network = network;
     }
 
     @Override
     byte[] pack() {
-        byte[] data = VarInt.writeUnsignedVarInt(0x05);
-        data = BinaryPacking.concat(HEX.decode(offer.getLink()), data);
-        data = ArrayUtil.concat(data, new byte[]{0x00});
-        data = BinaryPacking.concat(Address.fromAccountNumber(offer.getOwner()).pack(), data);
-        data = BinaryPacking.concat(HEX.decode(offer.getSignature()), data);
-        return data;
+        return new BinaryPacker().writeUnsignedVarInt(0x05).writeHexField(offer.getLink())
+                                 .writeByte(0x00)
+                                 .writeField(Address.fromAccountNumber(offer.getOwner(), network))
+                                 .writeHexField(offer.getSignature()).toByteArray();
     }
 
     @Override
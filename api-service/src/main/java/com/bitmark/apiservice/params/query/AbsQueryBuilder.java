@@ -4,6 +4,7 @@ import com.bitmark.apiservice.utils.HttpUtils;
 import com.google.gson.annotations.SerializedName;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.util.Map;
 import java.util.TreeMap;
 
@@ -46,6 +47,25 @@ public abstract class AbsQueryBuilder implements QueryBuilder {
         }
     }
 
+    /**
+     * Copy the values of this builder into the target, the arrays are copied too so changing
+     * either builder does not change the other
+     */
+    protected <T extends AbsQueryBuilder> T copyTo(T target) {
+        try {
+            for (Field field : getClass().getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) continue;
+                field.setAccessible(true);
+                Object value = field.get(this);
+                if (value instanceof Object[]) value = ((Object[]) value).clone();
+                field.set(target, value);
+            }
+            return target;
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     private Map<String, Object> getValues(QueryBuilder builder) throws IllegalAccessException {
         Map<String, Object> valueMap = new TreeMap<>();
         Field[] fields = builder.getClass().getDeclaredFields();
@@ -38,4 +38,11 @@ public class AssetQueryBuilder extends AbsQueryBuilder {
         this.limit = limit;
         return this;
     }
+
+    /**
+     * @return A new builder holding the same values
+     */
+    public AssetQueryBuilder copy() {
+        return copyTo(new AssetQueryBuilder());
+    }
 }
@@ -109,4 +109,11 @@ public class BitmarkQueryBuilder extends AbsQueryBuilder {
         this.to = to;
         return this;
     }
+
+    /**
+     * @return A new builder holding the same values
+     */
+    public BitmarkQueryBuilder copy() {
+        return copyTo(new BitmarkQueryBuilder());
+    }
 }
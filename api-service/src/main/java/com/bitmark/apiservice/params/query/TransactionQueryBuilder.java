@@ -24,6 +24,10 @@ public class TransactionQueryBuilder extends AbsQueryBuilder {
     @SerializedName("asset")
     private Boolean loadAsset;
 
+    private Long at;
+
+    private String to;
+
     private Integer limit = 100;
 
     public TransactionQueryBuilder ownedBy(String owner) {
@@ -55,4 +59,24 @@ public class TransactionQueryBuilder extends AbsQueryBuilder {
         this.limit = limit;
         return this;
     }
+
+    public TransactionQueryBuilder at(Long at) {
+        checkValid(() -> at != null && at > 0, "Invalid at value. Must greater than 0");
+        this.at = at;
+        return this;
+    }
+
+    public TransactionQueryBuilder to(String to) {
+        checkValid(() -> to != null && (to.equals("earlier") || to.equals("later")),
+                   "Invalid value to. It must be 'later' or 'earlier'.");
+        this.to = to;
+        return this;
+    }
+
+    /**
+     * @return A new builder holding the same values
+     */
+    public TransactionQueryBuilder copy() {
+        return copyTo(new TransactionQueryBuilder());
+    }
 }
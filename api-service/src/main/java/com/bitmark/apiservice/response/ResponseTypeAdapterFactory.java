@@ -0,0 +1,291 @@
+package com.bitmark.apiservice.response;
+
+import com.bitmark.apiservice.utils.record.AssetRecord;
+import com.bitmark.apiservice.utils.record.BitmarkRecord;
+import com.bitmark.apiservice.utils.record.TransactionRecord;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.List;
+
+import static com.bitmark.apiservice.utils.JsonUtil.nextBoolean;
+import static com.bitmark.apiservice.utils.JsonUtil.nextString;
+
+/**
+ * Provide the hand-written {@link TypeAdapter} of the response classes so they are not decoded
+ * by the reflective adapter of Gson.
+ *
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class ResponseTypeAdapterFactory implements TypeAdapterFactory {
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        final Class<? super T> rawType = type.getRawType();
+        if (rawType == GetBitmarkResponse.class) {
+            return (TypeAdapter<T>) new GetBitmarkResponseAdapter(gson).nullSafe();
+        } else if (rawType == GetBitmarksResponse.class) {
+            return (TypeAdapter<T>) new GetBitmarksResponseAdapter(gson).nullSafe();
+        } else if (rawType == GetTransactionResponse.class) {
+            return (TypeAdapter<T>) new GetTransactionResponseAdapter(gson).nullSafe();
+        } else if (rawType == GetTransactionsResponse.class) {
+            return (TypeAdapter<T>) new GetTransactionsResponseAdapter(gson).nullSafe();
+        } else if (rawType == RegistrationResponse.class) {
+            return (TypeAdapter<T>) new RegistrationResponseAdapter(gson).nullSafe();
+        } else if (rawType == RegistrationResponse.Asset.class) {
+            return (TypeAdapter<T>) new RegisteredAssetAdapter().nullSafe();
+        }
+        return null;
+    }
+
+    private static final class GetBitmarkResponseAdapter extends TypeAdapter<GetBitmarkResponse> {
+
+        private final TypeAdapter<BitmarkRecord> bitmarkAdapter;
+
+        private final TypeAdapter<AssetRecord> assetAdapter;
+
+        GetBitmarkResponseAdapter(Gson gson) {
+            bitmarkAdapter = gson.getAdapter(BitmarkRecord.class);
+            assetAdapter = gson.getAdapter(AssetRecord.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetBitmarkResponse value) throws IOException {
+            out.beginObject();
+            out.name("bitmark");
+            bitmarkAdapter.write(out, value.getBitmark());
+            out.name("asset");
+            assetAdapter.write(out, value.getAsset());
+            out.endObject();
+        }
+
+        @Override
+        public GetBitmarkResponse read(JsonReader in) throws IOException {
+            BitmarkRecord bitmark = null;
+            AssetRecord asset = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "bitmark":
+                        bitmark = bitmarkAdapter.read(in);
+                        break;
+                    case "asset":
+                        asset = assetAdapter.read(in);
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return new GetBitmarkResponse(bitmark, asset);
+        }
+    }
+
+    private static final class GetBitmarksResponseAdapter
+            extends TypeAdapter<GetBitmarksResponse> {
+
+        private final TypeAdapter<List<BitmarkRecord>> bitmarksAdapter;
+
+        private final TypeAdapter<List<AssetRecord>> assetsAdapter;
+
+        GetBitmarksResponseAdapter(Gson gson) {
+            bitmarksAdapter = gson.getAdapter(new TypeToken<List<BitmarkRecord>>() {
+            });
+            assetsAdapter = gson.getAdapter(new TypeToken<List<AssetRecord>>() {
+            });
+        }
+
+        @Override
+        public void write(JsonWriter out, GetBitmarksResponse value) throws IOException {
+            out.beginObject();
+            out.name("bitmarks");
+            bitmarksAdapter.write(out, value.getBitmarks());
+            out.name("assets");
+            assetsAdapter.write(out, value.getAssets());
+            out.endObject();
+        }
+
+        @Override
+        public GetBitmarksResponse read(JsonReader in) throws IOException {
+            List<BitmarkRecord> bitmarks = null;
+            List<AssetRecord> assets = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "bitmarks":
+                        bitmarks = bitmarksAdapter.read(in);
+                        break;
+                    case "assets":
+                        assets = assetsAdapter.read(in);
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return new GetBitmarksResponse(bitmarks, assets);
+        }
+    }
+
+    private static final class GetTransactionResponseAdapter
+            extends TypeAdapter<GetTransactionResponse> {
+
+        private final TypeAdapter<TransactionRecord> transactionAdapter;
+
+        private final TypeAdapter<AssetRecord> assetAdapter;
+
+        GetTransactionResponseAdapter(Gson gson) {
+            transactionAdapter = gson.getAdapter(TransactionRecord.class);
+            assetAdapter = gson.getAdapter(AssetRecord.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetTransactionResponse value) throws IOException {
+            out.beginObject();
+            out.name("tx");
+            transactionAdapter.write(out, value.getTransaction());
+            out.name("asset");
+            assetAdapter.write(out, value.getAsset());
+            out.endObject();
+        }
+
+        @Override
+        public GetTransactionResponse read(JsonReader in) throws IOException {
+            TransactionRecord transaction = null;
+            AssetRecord asset = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "tx":
+                        transaction = transactionAdapter.read(in);
+                        break;
+                    case "asset":
+                        asset = assetAdapter.read(in);
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return new GetTransactionResponse(transaction, asset);
+        }
+    }
+
+    private static final class GetTransactionsResponseAdapter
+            extends TypeAdapter<GetTransactionsResponse> {
+
+        private final TypeAdapter<List<TransactionRecord>> transactionsAdapter;
+
+        private final TypeAdapter<List<AssetRecord>> assetsAdapter;
+
+        GetTransactionsResponseAdapter(Gson gson) {
+            transactionsAdapter = gson.getAdapter(new TypeToken<List<TransactionRecord>>() {
+            });
+            assetsAdapter = gson.getAdapter(new TypeToken<List<AssetRecord>>() {
+            });
+        }
+
+        @Override
+        public void write(JsonWriter out, GetTransactionsResponse value) throws IOException {
+            out.beginObject();
+            out.name("txs");
+            transactionsAdapter.write(out, value.getTransactions());
+            out.name("assets");
+            assetsAdapter.write(out, value.getAssets());
+            out.endObject();
+        }
+
+        @Override
+        public GetTransactionsResponse read(JsonReader in) throws IOException {
+            List<TransactionRecord> transactions = null;
+            List<AssetRecord> assets = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "txs":
+                        transactions = transactionsAdapter.read(in);
+                        break;
+                    case "assets":
+                        assets = assetsAdapter.read(in);
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return new GetTransactionsResponse(transactions, assets);
+        }
+    }
+
+    private static final class RegistrationResponseAdapter
+            extends TypeAdapter<RegistrationResponse> {
+
+        private final TypeAdapter<List<RegistrationResponse.Asset>> assetsAdapter;
+
+        RegistrationResponseAdapter(Gson gson) {
+            assetsAdapter = gson.getAdapter(new TypeToken<List<RegistrationResponse.Asset>>() {
+            });
+        }
+
+        @Override
+        public void write(JsonWriter out, RegistrationResponse value) throws IOException {
+            out.beginObject();
+            out.name("assets");
+            assetsAdapter.write(out, value.getAssets());
+            out.endObject();
+        }
+
+        @Override
+        public RegistrationResponse read(JsonReader in) throws IOException {
+            List<RegistrationResponse.Asset> assets = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                if ("assets".equals(in.nextName())) assets = assetsAdapter.read(in);
+                else in.skipValue();
+            }
+            in.endObject();
+            return new RegistrationResponse(assets);
+        }
+    }
+
+    private static final class RegisteredAssetAdapter
+            extends TypeAdapter<RegistrationResponse.Asset> {
+
+        @Override
+        public void write(JsonWriter out, RegistrationResponse.Asset value) throws IOException {
+            out.beginObject();
+            out.name("id").value(value.getId());
+            out.name("duplicate").value(value.isDuplicate());
+            out.endObject();
+        }
+
+        @Override
+        public RegistrationResponse.Asset read(JsonReader in) throws IOException {
+            String id = null;
+            boolean isDuplicate = false;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id":
+                        id = nextString(in);
+                        break;
+                    case "duplicate":
+                        isDuplicate = nextBoolean(in, isDuplicate);
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return new RegistrationResponse.Asset(id, isDuplicate);
+        }
+    }
+}
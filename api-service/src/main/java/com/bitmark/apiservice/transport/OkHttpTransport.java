@@ -0,0 +1,45 @@
+package com.bitmark.apiservice.transport;
+
+import okhttp3.Call;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+
+/**
+ * The default transport, the requests are sent by OkHttp so they share its connection pool and
+ * its dispatcher. HTTP/2 is negotiated over TLS on the platforms which support ALPN.
+ *
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class OkHttpTransport implements Transport {
+
+    private final OkHttpClient client;
+
+    public OkHttpTransport(OkHttpClient client) {
+        this.client = client;
+    }
+
+    public OkHttpClient getClient() {
+        return client;
+    }
+
+    @Override
+    public void send(Request request, Callback callback) {
+        client.newCall(request).enqueue(new okhttp3.Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                if (call.isCanceled()) callback.onCanceled(e);
+                else callback.onFailure(e);
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) throws IOException {
+                callback.onResponse(response);
+            }
+        });
+    }
+}
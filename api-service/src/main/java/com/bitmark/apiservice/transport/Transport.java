@@ -0,0 +1,38 @@
+package com.bitmark.apiservice.transport;
+
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+
+/**
+ * Send the requests over the network. The api service prepares the requests, including the
+ * authentication headers, and handles the retries, the limits and the metrics, so a transport
+ * only needs to deliver one request and its response.
+ *
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public interface Transport {
+
+    interface Callback {
+
+        /**
+         * @param response The response of any status, the receiver must close it
+         */
+        void onResponse(Response response) throws IOException;
+
+        void onFailure(IOException error);
+
+        /**
+         * The request was canceled before it is completed, it must not be sent again
+         */
+        void onCanceled(IOException error);
+    }
+
+    /**
+     * Send the request asynchronously, exactly one method of the callback is invoked
+     */
+    void send(Request request, Callback callback);
+}
@@ -0,0 +1,146 @@
+package com.bitmark.apiservice.transport;
+
+import okhttp3.*;
+import okio.BufferedSink;
+import okio.Okio;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.HttpURLConnection;
+import java.net.ProtocolException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static com.bitmark.cryptography.utils.Validator.checkValid;
+
+/**
+ * Transport on the {@link HttpURLConnection} of the platform, the connections are kept alive
+ * by the platform and every request blocks a thread of the executor until its response is
+ * received. The request body is streamed to the connection and the response body is streamed
+ * from it.
+ * <p>
+ * The {@link HttpURLConnection} does not support {@code PATCH}, such requests are failed with a
+ * {@link ProtocolException}. The OkHttp interceptors, such as the logging, are not applied.
+ *
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class UrlConnectionTransport implements Transport {
+
+    private final ExecutorService executor;
+
+    private final int timeout;
+
+    /**
+     * @param executor The threads the requests are sent on, its size is the maximum number of
+     *                 requests in flight
+     * @param timeout  The connect and read timeout in seconds
+     */
+    public UrlConnectionTransport(ExecutorService executor, int timeout) {
+        checkValid(() -> executor != null, "Executor is required");
+        checkValid(() -> timeout > 0, "Invalid timeout. Must be greater than 0");
+        this.executor = executor;
+        this.timeout = (int) TimeUnit.SECONDS.toMillis(timeout);
+    }
+
+    @Override
+    public void send(Request request, Callback callback) {
+        try {
+            executor.execute(() -> {
+                final Response response;
+                try {
+                    response = execute(request);
+                } catch (IOException e) {
+                    callback.onFailure(e);
+                    return;
+                }
+                try {
+                    callback.onResponse(response);
+                } catch (IOException ignore) {
+                    response.close();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            callback.onCanceled(new InterruptedIOException("The executor has been shut down"));
+        }
+    }
+
+    private Response execute(Request request) throws IOException {
+        final String method = request.method();
+        if ("PATCH".equals(method)) {
+            throw new ProtocolException("PATCH is not supported by HttpURLConnection");
+        }
+
+        final long sentAt = System.currentTimeMillis();
+        final HttpURLConnection connection =
+                (HttpURLConnection) request.url().url().openConnection();
+        try {
+            connection.setConnectTimeout(timeout);
+            connection.setReadTimeout(timeout);
+            connection.setInstanceFollowRedirects(true);
+            connection.setRequestMethod(method);
+            final Headers headers = request.headers();
+            for (int i = 0, size = headers.size(); i < size; i++) {
+                connection.addRequestProperty(headers.name(i), headers.value(i));
+            }
+
+            final RequestBody body = request.body();
+            if (body != null) {
+                final MediaType contentType = body.contentType();
+                if (contentType != null && request.header("Content-Type") == null) {
+                    connection.setRequestProperty("Content-Type", contentType.toString());
+                }
+                connection.setDoOutput(true);
+                // The body is streamed to the connection, a body of unknown length such as a
+                // streaming issuance is sent in chunks
+                final long contentLength = body.contentLength();
+                if (contentLength >= 0) connection.setFixedLengthStreamingMode(contentLength);
+                else connection.setChunkedStreamingMode(0);
+                try (BufferedSink sink = Okio.buffer(Okio.sink(connection.getOutputStream()))) {
+                    body.writeTo(sink);
+                }
+            }
+
+            final int code = connection.getResponseCode();
+            return new Response.Builder().request(request).protocol(Protocol.HTTP_1_1)
+                                         .code(code)
+                                         .message(connection.getResponseMessage() == null ? "" :
+                                                  connection.getResponseMessage())
+                                         .headers(readHeaders(connection))
+                                         .body(readBody(connection, code))
+                                         .sentRequestAtMillis(sentAt)
+                                         .receivedResponseAtMillis(System.currentTimeMillis())
+                                         .build();
+        } catch (IOException e) {
+            connection.disconnect();
+            throw e;
+        }
+    }
+
+    private static Headers readHeaders(HttpURLConnection connection) {
+        final Headers.Builder builder = new Headers.Builder();
+        for (Map.Entry<String, List<String>> header : connection.getHeaderFields().entrySet()) {
+            // The status line is returned with a null name
+            if (header.getKey() == null) continue;
+            for (String value : header.getValue()) builder.add(header.getKey(), value);
+        }
+        return builder.build();
+    }
+
+    private static ResponseBody readBody(HttpURLConnection connection, int code)
+            throws IOException {
+        final String contentType = connection.getContentType();
+        final MediaType mediaType = contentType == null ? null : MediaType.parse(contentType);
+        final InputStream input =
+                code >= 400 ? connection.getErrorStream() : connection.getInputStream();
+        if (input == null) return ResponseBody.create(mediaType, new byte[0]);
+        // Closing the body returns the connection to the keep-alive cache of the platform
+        return ResponseBody.create(mediaType, connection.getContentLength(),
+                                   Okio.buffer(Okio.source(input)));
+    }
+}
@@ -2,6 +2,7 @@ package com.bitmark.apiservice.utils;
 
 import com.bitmark.apiservice.configuration.GlobalConfiguration;
 import com.bitmark.apiservice.configuration.Network;
+import com.bitmark.apiservice.utils.cache.LruCache;
 import com.bitmark.apiservice.utils.error.InvalidAddressException;
 import com.bitmark.apiservice.utils.error.InvalidNetworkException;
 import com.bitmark.cryptography.crypto.Ed25519;
@@ -27,11 +28,81 @@ public class Address implements Validation {
 
     public static final int CHECKSUM_LENGTH = 4;
 
+    public static final int PARSE_CACHE_SIZE = 10000;
+
+    // The key variant, the public key and the checksum
+    private static final int ADDRESS_LENGTH = 1 + Ed25519.PUBLIC_KEY_LENGTH + CHECKSUM_LENGTH;
+
+    /**
+     * The result of {@link #validate(String, Network)}, the reasons follow the order of the checks
+     */
+    public enum Validity {
+        VALID, INVALID_ENCODING, INVALID_LENGTH, INVALID_CHECKSUM, INVALID_KEY_VARIANT,
+        INVALID_NETWORK
+    }
+
+    private static final Validity[] VALIDITIES = Validity.values();
+
+    private static final class Scratch {
+
+        private final byte[] address = new byte[ADDRESS_LENGTH];
+
+        private final byte[] checksum = new byte[Sha3256.HASH_BYTE_LENGTH];
+    }
+
+    private static final ThreadLocal<Scratch> SCRATCHES = new ThreadLocal<Scratch>() {
+        @Override
+        protected Scratch initialValue() {
+            return new Scratch();
+        }
+    };
+
+    // The same account number is decoded and verified only once. The cached addresses are
+    // never handed out, the key bytes of an address are able to be changed by its holder
+    private static final LruCache<String, Address> PARSE_CACHE = new LruCache<>(PARSE_CACHE_SIZE);
+
     private PublicKey key;
 
     private Network network;
 
+    // The encoded account number, it is computed once
+    private transient String address;
+
+    /**
+     * Parse the account number of the network of the global configuration
+     */
     public static Address fromAccountNumber(String accountNumber) {
+        return fromAccountNumber(accountNumber, GlobalConfiguration.network());
+    }
+
+    /**
+     * @param network The network the account number must belong to, null to accept either
+     *                network such as for the account numbers of the records from the server
+     */
+    public static Address fromAccountNumber(String accountNumber, Network network) {
+        final Address cached = accountNumber == null ? null : PARSE_CACHE.get(accountNumber);
+        if (cached != null) {
+            // The cache is shared by the callers of every network
+            if (network != null && network != cached.network)
+                throw new InvalidNetworkException(cached.network.value());
+            return cached.copy();
+        }
+
+        final Address address = parse(accountNumber, network);
+        // The encoding is canonical so the account number is the encoded address
+        address.address = accountNumber;
+        PARSE_CACHE.put(accountNumber, address);
+        return address.copy();
+    }
+
+    /**
+     * @return The cache of the parsed account numbers, with the hit and miss counters
+     */
+    public static LruCache<String, Address> getParseCache() {
+        return PARSE_CACHE;
+    }
+
+    private static Address parse(String accountNumber, Network expectedNetwork) {
         final byte[] addressBytes = BASE_58.decode(accountNumber);
         int keyVariant = VarInt.readUnsignedVarInt(addressBytes);
         final int keyVariantLength = ArrayUtil.toByteArray(keyVariant).length;
@@ -62,7 +133,8 @@ public class Address implements Validation {
         // Verify network value
         int networkValue = (keyVariant >> 1) & 0x01;
         final Network network = Network.valueOf(networkValue);
-        if (!Network.isValid(networkValue) || GlobalConfiguration.network() != network)
+        if (!Network.isValid(networkValue) ||
+            (expectedNetwork != null && expectedNetwork != network))
             throw new InvalidNetworkException(networkValue);
 
         final byte[] publicKey = ArrayUtil.slice(addressBytes, keyVariantLength,
@@ -72,12 +144,86 @@ public class Address implements Validation {
     }
 
     public static boolean isValidAccountNumber(String accountNumber) {
-        try {
-            fromAccountNumber(accountNumber);
-            return true;
-        } catch (Throwable e) {
-            return false;
+        return validate(accountNumber) == Validity.VALID;
+    }
+
+    /**
+     * @param network The network the account number must belong to, null to accept either
+     *                network
+     */
+    public static boolean isValidAccountNumber(String accountNumber, Network network) {
+        return validate(accountNumber, network) == Validity.VALID;
+    }
+
+    /**
+     * Validate the account number against the network of the global configuration, it is of an
+     * invalid network if the global configuration is not initialized
+     */
+    public static Validity validate(String accountNumber) {
+        if (GlobalConfiguration.isInitialized())
+            return validate(accountNumber, GlobalConfiguration.network());
+        final Validity validity = validate(accountNumber, null);
+        return validity == Validity.VALID ? Validity.INVALID_NETWORK : validity;
+    }
+
+    /**
+     * Run the same checks as {@link #fromAccountNumber(String, Network)} but report the result
+     * instead of throwing, the buffers of the calling thread are reused so nothing is allocated.
+     * It is meant for validating many account numbers, such as the ones of an import.
+     *
+     * @param network The network the account number must belong to, null to accept either
+     *                network
+     */
+    public static Validity validate(String accountNumber, Network network) {
+        final int result = decode(accountNumber, null, 0);
+        if (result < 0) return VALIDITIES[-result - 1];
+        if (network != null && network.value() != result) return Validity.INVALID_NETWORK;
+        return Validity.VALID;
+    }
+
+    /**
+     * Decode the account number without checking its network, nothing is thrown or allocated
+     *
+     * @param keyOutput The public key is copied into it if the account number is valid, it is
+     *                  able to be null
+     * @return The network value of the valid account number, or {@code -(1 + ordinal)} of the
+     * {@link Validity} it is invalid for
+     */
+    static int decode(String accountNumber, byte[] keyOutput, int keyOffset) {
+        final Scratch scratch = SCRATCHES.get();
+        final byte[] addressBytes = scratch.address;
+        final int length = BASE_58.decode(accountNumber, addressBytes);
+        if (length == -1) return invalid(Validity.INVALID_ENCODING);
+        if (length != ADDRESS_LENGTH) return invalid(Validity.INVALID_LENGTH);
+
+        // The same as the varint reading, only the low bits of the first byte are used but a
+        // too long varint is rejected
+        int continuationBytes = 0;
+        while (continuationBytes < ADDRESS_LENGTH &&
+               (addressBytes[continuationBytes] & 0x80) != 0) {
+            continuationBytes++;
+        }
+        if (continuationBytes > 5) return invalid(Validity.INVALID_KEY_VARIANT);
+        final int keyVariant = addressBytes[0];
+
+        final int checksumOffset = ADDRESS_LENGTH - CHECKSUM_LENGTH;
+        Sha3256.hash(addressBytes, 0, checksumOffset, scratch.checksum, 0);
+        for (int i = 0; i < CHECKSUM_LENGTH; i++) {
+            if (scratch.checksum[i] != addressBytes[checksumOffset + i])
+                return invalid(Validity.INVALID_CHECKSUM);
         }
+
+        if ((keyVariant & 0x01) != PUBLIC_KEY.value())
+            return invalid(Validity.INVALID_KEY_VARIANT);
+
+        if (keyOutput != null) {
+            System.arraycopy(addressBytes, 1, keyOutput, keyOffset, Ed25519.PUBLIC_KEY_LENGTH);
+        }
+        return (keyVariant >> 1) & 0x01;
+    }
+
+    private static int invalid(Validity validity) {
+        return -1 - validity.ordinal();
     }
 
     public static Address getDefault(PublicKey key, Network network) throws ValidateException {
@@ -95,6 +241,12 @@ public class Address implements Validation {
         this.network = network;
     }
 
+    private Address copy() {
+        final Address copy = new Address(PublicKey.from(key.toBytes().clone()), network);
+        copy.address = address;
+        return copy;
+    }
+
     public byte[] pack() {
         return ArrayUtil.concat(getPrefix(), key.toBytes());
     }
@@ -113,6 +265,11 @@ public class Address implements Validation {
     }
 
     public String getAddress() {
+        if (address == null) address = encode();
+        return address;
+    }
+
+    private String encode() {
         final byte[] keyVariantVarInt = getPrefix();
         final byte[] publicKeyBytes = key.toBytes();
         final byte[] preChecksum = ArrayUtil.concat(keyVariantVarInt, publicKeyBytes);
@@ -0,0 +1,245 @@
+package com.bitmark.apiservice.utils;
+
+import com.bitmark.apiservice.configuration.Network;
+import com.bitmark.cryptography.crypto.Ed25519;
+import com.bitmark.cryptography.crypto.Sha3256;
+import com.bitmark.cryptography.crypto.key.PublicKey;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+
+import static com.bitmark.cryptography.crypto.encoder.Base58.BASE_58;
+import static com.bitmark.cryptography.utils.Validator.checkValid;
+
+/**
+ * Compact set of the addresses of one network, such as the owners a sync job is interested
+ * in. The public keys are packed in one off-heap buffer of 32 bytes per entry and indexed by
+ * an open addressing table of ints, so an entry costs about 40 bytes and no object. The
+ * account numbers are not stored, they are encoded on demand with the prefix of the network.
+ * <p>
+ * Adding is not thread safe, the lookups are able to run in parallel once the table is filled.
+ *
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class AddressTable {
+
+    private static final int KEY_LENGTH = Ed25519.PUBLIC_KEY_LENGTH;
+
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private static final ThreadLocal<byte[]> KEY_SCRATCHES = new ThreadLocal<byte[]>() {
+        @Override
+        protected byte[] initialValue() {
+            return new byte[KEY_LENGTH];
+        }
+    };
+
+    private final Network network;
+
+    private final byte[] prefix;
+
+    private ByteBuffer keys;
+
+    // Hold the entry index plus one, zero marks the empty slots
+    private int[] slots;
+
+    private int mask;
+
+    private int size;
+
+    public AddressTable(Network network) {
+        this(network, 16);
+    }
+
+    /**
+     * @param expectedSize The number of addresses are expected, the table grows beyond it if
+     *                     needed
+     */
+    public AddressTable(Network network, int expectedSize) {
+        checkValid(() -> network != null, "Network is required");
+        checkValid(() -> expectedSize >= 0, "Invalid expected size. Must not be negative");
+        this.network = network;
+        this.prefix = Address.getDefault(PublicKey.from(new byte[KEY_LENGTH]), network)
+                             .getPrefix();
+        this.keys = ByteBuffer.allocateDirect(Math.max(expectedSize, 16) * KEY_LENGTH);
+        allocateSlots(capacityFor(expectedSize));
+    }
+
+    public Network getNetwork() {
+        return network;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return true if the address was not in the table
+     */
+    public boolean add(Address address) {
+        checkValid(() -> address != null && address.isValid(), "Invalid address");
+        checkValid(() -> address.getNetwork() == network, "Invalid network of the address");
+        return add(address.getKey().toBytes(), 0);
+    }
+
+    /**
+     * @param key    Hold the public key of the address at the offset
+     * @param offset The offset of the key
+     * @return true if the address was not in the table
+     */
+    public boolean add(byte[] key, int offset) {
+        checkKey(key, offset);
+        int slot = hash(key, offset) & mask;
+        while (slots[slot] != 0) {
+            if (equals(slots[slot] - 1, key, offset)) return false;
+            slot = (slot + 1) & mask;
+        }
+
+        if (keys.capacity() < (size + 1) * KEY_LENGTH) growKeys();
+        // Through Buffer since ByteBuffer overrides position and limit from Java 9, the
+        // overrides do not exist on Java 8
+        ((Buffer) keys).position(size * KEY_LENGTH);
+        keys.put(key, offset, KEY_LENGTH);
+        slots[slot] = ++size;
+        if (size > slots.length * LOAD_FACTOR) resize();
+        return true;
+    }
+
+    /**
+     * Add the valid entries of the network, the entries of the other networks are skipped
+     *
+     * @return The number of addresses were not in the table
+     */
+    public int addAll(BulkAddressDecoder.Result result) {
+        checkValid(() -> result != null, "Result is required");
+        final byte[] key = new byte[KEY_LENGTH];
+        int count = 0;
+        for (int i = 0, resultSize = result.size(); i < resultSize; i++) {
+            if (result.getNetwork(i) != network) continue;
+            result.copyKey(i, key, 0);
+            if (add(key, 0)) count++;
+        }
+        return count;
+    }
+
+    public boolean contains(Address address) {
+        return address != null && address.isValid() && address.getNetwork() == network &&
+               indexOf(address.getKey().toBytes(), 0) != -1;
+    }
+
+    /**
+     * Look up an account number without making any {@link Address}, an invalid account number
+     * or one of another network is not contained
+     */
+    public boolean contains(String accountNumber) {
+        final byte[] key = KEY_SCRATCHES.get();
+        return Address.decode(accountNumber, key, 0) == network.value() && indexOf(key, 0) != -1;
+    }
+
+    /**
+     * @return The index of the entry holding the key, or -1 if the key is not in the table
+     */
+    public int indexOf(byte[] key, int offset) {
+        checkKey(key, offset);
+        int slot = hash(key, offset) & mask;
+        while (slots[slot] != 0) {
+            if (equals(slots[slot] - 1, key, offset)) return slots[slot] - 1;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    public void copyKey(int index, byte[] output, int offset) {
+        checkIndex(index);
+        checkKey(output, offset);
+        final int position = index * KEY_LENGTH;
+        for (int i = 0; i < KEY_LENGTH; i++) output[offset + i] = keys.get(position + i);
+    }
+
+    /**
+     * Encode the account number of the entry, it is not kept so each call encodes it again
+     */
+    public String getAccountNumber(int index) {
+        checkIndex(index);
+        final byte[] address = new byte[prefix.length + KEY_LENGTH + Address.CHECKSUM_LENGTH];
+        System.arraycopy(prefix, 0, address, 0, prefix.length);
+        copyKey(index, address, prefix.length);
+        final int checksumOffset = prefix.length + KEY_LENGTH;
+        final byte[] checksum = Sha3256.hash(address, 0, checksumOffset);
+        System.arraycopy(checksum, 0, address, checksumOffset, Address.CHECKSUM_LENGTH);
+        return BASE_58.encode(address);
+    }
+
+    public Address getAddress(int index) {
+        final byte[] key = new byte[KEY_LENGTH];
+        copyKey(index, key, 0);
+        return Address.getDefault(PublicKey.from(key), network);
+    }
+
+    private boolean equals(int index, byte[] key, int offset) {
+        final int position = index * KEY_LENGTH;
+        for (int i = 0; i < KEY_LENGTH; i++) {
+            if (keys.get(position + i) != key[offset + i]) return false;
+        }
+        return true;
+    }
+
+    private int hash(int index) {
+        final int position = index * KEY_LENGTH;
+        return mix(keys.get(position) & 0xFF | (keys.get(position + 1) & 0xFF) << 8 |
+                   (keys.get(position + 2) & 0xFF) << 16 | (keys.get(position + 3) & 0xFF) << 24);
+    }
+
+    private static int hash(byte[] key, int offset) {
+        return mix(key[offset] & 0xFF | (key[offset + 1] & 0xFF) << 8 |
+                   (key[offset + 2] & 0xFF) << 16 | (key[offset + 3] & 0xFF) << 24);
+    }
+
+    private static int mix(int value) {
+        // The keys are close to random already, the bits are spread in case they are not
+        final int hash = value * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private void growKeys() {
+        final ByteBuffer newKeys = ByteBuffer.allocateDirect(keys.capacity() * 2);
+        ((Buffer) keys).position(0).limit(size * KEY_LENGTH);
+        newKeys.put(keys);
+        keys = newKeys;
+    }
+
+    private void resize() {
+        allocateSlots(slots.length * 2);
+        for (int index = 0; index < size; index++) {
+            int slot = hash(index) & mask;
+            while (slots[slot] != 0) slot = (slot + 1) & mask;
+            slots[slot] = index + 1;
+        }
+    }
+
+    private void allocateSlots(int capacity) {
+        slots = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = 16;
+        while (capacity * LOAD_FACTOR < expectedSize) capacity <<= 1;
+        return capacity;
+    }
+
+    private void checkIndex(int index) {
+        checkValid(() -> index >= 0 && index < size, "Invalid index");
+    }
+
+    private static void checkKey(byte[] key, int offset) {
+        checkValid(() -> key != null && offset >= 0 && key.length - offset >= KEY_LENGTH,
+                   "Invalid key");
+    }
+}
@@ -220,10 +220,9 @@ public class ArrayUtil {
     }
 
     public static boolean isDuplicate(int[] input) {
-        final List<Integer> nonDupArray = new ArrayList<>();
+        final IntHashSet items = new IntHashSet(input.length);
         for (int item : input) {
-            if (nonDupArray.contains(item)) return true;
-            else nonDupArray.add(item);
+            if (!items.add(item)) return true;
         }
         return false;
     }
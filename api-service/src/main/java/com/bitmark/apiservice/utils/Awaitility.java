@@ -4,7 +4,10 @@ import com.bitmark.apiservice.utils.callback.Call;
 import com.bitmark.apiservice.utils.callback.Callable1;
 import com.bitmark.apiservice.utils.callback.Callback1;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * @author Hieu Pham
@@ -30,27 +33,31 @@ public class Awaitility {
      * @throws Throwable Error is thrown from task
      */
     public static <T> T await(Call<T> call) throws Throwable {
-        final Data<T> data = new Data<>();
-        final Data<Throwable> error = new Data<>();
+        return await(call, TIMEOUT);
+    }
+
+    /**
+     * Same as {@link #await(Call)} but give up after the specified timeout. The caller thread is
+     * parked while waiting and can be interrupted.
+     *
+     * @param call    The interface for invoke the task
+     * @param timeout The maximum time to wait in milliseconds
+     * @param <T>     Type of data is return from task
+     * @return Value return from the task
+     * @throws Throwable Error is thrown from task, {@link TimeoutException} if the timeout
+     *                   elapsed or {@link InterruptedException} if the caller is interrupted
+     */
+    public static <T> T await(Call<T> call, long timeout) throws Throwable {
+        final Result<T> result = new Result<>();
         final BackgroundJobScheduler scheduler = BackgroundJobScheduler.getInstance();
         scheduler.execute(() -> {
             try {
-                data.setValue(call.call());
+                result.success(call.call());
             } catch (Throwable throwable) {
-                error.setValue(throwable);
+                result.error(throwable);
             }
         });
-
-        final long timeStart = System.currentTimeMillis();
-        while (data.getValue() == null && error.getValue() == null) {
-            long timeSpent = System.currentTimeMillis() - timeStart;
-            if (timeSpent >= TIMEOUT)
-                throw new TimeoutException("Timeout after " + timeSpent + " ms");
-        }
-
-        T value = data.getValue();
-        if (value != null) return value;
-        else throw error.getValue();
+        return result.get(timeout);
     }
 
     public static <T> T await(Callable1<T> callable) throws Throwable {
@@ -58,32 +65,50 @@ public class Awaitility {
     }
 
     public static <T> T await(Callable1<T> callable, Long timeout) throws Throwable {
-        Data<T> data = new Data<>();
-        Data<Throwable> error = new Data<>();
+        final Result<T> result = new Result<>();
 
         callable.call(new Callback1<T>() {
             @Override
             public void onSuccess(T value) {
-                data.setValue(value);
+                result.success(value);
             }
 
             @Override
             public void onError(Throwable throwable) {
-                error.setValue(throwable);
+                result.error(throwable);
             }
         });
 
-        long timeStart = System.currentTimeMillis();
-        timeout = timeout == null ? TIMEOUT : timeout;
-        while (data.getValue() == null && error.getValue() == null) {
-            long timeSpent = System.currentTimeMillis() - timeStart;
-            if (timeSpent >= timeout)
-                throw new TimeoutException("Timeout after " + timeSpent + " ms");
+        return result.get(timeout == null ? TIMEOUT : timeout);
+    }
+
+    private static final class Result<T> {
+
+        private final CountDownLatch latch = new CountDownLatch(1);
+
+        private final AtomicBoolean completed = new AtomicBoolean(false);
+
+        private volatile T value;
+
+        private volatile Throwable error;
+
+        void success(T value) {
+            if (!completed.compareAndSet(false, true)) return;
+            this.value = value;
+            latch.countDown();
         }
 
-        T value = data.getValue();
-        if (value != null) return value;
-        else throw error.getValue();
+        void error(Throwable error) {
+            if (!completed.compareAndSet(false, true)) return;
+            this.error = error;
+            latch.countDown();
+        }
 
+        T get(long timeout) throws Throwable {
+            if (!latch.await(timeout, TimeUnit.MILLISECONDS))
+                throw new TimeoutException("Timeout after " + timeout + " ms");
+            if (error != null) throw error;
+            return value;
+        }
     }
 }
@@ -0,0 +1,152 @@
+package com.bitmark.apiservice.utils;
+
+import com.bitmark.cryptography.error.ValidateException;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+import static com.bitmark.cryptography.crypto.encoder.Hex.HEX;
+import static com.bitmark.cryptography.utils.Validator.checkValid;
+
+/**
+ * Growable buffer the params are packed into before signing. The fields are written in place,
+ * so packing a record costs one buffer and the final copy instead of one array per field as
+ * with {@link BinaryPacking}. The output is byte for byte the same as the one of
+ * {@link BinaryPacking}.
+ * <p>
+ * A packer is not thread safe, it is able to be reused by {@link #truncate(int)} when only the
+ * trailing fields differ.
+ *
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class BinaryPacker {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private static final int DEFAULT_CAPACITY = 128;
+
+    private ByteBuffer buffer;
+
+    public BinaryPacker() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public BinaryPacker(int capacity) {
+        checkValid(() -> capacity > 0, "Invalid capacity. Must be greater than 0");
+        buffer = ByteBuffer.allocate(capacity);
+    }
+
+    public BinaryPacker writeByte(int value) {
+        ensureRemaining(1);
+        buffer.put((byte) value);
+        return this;
+    }
+
+    /**
+     * Write the value as an unsigned varint, a negative value takes 5 bytes
+     */
+    public BinaryPacker writeUnsignedVarInt(int value) {
+        ensureRemaining(5);
+        while ((value & 0xFFFFFF80) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) (value & 0x7F));
+        return this;
+    }
+
+    /**
+     * Write the bytes as is, without the length
+     */
+    public BinaryPacker writeBytes(byte[] bytes) {
+        ensureRemaining(bytes.length);
+        buffer.put(bytes);
+        return this;
+    }
+
+    /**
+     * Write the length of the bytes as an unsigned varint, followed by the bytes
+     */
+    public BinaryPacker writeField(byte[] bytes) {
+        return writeUnsignedVarInt(bytes.length).writeBytes(bytes);
+    }
+
+    /**
+     * Write the UTF-8 bytes of the value as a field, an empty value is written as an empty
+     * field
+     */
+    public BinaryPacker writeField(String value) {
+        return writeField(value.isEmpty() ? new byte[0] : value.getBytes(UTF_8));
+    }
+
+    /**
+     * Decode the hex value straight into the buffer as a field, an odd length value is padded
+     * with a leading zero
+     */
+    public BinaryPacker writeHexField(String hex) {
+        // Checked before writing so an invalid value does not leave a partial field
+        final int byteLength = HEX.decodedLength(hex);
+        if (byteLength == -1) throw new ValidateException.InvalidHex();
+        final int length = hex.length();
+        writeUnsignedVarInt(byteLength);
+        ensureRemaining(byteLength);
+        int i = 0;
+        if (length % 2 == 1) buffer.put((byte) toDigit(hex.charAt(i++)));
+        while (i < length) {
+            buffer.put((byte) ((toDigit(hex.charAt(i)) << 4) | toDigit(hex.charAt(i + 1))));
+            i += 2;
+        }
+        return this;
+    }
+
+    /**
+     * Write the packed address as a field, the same as {@code writeField(address.pack())}
+     */
+    public BinaryPacker writeField(Address address) {
+        final byte[] prefix = address.getPrefix();
+        final byte[] key = address.getKey().toBytes();
+        return writeUnsignedVarInt(prefix.length + key.length).writeBytes(prefix).writeBytes(key);
+    }
+
+    /**
+     * @return The number of bytes have been written
+     */
+    public int size() {
+        return buffer.position();
+    }
+
+    /**
+     * Drop the bytes written after the given size, so the ones before are able to be reused
+     */
+    public BinaryPacker truncate(int size) {
+        checkValid(() -> size >= 0 && size <= buffer.position(), "Invalid size");
+        ((Buffer) buffer).position(size);
+        return this;
+    }
+
+    public byte[] toByteArray() {
+        final byte[] bytes = new byte[buffer.position()];
+        System.arraycopy(buffer.array(), 0, bytes, 0, bytes.length);
+        return bytes;
+    }
+
+    private void ensureRemaining(int length) {
+        if (buffer.remaining() >= length) return;
+        int capacity = buffer.capacity() << 1;
+        while (capacity - buffer.position() < length) capacity <<= 1;
+        final ByteBuffer newBuffer = ByteBuffer.allocate(capacity);
+        // Through Buffer since ByteBuffer overrides flip from Java 9, it does not exist on Java 8
+        ((Buffer) buffer).flip();
+        newBuffer.put(buffer);
+        buffer = newBuffer;
+    }
+
+    // Only called on the value checked by Hex#decodedLength
+    private static int toDigit(char ch) {
+        if (ch <= '9') return ch - '0';
+        return (ch | 0x20) - 'a' + 10;
+    }
+}
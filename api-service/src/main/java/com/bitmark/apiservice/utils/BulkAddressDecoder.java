@@ -0,0 +1,289 @@
+package com.bitmark.apiservice.utils;
+
+import com.bitmark.apiservice.configuration.Network;
+import com.bitmark.cryptography.crypto.Ed25519;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Stream;
+
+import static com.bitmark.cryptography.utils.Validator.checkValid;
+
+/**
+ * Validate and decode a large number of account numbers in parallel. The account numbers are
+ * split into chunks which are decoded on a {@link ForkJoinPool}, each chunk keeps its public
+ * keys in one array and the state of every entry in one byte, so no {@link Address} or key
+ * object is made per entry. The invalid entries are reported with the reason they are
+ * rejected for.
+ *
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class BulkAddressDecoder {
+
+    public static final int DEFAULT_CHUNK_SIZE = 8192;
+
+    private static final int KEY_LENGTH = Ed25519.PUBLIC_KEY_LENGTH;
+
+    // The state of an entry holds the network value in the highest bit, the ordinal of its
+    // validity in the others
+    private static final int NETWORK_BIT = 0x80;
+
+    private static final Address.Validity[] VALIDITIES = Address.Validity.values();
+
+    public static final class InvalidEntry {
+
+        private final int index;
+
+        private final String accountNumber;
+
+        private final Address.Validity validity;
+
+        private InvalidEntry(int index, String accountNumber, Address.Validity validity) {
+            this.index = index;
+            this.accountNumber = accountNumber;
+            this.validity = validity;
+        }
+
+        /**
+         * @return The position of the entry in the input, the line index for a file
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        public String getAccountNumber() {
+            return accountNumber;
+        }
+
+        public Address.Validity getValidity() {
+            return validity;
+        }
+    }
+
+    public static final class Result {
+
+        private final Chunk[] chunks;
+
+        private final int chunkSize;
+
+        private final int size;
+
+        private final int validCount;
+
+        private final List<InvalidEntry> invalidEntries;
+
+        private Result(Chunk[] chunks, int chunkSize) {
+            this.chunks = chunks;
+            this.chunkSize = chunkSize;
+            int size = 0;
+            int validCount = 0;
+            final List<InvalidEntry> invalidEntries = new ArrayList<>();
+            for (Chunk chunk : chunks) {
+                size += chunk.size;
+                validCount += chunk.size - chunk.invalidEntries.size();
+                invalidEntries.addAll(chunk.invalidEntries);
+            }
+            this.size = size;
+            this.validCount = validCount;
+            this.invalidEntries = Collections.unmodifiableList(invalidEntries);
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public int getValidCount() {
+            return validCount;
+        }
+
+        /**
+         * @return The invalid entries in the order of the input
+         */
+        public List<InvalidEntry> getInvalidEntries() {
+            return invalidEntries;
+        }
+
+        public boolean isValid(int index) {
+            return getValidity(index) == Address.Validity.VALID;
+        }
+
+        public Address.Validity getValidity(int index) {
+            return VALIDITIES[state(index) & ~NETWORK_BIT];
+        }
+
+        /**
+         * @return The network of the entry, or null if it is invalid
+         */
+        public Network getNetwork(int index) {
+            final int state = state(index);
+            if (VALIDITIES[state & ~NETWORK_BIT] != Address.Validity.VALID) return null;
+            return Network.valueOf((state & NETWORK_BIT) == 0 ? 0 : 1);
+        }
+
+        /**
+         * Copy the public key of a valid entry into the output
+         */
+        public void copyKey(int index, byte[] output, int offset) {
+            checkValid(() -> isValid(index), "The entry is invalid");
+            checkValid(() -> output != null && offset >= 0 &&
+                             output.length - offset >= KEY_LENGTH, "Invalid output");
+            final Chunk chunk = chunks[index / chunkSize];
+            System.arraycopy(chunk.keys, (index % chunkSize) * KEY_LENGTH, output, offset,
+                             KEY_LENGTH);
+        }
+
+        public byte[] getKey(int index) {
+            final byte[] key = new byte[KEY_LENGTH];
+            copyKey(index, key, 0);
+            return key;
+        }
+
+        private int state(int index) {
+            checkValid(() -> index >= 0 && index < size, "Invalid index");
+            return chunks[index / chunkSize].states[index % chunkSize] & 0xFF;
+        }
+    }
+
+    private final Network network;
+
+    private final ForkJoinPool pool;
+
+    private final int chunkSize;
+
+    /**
+     * @param network The network the account numbers must belong to, null to accept both
+     */
+    public BulkAddressDecoder(Network network) {
+        this(network, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param network   The network the account numbers must belong to, null to accept both
+     * @param pool      The threads the chunks are decoded on
+     * @param chunkSize The number of entries are decoded by one task
+     */
+    public BulkAddressDecoder(Network network, ForkJoinPool pool, int chunkSize) {
+        checkValid(() -> pool != null, "Pool is required");
+        checkValid(() -> chunkSize > 0, "Invalid chunk size. Must be greater than 0");
+        this.network = network;
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    public Result decode(List<String> accountNumbers) {
+        checkValid(() -> accountNumbers != null, "Account numbers are required");
+        return decode(accountNumbers.iterator());
+    }
+
+    /**
+     * The stream is consumed on the calling thread while the chunks read so far are decoded
+     */
+    public Result decode(Stream<String> accountNumbers) {
+        checkValid(() -> accountNumbers != null, "Account numbers are required");
+        return decode(accountNumbers.iterator());
+    }
+
+    /**
+     * The iterator is consumed on the calling thread while the chunks read so far are decoded.
+     * The reading waits for the oldest chunk once about twice the parallelism of the pool are
+     * waiting to be decoded, so a large input is never held as a whole
+     */
+    public Result decode(Iterator<String> accountNumbers) {
+        checkValid(() -> accountNumbers != null, "Account numbers are required");
+        final int maxPendingChunks = 2 * pool.getParallelism();
+        final List<Chunk> chunks = new ArrayList<>();
+        final Deque<ForkJoinTask<Chunk>> pendingChunks = new ArrayDeque<>();
+        int offset = 0;
+        while (accountNumbers.hasNext()) {
+            final String[] entries = new String[chunkSize];
+            int count = 0;
+            while (count < chunkSize && accountNumbers.hasNext()) {
+                entries[count++] = accountNumbers.next();
+            }
+            pendingChunks.add(pool.submit(new Chunk(entries, count, offset)));
+            offset += count;
+            if (pendingChunks.size() > maxPendingChunks) {
+                chunks.add(pendingChunks.poll().join());
+            }
+        }
+        while (!pendingChunks.isEmpty()) chunks.add(pendingChunks.poll().join());
+        return new Result(chunks.toArray(new Chunk[0]), chunkSize);
+    }
+
+    /**
+     * Decode a file of one account number per line, the surrounding spaces are ignored. The
+     * file is read as it is decoded like {@link #decode(Iterator)}
+     */
+    public Result decode(File file) throws IOException {
+        checkValid(() -> file != null, "File is required");
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new FileInputStream(file), "UTF-8"))) {
+            return decode(reader.lines().map(String::trim).iterator());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private final class Chunk implements Callable<Chunk> {
+
+        private final int size;
+
+        private final int offset;
+
+        private final byte[] keys;
+
+        private final byte[] states;
+
+        private final List<InvalidEntry> invalidEntries = new ArrayList<>();
+
+        // Released once decoded, only the invalid entries are kept
+        private String[] entries;
+
+        private Chunk(String[] entries, int size, int offset) {
+            this.entries = entries;
+            this.size = size;
+            this.offset = offset;
+            this.keys = new byte[size * KEY_LENGTH];
+            this.states = new byte[size];
+        }
+
+        @Override
+        public Chunk call() {
+            for (int i = 0; i < size; i++) {
+                final String accountNumber = entries[i];
+                final int result = Address.decode(accountNumber, keys, i * KEY_LENGTH);
+                Address.Validity validity = result < 0 ? VALIDITIES[-result - 1] :
+                                            Address.Validity.VALID;
+                if (validity == Address.Validity.VALID && network != null &&
+                    network.value() != result) {
+                    validity = Address.Validity.INVALID_NETWORK;
+                }
+
+                if (validity == Address.Validity.VALID) {
+                    states[i] = (byte) (result == 0 ? validity.ordinal() :
+                                        validity.ordinal() | NETWORK_BIT);
+                } else {
+                    states[i] = (byte) validity.ordinal();
+                    invalidEntries.add(new InvalidEntry(offset + i, accountNumber, validity));
+                }
+            }
+            entries = null;
+            return this;
+        }
+    }
+}
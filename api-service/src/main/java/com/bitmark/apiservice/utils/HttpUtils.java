@@ -1,6 +1,5 @@
 package com.bitmark.apiservice.utils;
 
-import com.google.gson.GsonBuilder;
 import com.google.gson.reflect.TypeToken;
 
 import java.lang.reflect.Type;
@@ -15,6 +14,9 @@ import java.util.Map;
 
 public class HttpUtils {
 
+    private static final Type MAP_TYPE = new TypeToken<Map<String, Object>>() {
+    }.getType();
+
     private HttpUtils() {
     }
 
@@ -54,12 +56,10 @@ public class HttpUtils {
 
     public static <T> String mapToJson(Map<String, T> map) {
         if (map == null) return "{}";
-        return new GsonBuilder().enableComplexMapKeySerialization().create().toJson(map, Map.class);
+        return JsonUtil.getGson().toJson(map, Map.class);
     }
 
     public static Map<String, Object> jsonToMap(String json) {
-        Type type = new TypeToken<Map<String, Object>>() {
-        }.getType();
-        return new GsonBuilder().create().fromJson(json, type);
+        return JsonUtil.getGson().fromJson(json, MAP_TYPE);
     }
 }
@@ -0,0 +1,114 @@
+package com.bitmark.apiservice.utils;
+
+import java.util.Arrays;
+
+import static com.bitmark.cryptography.utils.Validator.checkValid;
+
+/**
+ * Set of primitive ints with open addressing and linear probing, the values are not boxed so
+ * checking the uniqueness of many nonces only costs one array. The zero value is tracked apart
+ * since it marks the empty slots.
+ *
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class IntHashSet {
+
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private int[] slots;
+
+    private int mask;
+
+    private int size;
+
+    private boolean containsZero;
+
+    public IntHashSet() {
+        this(16);
+    }
+
+    /**
+     * @param expectedSize The number of values are expected, the set grows beyond it if needed
+     */
+    public IntHashSet(int expectedSize) {
+        checkValid(() -> expectedSize >= 0, "Invalid expected size. Must not be negative");
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * @return true if the value was not in the set
+     */
+    public boolean add(int value) {
+        if (value == 0) {
+            if (containsZero) return false;
+            containsZero = true;
+            size++;
+            return true;
+        }
+
+        int index = hash(value) & mask;
+        while (slots[index] != 0) {
+            if (slots[index] == value) return false;
+            index = (index + 1) & mask;
+        }
+        slots[index] = value;
+        size++;
+        if (size > slots.length * LOAD_FACTOR) resize();
+        return true;
+    }
+
+    public boolean contains(int value) {
+        if (value == 0) return containsZero;
+
+        int index = hash(value) & mask;
+        while (slots[index] != 0) {
+            if (slots[index] == value) return true;
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(slots, 0);
+        containsZero = false;
+        size = 0;
+    }
+
+    private void resize() {
+        final int[] oldSlots = slots;
+        allocate(oldSlots.length * 2);
+        for (int value : oldSlots) {
+            if (value == 0) continue;
+            int index = hash(value) & mask;
+            while (slots[index] != 0) index = (index + 1) & mask;
+            slots[index] = value;
+        }
+    }
+
+    private void allocate(int capacity) {
+        slots = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = 16;
+        while (capacity * LOAD_FACTOR < expectedSize) capacity <<= 1;
+        return capacity;
+    }
+
+    private static int hash(int value) {
+        // Spread the bits so the sequential values do not cluster
+        final int hash = value * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
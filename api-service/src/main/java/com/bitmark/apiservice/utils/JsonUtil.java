@@ -0,0 +1,76 @@
+package com.bitmark.apiservice.utils;
+
+import com.bitmark.apiservice.response.ResponseTypeAdapterFactory;
+import com.bitmark.apiservice.utils.record.RecordTypeAdapterFactory;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Holder of the shared {@link Gson} instance. Gson caches the adapter of every type it has
+ * resolved so it must be reused instead of being created per call. The record and response
+ * classes are decoded by the hand-written adapters from {@link RecordTypeAdapterFactory} and
+ * {@link ResponseTypeAdapterFactory} rather than the reflective one.
+ *
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class JsonUtil {
+
+    private static final Gson GSON = new GsonBuilder().enableComplexMapKeySerialization()
+                                                      .registerTypeAdapterFactory(
+                                                              new RecordTypeAdapterFactory())
+                                                      .registerTypeAdapterFactory(
+                                                              new ResponseTypeAdapterFactory())
+                                                      .create();
+
+    private JsonUtil() {
+    }
+
+    public static Gson getGson() {
+        return GSON;
+    }
+
+    // The helpers below read a value the same way the reflective adapter does, a json null
+    // leaves the field at its default value.
+
+    public static String nextString(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        return reader.nextString();
+    }
+
+    public static long nextLong(JsonReader reader, long defaultValue) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return defaultValue;
+        }
+        return reader.nextLong();
+    }
+
+    public static int nextInt(JsonReader reader, int defaultValue) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return defaultValue;
+        }
+        return reader.nextInt();
+    }
+
+    public static boolean nextBoolean(JsonReader reader, boolean defaultValue)
+            throws IOException {
+        final JsonToken token = reader.peek();
+        if (token == JsonToken.NULL) {
+            reader.nextNull();
+            return defaultValue;
+        } else if (token == JsonToken.STRING) {
+            return Boolean.parseBoolean(reader.nextString());
+        }
+        return reader.nextBoolean();
+    }
+}
@@ -0,0 +1,144 @@
+package com.bitmark.apiservice.utils.cache;
+
+import com.bitmark.apiservice.utils.callback.Callback1;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.bitmark.cryptography.utils.Validator.checkValid;
+
+/**
+ * Remember the assets which already have bitmarks, so the issuances of these assets do not
+ * need to look up whether their first bitmark is the genesis one. Once an asset has a bitmark
+ * it never becomes empty again, the state is cached for good. The lookups of the same asset
+ * which are in flight at once share one request, the empty state is never cached so the
+ * following issuances look it up again until the first one is made.
+ *
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class GenesisStateCache {
+
+    public interface Loader {
+
+        /**
+         * @param assetId  The asset is looked up
+         * @param callback Receive true if the asset has any bitmark, including the pending ones
+         */
+        void hasBitmarks(String assetId, Callback1<Boolean> callback);
+    }
+
+    private final LruCache<String, Boolean> issuedAssets;
+
+    private final Loader loader;
+
+    private final Map<String, List<Callback1<Boolean>>> lookups = new HashMap<>();
+
+    private long lookupCount;
+
+    private long coalescedCount;
+
+    /**
+     * @param maxSize The maximum number of the assets are remembered
+     * @param loader  Look up the state of an asset which is not cached
+     */
+    public GenesisStateCache(int maxSize, Loader loader) {
+        checkValid(() -> loader != null, "Loader is required");
+        this.issuedAssets = new LruCache<>(maxSize);
+        this.loader = loader;
+    }
+
+    /**
+     * @param assetId  The asset is going to be issued
+     * @param callback Receive true if the issuance must contain the genesis bitmark of the
+     *                 asset
+     */
+    public void containsGenesisBitmark(String assetId, Callback1<Boolean> callback) {
+        if (issuedAssets.get(assetId) != null) {
+            callback.onSuccess(false);
+            return;
+        }
+
+        final List<Callback1<Boolean>> callbacks;
+        synchronized (lookups) {
+            final List<Callback1<Boolean>> joinedCallbacks = lookups.get(assetId);
+            if (joinedCallbacks != null) {
+                joinedCallbacks.add(callback);
+                coalescedCount++;
+                return;
+            }
+            callbacks = new ArrayList<>();
+            callbacks.add(callback);
+            lookups.put(assetId, callbacks);
+            lookupCount++;
+        }
+
+        final Callback1<Boolean> lookupCallback = new Callback1<Boolean>() {
+            @Override
+            public void onSuccess(Boolean hasBitmarks) {
+                if (hasBitmarks) markIssued(assetId);
+                for (Callback1<Boolean> callback : complete(assetId, callbacks)) {
+                    callback.onSuccess(!hasBitmarks);
+                }
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                for (Callback1<Boolean> callback : complete(assetId, callbacks)) {
+                    callback.onError(throwable);
+                }
+            }
+        };
+        try {
+            loader.hasBitmarks(assetId, lookupCallback);
+        } catch (Throwable e) {
+            // The lookup would be kept in flight for good and the next ones would join it
+            lookupCallback.onError(e);
+        }
+    }
+
+    /**
+     * Remember the asset has bitmarks, such as when an issuance of it has been accepted
+     */
+    public void markIssued(String assetId) {
+        issuedAssets.put(assetId, Boolean.TRUE);
+    }
+
+    public LruCache<String, Boolean> getCache() {
+        return issuedAssets;
+    }
+
+    /**
+     * @return The number of lookups have been sent
+     */
+    public long getLookupCount() {
+        synchronized (lookups) {
+            return lookupCount;
+        }
+    }
+
+    /**
+     * @return The number of lookups have shared an identical one which was in flight
+     */
+    public long getCoalescedCount() {
+        synchronized (lookups) {
+            return coalescedCount;
+        }
+    }
+
+    /**
+     * @return The callbacks of the lookup, empty if it has been completed already, such as the
+     * loader reports an error after a callback of the success threw
+     */
+    private List<Callback1<Boolean>> complete(String assetId,
+                                              List<Callback1<Boolean>> callbacks) {
+        synchronized (lookups) {
+            return lookups.remove(assetId, callbacks) ? callbacks :
+                   Collections.<Callback1<Boolean>>emptyList();
+        }
+    }
+}
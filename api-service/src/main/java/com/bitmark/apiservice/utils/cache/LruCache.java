@@ -0,0 +1,86 @@
+package com.bitmark.apiservice.utils.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.bitmark.cryptography.utils.Validator.checkValid;
+
+/**
+ * Thread safe in-memory cache which evicts the least recently used entry when the size
+ * exceeds the limit, with hit/miss/eviction counters.
+ *
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class LruCache<K, V> {
+
+    private final int maxSize;
+
+    private final LinkedHashMap<K, V> map;
+
+    private long hitCount;
+
+    private long missCount;
+
+    private long evictionCount;
+
+    public LruCache(int maxSize) {
+        checkValid(() -> maxSize > 0, "Invalid max size. Must be greater than 0");
+        this.maxSize = maxSize;
+        this.map = new LinkedHashMap<K, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                if (size() <= LruCache.this.maxSize) return false;
+                evictionCount++;
+                return true;
+            }
+        };
+    }
+
+    public synchronized V get(K key) {
+        final V value = map.get(key);
+        if (value == null) missCount++;
+        else hitCount++;
+        return value;
+    }
+
+    public synchronized void put(K key, V value) {
+        if (key == null || value == null) return;
+        map.put(key, value);
+    }
+
+    public synchronized void remove(K key) {
+        map.remove(key);
+    }
+
+    public synchronized void clear() {
+        map.clear();
+    }
+
+    public synchronized int size() {
+        return map.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "LruCache{size=" + map.size() + ", maxSize=" + maxSize + ", hitCount=" +
+               hitCount + ", missCount=" + missCount + ", evictionCount=" + evictionCount + "}";
+    }
+}
@@ -0,0 +1,85 @@
+package com.bitmark.apiservice.utils.cache;
+
+import com.bitmark.apiservice.utils.record.AssetRecord;
+import com.bitmark.apiservice.utils.record.Head;
+import com.bitmark.apiservice.utils.record.TransactionRecord;
+
+import java.util.List;
+
+/**
+ * Cache of the records which never change anymore so they can be served without hitting the
+ * network. Only these states are stored:
+ * <ul>
+ * <li>A confirmed asset.</li>
+ * <li>A confirmed transaction which is no longer the head of its bitmark. The head transaction
+ * is moved by the next transfer so it is not cached.</li>
+ * </ul>
+ * Bitmarks are not cached, a settled bitmark is still able to be transferred.
+ * <p>
+ * A cached record is handed to every caller as the same instance, the records are immutable so
+ * none of them is able to change it for the others.
+ *
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class RecordCache {
+
+    private final LruCache<String, AssetRecord> assets;
+
+    private final LruCache<String, TransactionRecord> transactions;
+
+    public RecordCache(int maxSize) {
+        this.assets = new LruCache<>(maxSize);
+        this.transactions = new LruCache<>(maxSize);
+    }
+
+    public AssetRecord getAsset(String assetId) {
+        return assetId == null ? null : assets.get(assetId);
+    }
+
+    public void putAsset(AssetRecord asset) {
+        if (isImmutable(asset)) assets.put(asset.getId(), asset);
+    }
+
+    public void putAssets(List<AssetRecord> assets) {
+        if (assets == null) return;
+        for (AssetRecord asset : assets) putAsset(asset);
+    }
+
+    public TransactionRecord getTransaction(String txId) {
+        return txId == null ? null : transactions.get(txId);
+    }
+
+    public void putTransaction(TransactionRecord transaction) {
+        if (isImmutable(transaction)) transactions.put(transaction.getId(), transaction);
+    }
+
+    public void putTransactions(List<TransactionRecord> transactions) {
+        if (transactions == null) return;
+        for (TransactionRecord transaction : transactions) putTransaction(transaction);
+    }
+
+    public LruCache<String, AssetRecord> getAssetCache() {
+        return assets;
+    }
+
+    public LruCache<String, TransactionRecord> getTransactionCache() {
+        return transactions;
+    }
+
+    public void clear() {
+        assets.clear();
+        transactions.clear();
+    }
+
+    private static boolean isImmutable(AssetRecord asset) {
+        return asset != null && asset.getStatus() == AssetRecord.Status.CONFIRMED;
+    }
+
+    private static boolean isImmutable(TransactionRecord transaction) {
+        return transaction != null &&
+               transaction.getStatus() == TransactionRecord.Status.CONFIRMED &&
+               transaction.getHead() != null && transaction.getHead() != Head.HEAD;
+    }
+}
@@ -0,0 +1,16 @@
+package com.bitmark.apiservice.utils.error;
+
+/**
+ * Thrown without sending the request when the circuit breaker is open since the server has
+ * been failing.
+ *
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class CircuitBreakerOpenException extends NetworkException {
+
+    public CircuitBreakerOpenException() {
+        super("The server is unavailable, the request is rejected by the circuit breaker");
+    }
+}
@@ -1,6 +1,6 @@
 package com.bitmark.apiservice.utils.error;
 
-import com.google.gson.GsonBuilder;
+import com.bitmark.apiservice.utils.JsonUtil;
 import com.google.gson.JsonSyntaxException;
 import com.google.gson.reflect.TypeToken;
 
@@ -55,7 +55,7 @@ public class HttpException extends RuntimeException {
 
     private Map<String, String> deserialize(String response) {
         try {
-            return new GsonBuilder().create().fromJson(response, new TypeToken<Map<String,
+            return JsonUtil.getGson().fromJson(response, new TypeToken<Map<String,
                     String>>() {
             }.getType());
         } catch (JsonSyntaxException e) {
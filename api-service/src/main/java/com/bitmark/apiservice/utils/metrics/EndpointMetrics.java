@@ -0,0 +1,100 @@
+package com.bitmark.apiservice.utils.metrics;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Aggregated metrics of the requests to an endpoint.
+ *
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class EndpointMetrics {
+
+    private final String endpoint;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final AtomicLong errorCount = new AtomicLong();
+
+    private final AtomicLong bytesSent = new AtomicLong();
+
+    private final AtomicLong bytesReceived = new AtomicLong();
+
+    private final LatencyHistogram totalTime = new LatencyHistogram();
+
+    private final LatencyHistogram queueTime = new LatencyHistogram();
+
+    private final LatencyHistogram networkTime = new LatencyHistogram();
+
+    private final LatencyHistogram decodeTime = new LatencyHistogram();
+
+    EndpointMetrics(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    void onStart() {
+        inFlight.incrementAndGet();
+    }
+
+    void onEnd(RequestMetrics metrics) {
+        inFlight.decrementAndGet();
+        if (!metrics.isSuccessful()) errorCount.incrementAndGet();
+        bytesSent.addAndGet(metrics.getBytesSent());
+        bytesReceived.addAndGet(metrics.getBytesReceived());
+        totalTime.record(metrics.getTotalTime());
+        queueTime.record(metrics.getQueueTime());
+        networkTime.record(metrics.getNetworkTime());
+        decodeTime.record(metrics.getDecodeTime());
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public long getRequestCount() {
+        return totalTime.getCount();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getErrorCount() {
+        return errorCount.get();
+    }
+
+    public long getBytesSent() {
+        return bytesSent.get();
+    }
+
+    public long getBytesReceived() {
+        return bytesReceived.get();
+    }
+
+    public LatencyHistogram getTotalTime() {
+        return totalTime;
+    }
+
+    public LatencyHistogram getQueueTime() {
+        return queueTime;
+    }
+
+    public LatencyHistogram getNetworkTime() {
+        return networkTime;
+    }
+
+    public LatencyHistogram getDecodeTime() {
+        return decodeTime;
+    }
+
+    @Override
+    public String toString() {
+        return "EndpointMetrics{endpoint='" + endpoint + "', requestCount=" + getRequestCount() +
+               ", inFlight=" + inFlight + ", errorCount=" + errorCount + ", bytesSent=" +
+               bytesSent + ", bytesReceived=" + bytesReceived + ", totalTime=" + totalTime +
+               ", queueTime=" + queueTime + ", networkTime=" + networkTime + ", decodeTime=" +
+               decodeTime + "}";
+    }
+}
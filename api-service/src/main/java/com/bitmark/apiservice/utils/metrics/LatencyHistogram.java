@@ -0,0 +1,70 @@
+package com.bitmark.apiservice.utils.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock free histogram of durations in nanoseconds. The values are counted in the power of two
+ * buckets, so a percentile is reported as the upper bound of its bucket which is at most twice
+ * the real value.
+ *
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class LatencyHistogram {
+
+    private static final int BUCKET_COUNT = 64;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+    private final AtomicLong count = new AtomicLong();
+
+    private final AtomicLong sum = new AtomicLong();
+
+    private final AtomicLong max = new AtomicLong();
+
+    public void record(long nanos) {
+        if (nanos < 0) nanos = 0;
+        buckets.incrementAndGet(BUCKET_COUNT - Long.numberOfLeadingZeros(nanos));
+        count.incrementAndGet();
+        sum.addAndGet(nanos);
+        long current = max.get();
+        while (nanos > current && !max.compareAndSet(current, nanos)) current = max.get();
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    public long getMean() {
+        final long count = this.count.get();
+        return count == 0 ? 0 : sum.get() / count;
+    }
+
+    /**
+     * @param percentile The percentile in range 0..100
+     * @return The upper bound of the bucket contains the percentile, in nanoseconds
+     */
+    public long getPercentile(double percentile) {
+        final long count = this.count.get();
+        if (count == 0) return 0;
+        final long rank = Math.max(1, (long) Math.ceil(count * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) return Math.min(max.get(), i == 0 ? 0 : (1L << i) - 1);
+        }
+        return max.get();
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyHistogram{count=" + getCount() + ", mean=" + getMean() + ", p50=" +
+               getPercentile(50) + ", p99=" + getPercentile(99) + ", max=" + getMax() + "}";
+    }
+}
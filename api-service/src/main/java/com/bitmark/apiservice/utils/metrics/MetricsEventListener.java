@@ -0,0 +1,58 @@
+package com.bitmark.apiservice.utils.metrics;
+
+import okhttp3.*;
+
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+
+/**
+ * Record the network events of the calls into the {@link RequestMetrics} attached to their
+ * requests, the calls without metrics are not listened.
+ *
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class MetricsEventListener extends EventListener {
+
+    public static final EventListener.Factory FACTORY = call -> {
+        final RequestMetrics metrics = RequestMetrics.of(call.request());
+        return metrics == null ? EventListener.NONE : new MetricsEventListener(metrics);
+    };
+
+    private final RequestMetrics metrics;
+
+    private MetricsEventListener(RequestMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void callStart(Call call) {
+        metrics.onAttempt();
+    }
+
+    @Override
+    public void dnsStart(Call call, String domainName) {
+        metrics.onNetworkStart();
+    }
+
+    @Override
+    public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+        metrics.onNetworkStart();
+    }
+
+    @Override
+    public void connectionAcquired(Call call, Connection connection) {
+        metrics.onNetworkStart();
+    }
+
+    @Override
+    public void requestBodyEnd(Call call, long byteCount) {
+        metrics.onRequestBody(byteCount);
+    }
+
+    @Override
+    public void responseBodyEnd(Call call, long byteCount) {
+        metrics.onResponseBody(byteCount);
+    }
+}
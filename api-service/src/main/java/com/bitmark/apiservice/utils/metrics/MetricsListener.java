@@ -0,0 +1,37 @@
+package com.bitmark.apiservice.utils.metrics;
+
+/**
+ * Receive the metrics of every request sent by the api service. The callbacks are invoked on
+ * the network threads so they must return quickly.
+ *
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public interface MetricsListener {
+
+    /**
+     * The default listener, nothing is measured when it is used
+     */
+    MetricsListener NONE = new MetricsListener() {
+        @Override
+        public void onRequestStart(String endpoint) {
+        }
+
+        @Override
+        public void onRequestEnd(RequestMetrics metrics) {
+        }
+    };
+
+    /**
+     * @param endpoint The method and the path template of the request, such as
+     *                 {@code GET /v3/bitmarks/{id}}
+     */
+    void onRequestStart(String endpoint);
+
+    /**
+     * Invoked once the request is completed and its response has been delivered, including
+     * the retries of the request.
+     */
+    void onRequestEnd(RequestMetrics metrics);
+}
@@ -0,0 +1,47 @@
+package com.bitmark.apiservice.utils.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Listener which aggregates the metrics of the requests per endpoint.
+ *
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class MetricsRecorder implements MetricsListener {
+
+    private final ConcurrentMap<String, EndpointMetrics> endpoints = new ConcurrentHashMap<>();
+
+    @Override
+    public void onRequestStart(String endpoint) {
+        getOrCreate(endpoint).onStart();
+    }
+
+    @Override
+    public void onRequestEnd(RequestMetrics metrics) {
+        getOrCreate(metrics.getEndpoint()).onEnd(metrics);
+    }
+
+    /**
+     * @return The metrics of the endpoint, null if no request has been sent to it
+     */
+    public EndpointMetrics getEndpoint(String endpoint) {
+        return endpoints.get(endpoint);
+    }
+
+    public List<EndpointMetrics> getEndpoints() {
+        return new ArrayList<>(endpoints.values());
+    }
+
+    private EndpointMetrics getOrCreate(String endpoint) {
+        final EndpointMetrics metrics = endpoints.get(endpoint);
+        if (metrics != null) return metrics;
+        final EndpointMetrics newMetrics = new EndpointMetrics(endpoint);
+        final EndpointMetrics existing = endpoints.putIfAbsent(endpoint, newMetrics);
+        return existing == null ? newMetrics : existing;
+    }
+}
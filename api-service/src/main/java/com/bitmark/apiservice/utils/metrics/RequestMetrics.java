@@ -0,0 +1,150 @@
+package com.bitmark.apiservice.utils.metrics;
+
+import okhttp3.Request;
+
+import java.util.List;
+
+/**
+ * Timing and size of a request, it is attached to the request as the tag and filled along the
+ * way:
+ * <ul>
+ * <li>Queue time: from the request is made until it starts connecting, including the time it
+ * waits for the rate limit, the concurrency limit and the dispatcher.</li>
+ * <li>Network time: from connecting until the response headers are received.</li>
+ * <li>Decode time: the time the converters spend on reading and decoding the body.</li>
+ * <li>Total time: from the request is made until the response headers are received.</li>
+ * </ul>
+ * The timing of the last attempt is reported if the request has been retried.
+ *
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public final class RequestMetrics {
+
+    private final String endpoint;
+
+    private final long startNanos = System.nanoTime();
+
+    private volatile long networkStartNanos;
+
+    private volatile long responseNanos;
+
+    private volatile long decodeNanos;
+
+    private volatile long bytesSent;
+
+    private volatile long bytesReceived;
+
+    private volatile int attempts;
+
+    private volatile int statusCode;
+
+    public RequestMetrics(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * @return The metrics attached to the request, null if the request is not measured
+     */
+    public static RequestMetrics of(Request request) {
+        final Object tag = request.tag();
+        return tag instanceof RequestMetrics ? (RequestMetrics) tag : null;
+    }
+
+    /**
+     * @return The endpoint of the request, the path segments after the resource name are
+     * replaced by {@code {id}}, such as {@code GET /v3/bitmarks/{id}}
+     */
+    public static String getEndpoint(Request request) {
+        final List<String> segments = request.url().encodedPathSegments();
+        final StringBuilder builder = new StringBuilder(request.method()).append(' ');
+        for (int i = 0; i < segments.size(); i++) {
+            builder.append('/').append(i < 2 ? segments.get(i) : "{id}");
+        }
+        return builder.toString();
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public long getQueueTime() {
+        return networkStartNanos == 0 ? 0 : networkStartNanos - startNanos;
+    }
+
+    public long getNetworkTime() {
+        return networkStartNanos == 0 || responseNanos == 0 ? 0 :
+               responseNanos - networkStartNanos;
+    }
+
+    public long getDecodeTime() {
+        return decodeNanos;
+    }
+
+    public long getTotalTime() {
+        return responseNanos == 0 ? 0 : responseNanos - startNanos;
+    }
+
+    public long getBytesSent() {
+        return bytesSent;
+    }
+
+    public long getBytesReceived() {
+        return bytesReceived;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * @return The status code of the response, 0 if no response has been received
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public boolean isSuccessful() {
+        return statusCode >= 200 && statusCode < 300;
+    }
+
+    // Recorded by the http client and the converters
+
+    public void onCompleted(int statusCode) {
+        this.statusCode = statusCode;
+        this.responseNanos = System.nanoTime();
+    }
+
+    public void addDecodeTime(long nanos) {
+        decodeNanos += nanos;
+    }
+
+    void onAttempt() {
+        attempts++;
+        networkStartNanos = 0;
+        bytesSent = 0;
+        bytesReceived = 0;
+    }
+
+    void onNetworkStart() {
+        if (networkStartNanos == 0) networkStartNanos = System.nanoTime();
+    }
+
+    void onRequestBody(long bytes) {
+        bytesSent = bytes;
+    }
+
+    void onResponseBody(long bytes) {
+        bytesReceived = bytes;
+    }
+
+    @Override
+    public String toString() {
+        return "RequestMetrics{endpoint='" + endpoint + "', statusCode=" + statusCode +
+               ", attempts=" + attempts + ", queueTime=" + getQueueTime() + ", networkTime=" +
+               getNetworkTime() + ", decodeTime=" + decodeNanos + ", totalTime=" +
+               getTotalTime() + ", bytesSent=" + bytesSent + ", bytesReceived=" + bytesReceived +
+               "}";
+    }
+}
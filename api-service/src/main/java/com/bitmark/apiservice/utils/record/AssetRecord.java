@@ -1,10 +1,20 @@
 package com.bitmark.apiservice.utils.record;
 
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
+import java.io.IOException;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
 
+import static com.bitmark.apiservice.utils.JsonUtil.nextLong;
+import static com.bitmark.apiservice.utils.JsonUtil.nextString;
+
 /**
  * @author Hieu Pham
  * @since 9/16/18
@@ -115,4 +125,87 @@ public class AssetRecord implements Record {
         return Objects.hash(blockNumber, blockOffset, createdAt, expiredAt, fingerprint, id,
                 metadata, name, offset, registrant, status);
     }
+
+    static final class Adapter extends TypeAdapter<AssetRecord> {
+
+        private final TypeAdapter<Map<String, String>> metadataAdapter;
+
+        private final TypeAdapter<Status> statusAdapter;
+
+        Adapter(Gson gson) {
+            metadataAdapter = gson.getAdapter(new TypeToken<Map<String, String>>() {
+            });
+            statusAdapter = gson.getAdapter(Status.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, AssetRecord value) throws IOException {
+            out.beginObject();
+            out.name("block_number").value(value.blockNumber);
+            out.name("block_offset").value(value.blockOffset);
+            out.name("created_at").value(value.createdAt);
+            out.name("expired_at").value(value.expiredAt);
+            out.name("fingerprint").value(value.fingerprint);
+            out.name("id").value(value.id);
+            out.name("metadata");
+            metadataAdapter.write(out, value.metadata);
+            out.name("name").value(value.name);
+            out.name("offset").value(value.offset);
+            out.name("registrant").value(value.registrant);
+            out.name("status");
+            statusAdapter.write(out, value.status);
+            out.endObject();
+        }
+
+        @Override
+        public AssetRecord read(JsonReader in) throws IOException {
+            final AssetRecord asset = new AssetRecord();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "block_number":
+                        asset.blockNumber = nextLong(in, asset.blockNumber);
+                        break;
+                    case "block_offset":
+                        asset.blockOffset = nextLong(in, asset.blockOffset);
+                        break;
+                    case "created_at":
+                        asset.createdAt = nextString(in);
+                        break;
+                    case "expired_at":
+                        asset.expiredAt = nextString(in);
+                        break;
+                    case "fingerprint":
+                        asset.fingerprint = nextString(in);
+                        break;
+                    case "id":
+                        asset.id = nextString(in);
+                        break;
+                    case "metadata":
+                        // The records are shared by the cache, so none of their state is
+                        // able to be changed by a caller
+                        final Map<String, String> metadata = metadataAdapter.read(in);
+                        asset.metadata =
+                                metadata == null ? null : Collections.unmodifiableMap(metadata);
+                        break;
+                    case "name":
+                        asset.name = nextString(in);
+                        break;
+                    case "offset":
+                        asset.offset = nextLong(in, asset.offset);
+                        break;
+                    case "registrant":
+                        asset.registrant = nextString(in);
+                        break;
+                    case "status":
+                        asset.status = statusAdapter.read(in);
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return asset;
+        }
+    }
 }
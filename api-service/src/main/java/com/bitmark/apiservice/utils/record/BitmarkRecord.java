@@ -1,9 +1,17 @@
 package com.bitmark.apiservice.utils.record;
 
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
+import java.io.IOException;
 import java.util.Objects;
 
+import static com.bitmark.apiservice.utils.JsonUtil.nextLong;
+import static com.bitmark.apiservice.utils.JsonUtil.nextString;
+
 /**
  * @author Hieu Pham
  * @since 9/16/18
@@ -140,4 +148,94 @@ public class BitmarkRecord implements Record {
         return Objects.hash(assetId, blockNumber, confirmedAt, createdAt, head, headId, id,
                             issuedAt, issuer, offset, owner, status, offer);
     }
+
+    static final class Adapter extends TypeAdapter<BitmarkRecord> {
+
+        private final TypeAdapter<Head> headAdapter;
+
+        private final TypeAdapter<Status> statusAdapter;
+
+        private final TypeAdapter<OfferRecord> offerAdapter;
+
+        Adapter(Gson gson) {
+            headAdapter = gson.getAdapter(Head.class);
+            statusAdapter = gson.getAdapter(Status.class);
+            offerAdapter = gson.getAdapter(OfferRecord.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, BitmarkRecord value) throws IOException {
+            out.beginObject();
+            out.name("asset_id").value(value.assetId);
+            out.name("block_number").value(value.blockNumber);
+            out.name("confirmed_at").value(value.confirmedAt);
+            out.name("created_at").value(value.createdAt);
+            out.name("head");
+            headAdapter.write(out, value.head);
+            out.name("head_id").value(value.headId);
+            out.name("id").value(value.id);
+            out.name("issued_at").value(value.issuedAt);
+            out.name("issuer").value(value.issuer);
+            out.name("offset").value(value.offset);
+            out.name("owner").value(value.owner);
+            out.name("status");
+            statusAdapter.write(out, value.status);
+            out.name("offer");
+            offerAdapter.write(out, value.offer);
+            out.endObject();
+        }
+
+        @Override
+        public BitmarkRecord read(JsonReader in) throws IOException {
+            final BitmarkRecord bitmark = new BitmarkRecord();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "asset_id":
+                        bitmark.assetId = nextString(in);
+                        break;
+                    case "block_number":
+                        bitmark.blockNumber = nextLong(in, bitmark.blockNumber);
+                        break;
+                    case "confirmed_at":
+                        bitmark.confirmedAt = nextString(in);
+                        break;
+                    case "created_at":
+                        bitmark.createdAt = nextString(in);
+                        break;
+                    case "head":
+                        bitmark.head = headAdapter.read(in);
+                        break;
+                    case "head_id":
+                        bitmark.headId = nextString(in);
+                        break;
+                    case "id":
+                        bitmark.id = nextString(in);
+                        break;
+                    case "issued_at":
+                        bitmark.issuedAt = nextString(in);
+                        break;
+                    case "issuer":
+                        bitmark.issuer = nextString(in);
+                        break;
+                    case "offset":
+                        bitmark.offset = nextLong(in, bitmark.offset);
+                        break;
+                    case "owner":
+                        bitmark.owner = nextString(in);
+                        break;
+                    case "status":
+                        bitmark.status = statusAdapter.read(in);
+                        break;
+                    case "offer":
+                        bitmark.offer = offerAdapter.read(in);
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return bitmark;
+        }
+    }
 }
@@ -1,10 +1,19 @@
 package com.bitmark.apiservice.utils.record;
 
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
+import java.io.IOException;
 import java.util.Map;
 import java.util.Objects;
 
+import static com.bitmark.apiservice.utils.JsonUtil.nextBoolean;
+import static com.bitmark.apiservice.utils.JsonUtil.nextString;
+
 /**
  * @author Hieu Pham
  * @since 9/17/18
@@ -124,5 +133,103 @@ public class OfferRecord implements Record {
         public int hashCode() {
             return Objects.hash(link, owner, signature);
         }
+
+        static final class Adapter extends TypeAdapter<Record> {
+
+            @Override
+            public void write(JsonWriter out, Record value) throws IOException {
+                out.beginObject();
+                out.name("link").value(value.link);
+                out.name("owner").value(value.owner);
+                out.name("signature").value(value.signature);
+                out.endObject();
+            }
+
+            @Override
+            public Record read(JsonReader in) throws IOException {
+                final Record record = new Record();
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "link":
+                            record.link = nextString(in);
+                            break;
+                        case "owner":
+                            record.owner = nextString(in);
+                            break;
+                        case "signature":
+                            record.signature = nextString(in);
+                            break;
+                        default:
+                            in.skipValue();
+                    }
+                }
+                in.endObject();
+                return record;
+            }
+        }
+    }
+
+    static final class Adapter extends TypeAdapter<OfferRecord> {
+
+        private final TypeAdapter<Record> recordAdapter;
+
+        private final TypeAdapter<Map<String, Object>> extraInfoAdapter;
+
+        Adapter(Gson gson) {
+            recordAdapter = gson.getAdapter(Record.class);
+            extraInfoAdapter = gson.getAdapter(new TypeToken<Map<String, Object>>() {
+            });
+        }
+
+        @Override
+        public void write(JsonWriter out, OfferRecord value) throws IOException {
+            out.beginObject();
+            out.name("id").value(value.id);
+            out.name("from").value(value.from);
+            out.name("to").value(value.to);
+            out.name("record");
+            recordAdapter.write(out, value.record);
+            out.name("extra_info");
+            extraInfoAdapter.write(out, value.extraInfo);
+            out.name("created_at").value(value.createdAt);
+            out.name("open").value(value.isOpen);
+            out.endObject();
+        }
+
+        @Override
+        public OfferRecord read(JsonReader in) throws IOException {
+            final OfferRecord offer = new OfferRecord();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id":
+                        offer.id = nextString(in);
+                        break;
+                    case "from":
+                        offer.from = nextString(in);
+                        break;
+                    case "to":
+                        offer.to = nextString(in);
+                        break;
+                    case "record":
+                        offer.record = recordAdapter.read(in);
+                        break;
+                    case "extra_info":
+                        offer.extraInfo = extraInfoAdapter.read(in);
+                        break;
+                    case "created_at":
+                        offer.createdAt = nextString(in);
+                        break;
+                    case "open":
+                        offer.isOpen = nextBoolean(in, offer.isOpen);
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return offer;
+        }
     }
 }
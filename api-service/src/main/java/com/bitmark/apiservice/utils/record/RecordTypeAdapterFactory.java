@@ -0,0 +1,41 @@
+package com.bitmark.apiservice.utils.record;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+
+/**
+ * Provide the hand-written {@link TypeAdapter} of the record classes so they are not decoded by
+ * the reflective adapter of Gson.
+ *
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class RecordTypeAdapterFactory implements TypeAdapterFactory {
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        final Class<? super T> rawType = type.getRawType();
+        if (rawType == BitmarkRecord.class) {
+            return (TypeAdapter<T>) new BitmarkRecord.Adapter(gson).nullSafe();
+        } else if (rawType == TransactionRecord.class) {
+            return (TypeAdapter<T>) new TransactionRecord.Adapter(gson).nullSafe();
+        } else if (rawType == AssetRecord.class) {
+            return (TypeAdapter<T>) new AssetRecord.Adapter(gson).nullSafe();
+        } else if (rawType == OfferRecord.class) {
+            return (TypeAdapter<T>) new OfferRecord.Adapter(gson).nullSafe();
+        } else if (rawType == OfferRecord.Record.class) {
+            return (TypeAdapter<T>) new OfferRecord.Record.Adapter().nullSafe();
+        } else if (rawType == ShareRecord.class) {
+            return (TypeAdapter<T>) new ShareRecord.Adapter().nullSafe();
+        } else if (rawType == ShareGrantRecord.class) {
+            return (TypeAdapter<T>) new ShareGrantRecord.Adapter(gson).nullSafe();
+        } else if (rawType == ShareGrantRecord.Record.class) {
+            return (TypeAdapter<T>) new ShareGrantRecord.Record.Adapter().nullSafe();
+        }
+        return null;
+    }
+}
@@ -1,13 +1,23 @@
 package com.bitmark.apiservice.utils.record;
 
+import com.bitmark.apiservice.configuration.GlobalConfiguration;
+import com.bitmark.apiservice.configuration.Network;
 import com.bitmark.apiservice.utils.Address;
 import com.bitmark.apiservice.utils.Validation;
 import com.bitmark.cryptography.crypto.Sha3256;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
+import java.io.IOException;
 import java.util.Map;
 import java.util.Objects;
 
+import static com.bitmark.apiservice.utils.JsonUtil.nextInt;
+import static com.bitmark.apiservice.utils.JsonUtil.nextString;
 import static com.bitmark.cryptography.crypto.encoder.Hex.HEX;
 
 /**
@@ -116,14 +126,26 @@ public class ShareGrantRecord implements Record, Validation {
         return Objects.hash(id, shareId, from, to, status, txId, record, extraInfo, createdAt);
     }
 
+    /**
+     * The account numbers are checked against the network of the global configuration, the
+     * grant is invalid if the global configuration is not initialized
+     */
     @Override
     public boolean isValid() {
-        return id != null && !id.isEmpty() && shareId != null &&
-               !shareId.isEmpty() &&
-               HEX.decode(shareId).length == Sha3256.HASH_BYTE_LENGTH &&
-               Address.isValidAccountNumber(from) && Address.isValidAccountNumber(to) &&
-               record != null && record.isValid() && createdAt != null && !createdAt.isEmpty() &&
-               status != null && !status.isEmpty();
+        return GlobalConfiguration.isInitialized() && isValid(GlobalConfiguration.network());
+    }
+
+    /**
+     * @param network The network of the client the grant was listed by, the account numbers
+     *                must be of it
+     */
+    public boolean isValid(Network network) {
+        return network != null && id != null && !id.isEmpty() &&
+               HEX.decodedLength(shareId) == Sha3256.HASH_BYTE_LENGTH &&
+               Address.isValidAccountNumber(from, network) &&
+               Address.isValidAccountNumber(to, network) &&
+               record != null && record.isValid(network) && createdAt != null &&
+               !createdAt.isEmpty() && status != null && !status.isEmpty();
     }
 
     public static class Record implements Validation {
@@ -161,13 +183,136 @@ public class ShareGrantRecord implements Record, Validation {
 
         @Override
         public boolean isValid() {
-            return quantity >= 0 &&
+            return GlobalConfiguration.isInitialized() && isValid(GlobalConfiguration.network());
+        }
+
+        public boolean isValid(Network network) {
+            return network != null && quantity >= 0 &&
                    owner != null &&
-                   !owner.isEmpty() && Address.isValidAccountNumber(owner) && receiver != null &&
-                   !receiver.isEmpty() && Address.isValidAccountNumber(receiver) &&
+                   !owner.isEmpty() && Address.isValidAccountNumber(owner, network) &&
+                   receiver != null && !receiver.isEmpty() &&
+                   Address.isValidAccountNumber(receiver, network) &&
                    beforeBlock > 0 &&
                    signature != null && !signature.isEmpty();
         }
+
+        static final class Adapter extends TypeAdapter<Record> {
+
+            @Override
+            public void write(JsonWriter out, Record value) throws IOException {
+                out.beginObject();
+                out.name("shareId").value(value.shareId);
+                out.name("quantity").value(value.quantity);
+                out.name("owner").value(value.owner);
+                out.name("recipient").value(value.receiver);
+                out.name("beforeBlock").value(value.beforeBlock);
+                out.name("signature").value(value.signature);
+                out.endObject();
+            }
+
+            @Override
+            public Record read(JsonReader in) throws IOException {
+                final Record record = new Record();
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "shareId":
+                            record.shareId = nextString(in);
+                            break;
+                        case "quantity":
+                            record.quantity = nextInt(in, record.quantity);
+                            break;
+                        case "owner":
+                            record.owner = nextString(in);
+                            break;
+                        case "recipient":
+                            record.receiver = nextString(in);
+                            break;
+                        case "beforeBlock":
+                            record.beforeBlock = nextInt(in, record.beforeBlock);
+                            break;
+                        case "signature":
+                            record.signature = nextString(in);
+                            break;
+                        default:
+                            in.skipValue();
+                    }
+                }
+                in.endObject();
+                return record;
+            }
+        }
+    }
+
+    static final class Adapter extends TypeAdapter<ShareGrantRecord> {
+
+        private final TypeAdapter<Record> recordAdapter;
+
+        private final TypeAdapter<Map<String, Object>> extraInfoAdapter;
+
+        Adapter(Gson gson) {
+            recordAdapter = gson.getAdapter(Record.class);
+            extraInfoAdapter = gson.getAdapter(new TypeToken<Map<String, Object>>() {
+            });
+        }
+
+        @Override
+        public void write(JsonWriter out, ShareGrantRecord value) throws IOException {
+            out.beginObject();
+            out.name("id").value(value.id);
+            out.name("share_id").value(value.shareId);
+            out.name("from").value(value.from);
+            out.name("to").value(value.to);
+            out.name("status").value(value.status);
+            out.name("txId").value(value.txId);
+            out.name("record");
+            recordAdapter.write(out, value.record);
+            out.name("extra_info");
+            extraInfoAdapter.write(out, value.extraInfo);
+            out.name("created_at").value(value.createdAt);
+            out.endObject();
+        }
+
+        @Override
+        public ShareGrantRecord read(JsonReader in) throws IOException {
+            final ShareGrantRecord grant = new ShareGrantRecord();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id":
+                        grant.id = nextString(in);
+                        break;
+                    case "share_id":
+                        grant.shareId = nextString(in);
+                        break;
+                    case "from":
+                        grant.from = nextString(in);
+                        break;
+                    case "to":
+                        grant.to = nextString(in);
+                        break;
+                    case "status":
+                        grant.status = nextString(in);
+                        break;
+                    case "txId":
+                        grant.txId = nextString(in);
+                        break;
+                    case "record":
+                        grant.record = recordAdapter.read(in);
+                        break;
+                    case "extra_info":
+                        grant.extraInfo = extraInfoAdapter.read(in);
+                        break;
+                    case "created_at":
+                        grant.createdAt = nextString(in);
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return grant;
+        }
     }
 
 }
@@ -1,9 +1,16 @@
 package com.bitmark.apiservice.utils.record;
 
+import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
+import java.io.IOException;
 import java.util.Objects;
 
+import static com.bitmark.apiservice.utils.JsonUtil.nextInt;
+import static com.bitmark.apiservice.utils.JsonUtil.nextString;
+
 /**
  * @author Hieu Pham
  * @since 3/11/19
@@ -52,4 +59,43 @@ public class ShareRecord implements Record {
     public int hashCode() {
         return Objects.hash(id, owner, balance, available);
     }
+
+    static final class Adapter extends TypeAdapter<ShareRecord> {
+
+        @Override
+        public void write(JsonWriter out, ShareRecord value) throws IOException {
+            out.beginObject();
+            out.name("share_id").value(value.id);
+            out.name("owner").value(value.owner);
+            out.name("balance").value(value.balance);
+            out.name("available").value(value.available);
+            out.endObject();
+        }
+
+        @Override
+        public ShareRecord read(JsonReader in) throws IOException {
+            final ShareRecord share = new ShareRecord();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "share_id":
+                        share.id = nextString(in);
+                        break;
+                    case "owner":
+                        share.owner = nextString(in);
+                        break;
+                    case "balance":
+                        share.balance = nextInt(in, share.balance);
+                        break;
+                    case "available":
+                        share.available = nextInt(in, share.available);
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return share;
+        }
+    }
 }
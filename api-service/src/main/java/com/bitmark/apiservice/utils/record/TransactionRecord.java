@@ -1,9 +1,18 @@
 package com.bitmark.apiservice.utils.record;
 
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
+import java.io.IOException;
 import java.util.Objects;
 
+import static com.bitmark.apiservice.utils.JsonUtil.nextBoolean;
+import static com.bitmark.apiservice.utils.JsonUtil.nextLong;
+import static com.bitmark.apiservice.utils.JsonUtil.nextString;
+
 /**
  * @author Hieu Pham
  * @since 9/18/18
@@ -133,4 +142,91 @@ public class TransactionRecord implements Record {
                 .hash(id, owner, assetId, head, status, blockNumber, blockOffset, offset, expiredAt,
                       payId, previousId, bitmarkId, isCounterSignature);
     }
+
+    static final class Adapter extends TypeAdapter<TransactionRecord> {
+
+        private final TypeAdapter<Head> headAdapter;
+
+        private final TypeAdapter<Status> statusAdapter;
+
+        Adapter(Gson gson) {
+            headAdapter = gson.getAdapter(Head.class);
+            statusAdapter = gson.getAdapter(Status.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, TransactionRecord value) throws IOException {
+            out.beginObject();
+            out.name("id").value(value.id);
+            out.name("owner").value(value.owner);
+            out.name("asset_id").value(value.assetId);
+            out.name("head");
+            headAdapter.write(out, value.head);
+            out.name("status");
+            statusAdapter.write(out, value.status);
+            out.name("block_number").value(value.blockNumber);
+            out.name("block_offset").value(value.blockOffset);
+            out.name("offset").value(value.offset);
+            out.name("expired_at").value(value.expiredAt);
+            out.name("pay_id").value(value.payId);
+            out.name("previous_id").value(value.previousId);
+            out.name("bitmark_id").value(value.bitmarkId);
+            out.name("countersign").value(value.isCounterSignature);
+            out.endObject();
+        }
+
+        @Override
+        public TransactionRecord read(JsonReader in) throws IOException {
+            final TransactionRecord transaction = new TransactionRecord();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id":
+                        transaction.id = nextString(in);
+                        break;
+                    case "owner":
+                        transaction.owner = nextString(in);
+                        break;
+                    case "asset_id":
+                        transaction.assetId = nextString(in);
+                        break;
+                    case "head":
+                        transaction.head = headAdapter.read(in);
+                        break;
+                    case "status":
+                        transaction.status = statusAdapter.read(in);
+                        break;
+                    case "block_number":
+                        transaction.blockNumber = nextLong(in, transaction.blockNumber);
+                        break;
+                    case "block_offset":
+                        transaction.blockOffset = nextLong(in, transaction.blockOffset);
+                        break;
+                    case "offset":
+                        transaction.offset = nextLong(in, transaction.offset);
+                        break;
+                    case "expired_at":
+                        transaction.expiredAt = nextString(in);
+                        break;
+                    case "pay_id":
+                        transaction.payId = nextString(in);
+                        break;
+                    case "previous_id":
+                        transaction.previousId = nextString(in);
+                        break;
+                    case "bitmark_id":
+                        transaction.bitmarkId = nextString(in);
+                        break;
+                    case "countersign":
+                        transaction.isCounterSignature =
+                                nextBoolean(in, transaction.isCounterSignature);
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return transaction;
+        }
+    }
 }
@@ -0,0 +1,176 @@
+package com.bitmark.apiservice.test.unittest;
+
+import com.bitmark.apiservice.ApiService;
+import com.bitmark.apiservice.AsyncApiService;
+import com.bitmark.apiservice.configuration.Network;
+import com.bitmark.apiservice.params.IssuanceParams;
+import com.bitmark.apiservice.utils.Address;
+import com.bitmark.apiservice.utils.error.HttpException;
+import com.bitmark.apiservice.utils.error.UnexpectedException;
+import com.bitmark.apiservice.utils.record.AssetRecord;
+import com.bitmark.cryptography.crypto.Ed25519;
+import com.bitmark.cryptography.crypto.key.KeyPair;
+import com.bitmark.cryptography.crypto.key.PrivateKey;
+import com.bitmark.cryptography.crypto.key.PublicKey;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static com.bitmark.apiservice.test.utils.FileUtils.loadResponse;
+import static com.bitmark.apiservice.test.utils.TestUtils.newLocalClient;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class AsyncApiServiceTest {
+
+    private MockWebServer server;
+
+    private ApiService apiService;
+
+    private AsyncApiService service;
+
+    @BeforeEach
+    public void beforeEach() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        apiService = newLocalClient(server).getApiService();
+        service = new AsyncApiService(apiService);
+    }
+
+    @AfterEach
+    public void afterEach() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    public void testGetAsset_SuccessResponse_FutureIsCompleted() throws Exception {
+        server.enqueue(new MockResponse().setBody(loadResponse("/query/asset/asset1.json")));
+
+        AssetRecord asset = service.getAsset("1").get(10, TimeUnit.SECONDS);
+
+        assertNotNull(asset.getId());
+        assertEquals("/v3/assets/1", server.takeRequest().getPath());
+    }
+
+    @Test
+    public void testGetAsset_ErrorResponse_FutureIsCompletedExceptionally() {
+        server.enqueue(new MockResponse().setResponseCode(404).setBody("{\"message\":\"x\"}"));
+
+        ExecutionException error = assertThrows(ExecutionException.class,
+                () -> service.getAsset("1").get(10, TimeUnit.SECONDS));
+
+        assertTrue(error.getCause() instanceof HttpException);
+        assertEquals(404, ((HttpException) error.getCause()).getStatusCode());
+    }
+
+    @Test
+    public void testGetAsset_MalformedResponse_FutureIsCompletedExceptionally() {
+        server.enqueue(new MockResponse().setBody("[]"));
+
+        ExecutionException error = assertThrows(ExecutionException.class,
+                () -> service.getAsset("1").get(10, TimeUnit.SECONDS));
+
+        assertTrue(error.getCause() instanceof UnexpectedException);
+    }
+
+    @Test
+    public void testGetAsset_DependentThrows_BothFuturesAreCompleted() throws Exception {
+        server.enqueue(new MockResponse().setBody(loadResponse("/query/asset/asset1.json")));
+        CompletableFuture<AssetRecord> future = service.getAsset("1");
+
+        CompletableFuture<Void> dependent = future.thenAccept(asset -> {
+            throw new IllegalStateException("Thrown by the caller");
+        });
+
+        ExecutionException error = assertThrows(ExecutionException.class,
+                () -> dependent.get(10, TimeUnit.SECONDS));
+        assertTrue(error.getCause() instanceof IllegalStateException);
+        assertNotNull(future.get(10, TimeUnit.SECONDS).getId());
+    }
+
+    @Test
+    public void testIssueBitmark_CallThrows_FutureIsCompletedExceptionally() {
+        CompletableFuture<?> future = service.issueBitmark(null);
+
+        ExecutionException error = assertThrows(ExecutionException.class,
+                () -> future.get(10, TimeUnit.SECONDS));
+        assertTrue(error.getCause() instanceof NullPointerException);
+        assertEquals(0, server.getRequestCount());
+    }
+
+    @Test
+    public void testIssueBitmark_UnsignedParamsAfterLookup_FutureIsCompletedExceptionally() {
+        server.enqueue(new MockResponse().setBody("{\"bitmarks\":[]}"));
+
+        ExecutionException error = assertThrows(ExecutionException.class,
+                () -> service.issueBitmark(newIssuanceParams()).get(10, TimeUnit.SECONDS));
+
+        assertTrue(error.getCause() instanceof UnsupportedOperationException);
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    public void testIssueBitmark_UnsignedParamsOfIssuedAsset_FutureIsCompletedExceptionally() {
+        IssuanceParams params = newIssuanceParams();
+        apiService.getGenesisStateCache().markIssued(params.getAssetId());
+
+        ExecutionException error = assertThrows(ExecutionException.class,
+                () -> service.issueBitmark(params).get(10, TimeUnit.SECONDS));
+
+        assertTrue(error.getCause() instanceof UnsupportedOperationException);
+        assertEquals(0, server.getRequestCount());
+    }
+
+    @Test
+    public void testIssueBitmark_SignedLazily_NotSignedOnNetworkThread() throws Exception {
+        server.enqueue(new MockResponse().setBody("{\"bitmarks\":[]}"));
+        server.enqueue(new MockResponse().setBody("{\"bitmarks\":[{\"id\":\"1\"}]}"));
+        KeyPair key = Ed25519.generateKeyPair();
+        List<String> signingThreads = new CopyOnWriteArrayList<>();
+        IssuanceParams params = newIssuanceParams(key.publicKey());
+        params.signLazily(new KeyPair() {
+            @Override
+            public PublicKey publicKey() {
+                return key.publicKey();
+            }
+
+            @Override
+            public PrivateKey privateKey() {
+                signingThreads.add(Thread.currentThread().getName());
+                return key.privateKey();
+            }
+
+            @Override
+            public boolean isValid() {
+                return key.isValid();
+            }
+        });
+
+        assertEquals(1, service.issueBitmark(params).get(10, TimeUnit.SECONDS).size());
+
+        assertFalse(signingThreads.isEmpty());
+        for (String thread : signingThreads) assertFalse(thread.startsWith("OkHttp"), thread);
+    }
+
+    private static IssuanceParams newIssuanceParams() {
+        return newIssuanceParams(PublicKey.from(new byte[32]));
+    }
+
+    private static IssuanceParams newIssuanceParams(PublicKey ownerKey) {
+        Address owner = Address.getDefault(ownerKey, Network.TEST_NET);
+        return new IssuanceParams(String.format("%0128d", 1), owner, 5);
+    }
+}
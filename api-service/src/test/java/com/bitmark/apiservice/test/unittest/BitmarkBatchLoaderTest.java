@@ -0,0 +1,253 @@
+package com.bitmark.apiservice.test.unittest;
+
+import com.bitmark.apiservice.BitmarkBatchLoader;
+import com.bitmark.apiservice.params.query.QueryParams;
+import com.bitmark.apiservice.response.GetBitmarkResponse;
+import com.bitmark.apiservice.response.GetBitmarksResponse;
+import com.bitmark.apiservice.utils.JsonUtil;
+import com.bitmark.apiservice.utils.callback.Callback1;
+import com.bitmark.apiservice.utils.error.HttpException;
+import com.bitmark.apiservice.utils.record.AssetRecord;
+import com.bitmark.apiservice.utils.record.BitmarkRecord;
+import com.bitmark.cryptography.error.ValidateException;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class BitmarkBatchLoaderTest {
+
+    private static final Pattern BITMARK_ID = Pattern.compile("bitmark_ids=([^&]+)");
+
+    private static final String MISSING_ID = "missing";
+
+    @Test
+    public void testLoad_CallsInWindow_LoadedByOneQuery() throws Exception {
+        FakeSource source = new FakeSource();
+        BitmarkBatchLoader loader = new BitmarkBatchLoader(source, 50);
+        Map<String, GetBitmarkResponse> responses = load(loader, ids(10), true);
+
+        assertEquals(1, source.queries.size());
+        assertEquals(10, source.queries.get(0).size());
+        assertTrue(source.queryStrings.get(0).contains("asset=true"));
+        for (Map.Entry<String, GetBitmarkResponse> entry : responses.entrySet()) {
+            assertEquals(entry.getKey(), entry.getValue().getBitmark().getId());
+            assertEquals(entry.getValue().getBitmark().getAssetId(),
+                         entry.getValue().getAsset().getId());
+        }
+        assertEquals(10, loader.getLoadCount());
+        assertEquals(1, loader.getRequestCount());
+    }
+
+    @Test
+    public void testLoad_DuplicatedIds_EveryCallerReceivesRecord() throws Exception {
+        FakeSource source = new FakeSource();
+        BitmarkBatchLoader loader = new BitmarkBatchLoader(source, 50);
+        List<String> ids = Arrays.asList("id1", "id1", "id2", "id1");
+        CountDownLatch latch = new CountDownLatch(ids.size());
+        List<GetBitmarkResponse> responses = new CopyOnWriteArrayList<>();
+        for (String id : ids) {
+            loader.load(id, false, collector(latch, response -> responses.add(response)));
+        }
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+
+        assertEquals(4, responses.size());
+        assertEquals(Arrays.asList("id1", "id2"), source.queries.get(0));
+        for (GetBitmarkResponse response : responses) assertNull(response.getAsset());
+    }
+
+    @Test
+    public void testLoad_BatchIsFull_SentWithoutWaitingWindow() throws Exception {
+        FakeSource source = new FakeSource();
+        BitmarkBatchLoader loader = new BitmarkBatchLoader(source, 60_000, 5);
+        Map<String, GetBitmarkResponse> responses = load(loader, ids(5), false);
+        assertEquals(5, responses.size());
+        assertEquals(1, source.queries.size());
+    }
+
+    @Test
+    public void testLoad_LongIdList_SplitIntoQueriesInLengthLimit() throws Exception {
+        FakeSource source = new FakeSource();
+        BitmarkBatchLoader loader = new BitmarkBatchLoader(source, 50);
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 100; i++) ids.add(String.format("%0128d", i));
+        Map<String, GetBitmarkResponse> responses = load(loader, ids, false);
+
+        assertEquals(100, responses.size());
+        assertTrue(source.queries.size() > 1);
+        int count = 0;
+        for (int i = 0; i < source.queries.size(); i++) {
+            count += source.queries.get(i).size();
+            int length = 0;
+            for (String id : source.queries.get(i)) length += id.length() + 13;
+            assertTrue(length <= BitmarkBatchLoader.MAX_QUERY_LENGTH);
+        }
+        assertEquals(100, count);
+    }
+
+    @Test
+    public void testLoad_FullBatchOfBitmarkIds_LoadedByOneQuery() throws Exception {
+        FakeSource source = new FakeSource();
+        BitmarkBatchLoader loader = new BitmarkBatchLoader(source, 60_000);
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < BitmarkBatchLoader.MAX_BATCH_SIZE; i++) {
+            ids.add(String.format("%064d", i));
+        }
+        Map<String, GetBitmarkResponse> responses = load(loader, ids, false);
+
+        assertEquals(ids.size(), responses.size());
+        assertEquals(1, source.queries.size());
+        assertEquals(1, loader.getRequestCount());
+    }
+
+    @Test
+    public void testLoad_IdNotInListResponse_LoadedAloneAndReceiveError() throws Exception {
+        FakeSource source = new FakeSource();
+        BitmarkBatchLoader loader = new BitmarkBatchLoader(source, 50);
+        CountDownLatch latch = new CountDownLatch(2);
+        List<Throwable> errors = new CopyOnWriteArrayList<>();
+        List<GetBitmarkResponse> responses = new CopyOnWriteArrayList<>();
+        loader.load("id1", false, collector(latch, responses::add, errors));
+        loader.load(MISSING_ID, false, collector(latch, responses::add, errors));
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+
+        assertEquals(1, responses.size());
+        assertEquals(1, errors.size());
+        assertEquals(404, ((HttpException) errors.get(0)).getStatusCode());
+        assertEquals(Collections.singletonList(MISSING_ID), source.singleLoads);
+        assertEquals(2, loader.getRequestCount());
+    }
+
+    @Test
+    public void testLoad_QueryError_EveryCallerOfBatchReceivesError() throws Exception {
+        FakeSource source = new FakeSource();
+        source.error = new HttpException(500, "{\"message\":\"error\"}");
+        BitmarkBatchLoader loader = new BitmarkBatchLoader(source, 50);
+        CountDownLatch latch = new CountDownLatch(3);
+        List<Throwable> errors = new CopyOnWriteArrayList<>();
+        for (String id : ids(3)) {
+            loader.load(id, false, collector(latch, response -> fail(), errors));
+        }
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(3, errors.size());
+        for (Throwable error : errors) assertSame(source.error, error);
+    }
+
+    @Test
+    public void testNewLoader_InvalidParams_ErrorIsThrow() {
+        assertThrows(ValidateException.class, () -> new BitmarkBatchLoader(new FakeSource(), 0));
+        assertThrows(ValidateException.class,
+                     () -> new BitmarkBatchLoader(new FakeSource(), 10, 101));
+    }
+
+    private static List<String> ids(int count) {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) ids.add("id" + i);
+        return ids;
+    }
+
+    private static Map<String, GetBitmarkResponse> load(BitmarkBatchLoader loader,
+                                                        List<String> ids, boolean includeAsset)
+            throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(ids.size());
+        Map<String, GetBitmarkResponse> responses = new ConcurrentHashMap<>();
+        for (String id : ids) {
+            loader.load(id, includeAsset, collector(latch, response -> responses.put(id, response)));
+        }
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        return responses;
+    }
+
+    private static Callback1<GetBitmarkResponse> collector(CountDownLatch latch,
+                                                           Consumer consumer) {
+        return collector(latch, consumer, null);
+    }
+
+    private static Callback1<GetBitmarkResponse> collector(CountDownLatch latch,
+                                                           Consumer consumer,
+                                                           List<Throwable> errors) {
+        return new Callback1<GetBitmarkResponse>() {
+            @Override
+            public void onSuccess(GetBitmarkResponse data) {
+                consumer.accept(data);
+                latch.countDown();
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                if (errors == null) fail(throwable);
+                errors.add(throwable);
+                latch.countDown();
+            }
+        };
+    }
+
+    private interface Consumer {
+
+        void accept(GetBitmarkResponse response);
+    }
+
+    private static BitmarkRecord bitmark(String id) {
+        return JsonUtil.getGson().fromJson(
+                "{\"id\":\"" + id + "\",\"asset_id\":\"asset-" + id + "\",\"status\":\"settled\"}",
+                BitmarkRecord.class);
+    }
+
+    private static AssetRecord asset(String id) {
+        return JsonUtil.getGson().fromJson("{\"id\":\"" + id + "\",\"status\":\"confirmed\"}",
+                                           AssetRecord.class);
+    }
+
+    private static class FakeSource implements BitmarkBatchLoader.Source {
+
+        private final List<List<String>> queries = new CopyOnWriteArrayList<>();
+
+        private final List<String> queryStrings = new CopyOnWriteArrayList<>();
+
+        private final List<String> singleLoads = new CopyOnWriteArrayList<>();
+
+        private volatile Throwable error;
+
+        @Override
+        public void listBitmarks(QueryParams params, Callback1<GetBitmarksResponse> callback) {
+            String query = params.toUrlQuery();
+            List<String> ids = new ArrayList<>();
+            Matcher matcher = BITMARK_ID.matcher(query);
+            while (matcher.find()) ids.add(matcher.group(1));
+            queries.add(ids);
+            queryStrings.add(query);
+            if (error != null) {
+                callback.onError(error);
+                return;
+            }
+
+            List<BitmarkRecord> bitmarks = new ArrayList<>();
+            List<AssetRecord> assets = new ArrayList<>();
+            for (String id : ids) {
+                if (MISSING_ID.equals(id)) continue;
+                bitmarks.add(bitmark(id));
+                assets.add(asset("asset-" + id));
+            }
+            callback.onSuccess(new GetBitmarksResponse(bitmarks, assets));
+        }
+
+        @Override
+        public void getBitmark(String bitmarkId, boolean includeAsset,
+                               Callback1<GetBitmarkResponse> callback) {
+            singleLoads.add(bitmarkId);
+            callback.onError(new HttpException(404, "{\"message\":\"not found\"}"));
+        }
+    }
+}
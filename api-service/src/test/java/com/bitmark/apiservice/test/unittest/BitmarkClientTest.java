@@ -0,0 +1,181 @@
+package com.bitmark.apiservice.test.unittest;
+
+import com.bitmark.apiservice.ApiService;
+import com.bitmark.apiservice.BitmarkClient;
+import com.bitmark.apiservice.configuration.GlobalConfiguration;
+import com.bitmark.apiservice.configuration.Network;
+import com.bitmark.apiservice.middleware.RetryPolicy;
+import com.bitmark.apiservice.params.TransferParams;
+import com.bitmark.apiservice.transport.OkHttpTransport;
+import com.bitmark.apiservice.transport.Transport;
+import com.bitmark.apiservice.utils.Address;
+import com.bitmark.cryptography.crypto.Ed25519;
+import com.bitmark.cryptography.crypto.key.KeyPair;
+import com.bitmark.cryptography.error.ValidateException;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class BitmarkClientTest {
+
+    @Test
+    public void testBuild_TwoTenants_ConfigurationsAreIsolated() {
+        BitmarkClient testNetClient = BitmarkClient.builder().withConfiguration(
+                GlobalConfiguration.builder().withApiToken("token1")
+                                   .withNetwork(Network.TEST_NET).withRecordCacheSize(10))
+                                                   .build();
+        BitmarkClient liveNetClient = BitmarkClient.builder().withConfiguration(
+                GlobalConfiguration.builder().withApiToken("token2")
+                                   .withNetwork(Network.LIVE_NET)).build();
+
+        assertEquals("token1", testNetClient.getConfiguration().getApiToken());
+        assertEquals(Network.TEST_NET, testNetClient.getNetwork());
+        assertEquals("token2", liveNetClient.getConfiguration().getApiToken());
+        assertEquals(Network.LIVE_NET, liveNetClient.getNetwork());
+        assertNotNull(testNetClient.getApiService().getCache());
+        assertNull(liveNetClient.getApiService().getCache());
+
+        ApiService service = testNetClient.getApiService();
+        assertNotSame(service, liveNetClient.getApiService());
+        assertNotSame(testNetClient.getConnectionPool(), liveNetClient.getConnectionPool());
+    }
+
+    @Test
+    public void testBuild_ConfigurationBuilderIsReused_FirstClientIsNotChanged() {
+        GlobalConfiguration.Builder configuration = GlobalConfiguration.builder()
+                .withApiToken("token1").withNetwork(Network.TEST_NET);
+        BitmarkClient testNetClient =
+                BitmarkClient.builder().withConfiguration(configuration).build();
+        BitmarkClient liveNetClient = BitmarkClient.builder().withConfiguration(
+                configuration.withApiToken("token2").withNetwork(Network.LIVE_NET)).build();
+
+        assertEquals("token1", testNetClient.getConfiguration().getApiToken());
+        assertEquals(Network.TEST_NET, testNetClient.getNetwork());
+        assertEquals("token2", liveNetClient.getConfiguration().getApiToken());
+        assertEquals(Network.LIVE_NET, liveNetClient.getNetwork());
+    }
+
+    @Test
+    public void testBuild_SharedPoolAndDispatcher_TheyAreReused() {
+        ConnectionPool pool = new ConnectionPool();
+        Dispatcher dispatcher = new Dispatcher();
+        BitmarkClient client1 = BitmarkClient.builder().withConfiguration(
+                GlobalConfiguration.builder().withApiToken("token1")).withConnectionPool(pool)
+                                             .withDispatcher(dispatcher).build();
+        BitmarkClient client2 = BitmarkClient.builder().withConfiguration(
+                GlobalConfiguration.builder().withApiToken("token2")).withConnectionPool(pool)
+                                             .withDispatcher(dispatcher).build();
+
+        assertSame(pool, client1.getConnectionPool());
+        assertSame(pool, client2.getConnectionPool());
+        assertSame(dispatcher, client1.getDispatcher());
+        assertSame(dispatcher, client2.getDispatcher());
+    }
+
+    @Test
+    public void testBuild_DefaultConfiguration_RetryAndBreakerAreDisabled() {
+        BitmarkClient client = BitmarkClient.builder().withConfiguration(
+                GlobalConfiguration.builder().withApiToken("token")).build();
+        assertSame(RetryPolicy.NONE, client.getConfiguration().getRetryPolicy());
+        assertNull(client.getApiService().getCircuitBreaker());
+    }
+
+    @Test
+    public void testBuild_InvalidConfiguration_ErrorIsThrow() {
+        assertThrows(ValidateException.class, () -> BitmarkClient.builder().build());
+        assertThrows(IllegalArgumentException.class, () -> BitmarkClient.builder().withConfiguration(
+                GlobalConfiguration.builder()).build());
+    }
+
+    @Test
+    public void testTransferBitmark_TwoClientsOnDifferentNetworks_EachRequestIsOfItsClient()
+            throws Exception {
+        MockWebServer testNetServer = new MockWebServer();
+        MockWebServer liveNetServer = new MockWebServer();
+        testNetServer.start();
+        liveNetServer.start();
+        try {
+            List<String> testNetHosts = new CopyOnWriteArrayList<>();
+            List<String> liveNetHosts = new CopyOnWriteArrayList<>();
+            BitmarkClient testNetClient = newClient(testNetServer, testNetHosts,
+                    GlobalConfiguration.builder().withApiToken("token1")
+                                       .withNetwork(Network.TEST_NET));
+            BitmarkClient liveNetClient = newClient(liveNetServer, liveNetHosts,
+                    GlobalConfiguration.builder().withApiToken("token2")
+                                       .withNetwork(Network.LIVE_NET));
+            testNetServer.enqueue(new MockResponse().setBody("{\"txid\":\"1\"}"));
+            liveNetServer.enqueue(new MockResponse().setBody("{\"txid\":\"2\"}"));
+
+            KeyPair key = Ed25519.generateKeyPairFromSeed(new byte[Ed25519.SEED_LENGTH]);
+            String testNetOwner = Address.getDefault(key.publicKey(), Network.TEST_NET)
+                                         .getAddress();
+            String liveNetOwner = Address.getDefault(key.publicKey(), Network.LIVE_NET)
+                                         .getAddress();
+            CompletableFuture<String> testNetTxId =
+                    testNetClient.getAsyncApiService().transferBitmark(
+                            newTransferParams(testNetClient, testNetOwner, key));
+            CompletableFuture<String> liveNetTxId =
+                    liveNetClient.getAsyncApiService().transferBitmark(
+                            newTransferParams(liveNetClient, liveNetOwner, key));
+
+            assertEquals("1", testNetTxId.get(10, TimeUnit.SECONDS));
+            assertEquals("2", liveNetTxId.get(10, TimeUnit.SECONDS));
+            RecordedRequest testNetRequest = testNetServer.takeRequest(10, TimeUnit.SECONDS);
+            RecordedRequest liveNetRequest = liveNetServer.takeRequest(10, TimeUnit.SECONDS);
+            assertEquals("token1", testNetRequest.getHeader("API-TOKEN"));
+            assertEquals("token2", liveNetRequest.getHeader("API-TOKEN"));
+            assertTrue(testNetRequest.getBody().readUtf8().contains(testNetOwner));
+            assertTrue(liveNetRequest.getBody().readUtf8().contains(liveNetOwner));
+            assertEquals(Collections.singletonList("api.test.bitmark.com"), testNetHosts);
+            assertEquals(Collections.singletonList("api.bitmark.com"), liveNetHosts);
+        } finally {
+            testNetServer.shutdown();
+            liveNetServer.shutdown();
+        }
+    }
+
+    private static TransferParams newTransferParams(BitmarkClient client, String owner,
+                                                    KeyPair key) {
+        // The owner is parsed with the network of the client, not the global one
+        TransferParams params = new TransferParams(
+                Address.fromAccountNumber(owner, client.getNetwork()), String.format("%064d", 1));
+        params.sign(key);
+        return params;
+    }
+
+    /**
+     * Build a client whose requests are routed to the local server, the hosts the requests were
+     * sent to are recorded
+     */
+    private static BitmarkClient newClient(MockWebServer server, List<String> hosts,
+                                           GlobalConfiguration.Builder configuration) {
+        final HttpUrl url = server.url("/");
+        final Transport transport = new OkHttpTransport(new OkHttpClient());
+        final Transport local = (request, callback) -> {
+            hosts.add(request.url().host());
+            transport.send(request.newBuilder().url(
+                    request.url().newBuilder().scheme(url.scheme()).host(url.host())
+                           .port(url.port()).build()).build(), callback);
+        };
+        return BitmarkClient.builder().withConfiguration(
+                configuration.withRetryPolicy(RetryPolicy.NONE).withTransport(local)).build();
+    }
+}
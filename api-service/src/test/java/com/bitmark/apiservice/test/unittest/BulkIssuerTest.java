@@ -0,0 +1,191 @@
+package com.bitmark.apiservice.test.unittest;
+
+import com.bitmark.apiservice.BitmarkClient;
+import com.bitmark.apiservice.BulkIssuer;
+import com.bitmark.apiservice.configuration.GlobalConfiguration;
+import com.bitmark.apiservice.middleware.RetryPolicy;
+import com.bitmark.apiservice.test.BaseTest;
+import com.bitmark.apiservice.transport.Transport;
+import com.bitmark.apiservice.utils.IntHashSet;
+import com.bitmark.apiservice.utils.callback.Callback1;
+import com.bitmark.cryptography.error.ValidateException;
+import okhttp3.*;
+import okio.Buffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.bitmark.apiservice.test.unittest.DataProvider.*;
+import static com.bitmark.apiservice.test.utils.FileUtils.loadResponse;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class BulkIssuerTest extends BaseTest {
+
+    private static final MediaType JSON = MediaType.parse("application/json; charset=utf-8");
+
+    private static final Pattern NONCE = Pattern.compile("\"nonce\":(\\d+)");
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    private final List<String> issueBodies = new CopyOnWriteArrayList<>();
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    @AfterEach
+    public void afterEach() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testIssue_GenesisAsset_GenesisChunkIsSubmittedFirst() throws Exception {
+        BitmarkClient client = newClient(false, -1);
+        BulkIssuer issuer = new BulkIssuer(client.getApiService(), ForkJoinPool.commonPool(),
+                                           100, 2);
+
+        BulkIssuer.Result result = issue(issuer, 250, null);
+
+        assertTrue(result.isCompleted());
+        assertEquals(250, result.getBitmarkIds().size());
+        assertEquals(3, issueBodies.size());
+        assertTrue(issueBodies.get(0).contains("\"nonce\":0}"));
+        assertTrue(maxInFlight.get() <= 2);
+
+        // Every nonce is unique over the whole issuance
+        IntHashSet nonces = new IntHashSet();
+        for (String body : issueBodies) {
+            Matcher matcher = NONCE.matcher(body);
+            while (matcher.find()) assertTrue(nonces.add(Integer.parseInt(matcher.group(1))));
+        }
+        assertEquals(250, nonces.size());
+        assertTrue(result.getBitmarkIds().get(0).endsWith("-0"));
+    }
+
+    @Test
+    public void testIssue_OneChunkFailed_PartialResultIsReturned() throws Exception {
+        BitmarkClient client = newClient(true, 1);
+        BulkIssuer issuer = new BulkIssuer(client.getApiService(), ForkJoinPool.commonPool(),
+                                           100, 4);
+        List<Integer> progress = new CopyOnWriteArrayList<>();
+
+        BulkIssuer.Result result =
+                issue(issuer, 350, (issued, failed, quantity) -> progress.add(issued + failed));
+
+        assertFalse(result.isCompleted());
+        assertEquals(1, result.getErrors().size());
+        int failedCount = result.getErrors().get(0).getNonces().length;
+        assertEquals(350, result.getBitmarkIds().size() + failedCount);
+        assertEquals(4, progress.size());
+        assertTrue(progress.contains(350));
+        for (String body : issueBodies) assertFalse(body.contains("\"nonce\":0}"));
+    }
+
+    @Test
+    public void testIssue_GenesisChunkFailed_OtherChunksAreNotSubmitted() throws Exception {
+        BitmarkClient client = newClient(false, 0);
+        BulkIssuer issuer = new BulkIssuer(client.getApiService(), ForkJoinPool.commonPool(),
+                                           10, 4);
+
+        BulkIssuer.Result result = issue(issuer, 50, null);
+
+        assertEquals(1, issueBodies.size());
+        assertTrue(result.getBitmarkIds().isEmpty());
+        assertEquals(5, result.getErrors().size());
+    }
+
+    @Test
+    public void testNewBulkIssuer_InvalidParams_ErrorIsThrow() {
+        BitmarkClient client = newClient(false, -1);
+        assertThrows(ValidateException.class,
+                     () -> new BulkIssuer(client.getApiService(), ForkJoinPool.commonPool(),
+                                          0, 1));
+        assertThrows(ValidateException.class,
+                     () -> new BulkIssuer(client.getApiService(), ForkJoinPool.commonPool(),
+                                          1, 0));
+        assertThrows(ValidateException.class,
+                     () -> new BulkIssuer(client.getApiService()).issue(ASSET_ID, ADDRESS1, 0,
+                                                                        KEY_PAIR_1, null,
+                                                                        null));
+    }
+
+    private static BulkIssuer.Result issue(BulkIssuer issuer, int quantity,
+                                           BulkIssuer.ProgressListener listener)
+            throws Exception {
+        final CompletableFuture<BulkIssuer.Result> future = new CompletableFuture<>();
+        issuer.issue(ASSET_ID, ADDRESS1, quantity, KEY_PAIR_1, listener,
+                     new Callback1<BulkIssuer.Result>() {
+                         @Override
+                         public void onSuccess(BulkIssuer.Result data) {
+                             future.complete(data);
+                         }
+
+                         @Override
+                         public void onError(Throwable throwable) {
+                             future.completeExceptionally(throwable);
+                         }
+                     });
+        return future.get(30, TimeUnit.SECONDS);
+    }
+
+    /**
+     * @param hasBitmarks   true if the asset has been issued before
+     * @param failedRequest The index of the issue request is failed, -1 for none
+     */
+    private BitmarkClient newClient(boolean hasBitmarks, int failedRequest) {
+        final AtomicInteger requestIndex = new AtomicInteger();
+        Transport transport = (request, callback) -> executor.execute(() -> {
+            final int current = inFlight.incrementAndGet();
+            maxInFlight.accumulateAndGet(current, Math::max);
+            try {
+                Thread.sleep(5);
+                if ("GET".equals(request.method())) {
+                    callback.onResponse(respond(request, 200, hasBitmarks ?
+                            loadResponse("/query/bitmark/bitmarks1.json") :
+                            "{\"bitmarks\":[]}"));
+                    return;
+                }
+
+                final Buffer buffer = new Buffer();
+                request.body().writeTo(buffer);
+                final String body = buffer.readUtf8();
+                issueBodies.add(body);
+                if (requestIndex.getAndIncrement() == failedRequest) {
+                    callback.onResponse(respond(request, 400, "{\"message\":\"x\"}"));
+                    return;
+                }
+                final StringBuilder ids = new StringBuilder("{\"bitmarks\":[");
+                final Matcher matcher = NONCE.matcher(body);
+                for (int i = 0; matcher.find(); i++) {
+                    if (i > 0) ids.append(',');
+                    ids.append("{\"id\":\"id-").append(matcher.group(1)).append("\"}");
+                }
+                callback.onResponse(respond(request, 200, ids.append("]}").toString()));
+            } catch (IOException | InterruptedException e) {
+                callback.onFailure(new IOException(e));
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+        return BitmarkClient.builder().withConfiguration(
+                GlobalConfiguration.builder().withApiToken("DummyApiToken")
+                                   .withRetryPolicy(RetryPolicy.NONE).withTransport(transport))
+                            .build();
+    }
+
+    private static Response respond(Request request, int code, String body) {
+        return new Response.Builder().request(request).protocol(Protocol.HTTP_1_1).code(code)
+                                     .message("").body(ResponseBody.create(JSON, body)).build();
+    }
+}
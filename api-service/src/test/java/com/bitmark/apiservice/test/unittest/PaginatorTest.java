@@ -0,0 +1,179 @@
+package com.bitmark.apiservice.test.unittest;
+
+import com.bitmark.apiservice.AsyncApiService;
+import com.bitmark.apiservice.Paginator;
+import com.bitmark.apiservice.params.query.BitmarkQueryBuilder;
+import com.bitmark.apiservice.utils.error.HttpException;
+import com.bitmark.apiservice.utils.record.BitmarkRecord;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static com.bitmark.apiservice.test.utils.FileUtils.loadResponse;
+import static com.bitmark.apiservice.test.utils.TestUtils.newLocalClient;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class PaginatorTest {
+
+    private static final ScheduledExecutorService EXECUTOR =
+            Executors.newScheduledThreadPool(2);
+
+    private static final int PAGE_SIZE = 10;
+
+    @Test
+    public void testIterate_InclusiveOffset_AllRecordsAreReturnOnceInOrder() {
+        AtomicInteger requests = new AtomicInteger();
+        Paginator<Long> paginator = new Paginator<>(fetcher(250, true, requests), Long::longValue,
+                                                    PAGE_SIZE, 2);
+        List<Long> records = paginator.stream().collect(Collectors.toList());
+        assertEquals(LongStream.rangeClosed(1, 250).map(i -> 251 - i).boxed()
+                               .collect(Collectors.toList()), records);
+        assertFalse(paginator.hasNext());
+    }
+
+    @Test
+    public void testIterate_ExclusiveOffset_AllRecordsAreReturnOnceInOrder() {
+        AtomicInteger requests = new AtomicInteger();
+        Paginator<Long> paginator = new Paginator<>(fetcher(100, false, requests), Long::longValue,
+                                                    PAGE_SIZE, 2);
+        List<Long> records = new ArrayList<>();
+        paginator.forEachRemaining(records::add);
+        assertEquals(LongStream.rangeClosed(1, 100).map(i -> 101 - i).boxed()
+                               .collect(Collectors.toList()), records);
+        // The last full page needs one more request to know there is no record left
+        assertEquals(11, requests.get());
+    }
+
+    @Test
+    public void testIterate_NoRecord_NoRecordIsReturn() {
+        AtomicInteger requests = new AtomicInteger();
+        Paginator<Long> paginator = new Paginator<>(fetcher(0, true, requests), Long::longValue,
+                                                    PAGE_SIZE, 2);
+        assertFalse(paginator.hasNext());
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    public void testIterate_PagesAreCompletedAtOnce_AllRecordsAreReturn() {
+        AtomicInteger requests = new AtomicInteger();
+        Function<Long, CompletableFuture<List<Long>>> fetcher = fetcher(25, true, requests);
+        Paginator<Long> paginator = new Paginator<>(
+                at -> CompletableFuture.completedFuture(fetcher.apply(at).join()),
+                Long::longValue, PAGE_SIZE, 2);
+        List<Long> records = new ArrayList<>();
+        paginator.forEachRemaining(records::add);
+        assertEquals(25, records.size());
+        assertEquals(Long.valueOf(25), records.get(0));
+        assertEquals(Long.valueOf(1), records.get(24));
+    }
+
+    @Test
+    public void testIterate_ConsumerIsSlow_BufferedPagesAreBounded() throws Exception {
+        AtomicInteger requests = new AtomicInteger();
+        Paginator<Long> paginator = new Paginator<>(fetcher(1000, true, requests),
+                                                    Long::longValue, PAGE_SIZE, 3);
+        assertEquals(Long.valueOf(1000), paginator.next());
+        Thread.sleep(300);
+        // The page being consumed and at most 3 buffered pages
+        assertEquals(4, requests.get());
+
+        for (int i = 0; i < PAGE_SIZE; i++) paginator.next();
+        Thread.sleep(300);
+        assertEquals(5, requests.get());
+        paginator.close();
+    }
+
+    @Test
+    public void testIterate_RequestError_ErrorIsThrowAfterFetchedRecords() {
+        AtomicInteger requests = new AtomicInteger();
+        Function<Long, CompletableFuture<List<Long>>> fetcher = fetcher(100, true, requests);
+        Paginator<Long> paginator = new Paginator<>(at -> {
+            if (at == null) return fetcher.apply(null);
+            CompletableFuture<List<Long>> future = new CompletableFuture<>();
+            future.completeExceptionally(new HttpException(500, "{\"message\":\"error\"}"));
+            return future;
+        }, Long::longValue, PAGE_SIZE, 2);
+        for (int i = 0; i < PAGE_SIZE; i++) paginator.next();
+        assertThrows(HttpException.class, paginator::hasNext);
+    }
+
+    @Test
+    public void testStream_StreamIsClosed_NoMoreRequestIsSent() throws Exception {
+        AtomicInteger requests = new AtomicInteger();
+        Paginator<Long> paginator = new Paginator<>(fetcher(1000, true, requests),
+                                                    Long::longValue, PAGE_SIZE, 2);
+        try (Stream<Long> stream = paginator.stream()) {
+            assertEquals(5, stream.limit(5).count());
+        }
+        Thread.sleep(300);
+        int sent = requests.get();
+        assertFalse(paginator.hasNext());
+        Thread.sleep(100);
+        assertEquals(sent, requests.get());
+    }
+
+    @Test
+    public void testBitmarks_BuilderOfCaller_BuilderIsNotChanged() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(new MockResponse().setBody(
+                    loadResponse("/query/bitmark/bitmarks1.json")));
+            server.start();
+            AsyncApiService api = new AsyncApiService(newLocalClient(server).getApiService());
+            BitmarkQueryBuilder builder = new BitmarkQueryBuilder().pending(true).limit(5);
+            String query = builder.toUrlQuery();
+
+            List<BitmarkRecord> bitmarks;
+            try (Paginator<BitmarkRecord> paginator = Paginator.bitmarks(api, builder, 2)) {
+                bitmarks = paginator.stream().collect(Collectors.toList());
+            }
+
+            assertEquals(1, bitmarks.size());
+            assertEquals(query, builder.toUrlQuery());
+            assertEquals("/v3/bitmarks?limit=100&pending=true&to=earlier",
+                         server.takeRequest().getPath());
+        }
+    }
+
+    @Test
+    public void testNewPaginator_InvalidPageSize_ErrorIsThrow() {
+        assertThrows(Exception.class,
+                     () -> new Paginator<Long>(at -> null, Long::longValue, 1, 2));
+        assertThrows(Exception.class,
+                     () -> new Paginator<Long>(at -> null, Long::longValue, PAGE_SIZE, 0));
+    }
+
+    // Simulate the API with records have offset from 1 to total, the page contains the records
+    // earlier than the requested offset, inclusive or not
+    private static Function<Long, CompletableFuture<List<Long>>> fetcher(long total,
+                                                                        boolean inclusive,
+                                                                        AtomicInteger requests) {
+        return at -> {
+            requests.incrementAndGet();
+            CompletableFuture<List<Long>> future = new CompletableFuture<>();
+            long start = at == null ? total : inclusive ? at : at - 1;
+            List<Long> page = new ArrayList<>();
+            for (long offset = start; offset > 0 && page.size() < PAGE_SIZE; offset--) {
+                page.add(offset);
+            }
+            EXECUTOR.schedule(() -> future.complete(page), 10, TimeUnit.MILLISECONDS);
+            return future;
+        };
+    }
+}
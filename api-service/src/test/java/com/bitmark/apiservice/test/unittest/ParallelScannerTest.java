@@ -0,0 +1,181 @@
+package com.bitmark.apiservice.test.unittest;
+
+import com.bitmark.apiservice.AsyncApiService;
+import com.bitmark.apiservice.ParallelScanner;
+import com.bitmark.apiservice.params.query.BitmarkQueryBuilder;
+import com.bitmark.apiservice.utils.error.HttpException;
+import com.bitmark.apiservice.utils.record.BitmarkRecord;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.bitmark.apiservice.test.utils.FileUtils.loadResponse;
+import static com.bitmark.apiservice.test.utils.TestUtils.newLocalClient;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class ParallelScannerTest {
+
+    private static final ScheduledExecutorService EXECUTOR =
+            Executors.newScheduledThreadPool(8);
+
+    private static final int PAGE_SIZE = 10;
+
+    @ParameterizedTest
+    @MethodSource("createScanArgs")
+    public void testScan_SparseOffsets_AllRecordsAreReturnOnceInOrder(int records,
+                                                                      boolean inclusive,
+                                                                      int partitions,
+                                                                      int parallelism)
+            throws Exception {
+        FakeApi api = new FakeApi(records, inclusive);
+        List<Long> result = new ParallelScanner<>(api, Long::longValue, PAGE_SIZE, partitions,
+                                                  parallelism).scan().get(10, TimeUnit.SECONDS);
+        assertEquals(api.descendingOffsets(), result);
+        assertTrue(api.maxInFlight.get() <= Math.max(2, parallelism),
+                   "Max in flight requests is " + api.maxInFlight.get());
+    }
+
+    @Test
+    public void testScan_NoRecord_EmptyListIsReturn() throws Exception {
+        FakeApi api = new FakeApi(0, true);
+        List<Long> result = new ParallelScanner<>(api, Long::longValue, PAGE_SIZE, 4, 2).scan()
+                                                                                .get(10,
+                                                                                     TimeUnit.SECONDS);
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    public void testScan_PagesAreCompletedAtOnce_AllRecordsAreReturn() throws Exception {
+        FakeApi api = new FakeApi(100000, true);
+        // Many small pages in one partition, none of them waits for the network
+        List<Long> result = new ParallelScanner<>(
+                (at, to, limit) -> CompletableFuture.completedFuture(api.page(at, to, limit)),
+                Long::longValue, 2, 1, 1).scan().get(10, TimeUnit.SECONDS);
+        assertEquals(api.descendingOffsets(), result);
+    }
+
+    @Test
+    public void testScan_RequestError_ErrorIsReturn() {
+        FakeApi api = new FakeApi(500, true);
+        ParallelScanner<Long> scanner = new ParallelScanner<>((at, to, limit) -> {
+            if (at != null && "earlier".equals(to)) {
+                CompletableFuture<List<Long>> future = new CompletableFuture<>();
+                future.completeExceptionally(new HttpException(500, "{}"));
+                return future;
+            }
+            return api.fetch(at, to, limit);
+        }, Long::longValue, PAGE_SIZE, 4, 2);
+        ExecutionException e = assertThrows(ExecutionException.class,
+                                            () -> scanner.scan().get(10, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof HttpException);
+    }
+
+    @Test
+    public void testBitmarks_BuilderOfCaller_BuilderIsNotChanged() throws Exception {
+        final String body = loadResponse("/query/bitmark/bitmarks1.json");
+        try (MockWebServer server = new MockWebServer()) {
+            server.setDispatcher(new Dispatcher() {
+                @Override
+                public MockResponse dispatch(RecordedRequest request) {
+                    return new MockResponse().setBody(body);
+                }
+            });
+            server.start();
+            AsyncApiService api = new AsyncApiService(newLocalClient(server).getApiService());
+            BitmarkQueryBuilder builder = new BitmarkQueryBuilder().pending(true).limit(5);
+            String query = builder.toUrlQuery();
+
+            List<BitmarkRecord> bitmarks =
+                    ParallelScanner.bitmarks(api, builder, 4, 2).scan().get(10, TimeUnit.SECONDS);
+
+            assertEquals(1, bitmarks.size());
+            assertEquals(query, builder.toUrlQuery());
+            Set<String> paths = new HashSet<>();
+            for (int i = server.getRequestCount(); i > 0; i--) {
+                paths.add(server.takeRequest().getPath());
+            }
+            assertTrue(paths.contains("/v3/bitmarks?limit=1&pending=true&to=earlier"),
+                       paths::toString);
+            assertTrue(paths.contains("/v3/bitmarks?at=1&limit=1&pending=true&to=later"),
+                       paths::toString);
+        }
+    }
+
+    @Test
+    public void testNewScanner_InvalidParams_ErrorIsThrow() {
+        assertThrows(Exception.class,
+                     () -> new ParallelScanner<Long>((at, to, limit) -> null, Long::longValue,
+                                                     PAGE_SIZE, 0, 2));
+        assertThrows(Exception.class,
+                     () -> new ParallelScanner<Long>((at, to, limit) -> null, Long::longValue,
+                                                     PAGE_SIZE, 4, 0));
+    }
+
+    private static Stream<Arguments> createScanArgs() {
+        return Stream.of(Arguments.of(1, true, 4, 2), Arguments.of(3, false, 8, 8),
+                         Arguments.of(500, true, 1, 1), Arguments.of(500, false, 8, 3),
+                         Arguments.of(1234, true, 16, 4), Arguments.of(1234, false, 5, 10));
+    }
+
+    // Simulate the API with sparse offsets, the record at the requested offset is returned or
+    // not depend on inclusive
+    private static class FakeApi implements ParallelScanner.PageFetcher<Long> {
+
+        private final NavigableSet<Long> offsets = new TreeSet<>();
+
+        private final boolean inclusive;
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+
+        FakeApi(int records, boolean inclusive) {
+            this.inclusive = inclusive;
+            Random random = new Random(records);
+            while (offsets.size() < records) offsets.add(1L + random.nextInt(records * 50));
+        }
+
+        List<Long> descendingOffsets() {
+            return new ArrayList<>(offsets.descendingSet());
+        }
+
+        List<Long> page(Long at, String to, int limit) {
+            final NavigableSet<Long> view;
+            if ("earlier".equals(to)) {
+                view = at == null ? offsets.descendingSet() :
+                       offsets.headSet(at, inclusive).descendingSet();
+            } else {
+                view = offsets.tailSet(at, inclusive);
+            }
+            return view.stream().limit(limit).collect(Collectors.toList());
+        }
+
+        @Override
+        public CompletableFuture<List<Long>> fetch(Long at, String to, int limit) {
+            List<Long> page = page(at, to, limit);
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            CompletableFuture<List<Long>> future = new CompletableFuture<>();
+            EXECUTOR.schedule(() -> {
+                inFlight.decrementAndGet();
+                future.complete(page);
+            }, 2, TimeUnit.MILLISECONDS);
+            return future;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.bitmark.apiservice.test.unittest.middleware;
+
+import com.bitmark.apiservice.ApiService;
+import com.bitmark.apiservice.AsyncApiService;
+import com.bitmark.apiservice.BitmarkClient;
+import com.bitmark.apiservice.configuration.GlobalConfiguration;
+import com.bitmark.apiservice.middleware.AdaptiveConcurrencyLimiter;
+import com.bitmark.apiservice.transport.Transport;
+import com.bitmark.cryptography.error.ValidateException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class AdaptiveConcurrencyLimiterTest {
+
+    private static final long LATENCY = 100_000_000L; // 100 milliseconds
+
+    @Test
+    public void testAcquire_ExceedLimit_TaskIsQueuedUntilRelease() {
+        FakeClockLimiter limiter = new FakeClockLimiter(2, 10);
+        List<Integer> started = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            final int index = i;
+            limiter.acquire(() -> started.add(index));
+        }
+        assertEquals(2, started.size());
+        assertEquals(2, limiter.getInFlight());
+        assertEquals(2, limiter.getQueueSize());
+
+        limiter.time += LATENCY;
+        limiter.release(limiter.time - LATENCY, false);
+        assertTrue(started.size() >= 3);
+        assertEquals(0, started.get(0).intValue());
+        assertEquals(2, started.get(2).intValue());
+    }
+
+    @Test
+    public void testRelease_SaturatedWithStableLatency_LimitIncreasesAdditively() {
+        FakeClockLimiter limiter = new FakeClockLimiter(2, 4);
+        runSaturated(limiter, 50);
+        assertEquals(4, limiter.getLimit());
+        assertEquals(0, limiter.getDecreaseCount());
+    }
+
+    @Test
+    public void testRelease_NotSaturated_LimitDoesNotIncrease() {
+        FakeClockLimiter limiter = new FakeClockLimiter(2, 10);
+        for (int i = 0; i < 20; i++) {
+            limiter.acquire(() -> {
+            });
+            limiter.time += LATENCY;
+            limiter.release(limiter.time - LATENCY, false);
+        }
+        assertEquals(2, limiter.getLimit());
+    }
+
+    @Test
+    public void testRelease_Overloaded_LimitIsHalvedOncePerBurst() {
+        FakeClockLimiter limiter = new FakeClockLimiter(8, 10);
+        long start = limiter.time;
+        for (int i = 0; i < 8; i++) limiter.acquire(() -> {
+        });
+        limiter.time += LATENCY;
+        for (int i = 0; i < 8; i++) limiter.release(start, true);
+        assertEquals(4, limiter.getLimit());
+        assertEquals(1, limiter.getDecreaseCount());
+
+        // A request was sent after the decrease backs off again
+        limiter.acquire(() -> {
+        });
+        long nextStart = limiter.time;
+        limiter.time += LATENCY;
+        limiter.release(nextStart, true);
+        assertEquals(2, limiter.getLimit());
+    }
+
+    @Test
+    public void testRelease_LatencyExceedsBaseline_LimitDecreases() {
+        FakeClockLimiter limiter = new FakeClockLimiter(10, 10);
+        limiter.acquire(() -> {
+        });
+        limiter.time += LATENCY;
+        limiter.release(limiter.time - LATENCY, false);
+
+        limiter.acquire(() -> {
+        });
+        limiter.time += LATENCY * 5;
+        limiter.release(limiter.time - LATENCY * 5, false);
+        assertEquals(9, limiter.getLimit());
+    }
+
+    @Test
+    public void testRelease_RepeatedlyOverloaded_LimitNeverBelowOne() {
+        FakeClockLimiter limiter = new FakeClockLimiter(4, 4);
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire(() -> {
+            });
+            long start = limiter.time;
+            limiter.time += LATENCY;
+            limiter.release(start, true);
+        }
+        assertEquals(1, limiter.getLimit());
+    }
+
+    @Test
+    public void testAbort_QueuedTask_TaskIsStartedWithoutAdjustingLimit() {
+        FakeClockLimiter limiter = new FakeClockLimiter(1, 10);
+        List<Integer> started = new ArrayList<>();
+        limiter.acquire(() -> started.add(0));
+        limiter.acquire(() -> started.add(1));
+        assertEquals(1, started.size());
+
+        limiter.abort();
+        assertEquals(2, started.size());
+        assertEquals(1, limiter.getInFlight());
+        assertEquals(1, limiter.getLimit());
+        assertEquals(0, limiter.getDecreaseCount());
+    }
+
+    @Test
+    public void testGetAsset_TransportThrows_SlotIsReleased() throws Exception {
+        Transport transport = (request, callback) -> {
+            throw new IllegalStateException("Transport is closed");
+        };
+        ApiService service = BitmarkClient.builder().withConfiguration(
+                GlobalConfiguration.builder().withApiToken("DummyApiToken")
+                                   .withAdaptiveConcurrency(1, 1).withTransport(transport))
+                                          .build().getApiService();
+        AsyncApiService asyncService = new AsyncApiService(service);
+        for (int i = 0; i < 3; i++) {
+            ExecutionException error = assertThrows(ExecutionException.class,
+                    () -> asyncService.getAsset("1").get(5, TimeUnit.SECONDS));
+            assertTrue(error.getCause() instanceof IllegalStateException);
+        }
+        assertEquals(0, service.getConcurrencyLimiter().getInFlight());
+    }
+
+    @Test
+    public void testNewLimiter_InvalidParams_ErrorIsThrow() {
+        assertThrows(ValidateException.class, () -> new AdaptiveConcurrencyLimiter(0, 1));
+        assertThrows(ValidateException.class, () -> new AdaptiveConcurrencyLimiter(5, 4));
+    }
+
+    private static void runSaturated(FakeClockLimiter limiter, int rounds) {
+        List<Long> inFlight = new ArrayList<>();
+        for (int round = 0; round < rounds; round++) {
+            // Keep a backlog so the limit is always fully used
+            while (limiter.getQueueSize() < 2) limiter.acquire(() -> inFlight.add(limiter.time));
+            while (!inFlight.isEmpty()) {
+                long start = inFlight.remove(0);
+                limiter.time = Math.max(limiter.time, start + LATENCY);
+                limiter.release(start, false);
+            }
+        }
+    }
+
+    private static class FakeClockLimiter extends AdaptiveConcurrencyLimiter {
+
+        private long time = 1_000_000_000L;
+
+        private FakeClockLimiter(int initialLimit, int maxLimit) {
+            super(initialLimit, maxLimit);
+        }
+
+        @Override
+        public long now() {
+            return time;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.bitmark.apiservice.test.unittest.middleware;
+
+import com.bitmark.apiservice.ApiService;
+import com.bitmark.apiservice.AsyncApiService;
+import com.bitmark.apiservice.middleware.CircuitBreaker;
+import com.bitmark.apiservice.utils.error.HttpException;
+import com.bitmark.cryptography.error.ValidateException;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static com.bitmark.apiservice.test.utils.TestUtils.newLocalClient;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class CircuitBreakerTest {
+
+    @Test
+    public void testOnFailure_ConsecutiveFailuresReachThreshold_RequestsAreRejected() {
+        FakeClockCircuitBreaker breaker = new FakeClockCircuitBreaker(3, 1000);
+        for (int i = 0; i < 2; i++) {
+            assertTrue(breaker.allowRequest());
+            breaker.onFailure();
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.allowRequest());
+        assertFalse(breaker.allowRequest());
+        assertEquals(1, breaker.getOpenCount());
+        assertEquals(2, breaker.getRejectedCount());
+    }
+
+    @Test
+    public void testOnSuccess_FailuresAreNotConsecutive_BreakerStaysClosed() {
+        FakeClockCircuitBreaker breaker = new FakeClockCircuitBreaker(2, 1000);
+        for (int i = 0; i < 10; i++) {
+            breaker.onFailure();
+            breaker.onSuccess();
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0, breaker.getOpenCount());
+    }
+
+    @Test
+    public void testAllowRequest_OpenDurationElapsed_OnlyOneTrialRequestIsLetThrough() {
+        FakeClockCircuitBreaker breaker = new FakeClockCircuitBreaker(1, 1000);
+        breaker.onFailure();
+        breaker.time += 999;
+        assertFalse(breaker.allowRequest());
+        breaker.time += 1;
+        assertTrue(breaker.allowRequest());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertFalse(breaker.allowRequest());
+    }
+
+    @Test
+    public void testTrialRequest_Success_BreakerIsClosed() {
+        FakeClockCircuitBreaker breaker = new FakeClockCircuitBreaker(1, 1000);
+        breaker.onFailure();
+        breaker.time += 1000;
+        assertTrue(breaker.allowRequest());
+        breaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.allowRequest());
+        assertTrue(breaker.allowRequest());
+    }
+
+    @Test
+    public void testTrialRequest_Failure_BreakerIsOpenedAgain() {
+        FakeClockCircuitBreaker breaker = new FakeClockCircuitBreaker(5, 1000);
+        for (int i = 0; i < 5; i++) breaker.onFailure();
+        breaker.time += 1000;
+        assertTrue(breaker.allowRequest());
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.allowRequest());
+        assertEquals(2, breaker.getOpenCount());
+    }
+
+    @Test
+    public void testTrialRequest_Aborted_NextRequestIsTrial() {
+        FakeClockCircuitBreaker breaker = new FakeClockCircuitBreaker(1, 1000);
+        breaker.onFailure();
+        breaker.time += 1000;
+        assertTrue(breaker.allowRequest());
+        breaker.onAborted();
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertTrue(breaker.allowRequest());
+        assertFalse(breaker.allowRequest());
+    }
+
+    @Test
+    public void testGetAsset_TooManyRequestsResponses_BreakerStaysClosed() throws Exception {
+        MockWebServer server = new MockWebServer();
+        server.start();
+        try {
+            ApiService service = newLocalClient(server, configuration -> configuration
+                    .withCircuitBreaker(1, 30)).getApiService();
+            AsyncApiService asyncService = new AsyncApiService(service);
+            for (int i = 0; i < 2; i++) {
+                server.enqueue(new MockResponse().setResponseCode(429)
+                                                 .setBody("{\"message\":\"x\"}"));
+                ExecutionException error = assertThrows(ExecutionException.class,
+                        () -> asyncService.getAsset("1").get(10, TimeUnit.SECONDS));
+                assertEquals(429, ((HttpException) error.getCause()).getStatusCode());
+            }
+
+            assertEquals(CircuitBreaker.State.CLOSED, service.getCircuitBreaker().getState());
+            assertEquals(2, server.getRequestCount());
+        } finally {
+            server.shutdown();
+        }
+    }
+
+    @Test
+    public void testNewBreaker_InvalidParams_ErrorIsThrow() {
+        assertThrows(ValidateException.class, () -> new CircuitBreaker(0, 1000));
+        assertThrows(ValidateException.class, () -> new CircuitBreaker(1, 0));
+    }
+
+    private static class FakeClockCircuitBreaker extends CircuitBreaker {
+
+        private long time = 1_000_000;
+
+        private FakeClockCircuitBreaker(int failureThreshold, long openDuration) {
+            super(failureThreshold, openDuration);
+        }
+
+        @Override
+        protected long now() {
+            return time;
+        }
+    }
+}
@@ -5,10 +5,15 @@ import com.bitmark.apiservice.response.*;
 import com.bitmark.apiservice.test.BaseTest;
 import com.bitmark.apiservice.utils.Pair;
 import com.bitmark.apiservice.utils.callback.Callback1;
+import com.bitmark.apiservice.utils.error.UnexpectedException;
 import com.bitmark.apiservice.utils.record.*;
 import com.google.gson.internal.LinkedTreeMap;
 import okhttp3.*;
 import okhttp3.Response;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -18,14 +23,14 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 
 import static com.bitmark.apiservice.test.utils.FileUtils.loadResponse;
 import static com.bitmark.apiservice.test.utils.TestUtils.reflectionSet;
 import static com.bitmark.apiservice.utils.record.Head.HEAD;
 import static com.bitmark.apiservice.utils.record.TransactionRecord.Status.CONFIRMED;
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * @author Hieu Pham
@@ -347,6 +352,86 @@ public class ConverterTest extends BaseTest {
         callback.onSuccess(response);
     }
 
+    @Test
+    public void testConvertGetBitmarksResponse_ValidResponse_BodyIsClosed() throws IOException {
+        final AtomicBoolean closed = new AtomicBoolean(false);
+        final Buffer buffer = new Buffer().writeUtf8(loadResponse("/query/bitmark/bitmarks1.json"));
+        final BufferedSource source = Okio.buffer(new ForwardingSource(buffer) {
+            @Override
+            public void close() throws IOException {
+                closed.set(true);
+                super.close();
+            }
+        });
+        Response response = new Response.Builder().request(new Request.Builder().url("http" +
+                                                                                     "://dummy.com")
+                                                                                .build())
+                                                  .protocol(Protocol.HTTP_1_1).code(200)
+                                                  .body(ResponseBody.create(JSON, buffer.size(),
+                                                                            source))
+                                                  .message("dummy").build();
+        Converter.toGetBitmarksResponse(new Callback1<GetBitmarksResponse>() {
+            @Override
+            public void onSuccess(GetBitmarksResponse res) {
+                assertNotNull(res.getBitmarks());
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                assertNull(throwable, throwable.getMessage());
+            }
+        }).onSuccess(response);
+        assertTrue(closed.get());
+    }
+
+    @Test
+    public void testConvertTxId_MissingTxId_ErrorIsReturn() {
+        Response response = new Response.Builder().request(new Request.Builder().url("http" +
+                                                                                     "://dummy.com")
+                                                                                .build())
+                                                  .protocol(Protocol.HTTP_1_1).code(200)
+                                                  .body(ResponseBody.create(JSON,
+                                                                            "{\"status\":\"ok\"}"))
+                                                  .message("dummy").build();
+        final AtomicBoolean failed = new AtomicBoolean(false);
+        Converter.toTxId(new Callback1<String>() {
+            @Override
+            public void onSuccess(String txId) {
+                fail("Missing tx id must not be converted");
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                failed.set(throwable instanceof UnexpectedException);
+            }
+        }).onSuccess(response);
+        assertTrue(failed.get());
+    }
+
+    @Test
+    public void testConvertAssetRecord_MissingAsset_ErrorIsReturn() {
+        Response response = new Response.Builder().request(new Request.Builder().url("http" +
+                                                                                     "://dummy.com")
+                                                                                .build())
+                                                  .protocol(Protocol.HTTP_1_1).code(200)
+                                                  .body(ResponseBody.create(JSON,
+                                                                            "{\"status\":\"ok\"}"))
+                                                  .message("dummy").build();
+        final AtomicBoolean failed = new AtomicBoolean(false);
+        Converter.toAssetRecord(new Callback1<AssetRecord>() {
+            @Override
+            public void onSuccess(AssetRecord asset) {
+                fail("Missing asset must not be converted");
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                failed.set(throwable instanceof UnexpectedException);
+            }
+        }).onSuccess(response);
+        assertTrue(failed.get());
+    }
+
     private static Stream<Arguments> createSuccessResponseListTxId() throws IOException {
         final List<String> txIds1 = new ArrayList<String>() {{
             add("e8f8867231590f19a4c353a3487b4931a462ae7b9e0cd5471618aa3e955f236f");
@@ -0,0 +1,129 @@
+package com.bitmark.apiservice.test.unittest.middleware;
+
+import com.bitmark.apiservice.middleware.ExponentialBackoffRetryPolicy;
+import com.bitmark.apiservice.middleware.RetryPolicy;
+import com.bitmark.cryptography.error.ValidateException;
+import okhttp3.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class ExponentialBackoffRetryPolicyTest {
+
+    private static final String URL = "https://api.test.bitmark.com/v3/issue";
+
+    private static final MediaType JSON = MediaType.parse("application/json; charset=utf-8");
+
+    @ParameterizedTest
+    @MethodSource("createRetryableFailures")
+    public void testGetRetryDelay_TransientFailure_RetryInBackoffRange(Request request,
+                                                                       Integer code,
+                                                                       IOException error) {
+        RetryPolicy policy = new ExponentialBackoffRetryPolicy(3, 100, 1000);
+        for (int attempt = 1; attempt <= 3; attempt++) {
+            long delay = policy.getRetryDelay(request, attempt, buildResponse(request, code, null),
+                                              error);
+            assertTrue(delay >= 0 && delay <= 100 << (attempt - 1));
+        }
+        assertTrue(policy.getRetryDelay(request, 4, buildResponse(request, code, null), error) < 0);
+    }
+
+    @ParameterizedTest
+    @MethodSource("createNonRetryableFailures")
+    public void testGetRetryDelay_NonRetryableFailure_GiveUp(Request request, Integer code,
+                                                             IOException error) {
+        RetryPolicy policy = new ExponentialBackoffRetryPolicy();
+        assertTrue(policy.getRetryDelay(request, 1, buildResponse(request, code, null), error) < 0);
+    }
+
+    @Test
+    public void testGetRetryDelay_LongBackoff_DelayIsCappedAtMaxDelay() {
+        RetryPolicy policy = new ExponentialBackoffRetryPolicy(100, 100, 500);
+        for (int i = 0; i < 50; i++) {
+            long delay = policy.getRetryDelay(get(), 80, null, new SocketTimeoutException());
+            assertTrue(delay >= 0 && delay <= 500);
+        }
+    }
+
+    @Test
+    public void testGetRetryDelay_RetryAfterSeconds_DelayIsRetryAfter() {
+        RetryPolicy policy = new ExponentialBackoffRetryPolicy(3, 100, 5000);
+        assertEquals(2000, policy.getRetryDelay(get(), 1, buildResponse(get(), 429, "2"), null));
+        assertEquals(0, policy.getRetryDelay(post(), 1, buildResponse(post(), 503, "0"), null));
+    }
+
+    @Test
+    public void testGetRetryDelay_RetryAfterHttpDate_DelayIsUntilDate() {
+        RetryPolicy policy = new ExponentialBackoffRetryPolicy(3, 100, 5000);
+        long delay = policy.getRetryDelay(get(), 1, buildResponse(get(), 503,
+                                                                  "Wed, 21 Oct 2015 07:28:00 GMT"),
+                                          null);
+        assertEquals(0, delay);
+    }
+
+    @Test
+    public void testGetRetryDelay_RetryAfterExceedMaxDelay_GiveUp() {
+        RetryPolicy policy = new ExponentialBackoffRetryPolicy(3, 100, 5000);
+        assertTrue(policy.getRetryDelay(get(), 1, buildResponse(get(), 429, "60"), null) < 0);
+    }
+
+    @Test
+    public void testNewPolicy_InvalidParams_ErrorIsThrow() {
+        assertThrows(ValidateException.class, () -> new ExponentialBackoffRetryPolicy(-1, 1, 1));
+        assertThrows(ValidateException.class, () -> new ExponentialBackoffRetryPolicy(1, 0, 1));
+        assertThrows(ValidateException.class, () -> new ExponentialBackoffRetryPolicy(1, 10, 1));
+    }
+
+    @Test
+    public void testRetryPolicyNone_AnyFailure_GiveUp() {
+        assertTrue(RetryPolicy.NONE.getRetryDelay(get(), 1, null, new ConnectException()) < 0);
+    }
+
+    private static Stream<Arguments> createRetryableFailures() {
+        return Stream.of(Arguments.of(get(), null, new SocketTimeoutException()),
+                         Arguments.of(get(), 500, null), Arguments.of(get(), 502, null),
+                         Arguments.of(get(), 503, null), Arguments.of(get(), 504, null),
+                         Arguments.of(get(), 429, null), Arguments.of(get(), 408, null),
+                         Arguments.of(post(), null, new ConnectException()),
+                         Arguments.of(post(), 429, null), Arguments.of(post(), 503, null));
+    }
+
+    private static Stream<Arguments> createNonRetryableFailures() {
+        return Stream.of(Arguments.of(get(), 400, null), Arguments.of(get(), 401, null),
+                         Arguments.of(get(), 404, null), Arguments.of(post(), 500, null),
+                         Arguments.of(post(), 502, null), Arguments.of(post(), 504, null),
+                         Arguments.of(post(), null, new SocketTimeoutException()),
+                         Arguments.of(post(), 400, null));
+    }
+
+    private static Request get() {
+        return new Request.Builder().url(URL).get().build();
+    }
+
+    private static Request post() {
+        return new Request.Builder().url(URL).post(RequestBody.create(JSON, "{}")).build();
+    }
+
+    private static Response buildResponse(Request request, Integer code, String retryAfter) {
+        if (code == null) return null;
+        Response.Builder builder = new Response.Builder().request(request)
+                                                         .protocol(Protocol.HTTP_1_1).code(code)
+                                                         .body(ResponseBody.create(JSON, "{}"))
+                                                         .message("dummy");
+        if (retryAfter != null) builder.header("Retry-After", retryAfter);
+        return builder.build();
+    }
+}
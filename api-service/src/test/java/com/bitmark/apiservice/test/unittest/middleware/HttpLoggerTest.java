@@ -0,0 +1,185 @@
+package com.bitmark.apiservice.test.unittest.middleware;
+
+import com.bitmark.apiservice.middleware.HttpLogger;
+import com.bitmark.cryptography.error.ValidateException;
+import okhttp3.*;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okio.BufferedSink;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.bitmark.apiservice.test.utils.FileUtils.loadResponse;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class HttpLoggerTest {
+
+    private static final MediaType JSON = MediaType.parse("application/json; charset=utf-8");
+
+    private final List<String> logs = new CopyOnWriteArrayList<>();
+
+    private MockWebServer server;
+
+    @BeforeEach
+    public void beforeEach() throws IOException {
+        server = new MockWebServer();
+        server.start();
+    }
+
+    @AfterEach
+    public void afterEach() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    public void testIntercept_BasicLevel_OneLineWithoutBody() throws IOException {
+        server.enqueue(new MockResponse().setBody("{\"id\":\"1\"}"));
+        execute(new HttpLogger(HttpLogger.Level.BASIC, 1, 1024, logs::add), get());
+
+        assertEquals(1, logs.size());
+        String log = logs.get(0);
+        assertTrue(log.startsWith("http method=GET url=" + server.url("/v3/assets/1")));
+        assertTrue(log.contains(" status=200 duration_ms="));
+        assertFalse(log.contains("response_body"));
+        assertFalse(log.contains("\n"));
+    }
+
+    @Test
+    public void testIntercept_BodyLevel_BodiesAreTruncatedAndResponseIsIntact()
+            throws IOException {
+        String body = loadResponse("/query/bitmark/bitmarks1.json");
+        server.enqueue(new MockResponse().setBody(body));
+        Request request = new Request.Builder().url(server.url("/v3/issue"))
+                                               .post(RequestBody.create(JSON, "0123456789"))
+                                               .build();
+        String received = execute(new HttpLogger(HttpLogger.Level.BODY, 1, 8, logs::add),
+                                  request);
+
+        assertEquals(body, received);
+        assertTrue(logs.get(0).contains(" request_body=01234567...(truncated)"));
+        assertTrue(logs.get(0).contains(" response_body=" + body.substring(0, 8) +
+                                        "...(truncated)"));
+    }
+
+    @Test
+    public void testIntercept_BodyLevelAndLargeRequestBody_OnlyHeadIsWrittenForLog()
+            throws Exception {
+        server.enqueue(new MockResponse().setBody("{}"));
+        AtomicLong written = new AtomicLong();
+        int chunks = 1000;
+        RequestBody body = new RequestBody() {
+            @Override
+            public MediaType contentType() {
+                return JSON;
+            }
+
+            @Override
+            public void writeTo(BufferedSink sink) throws IOException {
+                byte[] chunk = new byte[1024];
+                Arrays.fill(chunk, (byte) 'a');
+                for (int i = 0; i < chunks; i++) {
+                    sink.write(chunk);
+                    written.addAndGet(chunk.length);
+                }
+            }
+        };
+        Request request = new Request.Builder().url(server.url("/v3/issue")).post(body).build();
+        execute(new HttpLogger(HttpLogger.Level.BODY, 1, 8, logs::add), request);
+
+        assertTrue(logs.get(0).contains(" request_body=aaaaaaaa...(truncated)"));
+        // The whole body is sent once, the log only takes the beginning of it
+        assertTrue(written.get() < 2L * chunks * 1024);
+        assertEquals(chunks * 1024, server.takeRequest().getBodySize());
+    }
+
+    @Test
+    public void testIntercept_LoggingFails_ResultOfExchangeIsKept() throws IOException {
+        server.enqueue(new MockResponse().setBody("{\"id\":\"1\"}"));
+        AtomicLong writes = new AtomicLong();
+        RequestBody body = new RequestBody() {
+            @Override
+            public MediaType contentType() {
+                return JSON;
+            }
+
+            @Override
+            public void writeTo(BufferedSink sink) throws IOException {
+                // The body is sent first, then it is written again for the log
+                if (writes.incrementAndGet() > 1) throw new IOException("Not repeatable");
+                sink.writeUtf8("{}");
+            }
+        };
+        Request request = new Request.Builder().url(server.url("/v3/issue")).post(body).build();
+        assertEquals("{\"id\":\"1\"}",
+                     execute(new HttpLogger(HttpLogger.Level.BODY, 1, 8, logs::add), request));
+        assertTrue(logs.isEmpty());
+
+        server.shutdown();
+        HttpLogger throwingLogger = new HttpLogger(HttpLogger.Level.BASIC, 1, 8, message -> {
+            throw new IllegalStateException("Logger is broken");
+        });
+        assertThrows(IOException.class, () -> execute(throwingLogger, get()));
+    }
+
+    @Test
+    public void testIntercept_HeadersLevel_SensitiveHeadersAreRedacted() throws IOException {
+        server.enqueue(new MockResponse().setBody("{}"));
+        Request request = new Request.Builder().url(server.url("/v3/transfer"))
+                                               .header("API-TOKEN", "secret-token")
+                                               .header("signature", "secret-signature")
+                                               .header("requester", "account").build();
+        execute(new HttpLogger(HttpLogger.Level.HEADERS, 1, 1024, logs::add), request);
+
+        String log = logs.get(0);
+        assertFalse(log.contains("secret"));
+        assertTrue(log.contains("API-TOKEN: <redacted>"));
+        assertTrue(log.contains("requester: account"));
+    }
+
+    @Test
+    public void testIntercept_ZeroSampleRate_OnlyFailuresAreLogged() throws IOException {
+        server.enqueue(new MockResponse().setBody("{}"));
+        server.enqueue(new MockResponse().setResponseCode(500).setBody("{\"message\":\"x\"}"));
+        HttpLogger logger = new HttpLogger(HttpLogger.Level.BODY, 0, 1024, logs::add);
+        execute(logger, get());
+        assertTrue(logs.isEmpty());
+
+        execute(logger, get());
+        assertEquals(1, logs.size());
+        assertTrue(logs.get(0).contains(" status=500"));
+        assertTrue(logs.get(0).contains(" response_body={\"message\":\"x\"}"));
+    }
+
+    @Test
+    public void testNewLogger_InvalidParams_ErrorIsThrow() {
+        assertThrows(ValidateException.class,
+                     () -> new HttpLogger(HttpLogger.Level.BASIC, 1.5, 1, logs::add));
+        assertThrows(ValidateException.class,
+                     () -> new HttpLogger(HttpLogger.Level.BASIC, 1, -1, logs::add));
+        assertThrows(ValidateException.class,
+                     () -> new HttpLogger(HttpLogger.Level.BASIC, 1, 1, null));
+    }
+
+    private Request get() {
+        return new Request.Builder().url(server.url("/v3/assets/1")).build();
+    }
+
+    private static String execute(HttpLogger logger, Request request) throws IOException {
+        OkHttpClient client = new OkHttpClient.Builder().addInterceptor(logger).build();
+        try (Response response = client.newCall(request).execute()) {
+            return response.body().string();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.bitmark.apiservice.test.unittest.middleware;
+
+import com.bitmark.apiservice.middleware.RateLimiter;
+import com.bitmark.cryptography.error.ValidateException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class RateLimiterTest {
+
+    @Test
+    public void testReserve_InBurst_NoDelay() {
+        FakeClockRateLimiter limiter = new FakeClockRateLimiter(10, 5);
+        for (int i = 0; i < 5; i++) assertEquals(0, limiter.reserve());
+        assertEquals(0, limiter.getThrottledCount());
+    }
+
+    @Test
+    public void testReserve_ExceedBurst_DelayedInOrderAtRate() {
+        FakeClockRateLimiter limiter = new FakeClockRateLimiter(10, 2);
+        assertEquals(0, limiter.reserve());
+        assertEquals(0, limiter.reserve());
+        assertEquals(100, limiter.reserve());
+        assertEquals(200, limiter.reserve());
+        assertEquals(300, limiter.reserve());
+        assertEquals(3, limiter.getThrottledCount());
+    }
+
+    @Test
+    public void testReserve_TimeElapsed_TokensAreRefilledUpToBurst() {
+        FakeClockRateLimiter limiter = new FakeClockRateLimiter(10, 3);
+        for (int i = 0; i < 3; i++) limiter.reserve();
+        limiter.time += 150_000_000L; // 1.5 tokens
+        assertEquals(0, limiter.reserve());
+        assertEquals(50, limiter.reserve());
+
+        limiter.time += 60_000_000_000L;
+        for (int i = 0; i < 3; i++) assertEquals(0, limiter.reserve());
+        assertTrue(limiter.reserve() > 0);
+    }
+
+    @Test
+    public void testNewLimiter_InvalidParams_ErrorIsThrow() {
+        assertThrows(ValidateException.class, () -> new RateLimiter(0, 1));
+        assertThrows(ValidateException.class, () -> new RateLimiter(1, 0));
+    }
+
+    private static class FakeClockRateLimiter extends RateLimiter {
+
+        private long time;
+
+        private FakeClockRateLimiter(double permitsPerSecond, int burst) {
+            super(permitsPerSecond, burst);
+        }
+
+        @Override
+        protected long now() {
+            return time;
+        }
+    }
+}
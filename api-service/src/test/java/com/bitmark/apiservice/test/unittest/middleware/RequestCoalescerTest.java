@@ -0,0 +1,196 @@
+package com.bitmark.apiservice.test.unittest.middleware;
+
+import com.bitmark.apiservice.ApiService;
+import com.bitmark.apiservice.BitmarkClient;
+import com.bitmark.apiservice.configuration.GlobalConfiguration;
+import com.bitmark.apiservice.middleware.Converter;
+import com.bitmark.apiservice.middleware.RequestCoalescer;
+import com.bitmark.apiservice.middleware.RetryPolicy;
+import com.bitmark.apiservice.transport.Transport;
+import com.bitmark.apiservice.utils.callback.Callback1;
+import com.bitmark.apiservice.utils.error.HttpException;
+import com.bitmark.apiservice.utils.error.NetworkException;
+import com.bitmark.apiservice.utils.record.AssetRecord;
+import okhttp3.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static com.bitmark.apiservice.test.utils.FileUtils.loadResponse;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class RequestCoalescerTest {
+
+    private static final MediaType JSON = MediaType.parse("application/json; charset=utf-8");
+
+    private static final String URL = "https://api.test.bitmark.com/v3/assets/1";
+
+    @Test
+    public void testJoin_IdenticalRequestInFlight_OnlyFirstCallerSendsRequest() {
+        RequestCoalescer coalescer = new RequestCoalescer();
+        assertNotNull(coalescer.join(URL, new ResponseCollector()));
+        assertNull(coalescer.join(URL, new ResponseCollector()));
+        assertNull(coalescer.join(URL, new ResponseCollector()));
+        assertNotNull(coalescer.join(URL + "?asset=true", new ResponseCollector()));
+        assertEquals(2, coalescer.getCoalescedCount());
+        assertEquals(2, coalescer.getInFlightCount());
+    }
+
+    @Test
+    public void testJoin_SharedResponse_EveryWaiterDecodesSameRecord() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer();
+        List<AssetRecord> assets = new ArrayList<>();
+        Callback1<AssetRecord> collector = new Callback1<AssetRecord>() {
+            @Override
+            public void onSuccess(AssetRecord data) {
+                assets.add(data);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                fail(throwable);
+            }
+        };
+        Callback1<Response> call = coalescer.join(URL, Converter.toAssetRecord(collector));
+        for (int i = 0; i < 4; i++) {
+            assertNull(coalescer.join(URL, Converter.toAssetRecord(collector)));
+        }
+
+        call.onSuccess(buildResponse(loadResponse("/query/asset/asset1.json")));
+
+        assertEquals(5, assets.size());
+        for (AssetRecord asset : assets) {
+            assertNotNull(asset.getId());
+            assertEquals(assets.get(0), asset);
+        }
+        assertNotSame(assets.get(0), assets.get(1));
+        assertEquals(0, coalescer.getInFlightCount());
+    }
+
+    @Test
+    public void testJoin_OnlyOneWaiter_ResponseIsPassedThrough() {
+        RequestCoalescer coalescer = new RequestCoalescer();
+        ResponseCollector collector = new ResponseCollector();
+        Response response = buildResponse("{}");
+        coalescer.join(URL, collector).onSuccess(response);
+        assertSame(response, collector.responses.get(0));
+    }
+
+    @Test
+    public void testJoin_RequestError_EveryWaiterReceivesError() {
+        RequestCoalescer coalescer = new RequestCoalescer();
+        ResponseCollector first = new ResponseCollector();
+        ResponseCollector second = new ResponseCollector();
+        Callback1<Response> call = coalescer.join(URL, first);
+        coalescer.join(URL, second);
+
+        HttpException error = new HttpException(500, "{\"message\":\"error\"}");
+        call.onError(error);
+
+        assertSame(error, first.errors.get(0));
+        assertSame(error, second.errors.get(0));
+        assertTrue(first.responses.isEmpty() && second.responses.isEmpty());
+    }
+
+    @Test
+    public void testJoin_PreviousRequestCompleted_NewRequestIsSent() {
+        RequestCoalescer coalescer = new RequestCoalescer();
+        coalescer.join(URL, new ResponseCollector()).onSuccess(buildResponse("{}"));
+        assertNotNull(coalescer.join(URL, new ResponseCollector()));
+        assertEquals(0, coalescer.getCoalescedCount());
+    }
+
+    @Test
+    public void testJoin_WaiterThrows_OtherWaitersAreNotified() {
+        RequestCoalescer coalescer = new RequestCoalescer();
+        ResponseCollector first = new ResponseCollector();
+        ResponseCollector last = new ResponseCollector();
+        Callback1<Response> call = coalescer.join(URL, first);
+        coalescer.join(URL, new ThrowingCallback());
+        coalescer.join(URL, last);
+
+        assertThrows(IllegalStateException.class, () -> call.onSuccess(buildResponse("{}")));
+        assertEquals(1, first.responses.size());
+        assertEquals(1, last.responses.size());
+
+        Callback1<Response> nextCall = coalescer.join(URL, first);
+        coalescer.join(URL, new ThrowingCallback());
+        coalescer.join(URL, last);
+        assertThrows(IllegalStateException.class,
+                     () -> nextCall.onError(new NetworkException("error")));
+        assertEquals(1, first.errors.size());
+        assertEquals(1, last.errors.size());
+        assertEquals(0, coalescer.getInFlightCount());
+    }
+
+    @Test
+    public void testGetAsset_SendingThrows_IdenticalRequestIsNotBlocked() throws Exception {
+        Transport transport = (request, callback) -> {
+            throw new IllegalStateException("Transport is closed");
+        };
+        ApiService service = BitmarkClient.builder().withConfiguration(
+                GlobalConfiguration.builder().withApiToken("DummyApiToken")
+                                   .withRetryPolicy(RetryPolicy.NONE)
+                                   .withTransport(transport)).build().getApiService();
+        for (int i = 0; i < 2; i++) {
+            CompletableFuture<Throwable> future = new CompletableFuture<>();
+            service.getAsset("1", new Callback1<AssetRecord>() {
+                @Override
+                public void onSuccess(AssetRecord data) {
+                    future.complete(null);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    future.complete(throwable);
+                }
+            });
+            assertTrue(future.get(5, TimeUnit.SECONDS) instanceof IllegalStateException);
+        }
+    }
+
+    private static Response buildResponse(String json) {
+        return new Response.Builder().request(new Request.Builder().url(URL).build())
+                                     .protocol(Protocol.HTTP_1_1).code(200)
+                                     .body(ResponseBody.create(JSON, json))
+                                     .message("dummy").build();
+    }
+
+    private static class ThrowingCallback implements Callback1<Response> {
+
+        @Override
+        public void onSuccess(Response data) {
+            throw new IllegalStateException("onSuccess");
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            throw new IllegalStateException("onError");
+        }
+    }
+
+    private static class ResponseCollector implements Callback1<Response> {
+
+        private final List<Response> responses = new ArrayList<>();
+
+        private final List<Throwable> errors = new ArrayList<>();
+
+        @Override
+        public void onSuccess(Response data) {
+            responses.add(data);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            errors.add(throwable);
+        }
+    }
+}
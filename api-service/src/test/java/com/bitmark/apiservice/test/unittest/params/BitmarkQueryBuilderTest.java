@@ -42,6 +42,20 @@ public class BitmarkQueryBuilderTest extends BaseTest {
         assertEquals(expectedParams, builder.toUrlQuery());
     }
 
+    @Test
+    public void testCopy_CopyIsChanged_OriginalIsNotChanged() {
+        BitmarkQueryBuilder builder = new BitmarkQueryBuilder().ownedBy("owner")
+                                                               .bitmarkIds(new String[]{"1", "2"});
+        String query = builder.toUrlQuery();
+
+        BitmarkQueryBuilder copy = builder.copy().at(10L).limit(5);
+
+        assertEquals(query, builder.toUrlQuery());
+        assertEquals("at=10&bitmark_ids=1&bitmark_ids=2&limit=5&owner=owner", copy.toUrlQuery());
+        assertEquals("limit=100&owner=owner",
+                     new TransactionQueryBuilder().ownedBy("owner").copy().toUrlQuery());
+    }
+
     @Test
     public void testBuildAssetQueryBuilder_InvalidQueryValues_CorrectParamsIsReturn() {
         assertThrows(ValidateException.class, () -> new AssetQueryBuilder().assetIds(null));
@@ -1,5 +1,6 @@
 package com.bitmark.apiservice.test.unittest.params;
 
+import com.bitmark.apiservice.configuration.Network;
 import com.bitmark.apiservice.params.GrantResponseParams;
 import com.bitmark.apiservice.test.BaseTest;
 import com.bitmark.apiservice.test.utils.FileUtils;
@@ -48,6 +49,22 @@ public class GrantResponseParamsTest extends BaseTest {
         assertDoesNotThrow(() -> GrantResponseParams.cancel(createValidShareGrantRecord1()));
     }
 
+    @Test
+    public void testConstructor_NetworkIsGiven_RecordIsCheckedAgainstGivenNetwork()
+            throws NoSuchFieldException, IllegalAccessException {
+        ShareGrantRecord record = createValidShareGrantRecord1();
+
+        assertTrue(record.isValid(Network.TEST_NET));
+        assertFalse(record.isValid(Network.LIVE_NET));
+        assertDoesNotThrow(() -> GrantResponseParams.accept(record, Network.TEST_NET));
+        assertThrows(ValidateException.class,
+                     () -> GrantResponseParams.accept(record, Network.LIVE_NET));
+        assertThrows(ValidateException.class,
+                     () -> GrantResponseParams.reject(record, Network.LIVE_NET));
+        assertThrows(ValidateException.class,
+                     () -> GrantResponseParams.cancel(record, null));
+    }
+
     @Test
     public void testGetter__ValidValueReturn() throws NoSuchFieldException, IllegalAccessException {
         ShareGrantRecord record = createValidShareGrantRecord1();
@@ -4,6 +4,8 @@ import com.bitmark.apiservice.params.IssuanceParams;
 import com.bitmark.apiservice.test.BaseTest;
 import com.bitmark.apiservice.utils.Pair;
 import com.bitmark.cryptography.error.ValidateException;
+import okhttp3.RequestBody;
+import okio.Buffer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -107,6 +109,42 @@ public class IssuanceParamsTest extends BaseTest {
         assertEquals(expectedJson, params.toJson());
     }
 
+    @ParameterizedTest
+    @MethodSource("createValidIssuanceParamsJson")
+    public void testToRequestBody_ParamsIsSigned_SameJsonIsWrittenEveryTime(
+            IssuanceParams params, String expectedJson) throws IOException {
+        final RequestBody body = params.toRequestBody();
+        for (int i = 0; i < 2; i++) {
+            final Buffer buffer = new Buffer();
+            body.writeTo(buffer);
+            assertEquals(body.contentLength(), buffer.size());
+            assertEquals(expectedJson, buffer.readUtf8());
+        }
+        assertEquals("json", body.contentType().subtype());
+    }
+
+    @Test
+    public void testToRequestBody_LargeIssuance_ContentLengthIsExact() throws IOException {
+        final int quantity = 2000;
+        final int[] nonces = new int[quantity];
+        for (int i = 0; i < quantity; i++) nonces[i] = i * 1117 + 1;
+        final IssuanceParams params = new IssuanceParams(ASSET_ID, ADDRESS1, nonces, false);
+        params.sign(KEY_PAIR_1);
+
+        final RequestBody body = params.toRequestBody();
+        final Buffer buffer = new Buffer();
+        body.writeTo(buffer);
+
+        assertEquals(body.contentLength(), buffer.size());
+        assertEquals(quantity, buffer.readUtf8().split("\"nonce\"").length - 1);
+    }
+
+    @Test
+    public void testToRequestBody_ParamsIsNotSigned_ErrorIsThrow() {
+        final IssuanceParams params = new IssuanceParams(ASSET_ID, ADDRESS1, new int[]{1}, false);
+        assertThrows(UnsupportedOperationException.class, params::toRequestBody);
+    }
+
     @Test
     public void testConstructIssuanceParams_ValidParams_CorrectNonceIsGenerated() {
         final IssuanceParams params = new IssuanceParams(ASSET_ID, ADDRESS1);
@@ -125,6 +163,82 @@ public class IssuanceParamsTest extends BaseTest {
         assertEquals(quantity * 2, concatenatedSignature.size());
     }
 
+    @Test
+    public void testSignParamsWithNonces_KnownGenesisState_OneSignaturePerNonceIsReturn()
+            throws IOException {
+        final IssuanceParams params =
+                new IssuanceParams(ASSET_ID, ADDRESS1, new int[]{1, 3}, false);
+        assertTrue(params.isGenesisStateKnown());
+        assertEquals(2, params.sign(KEY_PAIR_1).size());
+        assertEquals(loadRequest("/issue/multiple_issue1.json"), params.toJson());
+        assertThrows(ValidateException.class, () -> params.setContainsGenesisBitmark(true));
+    }
+
+    @Test
+    public void testSignLazily_GenesisStateIsSetLater_OnlyOneSetIsSigned() {
+        final int quantity = 3;
+        final IssuanceParams params = new IssuanceParams(ASSET_ID, ADDRESS1, quantity);
+        params.signLazily(KEY_PAIR_1);
+        assertTrue(params.isSigned());
+        assertTrue(params.isSigningDeferred());
+        assertFalse(params.isGenesisStateKnown());
+
+        params.setContainsGenesisBitmark(true);
+
+        assertFalse(params.isSigningDeferred());
+        assertTrue(params.isGenesisStateKnown());
+        assertEquals(quantity, params.getSignatures().size());
+        final Pair<int[], int[]> noncesPair = params.getNoncesPair();
+        assertSame(noncesPair.first(), noncesPair.second());
+        assertEquals(0, noncesPair.first()[0]);
+        assertEquals(quantity, params.toJson().split("\"nonce\"").length - 1);
+        assertThrows(ValidateException.class, () -> params.setContainsGenesisBitmark(false));
+    }
+
+    @Test
+    public void testSignLazily_KnownGenesisState_SignedImmediately() {
+        final IssuanceParams params = new IssuanceParams(ASSET_ID, ADDRESS1, 2, false);
+        params.signLazily(KEY_PAIR_1);
+        assertFalse(params.isSigningDeferred());
+        assertEquals(2, params.getSignatures().size());
+        assertNotEquals(0, params.getNoncesPair().first()[0]);
+        assertEquals(2, params.sign(KEY_PAIR_1).size());
+    }
+
+    @Test
+    public void testSignLazily_InvalidKey_ErrorIsThrow() {
+        final IssuanceParams params = new IssuanceParams(ASSET_ID, ADDRESS1);
+        assertThrows(ValidateException.class, () -> params.signLazily(null));
+        assertFalse(params.isSigned());
+    }
+
+    @Test
+    public void testConstructIssuanceParamsWithNonces_InvalidNonces_ErrorIsThrow() {
+        assertThrows(ValidateException.class,
+                     () -> new IssuanceParams(ASSET_ID, ADDRESS1, new int[]{1, 1}, false));
+        assertThrows(ValidateException.class,
+                     () -> new IssuanceParams(ASSET_ID, ADDRESS1, new int[]{-1}, false));
+        assertThrows(ValidateException.class,
+                     () -> new IssuanceParams(ASSET_ID, ADDRESS1, new int[0], false));
+    }
+
+    @Test
+    public void testConstructIssuanceParamsWithNonces_GenesisStateDisagrees_ErrorIsThrow() {
+        assertThrows(ValidateException.class,
+                     () -> new IssuanceParams(ASSET_ID, ADDRESS1, new int[]{1, 2}, true));
+        assertThrows(ValidateException.class,
+                     () -> new IssuanceParams(ASSET_ID, ADDRESS1, new int[]{2, 0}, false));
+        assertDoesNotThrow(() -> new IssuanceParams(ASSET_ID, ADDRESS1, new int[]{2, 0}, true));
+    }
+
+    @Test
+    public void testConstructIssuanceParamsWithNonces_NoncesAreChangedLater_ParamsIsNotChanged() {
+        final int[] nonces = new int[]{1, 3};
+        final IssuanceParams params = new IssuanceParams(ASSET_ID, ADDRESS1, nonces, false);
+        nonces[0] = 0;
+        assertArrayEquals(new int[]{1, 3}, params.getNoncesPair().first());
+    }
+
     private static Stream<String> createInvalidAssetId() {
         return Stream.of(null, "",
                          "f5ad8d9b58e122d2d229f86eaa5d276496a5a3da19d53c887a23f81955a3d07266b50a896d332abc1d1845850311e50570cb56ee507b89ec18bc91edc34c1059ff");
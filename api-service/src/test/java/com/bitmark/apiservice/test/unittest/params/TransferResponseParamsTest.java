@@ -1,8 +1,10 @@
 package com.bitmark.apiservice.test.unittest.params;
 
+import com.bitmark.apiservice.configuration.Network;
 import com.bitmark.apiservice.params.TransferResponseParams;
 import com.bitmark.apiservice.test.BaseTest;
 import com.bitmark.apiservice.utils.Pair;
+import com.bitmark.apiservice.utils.error.InvalidNetworkException;
 import com.bitmark.apiservice.utils.record.OfferRecord;
 import com.bitmark.cryptography.crypto.key.StandardKeyPair;
 import com.bitmark.cryptography.error.ValidateException;
@@ -91,6 +93,18 @@ public class TransferResponseParamsTest extends BaseTest {
         assertTrue(signature.equalsIgnoreCase(params.getSignature()));
     }
 
+    @ParameterizedTest
+    @MethodSource("createValidOffer")
+    public void testSignWithAcceptParams_OfferOfOtherNetwork_ErrorIsThrow(OfferRecord offer) {
+        assertDoesNotThrow(() -> TransferResponseParams.accept(offer, Network.TEST_NET)
+                                                       .sign(KEY_PAIR_2));
+        assertThrows(InvalidNetworkException.class,
+                     () -> TransferResponseParams.accept(offer, Network.LIVE_NET)
+                                                 .sign(KEY_PAIR_2));
+        assertThrows(ValidateException.class,
+                     () -> TransferResponseParams.reject(offer, null));
+    }
+
     @ParameterizedTest
     @MethodSource("createUnsignedNonAcceptParams")
     public void testSignWithoutAcceptParams_NoCondition_ErrorIsThrow(
@@ -0,0 +1,184 @@
+package com.bitmark.apiservice.test.unittest.transport;
+
+import com.bitmark.apiservice.BitmarkClient;
+import com.bitmark.apiservice.configuration.GlobalConfiguration;
+import com.bitmark.apiservice.middleware.RetryPolicy;
+import com.bitmark.apiservice.transport.Transport;
+import com.bitmark.apiservice.transport.UrlConnectionTransport;
+import com.bitmark.apiservice.utils.callback.Callback1;
+import com.bitmark.apiservice.utils.error.HttpException;
+import com.bitmark.apiservice.utils.record.AssetRecord;
+import okhttp3.*;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.BufferedSink;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ProtocolException;
+import java.util.concurrent.*;
+
+import static com.bitmark.apiservice.test.utils.FileUtils.loadResponse;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class TransportTest {
+
+    private static final MediaType JSON = MediaType.parse("application/json; charset=utf-8");
+
+    private MockWebServer server;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void beforeEach() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    public void afterEach() throws IOException {
+        executor.shutdownNow();
+        server.shutdown();
+    }
+
+    @Test
+    public void testGetAsset_UrlConnectionTransport_DefaultHeadersAreSent() throws Exception {
+        server.enqueue(new MockResponse().setBody(loadResponse("/query/asset/asset1.json")));
+        BitmarkClient client = newClient(new UrlConnectionTransport(executor, 5));
+
+        AssetRecord asset = getAsset(client, "1");
+
+        assertNotNull(asset.getId());
+        RecordedRequest request = server.takeRequest();
+        assertEquals("/v3/assets/1", request.getPath());
+        assertEquals("DummyApiToken", request.getHeader("API-TOKEN"));
+        assertEquals("application/json", request.getHeader("Accept"));
+    }
+
+    @Test
+    public void testGetAsset_ErrorStatus_HttpExceptionIsDelivered() {
+        server.enqueue(new MockResponse().setResponseCode(404).setBody("{\"message\":\"x\"}"));
+        BitmarkClient client = newClient(new UrlConnectionTransport(executor, 5));
+
+        ExecutionException error =
+                assertThrows(ExecutionException.class, () -> getAsset(client, "1"));
+        HttpException cause = (HttpException) error.getCause();
+        assertEquals(404, cause.getStatusCode());
+    }
+
+    @Test
+    public void testSend_PostBody_BodyAndContentTypeAreSent() throws Exception {
+        server.enqueue(new MockResponse().setBody("{}"));
+        Request request = new Request.Builder().url(server.url("/v3/issue"))
+                                               .post(RequestBody.create(JSON, "{\"a\":1}"))
+                                               .build();
+
+        try (Response response = send(new UrlConnectionTransport(executor, 5), request)) {
+            assertEquals(200, response.code());
+            assertEquals("{}", response.body().string());
+        }
+        RecordedRequest recorded = server.takeRequest();
+        assertEquals("POST", recorded.getMethod());
+        assertEquals("{\"a\":1}", recorded.getBody().readUtf8());
+        assertEquals(JSON.toString(), recorded.getHeader("Content-Type"));
+    }
+
+    @Test
+    public void testSend_BodyOfUnknownLength_BodyIsSentInChunks() throws Exception {
+        server.enqueue(new MockResponse().setBody("{}"));
+        RequestBody body = new RequestBody() {
+            @Override
+            public MediaType contentType() {
+                return JSON;
+            }
+
+            @Override
+            public void writeTo(BufferedSink sink) throws IOException {
+                sink.writeUtf8("{\"a\":").writeUtf8("1}");
+            }
+        };
+        Request request = new Request.Builder().url(server.url("/v3/issue")).post(body).build();
+
+        try (Response response = send(new UrlConnectionTransport(executor, 5), request)) {
+            assertEquals(200, response.code());
+        }
+        RecordedRequest recorded = server.takeRequest();
+        assertEquals("chunked", recorded.getHeader("Transfer-Encoding"));
+        assertEquals("{\"a\":1}", recorded.getBody().readUtf8());
+    }
+
+    @Test
+    public void testSend_PatchRequest_ProtocolExceptionIsDelivered() {
+        Request request = new Request.Builder().url(server.url("/v3/transfer"))
+                                               .patch(RequestBody.create(JSON, "{}")).build();
+
+        ExecutionException error = assertThrows(ExecutionException.class,
+                () -> send(new UrlConnectionTransport(executor, 5), request));
+        assertTrue(error.getCause() instanceof ProtocolException);
+        assertEquals(0, server.getRequestCount());
+    }
+
+    @Test
+    public void testNewUrlConnectionTransport_InvalidParams_ErrorIsThrow() {
+        assertThrows(Exception.class, () -> new UrlConnectionTransport(null, 5));
+        assertThrows(Exception.class, () -> new UrlConnectionTransport(executor, 0));
+    }
+
+    private BitmarkClient newClient(Transport transport) {
+        // Route the requests to the local server instead of the Bitmark api
+        final HttpUrl url = server.url("/");
+        Transport local = (request, callback) -> transport.send(request.newBuilder().url(
+                request.url().newBuilder().scheme(url.scheme()).host(url.host())
+                       .port(url.port()).build()).build(), callback);
+        return BitmarkClient.builder().withConfiguration(
+                GlobalConfiguration.builder().withApiToken("DummyApiToken")
+                                   .withRetryPolicy(RetryPolicy.NONE).withTransport(local))
+                            .build();
+    }
+
+    private static AssetRecord getAsset(BitmarkClient client, String id) throws Exception {
+        final CompletableFuture<AssetRecord> future = new CompletableFuture<>();
+        client.getApiService().getAsset(id, new Callback1<AssetRecord>() {
+            @Override
+            public void onSuccess(AssetRecord data) {
+                future.complete(data);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                future.completeExceptionally(throwable);
+            }
+        });
+        return future.get(10, TimeUnit.SECONDS);
+    }
+
+    private static Response send(Transport transport, Request request) throws Exception {
+        final CompletableFuture<Response> future = new CompletableFuture<>();
+        transport.send(request, new Transport.Callback() {
+            @Override
+            public void onResponse(Response response) {
+                future.complete(response);
+            }
+
+            @Override
+            public void onFailure(IOException error) {
+                future.completeExceptionally(error);
+            }
+
+            @Override
+            public void onCanceled(IOException error) {
+                future.completeExceptionally(error);
+            }
+        });
+        return future.get(10, TimeUnit.SECONDS);
+    }
+}
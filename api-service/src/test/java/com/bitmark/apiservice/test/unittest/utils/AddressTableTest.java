@@ -0,0 +1,109 @@
+package com.bitmark.apiservice.test.unittest.utils;
+
+import com.bitmark.apiservice.configuration.Network;
+import com.bitmark.apiservice.test.BaseTest;
+import com.bitmark.apiservice.utils.Address;
+import com.bitmark.apiservice.utils.AddressTable;
+import com.bitmark.apiservice.utils.BulkAddressDecoder;
+import com.bitmark.cryptography.crypto.key.PublicKey;
+import com.bitmark.cryptography.error.ValidateException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static com.bitmark.apiservice.test.unittest.DataProvider.*;
+import static com.bitmark.cryptography.crypto.encoder.Hex.HEX;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class AddressTableTest extends BaseTest {
+
+    @Test
+    public void testAdd_Addresses_ContainedAndAccountNumbersAreEncoded() {
+        AddressTable table = new AddressTable(Network.TEST_NET);
+
+        assertTrue(table.add(ADDRESS1));
+        assertTrue(table.add(ADDRESS2));
+        assertFalse(table.add(Address.fromAccountNumber(ADDRESS1.getAddress())));
+
+        assertEquals(2, table.size());
+        assertTrue(table.contains(ADDRESS1));
+        assertTrue(table.contains(ADDRESS2.getAddress()));
+        assertEquals(0, table.indexOf(ADDRESS1.getKey().toBytes(), 0));
+        assertEquals(ADDRESS1.getAddress(), table.getAccountNumber(0));
+        assertEquals(ADDRESS2.getAddress(), table.getAccountNumber(1));
+        assertArrayEquals(ADDRESS2.pack(), table.getAddress(1).pack());
+    }
+
+    @Test
+    public void testContains_UnknownOrInvalidAccountNumber_FalseIsReturn() {
+        AddressTable table = new AddressTable(Network.TEST_NET);
+        table.add(ADDRESS1);
+        String liveNetAccountNumber = Address.getDefault(
+                PublicKey.from(ADDRESS1.getKey().toBytes()), Network.LIVE_NET).getAddress();
+
+        assertFalse(table.contains(ADDRESS2));
+        assertFalse(table.contains(ADDRESS2.getAddress()));
+        assertFalse(table.contains(liveNetAccountNumber));
+        assertFalse(table.contains("abc"));
+        assertFalse(table.contains((String) null));
+        assertFalse(table.contains((Address) null));
+        assertEquals(-1, table.indexOf(HEX.decode(PUBLIC_KEY_4), 0));
+    }
+
+    @Test
+    public void testAdd_InvalidParams_ErrorIsThrow() {
+        AddressTable table = new AddressTable(Network.TEST_NET);
+
+        assertThrows(ValidateException.class, () -> table.add(Address.getDefault(
+                PublicKey.from(HEX.decode(PUBLIC_KEY_4)), Network.LIVE_NET)));
+        assertThrows(ValidateException.class, () -> table.add(new byte[31], 0));
+        assertThrows(ValidateException.class, () -> table.getAccountNumber(0));
+        assertThrows(ValidateException.class, () -> new AddressTable(null));
+    }
+
+    @Test
+    public void testAdd_ManyKeys_TableGrowsAndKeysAreKept() {
+        int count = 20000;
+        Random random = new Random(42);
+        byte[] keys = new byte[count * 32];
+        random.nextBytes(keys);
+        AddressTable table = new AddressTable(Network.LIVE_NET);
+
+        for (int i = 0; i < count; i++) {
+            assertTrue(table.add(keys, i * 32));
+        }
+
+        assertEquals(count, table.size());
+        byte[] key = new byte[32];
+        for (int i = 0; i < count; i++) {
+            assertEquals(i, table.indexOf(keys, i * 32));
+            table.copyKey(i, key, 0);
+            assertArrayEquals(Arrays.copyOfRange(keys, i * 32, (i + 1) * 32), key);
+        }
+        String accountNumber = table.getAccountNumber(count - 1);
+        assertEquals(Address.getDefault(PublicKey.from(key), Network.LIVE_NET).getAddress(),
+                     accountNumber);
+        assertTrue(table.contains(accountNumber));
+    }
+
+    @Test
+    public void testAddAll_DecodedResult_ValidEntriesOfNetworkAreAdded() {
+        String liveNetAccountNumber = Address.getDefault(
+                PublicKey.from(HEX.decode(PUBLIC_KEY_4)), Network.LIVE_NET).getAddress();
+        BulkAddressDecoder.Result result = new BulkAddressDecoder(null).decode(
+                Arrays.asList(ADDRESS1.getAddress(), "abc", liveNetAccountNumber,
+                              ADDRESS2.getAddress(), ADDRESS1.getAddress()));
+        AddressTable table = new AddressTable(Network.TEST_NET, result.size());
+
+        assertEquals(2, table.addAll(result));
+        assertTrue(table.contains(ADDRESS1));
+        assertTrue(table.contains(ADDRESS2));
+        assertFalse(table.contains(liveNetAccountNumber));
+    }
+}
@@ -0,0 +1,150 @@
+package com.bitmark.apiservice.test.unittest.utils;
+
+import com.bitmark.apiservice.configuration.Network;
+import com.bitmark.apiservice.test.BaseTest;
+import com.bitmark.apiservice.utils.Address;
+import com.bitmark.apiservice.utils.cache.LruCache;
+import com.bitmark.apiservice.utils.error.InvalidNetworkException;
+import com.bitmark.cryptography.crypto.key.PublicKey;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static com.bitmark.apiservice.test.unittest.DataProvider.PUBLIC_KEY_4;
+import static com.bitmark.cryptography.crypto.encoder.Hex.HEX;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class AddressTest extends BaseTest {
+
+    private static final String ACCOUNT_NUMBER =
+            "ec6yMcJATX6gjNwvqp8rbc4jNEasoUgbfBBGGyV5NvoJ54NXva";
+
+    @Test
+    public void testFromAccountNumber_SameAccountNumber_ParsedOnce() {
+        LruCache<String, Address> cache = Address.getParseCache();
+        Address address = Address.fromAccountNumber(ACCOUNT_NUMBER);
+        long hitCount = cache.getHitCount();
+
+        for (int i = 0; i < 100; i++) {
+            assertArrayEquals(address.pack(), Address.fromAccountNumber(ACCOUNT_NUMBER).pack());
+        }
+
+        assertEquals(hitCount + 100, cache.getHitCount());
+        assertEquals(ACCOUNT_NUMBER, address.getAddress());
+    }
+
+    @Test
+    public void testFromAccountNumber_KeyOfParsedAddressIsChanged_CachedAddressIsNotChanged() {
+        Address address = Address.fromAccountNumber(ACCOUNT_NUMBER);
+        byte[] key = address.getKey().toBytes().clone();
+        address.getKey().toBytes()[0] ^= 0xFF;
+
+        Address nextAddress = Address.fromAccountNumber(ACCOUNT_NUMBER);
+        assertNotSame(address, nextAddress);
+        assertArrayEquals(key, nextAddress.getKey().toBytes());
+        assertEquals(ACCOUNT_NUMBER, nextAddress.getAddress());
+    }
+
+    @Test
+    public void testGetAddress_NewAddress_EncodedOnce() {
+        Address address = Address.getDefault(PublicKey.from(HEX.decode(PUBLIC_KEY_4)),
+                                             Network.TEST_NET);
+
+        String accountNumber = address.getAddress();
+
+        assertSame(accountNumber, address.getAddress());
+        assertTrue(Address.isValidAccountNumber(accountNumber));
+        assertArrayEquals(address.pack(), Address.fromAccountNumber(accountNumber).pack());
+    }
+
+    @Test
+    public void testFromAccountNumber_InvalidAccountNumber_ErrorIsThrowAndNotCached() {
+        String accountNumber = ACCOUNT_NUMBER.substring(0, ACCOUNT_NUMBER.length() - 1) + "b";
+        for (int i = 0; i < 2; i++) {
+            assertFalse(Address.isValidAccountNumber(accountNumber));
+        }
+        assertFalse(Address.isValidAccountNumber(null));
+
+        String liveNetAccountNumber = Address.getDefault(
+                PublicKey.from(HEX.decode(PUBLIC_KEY_4)), Network.LIVE_NET).getAddress();
+        for (int i = 0; i < 2; i++) {
+            assertThrows(InvalidNetworkException.class,
+                         () -> Address.fromAccountNumber(liveNetAccountNumber));
+        }
+    }
+
+    @Test
+    public void testFromAccountNumber_NetworkIsGiven_CheckedAgainstGivenNetwork() {
+        String liveNetAccountNumber = Address.getDefault(
+                PublicKey.from(HEX.decode(PUBLIC_KEY_4)), Network.LIVE_NET).getAddress();
+
+        // Parse twice, the second one is served from the cache
+        for (int i = 0; i < 2; i++) {
+            assertEquals(Network.LIVE_NET,
+                         Address.fromAccountNumber(liveNetAccountNumber, Network.LIVE_NET)
+                                .getNetwork());
+            assertThrows(InvalidNetworkException.class,
+                         () -> Address.fromAccountNumber(ACCOUNT_NUMBER, Network.LIVE_NET));
+            assertEquals(Network.LIVE_NET,
+                         Address.fromAccountNumber(liveNetAccountNumber, null).getNetwork());
+            assertEquals(Network.TEST_NET,
+                         Address.fromAccountNumber(ACCOUNT_NUMBER, null).getNetwork());
+        }
+
+        assertEquals(Address.Validity.VALID,
+                     Address.validate(liveNetAccountNumber, Network.LIVE_NET));
+        assertEquals(Address.Validity.INVALID_NETWORK,
+                     Address.validate(ACCOUNT_NUMBER, Network.LIVE_NET));
+        assertTrue(Address.isValidAccountNumber(liveNetAccountNumber, null));
+        assertTrue(Address.isValidAccountNumber(ACCOUNT_NUMBER, null));
+    }
+
+    @Test
+    public void testValidate_ValidAccountNumber_ValidIsReturn() {
+        assertEquals(Address.Validity.VALID, Address.validate(ACCOUNT_NUMBER));
+        assertEquals(Address.Validity.VALID, Address.validate(
+                "fXXHGtCdFPuQvNhJ4nDPKCdwPxH7aSZ4842n2katZi319NsaCs"));
+    }
+
+    @Test
+    public void testValidate_InvalidAccountNumber_ReasonIsReturn() {
+        assertEquals(Address.Validity.INVALID_ENCODING, Address.validate(null));
+        assertEquals(Address.Validity.INVALID_ENCODING, Address.validate(""));
+        assertEquals(Address.Validity.INVALID_ENCODING, Address.validate(ACCOUNT_NUMBER + "0"));
+        assertEquals(Address.Validity.INVALID_LENGTH,
+                     Address.validate(ACCOUNT_NUMBER.substring(1)));
+        assertEquals(Address.Validity.INVALID_LENGTH, Address.validate(ACCOUNT_NUMBER + "a"));
+        assertEquals(Address.Validity.INVALID_LENGTH, Address.validate("1" + ACCOUNT_NUMBER));
+        assertEquals(Address.Validity.INVALID_CHECKSUM, Address.validate(
+                ACCOUNT_NUMBER.substring(0, ACCOUNT_NUMBER.length() - 1) + "b"));
+        assertEquals(Address.Validity.INVALID_NETWORK, Address.validate(
+                Address.getDefault(PublicKey.from(HEX.decode(PUBLIC_KEY_4)), Network.LIVE_NET)
+                       .getAddress()));
+    }
+
+    @Test
+    public void testValidate_RandomAccountNumbers_SameAsFromAccountNumber() {
+        Random random = new Random(42);
+        char[] alphabet =
+                "123456789ABCDEFGHJKLMNPQRSTUVWXYZabcdefghijkmnopqrstuvwxyz".toCharArray();
+        char[] chars = ACCOUNT_NUMBER.toCharArray();
+        for (int i = 0; i < 1000; i++) {
+            char[] mutated = chars.clone();
+            mutated[random.nextInt(mutated.length)] = alphabet[random.nextInt(alphabet.length)];
+            String accountNumber = new String(mutated);
+            boolean isParsed;
+            try {
+                Address.fromAccountNumber(accountNumber);
+                isParsed = true;
+            } catch (Throwable e) {
+                isParsed = false;
+            }
+            assertEquals(isParsed, Address.validate(accountNumber) == Address.Validity.VALID);
+        }
+    }
+}
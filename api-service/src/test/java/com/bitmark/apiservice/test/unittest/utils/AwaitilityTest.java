@@ -0,0 +1,120 @@
+package com.bitmark.apiservice.test.unittest.utils;
+
+import com.bitmark.apiservice.utils.Awaitility;
+import com.bitmark.apiservice.utils.callback.Callable1;
+import com.bitmark.apiservice.utils.error.UnexpectedException;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class AwaitilityTest {
+
+    private static final ScheduledExecutorService EXECUTOR =
+            Executors.newScheduledThreadPool(2);
+
+    @Test
+    public void testAwaitCallable_CallbackSuccess_ValueIsReturn() throws Throwable {
+        String value = Awaitility.await(
+                (Callable1<String>) callback -> EXECUTOR.schedule(() -> callback.onSuccess("ok"),
+                                                                  50, TimeUnit.MILLISECONDS));
+        assertEquals("ok", value);
+    }
+
+    @Test
+    public void testAwaitCallable_CallbackSuccessWithNull_NullIsReturnWithoutWaitingTimeout()
+            throws Throwable {
+        long start = System.nanoTime();
+        Object value = Awaitility.await(callback -> callback.onSuccess(null), 5000L);
+        assertNull(value);
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 5000);
+    }
+
+    @Test
+    public void testAwaitCallable_CallbackError_ErrorIsThrow() {
+        assertThrows(UnexpectedException.class, () -> Awaitility.await(
+                callback -> callback.onError(new UnexpectedException("error"))));
+    }
+
+    @Test
+    public void testAwaitCallable_NoResponseInTimeout_TimeoutExceptionIsThrow() {
+        assertThrows(TimeoutException.class, () -> Awaitility.await(callback -> {
+        }, 100L));
+    }
+
+    @Test
+    public void testAwaitCall_TaskReturn_ValueIsReturn() throws Throwable {
+        assertEquals(Integer.valueOf(1), Awaitility.await(() -> 1));
+    }
+
+    @Test
+    public void testAwaitCall_TaskThrow_ErrorIsThrow() {
+        assertThrows(UnexpectedException.class, () -> Awaitility.await(() -> {
+            throw new UnexpectedException("error");
+        }));
+    }
+
+    @Test
+    public void testAwaitCallable_CallerInterrupted_InterruptedExceptionIsThrow()
+            throws InterruptedException {
+        CompletableFuture<Throwable> error = new CompletableFuture<>();
+        Thread thread = new Thread(() -> {
+            try {
+                Awaitility.await(callback -> {
+                }, 10000L);
+            } catch (Throwable e) {
+                error.complete(e);
+            }
+        });
+        thread.start();
+        Thread.sleep(100);
+        thread.interrupt();
+        thread.join(1000);
+        assertTrue(error.getNow(null) instanceof InterruptedException);
+    }
+
+    @Test
+    public void testAwaitCallable_ManyCallersWaiting_CallersDoNotBurnCpu() throws Exception {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isCurrentThreadCpuTimeSupported());
+
+        final int callers = 20;
+        final long waitingTime = 500;
+        final AtomicLong totalCpuNanos = new AtomicLong();
+        List<Thread> threads = new ArrayList<>(callers);
+        for (int i = 0; i < callers; i++) {
+            Thread thread = new Thread(() -> {
+                long start = threadMXBean.getCurrentThreadCpuTime();
+                try {
+                    Awaitility.await(callback -> EXECUTOR.schedule(() -> callback.onSuccess(true),
+                                                                   waitingTime,
+                                                                   TimeUnit.MILLISECONDS));
+                } catch (Throwable ignore) {
+                }
+                totalCpuNanos.addAndGet(threadMXBean.getCurrentThreadCpuTime() - start);
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // A spinning waiter would consume nearly the whole waiting time of CPU per caller
+        long averageCpuMillis = TimeUnit.NANOSECONDS.toMillis(totalCpuNanos.get() / callers);
+        assertTrue(averageCpuMillis < waitingTime / 5,
+                   "Average CPU time per waiting caller is " + averageCpuMillis + " ms");
+    }
+}
@@ -0,0 +1,100 @@
+package com.bitmark.apiservice.test.unittest.utils;
+
+import com.bitmark.apiservice.utils.ArrayUtil;
+import com.bitmark.apiservice.utils.BinaryPacker;
+import com.bitmark.apiservice.utils.BinaryPacking;
+import com.bitmark.cryptography.crypto.encoder.VarInt;
+import com.bitmark.cryptography.error.ValidateException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static com.bitmark.apiservice.test.unittest.DataProvider.ADDRESS1;
+import static com.bitmark.cryptography.crypto.encoder.Hex.HEX;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class BinaryPackerTest {
+
+    private static final String LINK =
+            "1d8e5f5a24c5d5ddbe64ef4cf1dcf2cb2c8a79fe7b4dd0eb06ca8c6bf7b0fb56";
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 127, 128, 16383, 16384, Integer.MAX_VALUE, -1})
+    public void testWriteUnsignedVarInt_ValidValue_SameAsVarInt(int value) {
+        assertArrayEquals(VarInt.writeUnsignedVarInt(value),
+                          new BinaryPacker(1).writeUnsignedVarInt(value).toByteArray());
+    }
+
+    @Test
+    public void testWriteFields_TransferRecord_SameAsBinaryPacking() {
+        assertArrayEquals(packTransferWithBinaryPacking(), packTransferWithBinaryPacker());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "name", "Tiếng Việt", "key\u0000value"})
+    public void testWriteField_String_SameAsBinaryPacking(String value) {
+        assertArrayEquals(BinaryPacking.concat(value, new byte[0]),
+                          new BinaryPacker().writeField(value).toByteArray());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"a", "0a", "abc", "ABCDEF0123"})
+    public void testWriteHexField_ValidHex_SameAsHexDecode(String hex) {
+        assertArrayEquals(BinaryPacking.concat(HEX.decode(hex), new byte[0]),
+                          new BinaryPacker().writeHexField(hex).toByteArray());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "0g", "zz", "0\u0661", "\uff10\uff11", "a\u0966"})
+    public void testWriteHexField_InvalidHex_ErrorIsThrow(String hex) {
+        BinaryPacker packer = new BinaryPacker().writeField("name");
+        int size = packer.size();
+        assertThrows(ValidateException.class, () -> packer.writeHexField(hex));
+        assertEquals(size, packer.size());
+    }
+
+    @Test
+    public void testWriteBytes_BeyondCapacity_BufferGrows() {
+        byte[] bytes = new byte[1000];
+        for (int i = 0; i < bytes.length; i++) bytes[i] = (byte) i;
+
+        BinaryPacker packer = new BinaryPacker(1).writeByte(7).writeBytes(bytes);
+
+        assertEquals(1001, packer.size());
+        assertArrayEquals(ArrayUtil.concat(new byte[]{7}, bytes), packer.toByteArray());
+    }
+
+    @Test
+    public void testTruncate_ValidSize_TrailingBytesAreRewritten() {
+        BinaryPacker packer = new BinaryPacker().writeHexField(LINK);
+        int prefixSize = packer.size();
+
+        byte[] first = packer.writeUnsignedVarInt(300).toByteArray();
+        byte[] second = packer.truncate(prefixSize).writeUnsignedVarInt(1).toByteArray();
+
+        assertEquals(prefixSize + 2, first.length);
+        assertEquals(prefixSize + 1, second.length);
+        assertArrayEquals(ArrayUtil.slice(first, 0, prefixSize),
+                          ArrayUtil.slice(second, 0, prefixSize));
+        assertThrows(ValidateException.class, () -> packer.truncate(prefixSize + 2));
+        assertThrows(ValidateException.class, () -> packer.truncate(-1));
+    }
+
+    private static byte[] packTransferWithBinaryPacking() {
+        byte[] data = VarInt.writeUnsignedVarInt(0x04);
+        data = BinaryPacking.concat(HEX.decode(LINK), data);
+        data = ArrayUtil.concat(data, new byte[]{0x00});
+        data = BinaryPacking.concat(ADDRESS1.pack(), data);
+        return data;
+    }
+
+    private static byte[] packTransferWithBinaryPacker() {
+        return new BinaryPacker().writeUnsignedVarInt(0x04).writeHexField(LINK).writeByte(0x00)
+                                 .writeField(ADDRESS1).toByteArray();
+    }
+}
@@ -0,0 +1,129 @@
+package com.bitmark.apiservice.test.unittest.utils;
+
+import com.bitmark.apiservice.configuration.Network;
+import com.bitmark.apiservice.test.BaseTest;
+import com.bitmark.apiservice.utils.Address;
+import com.bitmark.apiservice.utils.BulkAddressDecoder;
+import com.bitmark.cryptography.crypto.key.PublicKey;
+import com.bitmark.cryptography.error.ValidateException;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static com.bitmark.apiservice.test.unittest.DataProvider.*;
+import static com.bitmark.cryptography.crypto.encoder.Hex.HEX;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class BulkAddressDecoderTest extends BaseTest {
+
+    private static final String LIVE_NET_ACCOUNT_NUMBER =
+            Address.getDefault(PublicKey.from(HEX.decode(PUBLIC_KEY_4)), Network.LIVE_NET)
+                   .getAddress();
+
+    @Test
+    public void testDecode_MixedEntries_KeysAndInvalidReasonsAreReturned() {
+        List<String> accountNumbers = Arrays.asList(ADDRESS1.getAddress(), "",
+                                                    ADDRESS2.getAddress(),
+                                                    ADDRESS1.getAddress() + "0",
+                                                    LIVE_NET_ACCOUNT_NUMBER);
+        // A small chunk size makes the entries spread over several chunks
+        BulkAddressDecoder decoder =
+                new BulkAddressDecoder(Network.TEST_NET, ForkJoinPool.commonPool(), 2);
+
+        BulkAddressDecoder.Result result = decoder.decode(accountNumbers);
+
+        assertEquals(5, result.size());
+        assertEquals(2, result.getValidCount());
+        assertArrayEquals(ADDRESS1.getKey().toBytes(), result.getKey(0));
+        assertArrayEquals(ADDRESS2.getKey().toBytes(), result.getKey(2));
+        assertEquals(Network.TEST_NET, result.getNetwork(2));
+        assertNull(result.getNetwork(1));
+        assertThrows(ValidateException.class, () -> result.getKey(1));
+        assertThrows(ValidateException.class, () -> result.isValid(5));
+
+        List<BulkAddressDecoder.InvalidEntry> invalidEntries = result.getInvalidEntries();
+        assertEquals(3, invalidEntries.size());
+        assertEquals(1, invalidEntries.get(0).getIndex());
+        assertEquals(Address.Validity.INVALID_ENCODING, invalidEntries.get(0).getValidity());
+        assertEquals(3, invalidEntries.get(1).getIndex());
+        assertEquals(Address.Validity.INVALID_ENCODING, invalidEntries.get(1).getValidity());
+        assertEquals(4, invalidEntries.get(2).getIndex());
+        assertEquals(LIVE_NET_ACCOUNT_NUMBER, invalidEntries.get(2).getAccountNumber());
+        assertEquals(Address.Validity.INVALID_NETWORK, result.getValidity(4));
+    }
+
+    @Test
+    public void testDecode_AnyNetwork_NetworkOfEachEntryIsReturned() {
+        BulkAddressDecoder.Result result = new BulkAddressDecoder(null).decode(
+                Arrays.asList(ADDRESS1.getAddress(), LIVE_NET_ACCOUNT_NUMBER));
+
+        assertEquals(2, result.getValidCount());
+        assertEquals(Network.TEST_NET, result.getNetwork(0));
+        assertEquals(Network.LIVE_NET, result.getNetwork(1));
+        assertArrayEquals(HEX.decode(PUBLIC_KEY_4), result.getKey(1));
+    }
+
+    @Test
+    public void testDecode_StreamOfManyChunks_EntriesAreInOrderOfInput() {
+        ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            // More chunks than the decoder lets wait for the pool of one thread
+            BulkAddressDecoder decoder = new BulkAddressDecoder(Network.TEST_NET, pool, 3);
+            BulkAddressDecoder.Result result = decoder.decode(IntStream.range(0, 100).mapToObj(
+                    i -> i % 10 == 0 ? "invalid" + i : (i % 2 == 0 ? ADDRESS1 : ADDRESS2)
+                            .getAddress()));
+
+            assertEquals(100, result.size());
+            assertEquals(90, result.getValidCount());
+            assertEquals(10, result.getInvalidEntries().size());
+            for (int i = 0; i < 100; i++) {
+                if (i % 10 == 0) {
+                    assertEquals(i, result.getInvalidEntries().get(i / 10).getIndex());
+                    assertEquals("invalid" + i,
+                                 result.getInvalidEntries().get(i / 10).getAccountNumber());
+                } else {
+                    assertArrayEquals((i % 2 == 0 ? ADDRESS1 : ADDRESS2).getKey().toBytes(),
+                                      result.getKey(i));
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testDecode_File_LinesAreDecoded() throws IOException {
+        File file = File.createTempFile("addresses", ".txt");
+        file.deleteOnExit();
+        Files.write(file.toPath(), Arrays.asList(" " + ADDRESS1.getAddress() + " ", "abc",
+                                                 ADDRESS2.getAddress()),
+                    StandardCharsets.UTF_8);
+
+        BulkAddressDecoder.Result result = new BulkAddressDecoder(Network.TEST_NET).decode(file);
+
+        assertEquals(3, result.size());
+        assertTrue(result.isValid(0));
+        assertEquals(Address.Validity.INVALID_LENGTH, result.getValidity(1));
+        assertTrue(result.isValid(2));
+    }
+
+    @Test
+    public void testNewBulkAddressDecoder_InvalidParams_ErrorIsThrow() {
+        assertThrows(ValidateException.class,
+                     () -> new BulkAddressDecoder(null, ForkJoinPool.commonPool(), 0));
+        assertThrows(ValidateException.class, () -> new BulkAddressDecoder(null, null, 1));
+    }
+
+}
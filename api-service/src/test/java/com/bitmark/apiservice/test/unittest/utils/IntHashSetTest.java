@@ -0,0 +1,56 @@
+package com.bitmark.apiservice.test.unittest.utils;
+
+import com.bitmark.apiservice.utils.IntHashSet;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class IntHashSetTest {
+
+    @Test
+    public void testAdd_DuplicatedValues_OnlyFirstIsAdded() {
+        IntHashSet set = new IntHashSet();
+        assertTrue(set.add(0));
+        assertTrue(set.add(-1));
+        assertTrue(set.add(Integer.MAX_VALUE));
+        assertFalse(set.add(0));
+        assertFalse(set.add(-1));
+        assertFalse(set.add(Integer.MAX_VALUE));
+        assertEquals(3, set.size());
+        assertTrue(set.contains(0));
+        assertFalse(set.contains(1));
+    }
+
+    @Test
+    public void testAdd_ManyRandomValues_SameAsHashSet() {
+        IntHashSet set = new IntHashSet(4);
+        Set<Integer> expected = new HashSet<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 100000; i++) {
+            int value = random.nextInt(50000);
+            assertEquals(expected.add(value), set.add(value));
+        }
+        assertEquals(expected.size(), set.size());
+        for (int value : expected) assertTrue(set.contains(value));
+    }
+
+    @Test
+    public void testClear_NonEmptySet_SetIsEmpty() {
+        IntHashSet set = new IntHashSet();
+        set.add(0);
+        set.add(5);
+        set.clear();
+        assertTrue(set.isEmpty());
+        assertFalse(set.contains(0));
+        assertFalse(set.contains(5));
+    }
+}
@@ -0,0 +1,130 @@
+package com.bitmark.apiservice.test.unittest.utils;
+
+import com.bitmark.apiservice.response.*;
+import com.bitmark.apiservice.utils.HttpUtils;
+import com.bitmark.apiservice.utils.JsonUtil;
+import com.bitmark.apiservice.utils.record.*;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static com.bitmark.apiservice.test.utils.FileUtils.loadResponse;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class JsonUtilTest {
+
+    private static final Gson REFLECTIVE_GSON = new Gson();
+
+    private static final String OFFERING_BITMARK = "{\"bitmark\":{\"asset_id\":\"7ffe70ce\"," +
+                                                   "\"block_number\":null,\"head\":\"moved\"," +
+                                                   "\"id\":\"ad0c27e5\",\"offset\":\"744377\"," +
+                                                   "\"status\":\"offering\",\"unknown\":[1,2]," +
+                                                   "\"offer\":{\"id\":\"1\",\"from\":\"a\"," +
+                                                   "\"to\":\"b\",\"record\":{\"link\":\"l\"," +
+                                                   "\"owner\":\"o\",\"signature\":\"s\"}," +
+                                                   "\"extra_info\":{\"k\":1,\"v\":[\"x\"]}," +
+                                                   "\"created_at\":\"c\",\"open\":true}}}";
+
+    @ParameterizedTest
+    @MethodSource("createCapturedPayloads")
+    public void testFromJson_CapturedPayload_SameAsReflectiveDecoding(String json, Type type) {
+        Object expected = REFLECTIVE_GSON.fromJson(json, type);
+        Object actual = JsonUtil.getGson().fromJson(json, type);
+        assertNotNull(actual);
+        assertEquals(expected, actual);
+    }
+
+    @ParameterizedTest
+    @MethodSource("createCapturedPayloads")
+    public void testToJson_CapturedPayload_RoundTripIsIdentical(String json, Type type) {
+        Gson gson = JsonUtil.getGson();
+        Object value = gson.fromJson(json, type);
+        assertEquals(value, gson.fromJson(gson.toJson(value, type), type));
+        assertEquals(value, REFLECTIVE_GSON.fromJson(gson.toJson(value, type), type));
+    }
+
+    @Test
+    public void testFromJson_OfferingBitmarkWithNullAndUnknownField_SameAsReflectiveDecoding() {
+        GetBitmarkResponse expected =
+                REFLECTIVE_GSON.fromJson(OFFERING_BITMARK, GetBitmarkResponse.class);
+        GetBitmarkResponse actual =
+                JsonUtil.getGson().fromJson(OFFERING_BITMARK, GetBitmarkResponse.class);
+        assertEquals(expected, actual);
+        assertTrue(actual.getBitmark().isOffer());
+        assertEquals(Head.MOVED, actual.getBitmark().getHead());
+        assertEquals(744377, actual.getBitmark().getOffset());
+        assertEquals("o", actual.getBitmark().getOffer().getOwner());
+    }
+
+    @Test
+    public void testFromJson_NullRecord_NullIsReturn() {
+        assertNull(JsonUtil.getGson().fromJson("null", BitmarkRecord.class));
+        assertNull(JsonUtil.getGson().fromJson("{\"bitmark\":null}", GetBitmarkResponse.class)
+                           .getBitmark());
+    }
+
+    @Test
+    public void testJsonToMap_ValidJson_SameAsMapToJson() {
+        Map<String, String> map = new HashMap<>();
+        map.put("name", "bitmark");
+        map.put("description", "sdk");
+        assertEquals(map, HttpUtils.jsonToMap(HttpUtils.mapToJson(map)));
+        assertEquals("{}", HttpUtils.mapToJson(null));
+    }
+
+    private static Stream<Arguments> createCapturedPayloads() throws Exception {
+        return Stream.of(
+                Arguments.of(loadResponse("/query/bitmark/bitmark1.json"),
+                             GetBitmarkResponse.class),
+                Arguments.of(loadResponse("/query/bitmark/bitmark2.json"),
+                             GetBitmarkResponse.class),
+                Arguments.of(loadResponse("/query/bitmark/bitmarks1.json"),
+                             GetBitmarksResponse.class),
+                Arguments.of(loadResponse("/query/bitmark/bitmarks2.json"),
+                             GetBitmarksResponse.class),
+                Arguments.of(loadResponse("/query/transaction/transaction1.json"),
+                             GetTransactionResponse.class),
+                Arguments.of(loadResponse("/query/transaction/transaction2.json"),
+                             GetTransactionResponse.class),
+                Arguments.of(loadResponse("/query/transaction/transactions1.json"),
+                             GetTransactionsResponse.class),
+                Arguments.of(loadResponse("/query/transaction/transactions2.json"),
+                             GetTransactionsResponse.class),
+                Arguments.of(loadResponse("/registration/registration1.json"),
+                             RegistrationResponse.class),
+                Arguments.of(loadResponse("/registration/registration2.json"),
+                             RegistrationResponse.class),
+                Arguments.of(loadResponse("/query/asset/assets1.json"),
+                             new TypeToken<Map<String, List<AssetRecord>>>() {
+                             }.getType()),
+                Arguments.of(loadResponse("/query/asset/assets2.json"),
+                             new TypeToken<Map<String, List<AssetRecord>>>() {
+                             }.getType()),
+                Arguments.of(loadResponse("/query/share/share_record1.json"),
+                             new TypeToken<Map<String, List<ShareRecord>>>() {
+                             }.getType()),
+                Arguments.of(loadResponse("/query/share/share_record2.json"),
+                             new TypeToken<Map<String, List<ShareRecord>>>() {
+                             }.getType()),
+                Arguments.of(loadResponse("/query/share/list_grant_share1.json"),
+                             new TypeToken<Map<String, List<ShareGrantRecord>>>() {
+                             }.getType()),
+                Arguments.of(loadResponse("/query/share/list_grant_share2.json"),
+                             new TypeToken<Map<String, List<ShareGrantRecord>>>() {
+                             }.getType()));
+    }
+}
@@ -0,0 +1,139 @@
+package com.bitmark.apiservice.test.unittest.utils.cache;
+
+import com.bitmark.apiservice.utils.cache.GenesisStateCache;
+import com.bitmark.apiservice.utils.callback.Callback1;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class GenesisStateCacheTest {
+
+    private final List<Callback1<Boolean>> pendingLookups = new ArrayList<>();
+
+    private final GenesisStateCache cache =
+            new GenesisStateCache(10, (assetId, callback) -> pendingLookups.add(callback));
+
+    @Test
+    public void testContainsGenesisBitmark_ConcurrentLookups_OneRequestIsSent() {
+        List<Boolean> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) cache.containsGenesisBitmark("asset", collect(results));
+
+        assertEquals(1, pendingLookups.size());
+        pendingLookups.get(0).onSuccess(true);
+
+        assertEquals(5, results.size());
+        for (Boolean result : results) assertFalse(result);
+        assertEquals(1, cache.getLookupCount());
+        assertEquals(4, cache.getCoalescedCount());
+    }
+
+    @Test
+    public void testContainsGenesisBitmark_AssetHasBitmarks_LookupIsSkippedForGood() {
+        List<Boolean> results = new ArrayList<>();
+        cache.containsGenesisBitmark("asset", collect(results));
+        pendingLookups.get(0).onSuccess(true);
+
+        for (int i = 0; i < 1000; i++) cache.containsGenesisBitmark("asset", collect(results));
+
+        assertEquals(1, pendingLookups.size());
+        assertEquals(1001, results.size());
+        assertFalse(results.contains(true));
+    }
+
+    @Test
+    public void testContainsGenesisBitmark_EmptyAsset_StateIsLookedUpUntilIssued() {
+        List<Boolean> results = new ArrayList<>();
+        cache.containsGenesisBitmark("asset", collect(results));
+        pendingLookups.get(0).onSuccess(false);
+        assertTrue(results.get(0));
+
+        cache.containsGenesisBitmark("asset", collect(results));
+        assertEquals(2, pendingLookups.size());
+        pendingLookups.get(1).onSuccess(false);
+
+        cache.markIssued("asset");
+        cache.containsGenesisBitmark("asset", collect(results));
+        assertEquals(2, pendingLookups.size());
+        assertFalse(results.get(2));
+    }
+
+    @Test
+    public void testContainsGenesisBitmark_LookupFailed_ErrorIsDeliveredAndNotCached() {
+        List<Throwable> errors = new ArrayList<>();
+        Callback1<Boolean> callback = new Callback1<Boolean>() {
+            @Override
+            public void onSuccess(Boolean data) {
+                fail("Must not succeed");
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                errors.add(throwable);
+            }
+        };
+        cache.containsGenesisBitmark("asset", callback);
+        cache.containsGenesisBitmark("asset", callback);
+        pendingLookups.get(0).onError(new RuntimeException("network"));
+
+        assertEquals(2, errors.size());
+        cache.containsGenesisBitmark("asset", callback);
+        assertEquals(2, pendingLookups.size());
+    }
+
+    @Test
+    public void testContainsGenesisBitmark_LoaderThrows_ErrorIsDeliveredAndNotKept() {
+        GenesisStateCache cache = new GenesisStateCache(10, (assetId, callback) -> {
+            throw new IllegalStateException("closed");
+        });
+        List<Throwable> errors = new ArrayList<>();
+        Callback1<Boolean> callback = new Callback1<Boolean>() {
+            @Override
+            public void onSuccess(Boolean data) {
+                fail("Must not succeed");
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                errors.add(throwable);
+            }
+        };
+        cache.containsGenesisBitmark("asset", callback);
+        cache.containsGenesisBitmark("asset", callback);
+
+        assertEquals(2, errors.size());
+        assertEquals(2, cache.getLookupCount());
+        assertEquals(0, cache.getCoalescedCount());
+    }
+
+    @Test
+    public void testContainsGenesisBitmark_ErrorAfterCompleted_ErrorIsIgnored() {
+        List<Boolean> results = new ArrayList<>();
+        cache.containsGenesisBitmark("asset", collect(results));
+        pendingLookups.get(0).onSuccess(false);
+        pendingLookups.get(0).onError(new RuntimeException("late"));
+
+        assertEquals(1, results.size());
+    }
+
+    private static Callback1<Boolean> collect(List<Boolean> results) {
+        return new Callback1<Boolean>() {
+            @Override
+            public void onSuccess(Boolean data) {
+                results.add(data);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                fail(throwable);
+            }
+        };
+    }
+}
@@ -0,0 +1,75 @@
+package com.bitmark.apiservice.test.unittest.utils.cache;
+
+import com.bitmark.apiservice.utils.cache.LruCache;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class LruCacheTest {
+
+    @Test
+    public void testGet_CachedAndMissingKey_CountersAreUpdated() {
+        LruCache<String, Integer> cache = new LruCache<>(2);
+        cache.put("a", 1);
+        assertEquals(Integer.valueOf(1), cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void testPut_ExceedMaxSize_LeastRecentlyUsedIsEvicted() {
+        LruCache<String, Integer> cache = new LruCache<>(2);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+        cache.put("c", 3);
+        assertEquals(2, cache.size());
+        assertNull(cache.get("b"));
+        assertEquals(Integer.valueOf(1), cache.get("a"));
+        assertEquals(Integer.valueOf(3), cache.get("c"));
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    public void testPut_NullValue_NothingIsCached() {
+        LruCache<String, Integer> cache = new LruCache<>(2);
+        cache.put("a", null);
+        cache.put(null, 1);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testPut_ConcurrentWriters_SizeIsBounded() throws InterruptedException {
+        LruCache<Integer, Integer> cache = new LruCache<>(100);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            final int base = i * 10000;
+            Thread thread = new Thread(() -> {
+                for (int j = 0; j < 10000; j++) {
+                    cache.put(base + j, j);
+                    cache.get(base + j / 2);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) thread.join();
+        assertEquals(100, cache.size());
+        assertEquals(80000, cache.getHitCount() + cache.getMissCount());
+        assertEquals(80000 - 100, cache.getEvictionCount());
+    }
+
+    @Test
+    public void testNewCache_InvalidMaxSize_ErrorIsThrow() {
+        assertThrows(Exception.class, () -> new LruCache<String, String>(0));
+    }
+}
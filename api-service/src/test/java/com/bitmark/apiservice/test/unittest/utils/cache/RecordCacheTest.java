@@ -0,0 +1,103 @@
+package com.bitmark.apiservice.test.unittest.utils.cache;
+
+import com.bitmark.apiservice.response.GetTransactionsResponse;
+import com.bitmark.apiservice.utils.JsonUtil;
+import com.bitmark.apiservice.utils.cache.RecordCache;
+import com.bitmark.apiservice.utils.record.AssetRecord;
+import com.bitmark.apiservice.utils.record.TransactionRecord;
+import com.google.gson.reflect.TypeToken;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.bitmark.apiservice.test.utils.FileUtils.loadResponse;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class RecordCacheTest {
+
+    @Test
+    public void testPutAssets_ConfirmedAssets_AssetsAreCached() throws Exception {
+        List<AssetRecord> assets = loadAssets("/query/asset/assets1.json");
+        RecordCache cache = new RecordCache(10);
+        cache.putAssets(assets);
+        for (AssetRecord asset : assets) {
+            if (asset.getStatus() == AssetRecord.Status.CONFIRMED)
+                assertEquals(asset, cache.getAsset(asset.getId()));
+            else assertNull(cache.getAsset(asset.getId()));
+        }
+    }
+
+    @Test
+    public void testGetAsset_ChangeMetadataOfCachedAsset_ErrorIsThrow() throws Exception {
+        AssetRecord asset = loadAssets("/query/asset/assets1.json").get(0);
+        RecordCache cache = new RecordCache(10);
+        cache.putAsset(asset);
+        Map<String, String> metadata = cache.getAsset(asset.getId()).getMetadata();
+        assertThrows(UnsupportedOperationException.class, () -> metadata.put("Source", "Other"));
+        assertThrows(UnsupportedOperationException.class, metadata::clear);
+        assertEquals("HealthKit", cache.getAsset(asset.getId()).getMetadata().get("Source"));
+    }
+
+    @Test
+    public void testPutAsset_PendingAsset_AssetIsNotCached() {
+        AssetRecord asset = JsonUtil.getGson().fromJson("{\"id\":\"abc\",\"status\":\"pending\"}",
+                                                        AssetRecord.class);
+        RecordCache cache = new RecordCache(10);
+        cache.putAsset(asset);
+        assertNull(cache.getAsset("abc"));
+        assertEquals(1, cache.getAssetCache().getMissCount());
+    }
+
+    @Test
+    public void testPutTransaction_MovedConfirmedTransaction_TransactionIsCached() {
+        TransactionRecord tx = loadTransaction("confirmed", "moved");
+        RecordCache cache = new RecordCache(10);
+        cache.putTransaction(tx);
+        assertEquals(tx, cache.getTransaction(tx.getId()));
+        assertEquals(1, cache.getTransactionCache().getHitCount());
+    }
+
+    @Test
+    public void testPutTransaction_HeadOrPendingTransaction_TransactionIsNotCached()
+            throws Exception {
+        RecordCache cache = new RecordCache(10);
+        GetTransactionsResponse response = JsonUtil.getGson().fromJson(
+                loadResponse("/query/transaction/transactions1.json"),
+                GetTransactionsResponse.class);
+        cache.putTransactions(response.getTransactions());
+        for (TransactionRecord tx : response.getTransactions()) {
+            assertNull(cache.getTransaction(tx.getId()));
+        }
+        cache.putTransaction(loadTransaction("pending", "moved"));
+        assertEquals(0, cache.getTransactionCache().size());
+    }
+
+    @Test
+    public void testClear_CachedRecords_CacheIsEmpty() throws Exception {
+        RecordCache cache = new RecordCache(10);
+        cache.putAssets(loadAssets("/query/asset/assets1.json"));
+        cache.putTransaction(loadTransaction("confirmed", "moved"));
+        cache.clear();
+        assertEquals(0, cache.getAssetCache().size());
+        assertEquals(0, cache.getTransactionCache().size());
+    }
+
+    private static List<AssetRecord> loadAssets(String name) throws Exception {
+        Map<String, List<AssetRecord>> response = JsonUtil.getGson().fromJson(
+                loadResponse(name), new TypeToken<Map<String, List<AssetRecord>>>() {
+                }.getType());
+        return response.get("assets");
+    }
+
+    private static TransactionRecord loadTransaction(String status, String head) {
+        return JsonUtil.getGson().fromJson(
+                "{\"id\":\"67ef8\",\"asset_id\":\"3c50d\",\"status\":\"" + status +
+                "\",\"head\":\"" + head + "\"}", TransactionRecord.class);
+    }
+}
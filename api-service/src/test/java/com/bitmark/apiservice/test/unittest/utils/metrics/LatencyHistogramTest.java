@@ -0,0 +1,46 @@
+package com.bitmark.apiservice.test.unittest.utils.metrics;
+
+import com.bitmark.apiservice.utils.metrics.LatencyHistogram;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testRecord_Values_StatisticsAreCorrect() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) histogram.record(i * 1000L);
+        assertEquals(100, histogram.getCount());
+        assertEquals(50500, histogram.getMean());
+        assertEquals(100_000, histogram.getMax());
+    }
+
+    @Test
+    public void testGetPercentile_Values_AtMostTwiceRealValue() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) histogram.record(i * 1000L);
+        for (double percentile : new double[]{1, 50, 90, 99, 100}) {
+            long real = (long) (percentile * 10) * 1000L;
+            long value = histogram.getPercentile(percentile);
+            assertTrue(value >= real && value <= real * 2, percentile + ": " + value);
+        }
+        assertEquals(histogram.getMax(), histogram.getPercentile(100));
+    }
+
+    @Test
+    public void testGetPercentile_NoValue_ReturnZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getPercentile(99));
+        assertEquals(0, histogram.getMean());
+        histogram.record(0);
+        histogram.record(-5);
+        assertEquals(0, histogram.getPercentile(50));
+        assertEquals(2, histogram.getCount());
+    }
+}
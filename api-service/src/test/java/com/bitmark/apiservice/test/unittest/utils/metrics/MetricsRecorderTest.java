@@ -0,0 +1,101 @@
+package com.bitmark.apiservice.test.unittest.utils.metrics;
+
+import com.bitmark.apiservice.middleware.Converter;
+import com.bitmark.apiservice.utils.callback.Callback1;
+import com.bitmark.apiservice.utils.metrics.EndpointMetrics;
+import com.bitmark.apiservice.utils.metrics.MetricsEventListener;
+import com.bitmark.apiservice.utils.metrics.MetricsRecorder;
+import com.bitmark.apiservice.utils.metrics.RequestMetrics;
+import com.bitmark.apiservice.utils.record.AssetRecord;
+import okhttp3.*;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.bitmark.apiservice.test.utils.FileUtils.loadResponse;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @since 10/18/26
+ * Copyright © 2026 Bitmark. All rights reserved.
+ */
+
+public class MetricsRecorderTest {
+
+    private static final MediaType JSON = MediaType.parse("application/json; charset=utf-8");
+
+    @Test
+    public void testGetEndpoint_PathWithIds_IdsAreReplaced() {
+        assertEquals("GET /v3/bitmarks/{id}", RequestMetrics.getEndpoint(
+                new Request.Builder().url("https://api.bitmark.com/v3/bitmarks/abc?asset=true")
+                                     .build()));
+        assertEquals("POST /v3/issue", RequestMetrics.getEndpoint(
+                new Request.Builder().url("https://api.bitmark.com/v3/issue")
+                                     .post(RequestBody.create(JSON, "{}")).build()));
+    }
+
+    @Test
+    public void testOnRequestEnd_Requests_AggregatedPerEndpoint() {
+        MetricsRecorder recorder = new MetricsRecorder();
+        for (int i = 0; i < 3; i++) recorder.onRequestStart("GET /v3/assets/{id}");
+        recorder.onRequestStart("GET /v3/txs");
+
+        for (int code : new int[]{200, 404}) {
+            RequestMetrics metrics = new RequestMetrics("GET /v3/assets/{id}");
+            metrics.onCompleted(code);
+            recorder.onRequestEnd(metrics);
+        }
+
+        EndpointMetrics assets = recorder.getEndpoint("GET /v3/assets/{id}");
+        assertEquals(2, assets.getRequestCount());
+        assertEquals(1, assets.getInFlight());
+        assertEquals(1, assets.getErrorCount());
+        assertEquals(1, recorder.getEndpoint("GET /v3/txs").getInFlight());
+        assertEquals(2, recorder.getEndpoints().size());
+        assertNull(recorder.getEndpoint("GET /v3/shares"));
+    }
+
+    @Test
+    public void testMeasureCall_RealCallAndConverter_MetricsAreRecorded() throws Exception {
+        String body = loadResponse("/query/asset/asset1.json");
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(new MockResponse().setBody(body));
+            server.start();
+            OkHttpClient client = new OkHttpClient.Builder()
+                    .eventListenerFactory(MetricsEventListener.FACTORY).build();
+            Request request = new Request.Builder().url(server.url("/v3/assets/1"))
+                                                   .post(RequestBody.create(JSON, "{\"a\":1}"))
+                                                   .build();
+            RequestMetrics metrics = new RequestMetrics(RequestMetrics.getEndpoint(request));
+            Response response = client.newCall(request.newBuilder().tag(metrics).build())
+                                      .execute();
+            metrics.onCompleted(response.code());
+
+            AtomicReference<AssetRecord> asset = new AtomicReference<>();
+            Converter.toAssetRecord(new Callback1<AssetRecord>() {
+                @Override
+                public void onSuccess(AssetRecord data) {
+                    asset.set(data);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    fail(throwable);
+                }
+            }).onSuccess(response);
+
+            assertNotNull(asset.get());
+            assertEquals("POST /v3/assets/{id}", metrics.getEndpoint());
+            assertEquals(1, metrics.getAttempts());
+            assertEquals(200, metrics.getStatusCode());
+            assertEquals(7, metrics.getBytesSent());
+            assertEquals(body.getBytes("UTF-8").length, metrics.getBytesReceived());
+            assertTrue(metrics.getNetworkTime() > 0);
+            assertTrue(metrics.getDecodeTime() > 0);
+            assertTrue(metrics.getTotalTime() >= metrics.getQueueTime() +
+                                                metrics.getNetworkTime());
+        }
+    }
+}
@@ -1,8 +1,17 @@
 package com.bitmark.apiservice.test.utils;
 
+import com.bitmark.apiservice.BitmarkClient;
+import com.bitmark.apiservice.configuration.GlobalConfiguration;
+import com.bitmark.apiservice.middleware.RetryPolicy;
+import com.bitmark.apiservice.transport.OkHttpTransport;
+import com.bitmark.apiservice.transport.Transport;
 import com.bitmark.apiservice.utils.Pair;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockWebServer;
 
 import java.lang.reflect.Field;
+import java.util.function.UnaryOperator;
 
 /**
  * @author Hieu Pham
@@ -28,4 +37,25 @@ public class TestUtils {
         field.setAccessible(true);
         return field.get(object);
     }
+
+    /**
+     * Build a client whose requests are routed to the local server instead of the Bitmark api
+     *
+     * @param configure Customize a new configuration which has a dummy api token
+     */
+    public static BitmarkClient newLocalClient(MockWebServer server,
+                                               UnaryOperator<GlobalConfiguration.Builder> configure) {
+        final HttpUrl url = server.url("/");
+        final Transport transport = new OkHttpTransport(new OkHttpClient());
+        final Transport local = (request, callback) -> transport.send(request.newBuilder().url(
+                request.url().newBuilder().scheme(url.scheme()).host(url.host())
+                       .port(url.port()).build()).build(), callback);
+        return BitmarkClient.builder().withConfiguration(
+                configure.apply(GlobalConfiguration.builder().withApiToken("DummyApiToken"))
+                         .withRetryPolicy(RetryPolicy.NONE).withTransport(local)).build();
+    }
+
+    public static BitmarkClient newLocalClient(MockWebServer server) {
+        return newLocalClient(server, configuration -> configuration);
+    }
 }
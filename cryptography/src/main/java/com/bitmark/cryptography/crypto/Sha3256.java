@@ -1,6 +1,7 @@
 package com.bitmark.cryptography.crypto;
 
 import com.bitmark.cryptography.error.ValidateException;
+import org.bouncycastle.crypto.digests.SHA3Digest;
 import org.bouncycastle.crypto.digests.SHAKEDigest;
 import org.bouncycastle.jcajce.provider.digest.SHA3;
 
@@ -18,6 +19,13 @@ public class Sha3256 implements Comparable<Sha3256> {
 
     public static final int HASH_BYTE_LENGTH = 32;
 
+    private static final ThreadLocal<SHA3Digest> DIGESTS = new ThreadLocal<SHA3Digest>() {
+        @Override
+        protected SHA3Digest initialValue() {
+            return new SHA3Digest(HASH_BYTE_LENGTH * 8);
+        }
+    };
+
     private final byte[] bytes;
 
     private Sha3256(byte[] bytes) {
@@ -45,6 +53,27 @@ public class Sha3256 implements Comparable<Sha3256> {
         return digest.digest();
     }
 
+    /**
+     * Hash into the given output, the digest of the calling thread is reused so nothing is
+     * allocated
+     */
+    public static void hash(byte[] input, int offset, int length, byte[] output,
+                            int outputOffset) throws ValidateException {
+        // Plain checks since a capturing specification would be allocated on every call
+        if (input == null || output == null) throw new ValidateException.NullValueError();
+        if (offset < 0 || length <= 0 || length > input.length - offset || outputOffset < 0 ||
+            output.length - outputOffset < HASH_BYTE_LENGTH)
+            throw new ValidateException("Invalid range of the input or the output");
+        final SHA3Digest digest = DIGESTS.get();
+        try {
+            digest.update(input, offset, length);
+            digest.doFinal(output, outputOffset);
+        } finally {
+            // doFinal resets it already, it is for an update or a doFinal which threw halfway
+            digest.reset();
+        }
+    }
+
     public static byte[] hash(String hexInput) throws ValidateException {
         checkValidHex(hexInput);
         final byte[] input = HEX.decode(hexInput);
@@ -30,83 +30,254 @@ public class Base58 implements Encoder {
         }
     }
 
+    // The number is held in limbs of 5 base58 digits while encoding and of 32 bits while
+    // decoding, so each pass over the limbs consumes 4 bytes or 5 digits instead of one
+    private static final int DIGITS_PER_LIMB = 5;
+
+    private static final int BYTES_PER_LIMB = 4;
+
+    private static final long[] POWERS = new long[DIGITS_PER_LIMB + 1];
+
+    private static final long LIMB_BASE;
+
+    static {
+        POWERS[0] = 1;
+        for (int i = 1; i < POWERS.length; i++) {
+            POWERS[i] = POWERS[i - 1] * ALPHABET.length;
+        }
+        LIMB_BASE = POWERS[DIGITS_PER_LIMB];
+    }
+
+    private static final ThreadLocal<int[][]> LIMBS = new ThreadLocal<int[][]>() {
+        @Override
+        protected int[][] initialValue() {
+            return new int[][]{new int[16]};
+        }
+    };
+
     private Base58() {
     }
 
+    /**
+     * @return The maximum number of characters the given number of bytes is encoded to
+     */
+    public static int maxEncodedLength(int length) {
+        // log(256) / log(58) is less than 1.38
+        return length * 138 / 100 + 1;
+    }
+
     @Override
     public String encode(final byte[] input) {
         checkValid(() -> input != null && input.length > 0);
+        final char[] encoded = new char[maxEncodedLength(input.length)];
+        final int length = encode(input, 0, input.length, encoded, 0);
+        return new String(encoded, 0, length);
+    }
 
-        // Count leading zeros.
-        int zeros = 0;
-        while (zeros < input.length && input[zeros] == 0) {
-            ++zeros;
+    /**
+     * Encode into the output from the offset, nothing is allocated once the scratch of the
+     * calling thread is big enough.
+     *
+     * @return The number of written characters
+     */
+    public int encode(byte[] input, int offset, int length, char[] output, int outputOffset)
+            throws ValidateException {
+        checkRange(input, offset, length);
+        final int[] limbs = limbs(length * 8 / 29 + 2);
+        final int zeros = leadingZeros(input, offset, length);
+        final int size = toBase58Limbs(input, offset + zeros, length - zeros, limbs);
+        final int topDigits = size == 0 ? 0 : digitCount(limbs[size - 1]);
+        final int encodedLength =
+                size == 0 ? zeros : zeros + topDigits + (size - 1) * DIGITS_PER_LIMB;
+        if (output == null || outputOffset < 0 || output.length - outputOffset < encodedLength) {
+            throw new ValidateException("Output is too short");
+        }
+
+        int position = outputOffset;
+        for (int i = 0; i < zeros; i++) {
+            output[position++] = ENCODED_ZERO;
         }
-        // Convert base-256 digits to base-58 digits (plus conversion to ASCII characters)
-        byte[] bytes = Arrays.copyOf(input, input.length); // since we modify it in-place
-        char[] encoded = new char[bytes.length * 2]; // upper bound
-        int outputStart = encoded.length;
-        for (int inputStart = zeros; inputStart < bytes.length; ) {
-            encoded[--outputStart] = ALPHABET[divmod(bytes, inputStart, 256, 58)];
-            if (bytes[inputStart] == 0) {
-                ++inputStart; // optimization - skip leading zeros
+        for (int i = size - 1; i >= 0; i--) {
+            final long limb = limbs[i];
+            for (int digit = i == size - 1 ? topDigits : DIGITS_PER_LIMB; digit > 0; digit--) {
+                output[position++] = ALPHABET[(int) (limb / POWERS[digit - 1] % 58)];
             }
         }
-        // Preserve exactly as many leading encoded zeros in output as there were leading zeros in input.
-        while (outputStart < encoded.length && encoded[outputStart] == ENCODED_ZERO) {
-            ++outputStart;
+        return encodedLength;
+    }
+
+    /**
+     * Append the encoded input to the builder, nothing is allocated once the scratch of the
+     * calling thread and the builder are big enough.
+     */
+    public StringBuilder encode(byte[] input, int offset, int length, StringBuilder output)
+            throws ValidateException {
+        checkRange(input, offset, length);
+        if (output == null) throw new ValidateException.NullValueError();
+        final int[] limbs = limbs(length * 8 / 29 + 2);
+        final int zeros = leadingZeros(input, offset, length);
+        final int size = toBase58Limbs(input, offset + zeros, length - zeros, limbs);
+        for (int i = 0; i < zeros; i++) {
+            output.append(ENCODED_ZERO);
         }
-        while (--zeros >= 0) {
-            encoded[--outputStart] = ENCODED_ZERO;
+        for (int i = size - 1; i >= 0; i--) {
+            final long limb = limbs[i];
+            final int digits = i == size - 1 ? digitCount(limbs[i]) : DIGITS_PER_LIMB;
+            for (int digit = digits; digit > 0; digit--) {
+                output.append(ALPHABET[(int) (limb / POWERS[digit - 1] % 58)]);
+            }
         }
-        // Return encoded string (including encoded leading zeros).
-        return new String(encoded, outputStart, encoded.length - outputStart);
+        return output;
     }
 
     @Override
     public byte[] decode(String input) throws ValidateException {
         checkValid(() -> input != null && !input.isEmpty());
-        // Convert the base58-encoded ASCII chars to a base58 byte sequence (base58 digits).
-        byte[] input58 = new byte[input.length()];
         for (int i = 0; i < input.length(); ++i) {
-            char c = input.charAt(i);
-            int digit = c < 128 ? INDEXES[c] : -1;
-            if (digit < 0) {
-                throw new ValidateException.InvalidCharacter(c, i);
+            final char c = input.charAt(i);
+            if (digit(c) < 0) throw new ValidateException.InvalidCharacter(c, i);
+        }
+        final int zeros = leadingZeros(input);
+        final int[] limbs = limbs((input.length() - zeros) / 4 + 2);
+        final int size = toByteLimbs(input, zeros, limbs);
+        final byte[] decoded = new byte[zeros + byteCount(limbs, size)];
+        writeLimbs(limbs, size, decoded);
+        return decoded;
+    }
+
+    /**
+     * Decode into the output without allocating anything or throwing, such as to validate many
+     * values. The decoded bytes are right aligned in the output and the rest is zero.
+     *
+     * @return The number of decoded bytes including the leading zeros, or -1 if the input is
+     * not a base58 value. A value which is decoded to more bytes than the output holds returns
+     * a number greater than the output length, the output is undefined then.
+     */
+    public int decode(String input, byte[] output) {
+        if (input == null || input.isEmpty() || output == null) return -1;
+        for (int i = 0, size = input.length(); i < size; i++) {
+            if (digit(input.charAt(i)) < 0) return -1;
+        }
+        final int zeros = leadingZeros(input);
+        if (zeros > output.length) return output.length + 1;
+        // Each digit adds more than 0.73 byte, so a longer input than this surely overflows
+        if ((input.length() - zeros) > output.length * 137 / 100 + 1) return output.length + 1;
+
+        final int[] limbs = limbs((input.length() - zeros) / 4 + 2);
+        final int size = toByteLimbs(input, zeros, limbs);
+        final int length = zeros + byteCount(limbs, size);
+        if (length > output.length) return output.length + 1;
+        Arrays.fill(output, 0, output.length - length + zeros, (byte) 0);
+        writeLimbs(limbs, size, output);
+        return length;
+    }
+
+    // Convert the bytes to limbs of base 58^5 from the least significant, the bytes are taken
+    // 4 at a time
+    private static int toBase58Limbs(byte[] input, int offset, int length, int[] limbs) {
+        int size = 0;
+        final int end = offset + length;
+        int position = offset;
+        while (position < end) {
+            final int count = position == offset && length % BYTES_PER_LIMB != 0 ?
+                              length % BYTES_PER_LIMB : BYTES_PER_LIMB;
+            long carry = 0;
+            for (int i = 0; i < count; i++) {
+                carry = carry << 8 | (input[position++] & 0xFF);
+            }
+            final int shift = count * 8;
+            for (int i = 0; i < size; i++) {
+                final long value = ((long) limbs[i] << shift) + carry;
+                limbs[i] = (int) (value % LIMB_BASE);
+                carry = value / LIMB_BASE;
+            }
+            while (carry != 0) {
+                limbs[size++] = (int) (carry % LIMB_BASE);
+                carry /= LIMB_BASE;
             }
-            input58[i] = (byte) digit;
         }
-        // Count leading zeros.
-        int zeros = 0;
-        while (zeros < input58.length && input58[zeros] == 0) {
-            ++zeros;
+        return size;
+    }
+
+    // Convert the digits after the leading zeros to limbs of 32 bits from the least significant,
+    // the digits are taken 5 at a time
+    private static int toByteLimbs(String input, int zeros, int[] limbs) {
+        int size = 0;
+        final int length = input.length() - zeros;
+        int position = zeros;
+        while (position < input.length()) {
+            final int count = position == zeros && length % DIGITS_PER_LIMB != 0 ?
+                              length % DIGITS_PER_LIMB : DIGITS_PER_LIMB;
+            long carry = 0;
+            for (int i = 0; i < count; i++) {
+                carry = carry * 58 + digit(input.charAt(position++));
+            }
+            final long multiplier = POWERS[count];
+            for (int i = 0; i < size; i++) {
+                final long value = (limbs[i] & 0xFFFFFFFFL) * multiplier + carry;
+                limbs[i] = (int) value;
+                carry = value >>> 32;
+            }
+            if (carry != 0) limbs[size++] = (int) carry;
         }
-        // Convert base-58 digits to base-256 digits.
-        byte[] decoded = new byte[input.length()];
-        int outputStart = decoded.length;
-        for (int inputStart = zeros; inputStart < input58.length; ) {
-            decoded[--outputStart] = divmod(input58, inputStart, 58, 256);
-            if (input58[inputStart] == 0) {
-                ++inputStart; // optimization - skip leading zeros
+        return size;
+    }
+
+    // Write the limbs big endian at the end of the output
+    private static void writeLimbs(int[] limbs, int size, byte[] output) {
+        int position = output.length;
+        for (int i = 0; i < size; i++) {
+            int limb = limbs[i];
+            for (int j = 0; j < BYTES_PER_LIMB && (i < size - 1 || limb != 0); j++) {
+                output[--position] = (byte) limb;
+                limb >>>= 8;
             }
         }
-        // Ignore extra leading zeroes that were added during the calculation.
-        while (outputStart < decoded.length && decoded[outputStart] == 0) {
-            ++outputStart;
+    }
+
+    private static int byteCount(int[] limbs, int size) {
+        if (size == 0) return 0;
+        final int topBits = 32 - Integer.numberOfLeadingZeros(limbs[size - 1]);
+        return (size - 1) * BYTES_PER_LIMB + (topBits + 7) / 8;
+    }
+
+    private static int digitCount(int limb) {
+        int count = 1;
+        while (count < DIGITS_PER_LIMB && limb >= POWERS[count]) {
+            count++;
         }
-        // Return decoded data (including original number of leading zeros).
-        return Arrays.copyOfRange(decoded, outputStart - zeros, decoded.length);
+        return count;
     }
 
-    private static byte divmod(byte[] number, int firstDigit, int base, int divisor) {
-        // this is just long division which accounts for the base of the input digits
-        int remainder = 0;
-        for (int i = firstDigit; i < number.length; i++) {
-            int digit = (int) number[i] & 0xFF;
-            int temp = remainder * base + digit;
-            number[i] = (byte) (temp / divisor);
-            remainder = temp % divisor;
+    private static int leadingZeros(byte[] input, int offset, int length) {
+        int zeros = 0;
+        while (zeros < length && input[offset + zeros] == 0) {
+            ++zeros;
         }
-        return (byte) remainder;
+        return zeros;
+    }
+
+    private static int leadingZeros(String input) {
+        int zeros = 0;
+        while (zeros < input.length() && input.charAt(zeros) == ENCODED_ZERO) {
+            ++zeros;
+        }
+        return zeros;
+    }
+
+    private static int digit(char c) {
+        return c < 128 ? INDEXES[c] : -1;
+    }
+
+    private static void checkRange(byte[] input, int offset, int length) {
+        if (input == null || offset < 0 || length <= 0 || input.length - offset < length) {
+            throw new ValidateException.InvalidLength();
+        }
+    }
+
+    private static int[] limbs(int size) {
+        final int[][] holder = LIMBS.get();
+        if (holder[0].length < size) holder[0] = new int[Math.max(size, holder[0].length * 2)];
+        return holder[0];
     }
 }
@@ -42,6 +42,21 @@ public class Hex implements Encoder {
         return out;
     }
 
+    /**
+     * Check the value without decoding it, nothing is thrown or allocated
+     *
+     * @return The number of bytes the value is decoded to, or -1 if it is not a hex value
+     */
+    public int decodedLength(String value) {
+        if (value == null || value.isEmpty()) return -1;
+        for (int i = 0, length = value.length(); i < length; i++) {
+            final char ch = value.charAt(i);
+            if ((ch < '0' || ch > '9') && (ch < 'a' || ch > 'f') && (ch < 'A' || ch > 'F'))
+                return -1;
+        }
+        return (value.length() + 1) >> 1;
+    }
+
     @Override
     public String encode(byte[] data) throws ValidateException {
         checkNonNull(data);
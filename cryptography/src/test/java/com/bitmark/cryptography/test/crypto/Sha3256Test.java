@@ -2,6 +2,7 @@ package com.bitmark.cryptography.test.crypto;
 
 import com.bitmark.cryptography.crypto.Sha3256;
 import com.bitmark.cryptography.error.ValidateException;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -32,6 +33,34 @@ public class Sha3256Test extends BaseCryptoTest {
         assertTrue(Arrays.equals(expectedResult, output));
     }
 
+    @ParameterizedTest
+    @CsvSource({"BitmarkSDK, 148d5efdce00d2dc0caa14da6fc0bf3c9456dcbd2c680d86dd57be112b7edcce",
+            "JavaSDK, ec2a665796a2d8be8f4da565f57fe528c1d689764d8c56f8b31266acef15c404",
+            "BitmarkInTheFuture, 11d77428b1ec48eeac27b5263e66838665e357631cf97bad5eb7ea07840d1aaf"})
+    public void testHashByteArrayIntoOutput_NoError_CorrectHashIsWritten(String inputString, String hexExpectedResult) {
+        byte[] input = RAW.decode(inputString);
+        byte[] output = new byte[Sha3256.HASH_BYTE_LENGTH + 1];
+        // The digest is reused so hash twice to make sure it is reset
+        for (int i = 0; i < 2; i++) Sha3256.hash(input, 0, input.length, output, 1);
+        assertArrayEquals(HEX.decode(hexExpectedResult), Arrays.copyOfRange(output, 1, output.length));
+        assertThrows(ValidateException.class,
+                () -> Sha3256.hash(input, 0, input.length, new byte[Sha3256.HASH_BYTE_LENGTH], 1));
+    }
+
+    @Test
+    public void testHashByteArrayIntoOutput_InvalidRange_ErrorIsThrowAndDigestIsNotChanged() {
+        byte[] input = RAW.decode("BitmarkSDK");
+        byte[] output = new byte[Sha3256.HASH_BYTE_LENGTH];
+        assertThrows(ValidateException.class, () -> Sha3256.hash(input, 1, input.length, output, 0));
+        assertThrows(ValidateException.class,
+                () -> Sha3256.hash(input, input.length, Integer.MAX_VALUE, output, 0));
+        assertThrows(ValidateException.class, () -> Sha3256.hash(null, 0, 1, output, 0));
+        assertThrows(ValidateException.class, () -> Sha3256.hash(input, 0, input.length, null, 0));
+
+        Sha3256.hash(input, 0, input.length, output, 0);
+        assertArrayEquals(Sha3256.hash(input), output);
+    }
+
     @ParameterizedTest
     @CsvSource({"4269746d61726b53444b, 148d5efdce00d2dc0caa14da6fc0bf3c9456dcbd2c680d86dd57be112b7edcce",
             "4a61766153444b, ec2a665796a2d8be8f4da565f57fe528c1d689764d8c56f8b31266acef15c404",
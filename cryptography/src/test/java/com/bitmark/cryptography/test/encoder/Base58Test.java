@@ -1,16 +1,18 @@
 package com.bitmark.cryptography.test.encoder;
 
+import com.bitmark.cryptography.crypto.encoder.Base58;
 import com.bitmark.cryptography.error.ValidateException;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.Arrays;
+import java.util.Random;
 import java.util.stream.Stream;
 
 import static com.bitmark.cryptography.crypto.encoder.Base58.BASE_58;
-import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * @author Hieu Pham
@@ -49,6 +51,132 @@ public class Base58Test extends BaseEncoderTest {
         assertThrows(ValidateException.class, () -> BASE_58.decode(input));
     }
 
+    @ParameterizedTest
+    @MethodSource("createBase58StringBytes")
+    public void testDecodeIntoOutput_ValidStringInput_CorrectValueIsRightAligned(String input,
+                                                                             byte[] expectedResult) {
+        final byte[] output = new byte[expectedResult.length + 2];
+        Arrays.fill(output, (byte) 0x7F);
+
+        assertEquals(expectedResult.length, BASE_58.decode(input, output));
+        assertArrayEquals(new byte[2], Arrays.copyOfRange(output, 0, 2));
+        assertArrayEquals(expectedResult, Arrays.copyOfRange(output, 2, output.length));
+
+        // The leading zeros are counted
+        assertEquals(expectedResult.length + 1, BASE_58.decode("1" + input, output));
+        assertArrayEquals(BASE_58.decode("1" + input), Arrays.copyOfRange(output, 1, output.length));
+    }
+
+    @ParameterizedTest
+    @MethodSource("createBase58StringBytes")
+    public void testDecodeIntoOutput_OutputIsTooShort_GreaterLengthIsReturn(String input,
+                                                                        byte[] expectedResult) {
+        final byte[] output = new byte[expectedResult.length - 1];
+        assertTrue(BASE_58.decode(input, output) > output.length);
+        assertTrue(BASE_58.decode("1111111111" + input, output) > output.length);
+        assertEquals(-1, BASE_58.decode(input + "0", output));
+    }
+
+    @ParameterizedTest
+    @MethodSource("createInvalidString")
+    public void testDecodeIntoOutput_InvalidStringInput_MinusOneIsReturn(String input) {
+        assertEquals(-1, BASE_58.decode(input, new byte[8]));
+        assertEquals(-1, BASE_58.decode("3WyEDmUoFl", new byte[8]));
+    }
+
+    @ParameterizedTest
+    @MethodSource("createBytesBase58String")
+    public void testEncodeIntoOutput_ValidByteArrayInput_CorrectValueIsWritten(byte[] input,
+                                                                           String expectedResult) {
+        final char[] output = new char[Base58.maxEncodedLength(input.length) + 1];
+        final int length = BASE_58.encode(input, 0, input.length, output, 1);
+        assertEquals(expectedResult, new String(output, 1, length));
+
+        final StringBuilder builder = new StringBuilder("prefix");
+        assertSame(builder, BASE_58.encode(input, 0, input.length, builder));
+        assertEquals("prefix" + expectedResult, builder.toString());
+    }
+
+    @Test
+    public void testEncodeIntoOutput_InvalidParams_ErrorIsThrow() {
+        final byte[] input = new byte[]{66, 105, 116, 109, 97, 114, 107};
+        assertThrows(ValidateException.class, () -> BASE_58.encode(input, 0, 7, new char[9], 0));
+        assertThrows(ValidateException.class, () -> BASE_58.encode(input, 1, 7, new char[20], 0));
+        assertThrows(ValidateException.class, () -> BASE_58.encode(input, 0, 0, new char[20], 0));
+        assertThrows(ValidateException.class,
+                     () -> BASE_58.encode(input, 0, 7, (StringBuilder) null));
+    }
+
+    @Test
+    public void testEncodeDecode_RandomBytes_SameAsDivmodImplementation() {
+        final Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            final byte[] input = new byte[1 + random.nextInt(80)];
+            random.nextBytes(input);
+            // Leading and trailing zeros are the edge cases of the limbs
+            for (int j = Math.min(random.nextInt(4), input.length) - 1; j >= 0; j--) {
+                input[j] = 0;
+            }
+            if (random.nextInt(4) == 0) input[input.length - 1] = 0;
+
+            final String expected = encodeByDivmod(input);
+            assertEquals(expected, BASE_58.encode(input));
+            assertArrayEquals(decodeByDivmod(expected), BASE_58.decode(expected));
+            assertArrayEquals(input, BASE_58.decode(expected));
+
+            final byte[] output = new byte[input.length];
+            assertEquals(input.length, BASE_58.decode(expected, output));
+            assertArrayEquals(input, output);
+        }
+        assertEquals("111", BASE_58.encode(new byte[3]));
+        assertArrayEquals(new byte[3], BASE_58.decode("111"));
+    }
+
+    // The byte at a time implementation the codec used to have, kept as the reference
+    private static String encodeByDivmod(byte[] input) {
+        final String alphabet = "123456789ABCDEFGHJKLMNPQRSTUVWXYZabcdefghijkmnopqrstuvwxyz";
+        int zeros = 0;
+        while (zeros < input.length && input[zeros] == 0) ++zeros;
+        final byte[] bytes = Arrays.copyOf(input, input.length);
+        final char[] encoded = new char[bytes.length * 2];
+        int outputStart = encoded.length;
+        for (int inputStart = zeros; inputStart < bytes.length; ) {
+            encoded[--outputStart] = alphabet.charAt(divmod(bytes, inputStart, 256, 58));
+            if (bytes[inputStart] == 0) ++inputStart;
+        }
+        while (outputStart < encoded.length && encoded[outputStart] == '1') ++outputStart;
+        while (--zeros >= 0) encoded[--outputStart] = '1';
+        return new String(encoded, outputStart, encoded.length - outputStart);
+    }
+
+    private static byte[] decodeByDivmod(String input) {
+        final String alphabet = "123456789ABCDEFGHJKLMNPQRSTUVWXYZabcdefghijkmnopqrstuvwxyz";
+        final byte[] input58 = new byte[input.length()];
+        for (int i = 0; i < input.length(); ++i) {
+            input58[i] = (byte) alphabet.indexOf(input.charAt(i));
+        }
+        int zeros = 0;
+        while (zeros < input58.length && input58[zeros] == 0) ++zeros;
+        final byte[] decoded = new byte[input.length()];
+        int outputStart = decoded.length;
+        for (int inputStart = zeros; inputStart < input58.length; ) {
+            decoded[--outputStart] = divmod(input58, inputStart, 58, 256);
+            if (input58[inputStart] == 0) ++inputStart;
+        }
+        while (outputStart < decoded.length && decoded[outputStart] == 0) ++outputStart;
+        return Arrays.copyOfRange(decoded, outputStart - zeros, decoded.length);
+    }
+
+    private static byte divmod(byte[] number, int firstDigit, int base, int divisor) {
+        int remainder = 0;
+        for (int i = firstDigit; i < number.length; i++) {
+            final int temp = remainder * base + (number[i] & 0xFF);
+            number[i] = (byte) (temp / divisor);
+            remainder = temp % divisor;
+        }
+        return (byte) remainder;
+    }
+
     private static Stream<Arguments> createBytesBase58String() {
         return Stream.of(Arguments.of(new byte[]{66, 105, 116, 109, 97, 114, 107}, "3WyEDmUoFG"),
                 Arguments.of(new byte[]{97, 65, 98, 66, 99, 67}, "qRxhjkSW"),
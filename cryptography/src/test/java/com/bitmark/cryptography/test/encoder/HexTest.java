@@ -48,6 +48,20 @@ public class HexTest extends BaseEncoderTest {
         assertThrows(ValidateException.InvalidHex.class, () -> HEX.decode(hex));
     }
 
+    @ParameterizedTest
+    @MethodSource("createHexBytes")
+    public void testDecodedLength_ValidHexString_SameAsDecodedBytes(String hex, byte[] expectedBytes) {
+        assertEquals(expectedBytes.length, HEX.decodedLength(hex));
+        assertEquals(HEX.decode(hex).length, HEX.decodedLength(hex.toUpperCase()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"@!#$@23ASAfFHFT", "1233453,./123//34.", " ", "", "\uff10\uff11"})
+    public void testDecodedLength_HexIsInvalid_MinusOneIsReturn(String hex) {
+        assertEquals(-1, HEX.decodedLength(hex));
+        assertEquals(-1, HEX.decodedLength(null));
+    }
+
     private static Stream<Arguments> createBytesHex() {
         return Stream.of(Arguments.of(new byte[]{1, 15, 13, 38, 47, 51, 0, 73, 80},
                 "010f0d262f33004950"),
@@ -34,8 +34,15 @@ public class Account {
     private Seed seed;
 
     public static Account fromSeed(Seed seed) throws ValidateException {
-        checkValid(() -> seed.getNetwork() == GlobalConfiguration.network(), "Incorrect network " +
-                                                                             "from Seed");
+        return fromSeed(seed, GlobalConfiguration.network());
+    }
+
+    /**
+     * @param network The network the seed must belong to, such as the one of a
+     *                {@code BitmarkClient}
+     */
+    public static Account fromSeed(Seed seed, Network network) throws ValidateException {
+        checkValid(() -> seed.getNetwork() == network, "Incorrect network from Seed");
 
         final String accountNumber =
                 generateAccountNumber(seed.getAuthKeyPair().publicKey(), seed.getNetwork());
@@ -43,14 +50,23 @@ public class Account {
     }
 
     public static Account fromRecoveryPhrase(String... recoveryPhrase) throws ValidateException {
+        return fromRecoveryPhrase(GlobalConfiguration.network(), recoveryPhrase);
+    }
+
+    public static Account fromRecoveryPhrase(Network network, String... recoveryPhrase)
+            throws ValidateException {
         final RecoveryPhrase phrase = RecoveryPhrase.fromMnemonicWords(recoveryPhrase);
         final Seed seed = phrase.recoverSeed();
-        return fromSeed(seed);
+        return fromSeed(seed, network);
     }
 
     public Account() {
-        seed = new SeedTwelve();
-        accountNumber = generateAccountNumber(seed.getAuthKeyPair().publicKey());
+        this(GlobalConfiguration.network());
+    }
+
+    public Account(Network network) {
+        seed = new SeedTwelve(network);
+        accountNumber = generateAccountNumber(seed.getAuthKeyPair().publicKey(), network);
     }
 
     private Account(Seed seed, String accountNumber) {
@@ -83,25 +99,24 @@ public class Account {
     }
 
     public Address toAddress() {
-        return Address.fromAccountNumber(accountNumber);
+        return Address.fromAccountNumber(accountNumber, seed.getNetwork());
     }
 
     public static boolean isValidAccountNumber(String accountNumber) {
-        try {
-            parseAccountNumber(accountNumber);
-            return true;
-        } catch (ValidateException ex) {
-            return false;
-        }
+        return Address.isValidAccountNumber(accountNumber);
+    }
+
+    public static boolean isValidAccountNumber(String accountNumber, Network network) {
+        return Address.isValidAccountNumber(accountNumber, network);
     }
 
     public static AccountNumberData parseAccountNumber(String accountNumber) {
-        Address address = Address.fromAccountNumber(accountNumber);
-        return AccountNumberData.from(address.getKey(), address.getNetwork());
+        return parseAccountNumber(accountNumber, GlobalConfiguration.network());
     }
 
-    private static String generateAccountNumber(PublicKey key) {
-        return generateAccountNumber(key, GlobalConfiguration.network());
+    public static AccountNumberData parseAccountNumber(String accountNumber, Network network) {
+        Address address = Address.fromAccountNumber(accountNumber, network);
+        return AccountNumberData.from(address.getKey(), address.getNetwork());
     }
 
     private static String generateAccountNumber(PublicKey key, Network network) {
@@ -1,6 +1,8 @@
 package com.bitmark.sdk.features;
 
 import com.bitmark.apiservice.ApiService;
+import com.bitmark.apiservice.AsyncApiService;
+import com.bitmark.apiservice.BitmarkClient;
 import com.bitmark.apiservice.params.RegistrationParams;
 import com.bitmark.apiservice.params.query.AssetQueryBuilder;
 import com.bitmark.apiservice.response.RegistrationResponse;
@@ -8,6 +10,7 @@ import com.bitmark.apiservice.utils.callback.Callback1;
 import com.bitmark.apiservice.utils.record.AssetRecord;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @author Hieu Pham
@@ -23,12 +26,52 @@ public class Asset {
         ApiService.getInstance().registerAsset(params, callback);
     }
 
+    public static void register(BitmarkClient client, RegistrationParams params,
+                                Callback1<RegistrationResponse> callback) {
+        client.getApiService().registerAsset(params, callback);
+    }
+
     public static void get(String assetId, Callback1<AssetRecord> callback) {
         ApiService.getInstance().getAsset(assetId, callback);
     }
 
+    public static void get(BitmarkClient client, String assetId, Callback1<AssetRecord> callback) {
+        client.getApiService().getAsset(assetId, callback);
+    }
+
     public static void list(AssetQueryBuilder builder, Callback1<List<AssetRecord>> callback) {
         ApiService.getInstance().listAssets(builder.build(), callback);
     }
 
+    public static void list(BitmarkClient client, AssetQueryBuilder builder,
+                            Callback1<List<AssetRecord>> callback) {
+        client.getApiService().listAssets(builder.build(), callback);
+    }
+
+    public static CompletableFuture<RegistrationResponse> registerAsync(RegistrationParams params) {
+        return AsyncApiService.getInstance().registerAsset(params);
+    }
+
+    public static CompletableFuture<RegistrationResponse> registerAsync(BitmarkClient client,
+                                                                        RegistrationParams params) {
+        return client.getAsyncApiService().registerAsset(params);
+    }
+
+    public static CompletableFuture<AssetRecord> getAsync(String assetId) {
+        return AsyncApiService.getInstance().getAsset(assetId);
+    }
+
+    public static CompletableFuture<AssetRecord> getAsync(BitmarkClient client, String assetId) {
+        return client.getAsyncApiService().getAsset(assetId);
+    }
+
+    public static CompletableFuture<List<AssetRecord>> listAsync(AssetQueryBuilder builder) {
+        return AsyncApiService.getInstance().listAssets(builder.build());
+    }
+
+    public static CompletableFuture<List<AssetRecord>> listAsync(BitmarkClient client,
+                                                                 AssetQueryBuilder builder) {
+        return client.getAsyncApiService().listAssets(builder.build());
+    }
+
 }
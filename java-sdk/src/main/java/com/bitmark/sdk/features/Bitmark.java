@@ -1,16 +1,23 @@
 package com.bitmark.sdk.features;
 
 import com.bitmark.apiservice.ApiService;
+import com.bitmark.apiservice.AsyncApiService;
+import com.bitmark.apiservice.BitmarkClient;
+import com.bitmark.apiservice.Paginator;
+import com.bitmark.apiservice.ParallelScanner;
 import com.bitmark.apiservice.params.*;
 import com.bitmark.apiservice.params.query.BitmarkQueryBuilder;
 import com.bitmark.apiservice.response.GetBitmarkResponse;
 import com.bitmark.apiservice.response.GetBitmarksResponse;
 import com.bitmark.apiservice.utils.Pair;
 import com.bitmark.apiservice.utils.callback.Callback1;
+import com.bitmark.apiservice.utils.record.BitmarkRecord;
 import com.bitmark.apiservice.utils.record.ShareGrantRecord;
 import com.bitmark.apiservice.utils.record.ShareRecord;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * @author Hieu Pham
@@ -25,54 +32,271 @@ public class Bitmark {
         ApiService.getInstance().issueBitmark(params, callback);
     }
 
+    public static void issue(BitmarkClient client, IssuanceParams params,
+                             Callback1<List<String>> callback) {
+        client.getApiService().issueBitmark(params, callback);
+    }
+
     public static void transfer(TransferParams params, Callback1<String> callback) {
         ApiService.getInstance().transferBitmark(params, callback);
     }
 
+    public static void transfer(BitmarkClient client, TransferParams params,
+                                Callback1<String> callback) {
+        client.getApiService().transferBitmark(params, callback);
+    }
+
     public static void offer(TransferOfferParams params, Callback1<String> callback) {
         ApiService.getInstance().offerBitmark(params, callback);
     }
 
+    public static void offer(BitmarkClient client, TransferOfferParams params,
+                             Callback1<String> callback) {
+        client.getApiService().offerBitmark(params, callback);
+    }
+
     public static void respond(TransferResponseParams params, Callback1<String> callback) {
         ApiService.getInstance().respondBitmarkOffer(params, callback);
     }
 
+    public static void respond(BitmarkClient client, TransferResponseParams params,
+                               Callback1<String> callback) {
+        client.getApiService().respondBitmarkOffer(params, callback);
+    }
+
     public static void get(String bitmarkId, boolean includeAsset,
                            Callback1<GetBitmarkResponse> callback) {
         ApiService.getInstance().getBitmark(bitmarkId, includeAsset, callback);
     }
 
+    public static void get(BitmarkClient client, String bitmarkId, boolean includeAsset,
+                           Callback1<GetBitmarkResponse> callback) {
+        client.getApiService().getBitmark(bitmarkId, includeAsset, callback);
+    }
+
     public static void get(String bitmarkId, Callback1<GetBitmarkResponse> callback) {
         get(bitmarkId, false, callback);
     }
 
+    public static void get(BitmarkClient client, String bitmarkId,
+                           Callback1<GetBitmarkResponse> callback) {
+        get(client, bitmarkId, false, callback);
+    }
+
     public static void list(BitmarkQueryBuilder builder, Callback1<GetBitmarksResponse> callback) {
         ApiService.getInstance().listBitmarks(builder.build(), callback);
     }
 
+    public static void list(BitmarkClient client, BitmarkQueryBuilder builder,
+                            Callback1<GetBitmarksResponse> callback) {
+        client.getApiService().listBitmarks(builder.build(), callback);
+    }
+
     public static void createShare(ShareParams params, Callback1<Pair<String, String>> callback) {
         ApiService.getInstance().createShare(params, callback);
     }
 
+    public static void createShare(BitmarkClient client, ShareParams params,
+                                   Callback1<Pair<String, String>> callback) {
+        client.getApiService().createShare(params, callback);
+    }
+
     public static void grantShare(ShareGrantingParams params, Callback1<String> callback) {
         ApiService.getInstance().grantShare(params, callback);
     }
 
+    public static void grantShare(BitmarkClient client, ShareGrantingParams params,
+                                  Callback1<String> callback) {
+        client.getApiService().grantShare(params, callback);
+    }
+
     public static void respondShareOffer(GrantResponseParams params, Callback1<String> callback) {
         ApiService.getInstance().respondShareOffer(params, callback);
     }
 
+    public static void respondShareOffer(BitmarkClient client, GrantResponseParams params,
+                                         Callback1<String> callback) {
+        client.getApiService().respondShareOffer(params, callback);
+    }
+
     public static void getShare(String shareId, Callback1<ShareRecord> callback) {
         ApiService.getInstance().getShare(shareId, callback);
     }
 
+    public static void getShare(BitmarkClient client, String shareId,
+                                Callback1<ShareRecord> callback) {
+        client.getApiService().getShare(shareId, callback);
+    }
+
     public static void listShares(String owner, Callback1<List<ShareRecord>> callback) {
         ApiService.getInstance().listShares(owner, callback);
     }
 
+    public static void listShares(BitmarkClient client, String owner,
+                                  Callback1<List<ShareRecord>> callback) {
+        client.getApiService().listShares(owner, callback);
+    }
+
     public static void listShareOffer(String from, String to,
                                       Callback1<List<ShareGrantRecord>> callback) {
         ApiService.getInstance().listShareOffer(from, to, callback);
     }
 
+    public static void listShareOffer(BitmarkClient client, String from, String to,
+                                      Callback1<List<ShareGrantRecord>> callback) {
+        client.getApiService().listShareOffer(from, to, callback);
+    }
+
+    public static CompletableFuture<List<String>> issueAsync(IssuanceParams params) {
+        return AsyncApiService.getInstance().issueBitmark(params);
+    }
+
+    public static CompletableFuture<List<String>> issueAsync(BitmarkClient client,
+                                                             IssuanceParams params) {
+        return client.getAsyncApiService().issueBitmark(params);
+    }
+
+    public static CompletableFuture<String> transferAsync(TransferParams params) {
+        return AsyncApiService.getInstance().transferBitmark(params);
+    }
+
+    public static CompletableFuture<String> transferAsync(BitmarkClient client,
+                                                          TransferParams params) {
+        return client.getAsyncApiService().transferBitmark(params);
+    }
+
+    public static CompletableFuture<String> offerAsync(TransferOfferParams params) {
+        return AsyncApiService.getInstance().offerBitmark(params);
+    }
+
+    public static CompletableFuture<String> offerAsync(BitmarkClient client,
+                                                       TransferOfferParams params) {
+        return client.getAsyncApiService().offerBitmark(params);
+    }
+
+    public static CompletableFuture<String> respondAsync(TransferResponseParams params) {
+        return AsyncApiService.getInstance().respondBitmarkOffer(params);
+    }
+
+    public static CompletableFuture<String> respondAsync(BitmarkClient client,
+                                                         TransferResponseParams params) {
+        return client.getAsyncApiService().respondBitmarkOffer(params);
+    }
+
+    public static CompletableFuture<GetBitmarkResponse> getAsync(String bitmarkId,
+                                                                 boolean includeAsset) {
+        return AsyncApiService.getInstance().getBitmark(bitmarkId, includeAsset);
+    }
+
+    public static CompletableFuture<GetBitmarkResponse> getAsync(BitmarkClient client,
+                                                                 String bitmarkId,
+                                                                 boolean includeAsset) {
+        return client.getAsyncApiService().getBitmark(bitmarkId, includeAsset);
+    }
+
+    public static CompletableFuture<GetBitmarkResponse> getAsync(String bitmarkId) {
+        return getAsync(bitmarkId, false);
+    }
+
+    public static CompletableFuture<GetBitmarkResponse> getAsync(BitmarkClient client,
+                                                                 String bitmarkId) {
+        return getAsync(client, bitmarkId, false);
+    }
+
+    public static CompletableFuture<GetBitmarksResponse> listAsync(BitmarkQueryBuilder builder) {
+        return AsyncApiService.getInstance().listBitmarks(builder.build());
+    }
+
+    public static CompletableFuture<GetBitmarksResponse> listAsync(BitmarkClient client,
+                                                                   BitmarkQueryBuilder builder) {
+        return client.getAsyncApiService().listBitmarks(builder.build());
+    }
+
+    /**
+     * Lazily list all bitmarks matching the query from the latest to the earliest one, the pages
+     * are fetched in background while the stream is consumed. Close the stream if it is not
+     * consumed till the end.
+     */
+    public static Stream<BitmarkRecord> listAll(BitmarkQueryBuilder builder) {
+        return Paginator.bitmarks(builder).stream();
+    }
+
+    public static Stream<BitmarkRecord> listAll(BitmarkClient client, BitmarkQueryBuilder builder) {
+        return Paginator.bitmarks(client.getAsyncApiService(), builder,
+                                  Paginator.DEFAULT_MAX_BUFFERED_PAGES).stream();
+    }
+
+    /**
+     * List all bitmarks matching the query from the latest to the earliest one by fetching
+     * partitions of the offset range concurrently. Faster than
+     * {@link #listAll(BitmarkQueryBuilder)} for a long history but all records are held in
+     * memory.
+     */
+    public static CompletableFuture<List<BitmarkRecord>> scanAsync(BitmarkQueryBuilder builder,
+                                                                   int partitions,
+                                                                   int parallelism) {
+        return ParallelScanner.bitmarks(builder, partitions, parallelism).scan();
+    }
+
+    public static CompletableFuture<List<BitmarkRecord>> scanAsync(
+            BitmarkClient client, BitmarkQueryBuilder builder, int partitions, int parallelism) {
+        return ParallelScanner.bitmarks(client.getAsyncApiService(), builder, partitions,
+                                        parallelism).scan();
+    }
+
+    public static CompletableFuture<Pair<String, String>> createShareAsync(ShareParams params) {
+        return AsyncApiService.getInstance().createShare(params);
+    }
+
+    public static CompletableFuture<Pair<String, String>> createShareAsync(BitmarkClient client,
+                                                                           ShareParams params) {
+        return client.getAsyncApiService().createShare(params);
+    }
+
+    public static CompletableFuture<String> grantShareAsync(ShareGrantingParams params) {
+        return AsyncApiService.getInstance().grantShare(params);
+    }
+
+    public static CompletableFuture<String> grantShareAsync(BitmarkClient client,
+                                                            ShareGrantingParams params) {
+        return client.getAsyncApiService().grantShare(params);
+    }
+
+    public static CompletableFuture<String> respondShareOfferAsync(GrantResponseParams params) {
+        return AsyncApiService.getInstance().respondShareOffer(params);
+    }
+
+    public static CompletableFuture<String> respondShareOfferAsync(BitmarkClient client,
+                                                                   GrantResponseParams params) {
+        return client.getAsyncApiService().respondShareOffer(params);
+    }
+
+    public static CompletableFuture<ShareRecord> getShareAsync(String shareId) {
+        return AsyncApiService.getInstance().getShare(shareId);
+    }
+
+    public static CompletableFuture<ShareRecord> getShareAsync(BitmarkClient client,
+                                                               String shareId) {
+        return client.getAsyncApiService().getShare(shareId);
+    }
+
+    public static CompletableFuture<List<ShareRecord>> listSharesAsync(String owner) {
+        return AsyncApiService.getInstance().listShares(owner);
+    }
+
+    public static CompletableFuture<List<ShareRecord>> listSharesAsync(BitmarkClient client,
+                                                                       String owner) {
+        return client.getAsyncApiService().listShares(owner);
+    }
+
+    public static CompletableFuture<List<ShareGrantRecord>> listShareOfferAsync(String from,
+                                                                               String to) {
+        return AsyncApiService.getInstance().listShareOffer(from, to);
+    }
+
+    public static CompletableFuture<List<ShareGrantRecord>> listShareOfferAsync(
+            BitmarkClient client, String from, String to) {
+        return client.getAsyncApiService().listShareOffer(from, to);
+    }
+
 }
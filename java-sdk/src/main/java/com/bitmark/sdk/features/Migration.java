@@ -1,13 +1,16 @@
 package com.bitmark.sdk.features;
 
+import com.bitmark.apiservice.AsyncApiService;
+import com.bitmark.apiservice.BitmarkAsyncApi;
+import com.bitmark.apiservice.BitmarkClient;
+import com.bitmark.apiservice.Paginator;
+import com.bitmark.apiservice.configuration.GlobalConfiguration;
+import com.bitmark.apiservice.configuration.Network;
 import com.bitmark.apiservice.params.IssuanceParams;
 import com.bitmark.apiservice.params.query.BitmarkQueryBuilder;
-import com.bitmark.apiservice.response.GetBitmarksResponse;
 import com.bitmark.apiservice.utils.Address;
 import com.bitmark.apiservice.utils.Pair;
-import com.bitmark.apiservice.utils.callback.Callable1;
 import com.bitmark.apiservice.utils.callback.Callback1;
-import com.bitmark.apiservice.utils.record.AssetRecord;
 import com.bitmark.apiservice.utils.record.BitmarkRecord;
 import com.bitmark.cryptography.crypto.key.KeyPair;
 import com.bitmark.cryptography.error.ValidateException;
@@ -18,7 +21,6 @@ import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
-import static com.bitmark.apiservice.utils.Awaitility.await;
 import static com.bitmark.cryptography.utils.Validator.checkValid;
 import static com.bitmark.sdk.features.internal.Version.TWENTY_FOUR;
 
@@ -33,36 +35,55 @@ public class Migration {
 
     public static void migrate(String[] phraseWords,
                                Callback1<Pair<Account, List<String>>> callback) throws ValidateException {
+        migrate(AsyncApiService.getInstance(), GlobalConfiguration.network(), phraseWords,
+                callback);
+    }
+
+    public static void migrate(BitmarkClient client, String[] phraseWords,
+                               Callback1<Pair<Account, List<String>>> callback)
+            throws ValidateException {
+        migrate(client.getAsyncApiService(), client.getNetwork(), phraseWords, callback);
+    }
+
+    private static void migrate(BitmarkAsyncApi api, Network network, String[] phraseWords,
+                                Callback1<Pair<Account, List<String>>> callback)
+            throws ValidateException {
         checkValid(() -> phraseWords != null && phraseWords.length == TWENTY_FOUR.getMnemonicWordsLength(),
                    "Only support migrate from 24 recovery words ");
-        final Account oldAccount = Account.fromRecoveryPhrase(phraseWords);
+        final Account oldAccount = Account.fromRecoveryPhrase(network, phraseWords);
         final String oldAccountNumber = oldAccount.getAccountNumber();
-        final Account newAccount = new Account();
+        final Account newAccount = new Account(network);
+
+        // Walk through all owned bitmarks, the next page is fetched while the current one is
+        // being migrated
+        try (Paginator<BitmarkRecord> bitmarks = Paginator.bitmarks(
+                api, new BitmarkQueryBuilder().ownedBy(oldAccountNumber).pending(true),
+                Paginator.DEFAULT_MAX_BUFFERED_PAGES)) {
+            final List<CompletableFuture<List<String>>> migrations = new ArrayList<>();
+            List<BitmarkRecord> chunk = new ArrayList<>(Paginator.PAGE_SIZE);
+            while (bitmarks.hasNext()) {
+                chunk.add(bitmarks.next());
+                if (chunk.size() == Paginator.PAGE_SIZE) {
+                    migrations.add(internalMigrate(api, newAccount, chunk));
+                    chunk = new ArrayList<>(Paginator.PAGE_SIZE);
+                }
+            }
+            if (!chunk.isEmpty()) migrations.add(internalMigrate(api, newAccount, chunk));
 
-        try {
-            // Get all owned bitmarks
-            final List<GetBitmarksResponse> bitmarksResponses =
-                    getBitmarksResponses(oldAccountNumber);
-            if (bitmarksResponses == null)
+            if (migrations.isEmpty())
                 callback.onSuccess(new Pair<>(newAccount, Collections.emptyList()));
             else {
-                final List<String> bitmarkIds = new ArrayList<>();
-
-                CompletableFuture.allOf(bitmarksResponses.stream().map(response -> {
-                    List<BitmarkRecord> bitmarks = response.getBitmarks();
-                    List<AssetRecord> assets = response.getAssets();
-                    return internalMigrate(newAccount, bitmarks, assets).whenComplete((result,
-                                                                                       throwable) -> {
-                        if (throwable == null) bitmarkIds.addAll(result);
-
-                    });
-                }).toArray(CompletableFuture[]::new)).whenComplete((ignore, throwable) -> {
-                    if (throwable != null) {
-                        callback.onError(throwable.getCause());
-                    } else {
-                        callback.onSuccess(new Pair<>(newAccount, bitmarkIds));
-                    }
-                });
+                CompletableFuture.allOf(migrations.toArray(new CompletableFuture<?>[0]))
+                                 .whenComplete((ignore, throwable) -> {
+                                     if (throwable != null) {
+                                         callback.onError(throwable.getCause());
+                                     } else {
+                                         final List<String> bitmarkIds = new ArrayList<>();
+                                         migrations.forEach(
+                                                 migration -> bitmarkIds.addAll(migration.join()));
+                                         callback.onSuccess(new Pair<>(newAccount, bitmarkIds));
+                                     }
+                                 });
             }
 
         } catch (Throwable throwable) {
@@ -71,38 +92,9 @@ public class Migration {
         }
     }
 
-    private static List<GetBitmarksResponse> getBitmarksResponses(String accountNumber) throws Throwable {
-        final int limit = 100;
-        final List<GetBitmarksResponse> result = new ArrayList<>();
-
-        // Get the latest bitmark by offset
-        List<BitmarkRecord> firstBitmarks =
-                await((Callable1<GetBitmarksResponse>) internalCallback ->
-                        Bitmark.list(new BitmarkQueryBuilder().ownedBy(accountNumber).pending(true).limit(1),
-                                     internalCallback)).getBitmarks();
-        if (firstBitmarks == null || firstBitmarks.isEmpty()) return null;
-        Long lastOffset = firstBitmarks.get(0).getOffset();
-        while (lastOffset != null) {
-
-            BitmarkQueryBuilder builder =
-                    new BitmarkQueryBuilder().ownedBy(accountNumber).at(lastOffset).to("earlier").loadAsset(true)
-                                             .pending(true).limit(limit);
-            GetBitmarksResponse response = await(internalCallback -> Bitmark.list(builder,
-                                                                                  internalCallback));
-            result.add(response);
-            final List<BitmarkRecord> bitmarks = response.getBitmarks();
-            final int size = bitmarks == null ? 0 : bitmarks.size();
-            if (size == limit) {
-                // Continue finding out more bitmarks by querying from the offset of last bitmark
-                lastOffset = bitmarks.get(bitmarks.size() - 1).getOffset();
-            } else lastOffset = null; // No more bitmarks will be found
-        }
-        return result;
-    }
-
-    private static CompletableFuture<List<String>> internalMigrate(Account owner,
-                                                                   List<BitmarkRecord> bitmarks,
-                                                                   List<AssetRecord> assets) {
+    private static CompletableFuture<List<String>> internalMigrate(BitmarkAsyncApi api,
+                                                                   Account owner,
+                                                                   List<BitmarkRecord> bitmarks) {
 
         final Address ownerAddress = owner.toAddress();
         final KeyPair key = owner.getKeyPair();
@@ -114,15 +106,16 @@ public class Migration {
                         .entrySet().stream().map(entry -> {
                     IssuanceParams param =
                             new IssuanceParams(entry.getKey(), ownerAddress, Math.toIntExact(entry.getValue()));
-                    param.sign(key);
+                    param.signLazily(key);
                     return param;
                 }).collect(Collectors.toList());
 
         // Execute from the above collection
         final List<String> bitmarkIds = new ArrayList<>();
         final CompletableFuture<List<String>> emitters = new CompletableFuture<>();
-        CompletableFuture.allOf(params.stream().map(param -> issue(param).whenComplete((result,
-                                                                                        throwable) -> {
+        CompletableFuture.allOf(params.stream().map(param -> api.issueBitmark(param)
+                                                                    .whenComplete((result,
+                                                                                   throwable) -> {
             if (throwable == null) bitmarkIds.addAll(result);
         })).toArray(CompletableFuture[]::new)).whenComplete((result, throwable) -> {
             if (throwable != null) emitters.completeExceptionally(throwable.getCause());
@@ -131,20 +124,4 @@ public class Migration {
 
         return emitters;
     }
-
-    private static CompletableFuture<List<String>> issue(IssuanceParams params) {
-        final CompletableFuture<List<String>> emitter = new CompletableFuture<>();
-        Bitmark.issue(params, new Callback1<List<String>>() {
-            @Override
-            public void onSuccess(List<String> data) {
-                emitter.complete(data);
-            }
-
-            @Override
-            public void onError(Throwable throwable) {
-                emitter.completeExceptionally(throwable);
-            }
-        });
-        return emitter;
-    }
 }
@@ -1,10 +1,19 @@
 package com.bitmark.sdk.features;
 
 import com.bitmark.apiservice.ApiService;
+import com.bitmark.apiservice.AsyncApiService;
+import com.bitmark.apiservice.BitmarkClient;
+import com.bitmark.apiservice.Paginator;
+import com.bitmark.apiservice.ParallelScanner;
 import com.bitmark.apiservice.params.query.TransactionQueryBuilder;
 import com.bitmark.apiservice.response.GetTransactionResponse;
 import com.bitmark.apiservice.response.GetTransactionsResponse;
 import com.bitmark.apiservice.utils.callback.Callback1;
+import com.bitmark.apiservice.utils.record.TransactionRecord;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * @author Hieu Pham
@@ -18,13 +27,91 @@ public class Transaction {
         get(txId, false, callback);
     }
 
+    public static void get(BitmarkClient client, String txId,
+                           Callback1<GetTransactionResponse> callback) {
+        get(client, txId, false, callback);
+    }
+
     public static void get(String txId, boolean loadAsset,
                            Callback1<GetTransactionResponse> callback) {
         ApiService.getInstance().getTransaction(txId, loadAsset, callback);
     }
 
+    public static void get(BitmarkClient client, String txId, boolean loadAsset,
+                           Callback1<GetTransactionResponse> callback) {
+        client.getApiService().getTransaction(txId, loadAsset, callback);
+    }
+
     public static void list(TransactionQueryBuilder builder,
                             Callback1<GetTransactionsResponse> callback) {
         ApiService.getInstance().listTransactions(builder.build(), callback);
     }
+
+    public static void list(BitmarkClient client, TransactionQueryBuilder builder,
+                            Callback1<GetTransactionsResponse> callback) {
+        client.getApiService().listTransactions(builder.build(), callback);
+    }
+
+    public static CompletableFuture<GetTransactionResponse> getAsync(String txId) {
+        return getAsync(txId, false);
+    }
+
+    public static CompletableFuture<GetTransactionResponse> getAsync(BitmarkClient client,
+                                                                     String txId) {
+        return getAsync(client, txId, false);
+    }
+
+    public static CompletableFuture<GetTransactionResponse> getAsync(String txId,
+                                                                     boolean loadAsset) {
+        return AsyncApiService.getInstance().getTransaction(txId, loadAsset);
+    }
+
+    public static CompletableFuture<GetTransactionResponse> getAsync(BitmarkClient client,
+                                                                     String txId,
+                                                                     boolean loadAsset) {
+        return client.getAsyncApiService().getTransaction(txId, loadAsset);
+    }
+
+    public static CompletableFuture<GetTransactionsResponse> listAsync(
+            TransactionQueryBuilder builder) {
+        return AsyncApiService.getInstance().listTransactions(builder.build());
+    }
+
+    public static CompletableFuture<GetTransactionsResponse> listAsync(
+            BitmarkClient client, TransactionQueryBuilder builder) {
+        return client.getAsyncApiService().listTransactions(builder.build());
+    }
+
+    /**
+     * Lazily list all transactions matching the query from the latest to the earliest one, the
+     * pages are fetched in background while the stream is consumed. Close the stream if it is
+     * not consumed till the end.
+     */
+    public static Stream<TransactionRecord> listAll(TransactionQueryBuilder builder) {
+        return Paginator.transactions(builder).stream();
+    }
+
+    public static Stream<TransactionRecord> listAll(BitmarkClient client,
+                                                    TransactionQueryBuilder builder) {
+        return Paginator.transactions(client.getAsyncApiService(), builder,
+                                      Paginator.DEFAULT_MAX_BUFFERED_PAGES).stream();
+    }
+
+    /**
+     * List all transactions matching the query from the latest to the earliest one by fetching
+     * partitions of the offset range concurrently. Faster than
+     * {@link #listAll(TransactionQueryBuilder)} for a long history but all records are held in
+     * memory.
+     */
+    public static CompletableFuture<List<TransactionRecord>> scanAsync(
+            TransactionQueryBuilder builder, int partitions, int parallelism) {
+        return ParallelScanner.transactions(builder, partitions, parallelism).scan();
+    }
+
+    public static CompletableFuture<List<TransactionRecord>> scanAsync(
+            BitmarkClient client, TransactionQueryBuilder builder, int partitions,
+            int parallelism) {
+        return ParallelScanner.transactions(client.getAsyncApiService(), builder, partitions,
+                                            parallelism).scan();
+    }
 }